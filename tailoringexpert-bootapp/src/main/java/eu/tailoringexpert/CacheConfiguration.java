@@ -21,7 +21,10 @@
  */
 package eu.tailoringexpert;
 
+import eu.tailoringexpert.repository.BaseCatalogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -29,6 +32,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 import java.util.Map;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
@@ -36,8 +40,8 @@ public class CacheConfiguration {
 
     @Bean
     @Primary
-    CacheManager cacheManager(ListableBeanFactory beanFactory) {
+    CacheManager cacheManager(ListableBeanFactory beanFactory, ObjectProvider<MeterRegistry> meterRegistry) {
         final Map<String, CacheManager> cacheManagers = Tenants.get(beanFactory, CacheManager.class);
-        return new TenantCacheManager(cacheManagers);
+        return new TenantCacheManager(cacheManagers, meterRegistry.getIfAvailable(), Set.of(BaseCatalogRepository.CACHE_CATALOG));
     }
 }
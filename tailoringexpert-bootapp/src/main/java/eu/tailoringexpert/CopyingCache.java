@@ -0,0 +1,112 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.util.SerializationUtils;
+
+import java.io.Serializable;
+import java.util.concurrent.Callable;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Cache decorator storing and returning copies of the cached values.
+ * Cached domain objects are mutable, so every caller gets its own instance and changes of a caller
+ * are neither visible to other callers nor written back into the cache.
+ * Values not implementing {@link Serializable} are passed through unchanged.
+ *
+ * @author Michael Bädorf
+ */
+@RequiredArgsConstructor
+public class CopyingCache implements Cache {
+
+    @NonNull
+    private final Cache delegate;
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return copy(delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return copy(delegate.get(key, type));
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return copy(delegate.get(key, () -> copy(valueLoader.call())));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, copy(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return copy(delegate.putIfAbsent(key, copy(value)));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private ValueWrapper copy(ValueWrapper wrapper) {
+        return isNull(wrapper) ? null : new SimpleValueWrapper(copy(wrapper.get()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T copy(T value) {
+        return value instanceof Serializable serializable ? (T) SerializationUtils.clone(serializable) : value;
+    }
+}
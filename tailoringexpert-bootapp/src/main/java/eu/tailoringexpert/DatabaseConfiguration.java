@@ -21,8 +21,10 @@
  */
 package eu.tailoringexpert;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.NonNull;
 import org.jasypt.encryption.StringEncryptor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -38,6 +40,8 @@ import org.springframework.transaction.PlatformTransactionManager;
 import jakarta.persistence.EntityManagerFactory;
 
 import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableJpaRepositories
@@ -55,9 +59,10 @@ public class DatabaseConfiguration {
         @NonNull @Value("${spring.datasource.username}") String username,
         @NonNull @Value("${spring.datasource.password}") String password,
         @NonNull @Qualifier("tenantConfigHome") String tenantConfigHome,
-        @NonNull @Qualifier("encryptorBean") StringEncryptor encryptor) {
+        @NonNull @Qualifier("encryptorBean") StringEncryptor encryptor,
+        ObjectProvider<MeterRegistry> meterRegistry) {
         DataSource defaultDataSource = dataSource(driverClassName, url, username, password);
-        return TenantFactory.dataSource(defaultDataSource, tenantConfigHome, encryptor);
+        return TenantFactory.dataSource(defaultDataSource, tenantConfigHome, encryptor, meterRegistry.getIfAvailable());
     }
 
     private DataSource dataSource(String driverClassName, String url, String username, String password) {
@@ -69,11 +74,35 @@ public class DatabaseConfiguration {
     @Bean
     LocalContainerEntityManagerFactoryBean entityManagerFactory(
         @NonNull DataSource dataSource,
-        @NonNull JpaVendorAdapter jpaVendorAdapter) {
+        @NonNull JpaVendorAdapter jpaVendorAdapter,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
         final LocalContainerEntityManagerFactoryBean result = new LocalContainerEntityManagerFactoryBean();
         result.setJpaVendorAdapter(jpaVendorAdapter);
         result.setPackagesToScan("eu.tailoringexpert");
         result.setDataSource(dataSource);
+        result.setJpaPropertyMap(jpaProperties(batchSize));
+        return result;
+    }
+
+    /**
+     * Hibernate settings for bulk writes of catalogs and tailorings.
+     * <p>
+     * Inserts and updates are ordered by entity type, so that they can be sent in JDBC batches.
+     * Ids are allocated by the pooled-lo optimizer, which keeps the next free id in the sequence table and therefore
+     * allows changing the allocation size of existing generators.
+     * Instances still using the pooled optimizer must not run against the same sequence table concurrently, because
+     * both optimizers interpret the stored value differently and would hand out overlapping ids.
+     *
+     * @param batchSize number of statements per JDBC batch
+     * @return properties of entity manager factory
+     */
+    static Map<String, Object> jpaProperties(int batchSize) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("hibernate.jdbc.batch_size", batchSize);
+        result.put("hibernate.order_inserts", true);
+        result.put("hibernate.order_updates", true);
+        result.put("hibernate.jdbc.batch_versioned_data", true);
+        result.put("hibernate.id.optimizer.pooled.preferred", "pooled-lo");
         return result;
     }
 
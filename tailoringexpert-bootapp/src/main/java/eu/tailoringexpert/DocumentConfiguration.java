@@ -0,0 +1,108 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.ResourceMapper;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Configuration
+public class DocumentConfiguration {
+
+    @Bean(destroyMethod = "shutdown")
+    ExecutorService documentJobExecutorService(
+        @Value("${documentJobParallelism}") int parallelism,
+        @Value("${documentJobQueueSize}") int queueSize,
+        @Value("${virtualThreads:false}") boolean virtualThreads) {
+        // bounded queue rejects jobs exceeding queue size instead of piling them up
+        return new ThreadPoolExecutor(parallelism, parallelism, 0L, MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+            threadFactory("document-job-", virtualThreads));
+    }
+
+    @Bean
+    DocumentJobExecutor documentJobExecutor(
+        @NonNull @Qualifier("documentJobExecutorService") ExecutorService documentJobExecutorService,
+        @NonNull @Value("${documentJobHome}") String directory,
+        @NonNull @Value("${documentJobExpiry}") Duration expiry,
+        @NonNull @Value("${documentJobTimeout:PT1H}") Duration timeout) {
+        return new DocumentJobExecutor(
+            new TenantAwareExecutor(documentJobExecutorService),
+            Path.of(directory),
+            expiry,
+            timeout,
+            TenantContext::getCurrentTenant);
+    }
+
+    @Bean
+    DocumentJobController documentJobController(
+        @NonNull ResourceMapper mapper,
+        @NonNull DocumentJobExecutor documentJobExecutor,
+        @NonNull Function<String, MediaType> mediaTypeProvider) {
+        return new DocumentJobController(mapper, documentJobExecutor, mediaTypeProvider);
+    }
+
+    @Bean
+    DocumentCache documentCache(
+        @NonNull @Value("${documentCacheHome}") String directory,
+        @Value("${documentCacheSize}") long maxSize) {
+        return new DocumentCache(Path.of(directory), maxSize, TenantContext::getCurrentTenant);
+    }
+
+    /**
+     * Creates factory of named threads used by document executors.
+     * <p>
+     * Virtual threads keep the parallelism limit of the pools, because document creation is cpu bound. Tenant is not
+     * inherited by any kind of thread and has to be propagated by {@link TenantAwareExecutor}.
+     *
+     * @param prefix         prefix of thread names
+     * @param virtualThreads true to create virtual threads (java 21 or higher), false for daemon platform threads
+     * @return factory creating threads
+     */
+    static ThreadFactory threadFactory(String prefix, boolean virtualThreads) {
+        if (virtualThreads) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread result = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            result.setDaemon(true);
+            return result;
+        };
+    }
+}
@@ -66,7 +66,6 @@ import java.util.Optional;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY;
 import static com.fasterxml.jackson.annotation.PropertyAccessor.FIELD;
 import static com.fasterxml.jackson.databind.SerializationFeature.FAIL_ON_EMPTY_BEANS;
-import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 import static java.util.Arrays.asList;
 import static java.util.Locale.GERMANY;
 
@@ -75,12 +74,14 @@ import static java.util.Locale.GERMANY;
 public class RestConfiguration {
 
     @Bean
-    ObjectMapper objectMapper(@Value("#{${mixIns}}") List<String> mixIns) {
+    ObjectMapper objectMapper(
+        @Value("#{${mixIns}}") List<String> mixIns,
+        @Value("${jsonIndentOutput:false}") boolean indentOutput) {
 
         Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
             .modules(new Jackson2HalModule(), new JavaTimeModule(), new ParameterNamesModule(), new Jdk8Module())
             .featuresToEnable()
-            .featuresToEnable(INDENT_OUTPUT)
+            .indentOutput(indentOutput)
             .featuresToDisable(FAIL_ON_EMPTY_BEANS)
             .featuresToDisable(DeserializationFeature.ACCEPT_EMPTY_ARRAY_AS_NULL_OBJECT)
             .visibility(FIELD, ANY)
@@ -142,7 +143,12 @@ public class RestConfiguration {
             protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
                 final String tenant = request.getHeader("x-tenant");
                 TenantContext.setCurrentTenant(tenant);
-                chain.doFilter(request, response);
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    // pooled request threads are reused, so tenant must not leak into the next request
+                    TenantContext.removeCurrentTenant();
+                }
             }
         };
     }
@@ -21,6 +21,10 @@
  */
 package eu.tailoringexpert;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.Cache;
@@ -32,6 +36,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.EMPTY_SET;
 import static java.util.Objects.isNull;
@@ -41,12 +46,46 @@ import static java.util.Objects.nonNull;
 public class TenantCacheManager implements CacheManager {
 
     @NonNull
-    private Map<String, CacheManager> cacheManagers;
+    private final Map<String, CacheManager> cacheManagers;
+
+    /**
+     * Registry to publish size, hit and miss metrics of tenant caches to. Can be null.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Names of caches holding mutable values. These caches store and return copies of their values.
+     */
+    @NonNull
+    private final Set<String> copyingCaches;
+
+    /**
+     * Metered caches of all tenants identified by tenant and cache name.
+     */
+    private final Map<String, MeteredCache> meteredCaches = new ConcurrentHashMap<>();
+
+    public TenantCacheManager(Map<String, CacheManager> cacheManagers) {
+        this(cacheManagers, null);
+    }
+
+    public TenantCacheManager(Map<String, CacheManager> cacheManagers, MeterRegistry meterRegistry) {
+        this(cacheManagers, meterRegistry, Set.of());
+    }
 
     @Override
     public Cache getCache(String name) {
-        CacheManager cacheManager = cacheManagers.get(TenantContext.getCurrentTenant());
-        return nonNull(cacheManager) ? cacheManager.getCache(name) : new NoOpCache(name);
+        String tenant = TenantContext.getCurrentTenant();
+        CacheManager cacheManager = cacheManagers.get(tenant);
+        if (isNull(cacheManager)) {
+            return new NoOpCache(name);
+        }
+
+        Cache cache = cacheManager.getCache(name);
+        if (isNull(cache)) {
+            return null;
+        }
+
+        return meteredCaches.computeIfAbsent(tenant + "#" + name, key -> meter(tenant, copyingCaches.contains(name) ? new CopyingCache(cache) : cache));
     }
 
 
@@ -60,4 +99,32 @@ public class TenantCacheManager implements CacheManager {
         Set<String> names = new LinkedHashSet<>(cacheManager.getCacheNames());
         return Collections.unmodifiableSet(names);
     }
+
+    /**
+     * Decorates the cache of a tenant to count hits and misses and registers its metrics.
+     *
+     * @param tenant tenant owning the cache
+     * @param cache  cache to decorate
+     * @return decorated cache
+     */
+    private MeteredCache meter(String tenant, Cache cache) {
+        MeteredCache result = new MeteredCache(cache);
+        if (nonNull(meterRegistry)) {
+            Tags tags = Tags.of("tenant", tenant, "cache", cache.getName());
+            Gauge.builder("tailoringexpert.cache.size", result, MeteredCache::getSize)
+                .description("Number of entries of tenant cache")
+                .tags(tags)
+                .strongReference(true)
+                .register(meterRegistry);
+            FunctionCounter.builder("tailoringexpert.cache.gets", result, MeteredCache::getHits)
+                .description("Lookups of tenant cache")
+                .tags(tags.and("result", "hit"))
+                .register(meterRegistry);
+            FunctionCounter.builder("tailoringexpert.cache.gets", result, MeteredCache::getMisses)
+                .description("Lookups of tenant cache")
+                .tags(tags.and("result", "miss"))
+                .register(meterRegistry);
+        }
+        return result;
+    }
 }
@@ -21,11 +21,31 @@
  */
 package eu.tailoringexpert;
 
+import lombok.extern.log4j.Log4j2;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 
-public class TenantDataSource extends AbstractRoutingDataSource {
+import java.io.Closeable;
+
+@Log4j2
+public class TenantDataSource extends AbstractRoutingDataSource implements Closeable {
     @Override
     protected Object determineCurrentLookupKey() {
         return TenantContext.getCurrentTenant();
     }
+
+    /**
+     * Closes all (pooled) tenant datasources.
+     */
+    @Override
+    public void close() {
+        getResolvedDataSources().forEach((tenant, dataSource) -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.catching(e);
+                }
+            }
+        });
+    }
 }
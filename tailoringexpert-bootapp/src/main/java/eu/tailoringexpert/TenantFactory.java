@@ -21,12 +21,14 @@
  */
 package eu.tailoringexpert;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 import org.jasypt.encryption.StringEncryptor;
 import org.jasypt.properties.EncryptableProperties;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import javax.sql.DataSource;
 import java.io.File;
@@ -38,15 +40,19 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.nio.file.Files.newInputStream;
+import static java.util.Objects.nonNull;
 import static lombok.AccessLevel.PRIVATE;
 
 @Log4j2
 @NoArgsConstructor(access = PRIVATE)
 public class TenantFactory {
 
+    static final String POOL_PROPERTY_PREFIX = "spring.datasource.hikari.";
+
     public static Map<String, String> tenants(
         final String tenantConfigRoot,
         final StringEncryptor encryptor) {
@@ -69,13 +75,16 @@ public class TenantFactory {
      *
      * @param defaultDataSource System default datasource
      * @param tenantConfigRoot  root dir below tenant configuration will be loaded
+     * @param encryptor         encryptor to use for decrypting tenant properties
+     * @param meterRegistry     registry to publish connection pool metrics of tenants to
      * @return
      * @throws IOException
      */
     public static DataSource dataSource(
         final DataSource defaultDataSource,
         final String tenantConfigRoot,
-        final StringEncryptor encryptor) {
+        final StringEncryptor encryptor,
+        final MeterRegistry meterRegistry) {
         log.debug("Search tenant db configuration in " + Paths.get(tenantConfigRoot).toFile());
 
         final Map<Object, Object> resolvedDataSources = new HashMap<>();
@@ -85,7 +94,7 @@ public class TenantFactory {
                     log.debug(propertyFile.getAbsolutePath());
                     final Properties tenantProperties = loadProperties(propertyFile, encryptor);
                     final String tenantId = tenantProperties.getProperty("id");
-                    final DataSource tenantDataSource = buildDataSource(tenantProperties);
+                    final DataSource tenantDataSource = buildDataSource(tenantProperties, meterRegistry);
                     resolvedDataSources.put(tenantId, tenantDataSource);
                 });
         }
@@ -107,13 +116,54 @@ public class TenantFactory {
         return result;
     }
 
-    static DataSource buildDataSource(final Properties properties) {
-        final DriverManagerDataSource result = new DriverManagerDataSource();
-        result.setDriverClassName(properties.getProperty("spring.datasource.driver-class-name"));
-        result.setUrl(properties.getProperty("spring.datasource.url"));
-        result.setUsername(properties.getProperty("spring.datasource.username"));
-        result.setPassword(properties.getProperty("spring.datasource.password"));
-        return result;
+    /**
+     * Creates a pooled datasource of a tenant.<p>
+     * Pool settings are read of tenant properties prefixed with {@code spring.datasource.hikari.}.
+     * Metrics of the pool are published using the tenant id as pool name.
+     *
+     * @param properties    tenant properties
+     * @param meterRegistry registry to publish pool metrics to. Can be null
+     * @return pooled datasource of tenant
+     */
+    static DataSource buildDataSource(final Properties properties, final MeterRegistry meterRegistry) {
+        final HikariConfig config = new HikariConfig();
+        config.setPoolName(properties.getProperty("id"));
+        config.setDriverClassName(properties.getProperty("spring.datasource.driver-class-name"));
+        config.setJdbcUrl(properties.getProperty("spring.datasource.url"));
+        config.setUsername(properties.getProperty("spring.datasource.username"));
+        config.setPassword(properties.getProperty("spring.datasource.password"));
+
+        setPoolProperty(properties, "maximum-pool-size", value -> config.setMaximumPoolSize(Integer.parseInt(value)));
+        setPoolProperty(properties, "minimum-idle", value -> config.setMinimumIdle(Integer.parseInt(value)));
+        setPoolProperty(properties, "idle-timeout", value -> config.setIdleTimeout(Long.parseLong(value)));
+        setPoolProperty(properties, "max-lifetime", value -> config.setMaxLifetime(Long.parseLong(value)));
+        setPoolProperty(properties, "keepalive-time", value -> config.setKeepaliveTime(Long.parseLong(value)));
+        setPoolProperty(properties, "connection-timeout", value -> config.setConnectionTimeout(Long.parseLong(value)));
+        setPoolProperty(properties, "validation-timeout", value -> config.setValidationTimeout(Long.parseLong(value)));
+        setPoolProperty(properties, "connection-test-query", config::setConnectionTestQuery);
+
+        // do not fail on startup if tenant database is (temporary) not available
+        config.setInitializationFailTimeout(-1);
+
+        if (nonNull(meterRegistry)) {
+            config.setMetricRegistry(meterRegistry);
+        }
+
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Applies a pool property of tenant, if defined.
+     *
+     * @param properties tenant properties
+     * @param name       name of pool property without prefix
+     * @param setter     consumer to apply (trimmed) property value
+     */
+    private static void setPoolProperty(final Properties properties, final String name, final Consumer<String> setter) {
+        final String value = properties.getProperty(POOL_PROPERTY_PREFIX + name);
+        if (nonNull(value) && !value.isBlank()) {
+            setter.accept(value.trim());
+        }
     }
 
     /**
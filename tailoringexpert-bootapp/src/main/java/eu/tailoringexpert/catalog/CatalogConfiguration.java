@@ -22,6 +22,8 @@
 package eu.tailoringexpert.catalog;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import eu.tailoringexpert.DocumentJobExecutor;
+import eu.tailoringexpert.ExcelSheet;
 import eu.tailoringexpert.Tenants;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
@@ -80,10 +82,10 @@ public class CatalogConfiguration {
     CatalogService catalogService(
         @NonNull CatalogServiceRepository catalogServiceRepository,
         @NonNull @Qualifier("catalogDocumentService") DocumentService catalogDocumentService,
-        @NonNull @Qualifier("excel2CatalogConverter") Function<byte[], Catalog<BaseRequirement>> file2CatalogConverter
-
+        @NonNull @Qualifier("excel2CatalogConverter") Function<byte[], Catalog<BaseRequirement>> file2CatalogConverter,
+        @NonNull DocumentJobExecutor documentJobExecutor
     ) {
-        return new CatalogServiceImpl(catalogServiceRepository, catalogDocumentService, file2CatalogConverter);
+        return new CatalogServiceImpl(catalogServiceRepository, catalogDocumentService, file2CatalogConverter, documentJobExecutor);
     }
 
     @Bean
@@ -160,12 +162,12 @@ public class CatalogConfiguration {
 
 
     @Bean
-    Function<Sheet, Map<String, DRD>> toDRDMappingFunction() {
+    Function<ExcelSheet, Map<String, DRD>> toDRDMappingFunction() {
         return new ToDRDMappingFunction();
     }
 
     @Bean
-    Function<Sheet, Map<String, Logo>> toLogoMappingFunction() {
+    Function<ExcelSheet, Map<String, Logo>> toLogoMappingFunction() {
         return new ToLogoMappingFunction();
     }
 
@@ -190,9 +192,9 @@ public class CatalogConfiguration {
     }
 
     @Bean
-    Function<Sheet, Chapter<BaseRequirement>> toChapterFunction(
-        @NonNull @Qualifier("toDRDMappingFunction") Function<Sheet, Map<String, DRD>> toDRDMappingFunction,
-        @NonNull @Qualifier("toLogoMappingFunction") Function<Sheet, Map<String, Logo>> toLogoMappingFunction,
+    Function<ExcelSheet, Chapter<BaseRequirement>> toChapterFunction(
+        @NonNull @Qualifier("toDRDMappingFunction") Function<ExcelSheet, Map<String, DRD>> toDRDMappingFunction,
+        @NonNull @Qualifier("toLogoMappingFunction") Function<ExcelSheet, Map<String, Logo>> toLogoMappingFunction,
         @NonNull @Qualifier("toIdentifierFunction") Function<String, Identifier> toIdentifierFunction,
         @NonNull @Qualifier("toLogoFunction") BiFunction<String, Map<String, Logo>, Logo> toLogoFunction,
         @NonNull @Qualifier("toReferenceFunction") BiFunction<String, Logo, Reference> toReferenceFunction,
@@ -210,7 +212,7 @@ public class CatalogConfiguration {
 
     @Bean
     Function<byte[], Catalog<BaseRequirement>> excel2CatalogConverter(
-        @NonNull @Qualifier("toChapterFunction") Function<Sheet, Chapter<BaseRequirement>> toChapterFunction
+        @NonNull @Qualifier("toChapterFunction") Function<ExcelSheet, Chapter<BaseRequirement>> toChapterFunction
     ) {
         return new Excel2CatalogConverter(toChapterFunction);
     }
@@ -25,6 +25,7 @@ import eu.tailoringexpert.repository.BaseCatalogRepository;
 import eu.tailoringexpert.domain.ResourceMapper;
 import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.LogoRepository;
+import eu.tailoringexpert.repository.ProjectCopyRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
 import eu.tailoringexpert.screeningsheet.ScreeningSheetService;
 import eu.tailoringexpert.tailoring.TailoringService;
@@ -51,8 +52,9 @@ public class ProjectConfiguration {
     ProjectServiceRepository projectServiceRepository(
         @NonNull JPAProjectServiceRepositoryMapper mapper,
         @NonNull ProjectRepository projectRepository,
-        @NonNull BaseCatalogRepository baseCatalogRepository) {
-        return new JPAProjectServiceRepository(mapper, projectRepository, baseCatalogRepository);
+        @NonNull BaseCatalogRepository baseCatalogRepository,
+        @NonNull ProjectCopyRepository projectCopyRepository) {
+        return new JPAProjectServiceRepository(mapper, projectRepository, baseCatalogRepository, projectCopyRepository);
     }
 
     @Bean
@@ -22,7 +22,11 @@
 package eu.tailoringexpert.renderer;
 
 import com.openhtmltopdf.extend.FSDOMMutator;
+import eu.tailoringexpert.DocumentCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,11 +40,12 @@ import static org.thymeleaf.templatemode.TemplateMode.HTML;
 public class RendererConfiguration {
 
     @Bean
-    SpringTemplateEngine springTemplateEngine(@NonNull @Value("${templateHome}") final String templateHome) {
+    SpringTemplateEngine springTemplateEngine(@NonNull @Value("${templateHome}") final String templateHome,
+                                              @Value("${templateCacheable:true}") final boolean templateCacheable) {
         SpringTemplateEngine result = new SpringTemplateEngine();
         FileTemplateResolver fileTemplateResolver = new FileTemplateResolver();
         fileTemplateResolver.setPrefix(templateHome);
-        fileTemplateResolver.setCacheable(false);
+        fileTemplateResolver.setCacheable(templateCacheable);
         fileTemplateResolver.setSuffix(".html");
         fileTemplateResolver.setTemplateMode(HTML);
         fileTemplateResolver.setCharacterEncoding(UTF_8.toString());
@@ -52,6 +57,23 @@ public class RendererConfiguration {
         return result;
     }
 
+    @Bean(destroyMethod = "close")
+    ThymeleafTemplateCache thymeleafTemplateCache(@NonNull SpringTemplateEngine templateEngine,
+                                                  @NonNull DocumentCache documentCache,
+                                                  @NonNull @Value("${templateHome}") final String templateHome,
+                                                  @Value("${templateCacheable:true}") final boolean templateCacheable) {
+        ThymeleafTemplateCache result = new ThymeleafTemplateCache(templateEngine, templateHome, documentCache);
+        if (templateCacheable) {
+            result.watch();
+        }
+        return result;
+    }
+
+    @Bean
+    TemplateCacheEndpoint templateCacheEndpoint(@NonNull ThymeleafTemplateCache thymeleafTemplateCache) {
+        return new TemplateCacheEndpoint(thymeleafTemplateCache);
+    }
+
     @Bean
     RendererRequestConfigurationSupplier rendererRequestConfigurationSupplier(
         @NonNull @Value("${templateHome}") final String templateHome) {
@@ -80,7 +102,20 @@ public class RendererConfiguration {
 
     @Bean
     PDFEngine pdfEngine(@NonNull FSDOMMutator fsdomMutator,
-                        @NonNull RendererRequestConfigurationSupplier rendererRequestConfigurationSupplier) {
-        return new PDFEngine(fsdomMutator, rendererRequestConfigurationSupplier);
+                        @NonNull RendererRequestConfigurationSupplier rendererRequestConfigurationSupplier,
+                        @Value("${pdfResourceCacheSize:67108864}") final long pdfResourceCacheSize,
+                        ObjectProvider<MeterRegistry> meterRegistry) {
+        PDFEngine result = new PDFEngine(fsdomMutator, rendererRequestConfigurationSupplier, pdfResourceCacheSize);
+        meterRegistry.ifAvailable(registry -> {
+            FunctionCounter.builder("tailoringexpert.pdf.resource.cache", result, PDFEngine::getResourceCacheHits)
+                .description("Resources of PDF documents provided by cache")
+                .tag("result", "hit")
+                .register(registry);
+            FunctionCounter.builder("tailoringexpert.pdf.resource.cache", result, PDFEngine::getResourceCacheMisses)
+                .description("Resources of PDF documents loaded from file system")
+                .tag("result", "miss")
+                .register(registry);
+        });
+        return result;
     }
 }
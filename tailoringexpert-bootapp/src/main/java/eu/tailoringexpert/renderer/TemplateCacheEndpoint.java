@@ -0,0 +1,58 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.renderer;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.Map;
+
+/**
+ * Management endpoint to flush cached templates of a tenant, e.g. {@code DELETE /actuator/templates/<tenant>}.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Endpoint(id = "templates")
+public class TemplateCacheEndpoint {
+
+    @NonNull
+    private final ThymeleafTemplateCache templateCache;
+
+    /**
+     * Removes all cached templates of a tenant.
+     *
+     * @param tenant tenant to remove templates of
+     * @return number of removed templates
+     */
+    @DeleteOperation
+    public Map<String, Object> evict(@Selector String tenant) {
+        log.traceEntry(() -> tenant);
+        Map<String, Object> result = Map.of("tenant", tenant, "evicted", templateCache.evict(tenant));
+        return log.traceExit(result);
+    }
+}
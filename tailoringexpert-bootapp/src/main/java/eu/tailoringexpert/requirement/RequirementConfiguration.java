@@ -26,6 +26,8 @@ import eu.tailoringexpert.domain.ResourceMapper;
 import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.LogoRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.TailoringRepository;
+import eu.tailoringexpert.repository.TailoringRequirementRepository;
 import lombok.NonNull;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.context.annotation.Bean;
@@ -54,8 +56,10 @@ public class RequirementConfiguration {
     @Bean
     RequirementServiceRepository requirementServiceRepository(
         @NonNull JPARequirementServiceRepositoryMapper mapper,
-        @NonNull ProjectRepository projectRepository) {
-        return new JPARequirementServiceRepository(mapper, projectRepository);
+        @NonNull ProjectRepository projectRepository,
+        @NonNull TailoringRequirementRepository requirementRepository,
+        @NonNull TailoringRepository tailoringRepository) {
+        return new JPARequirementServiceRepository(mapper, projectRepository, requirementRepository, tailoringRepository);
     }
 
     @Bean
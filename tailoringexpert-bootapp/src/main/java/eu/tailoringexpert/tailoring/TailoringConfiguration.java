@@ -22,10 +22,14 @@
 package eu.tailoringexpert.tailoring;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eu.tailoringexpert.DocumentCache;
+import eu.tailoringexpert.DocumentJobExecutor;
 import eu.tailoringexpert.Tenant;
 import eu.tailoringexpert.Tenants;
 import eu.tailoringexpert.domain.MediaTypeProvider;
 import eu.tailoringexpert.domain.ResourceMapper;
+import eu.tailoringexpert.domain.TailoringCatalogResourceWriter;
 import eu.tailoringexpert.domain.DRD;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.Phase;
@@ -128,7 +132,9 @@ public class TailoringConfiguration {
         @NonNull DocumentService documentService,
         @NonNull RequirementService requirementService,
         @NonNull Function<byte[], Map<String, Collection<ImportRequirement>>> tailoringAnforderungFileReader,
-        @NonNull AttachmentService attachmentService
+        @NonNull AttachmentService attachmentService,
+        @NonNull DocumentCache documentCache,
+        @NonNull DocumentJobExecutor documentJobExecutor
     ) {
         return new TailoringServiceImpl(
             repository,
@@ -137,12 +143,14 @@ public class TailoringConfiguration {
             documentService,
             requirementService,
             tailoringAnforderungFileReader,
-            attachmentService
+            attachmentService,
+            documentCache,
+            documentJobExecutor
         );
     }
 
     @Bean
-    BiPredicate<String, Collection<Phase>> drdAnwendbarPraedikat() {
+    BiPredicate<DRD, Collection<Phase>> drdAnwendbarPraedikat() {
         Map<Phase, Collection<String>> phase2Meilensteine = Map.ofEntries(
             new SimpleEntry<>(ZERO, unmodifiableCollection(asList("MDR"))),
             new SimpleEntry<>(A, unmodifiableCollection(asList("PRR", "SRR"))),
@@ -158,8 +166,8 @@ public class TailoringConfiguration {
 
     @Bean
     BiFunction<Chapter<TailoringRequirement>, Collection<Phase>, Map<DRD, Set<String>>> drdProvider(
-        @NonNull BiPredicate<String, Collection<Phase>> drdAnwendbarPraedikat) {
-        return new DRDProvider(drdAnwendbarPraedikat);
+        @NonNull BiPredicate<DRD, Collection<Phase>> drdAnwendbarPraedikat) {
+        return new CachingDRDProvider(new DRDProvider(drdAnwendbarPraedikat));
     }
 
     @Bean
@@ -173,12 +181,20 @@ public class TailoringConfiguration {
         @NonNull TailoringService tailoringService,
         @NonNull TailoringServiceRepository tailoringServiceRepository,
         @NonNull AttachmentService attachmentService,
-        @NonNull Function<String, MediaType> mediaTypeProvider) {
+        @NonNull Function<String, MediaType> mediaTypeProvider,
+        @NonNull TailoringCatalogResourceWriter tailoringCatalogResourceWriter) {
         return new TailoringController(
-            mapper, tailoringService, tailoringServiceRepository, attachmentService, mediaTypeProvider
+            mapper, tailoringService, tailoringServiceRepository, attachmentService, mediaTypeProvider, tailoringCatalogResourceWriter
         );
     }
 
+    @Bean
+    TailoringCatalogResourceWriter tailoringCatalogResourceWriter(
+        @NonNull ResourceMapper mapper,
+        @NonNull ObjectMapper objectMapper) {
+        return new TailoringCatalogResourceWriter(mapper, objectMapper);
+    }
+
     @Bean
     String tenantConfigHome(@Value("${tenantConfigHome}") String tenantConfigHome) {
         return tenantConfigHome;
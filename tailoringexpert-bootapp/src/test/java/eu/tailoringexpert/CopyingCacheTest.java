@@ -0,0 +1,111 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Catalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CopyingCacheTest {
+
+    ConcurrentMapCache delegate;
+    CopyingCache cache;
+
+    @BeforeEach
+    void beforeEach() {
+        this.delegate = new ConcurrentMapCache("BaseCatalog");
+        this.cache = new CopyingCache(delegate);
+    }
+
+    @Test
+    void get_ReturnedValueChanged_CachedValueNotChanged() {
+        // arrange
+        cache.put("8.2.1", Catalog.<BaseRequirement>builder().version("8.2.1").build());
+        Catalog<BaseRequirement> catalog = (Catalog<BaseRequirement>) cache.get("8.2.1").get();
+
+        // act
+        catalog.setVersion("8.2.2");
+
+        // assert
+        Catalog<BaseRequirement> actual = (Catalog<BaseRequirement>) cache.get("8.2.1").get();
+        assertThat(actual).isNotSameAs(catalog);
+        assertThat(actual.getVersion()).isEqualTo("8.2.1");
+    }
+
+    @Test
+    void put_PutValueChanged_CachedValueNotChanged() {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder().version("8.2.1").build();
+        cache.put("8.2.1", catalog);
+
+        // act
+        catalog.setVersion("8.2.2");
+
+        // assert
+        Catalog<BaseRequirement> actual = cache.get("8.2.1", Catalog.class);
+        assertThat(actual.getVersion()).isEqualTo("8.2.1");
+    }
+
+    @Test
+    void get_LoadedValueChanged_CachedValueNotChanged() {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder().version("8.2.1").build();
+        Catalog<BaseRequirement> loaded = cache.get("8.2.1", () -> catalog);
+
+        // act
+        loaded.setVersion("8.2.2");
+
+        // assert
+        Catalog<BaseRequirement> actual = cache.get("8.2.1", () -> null);
+        assertThat(loaded).isNotSameAs(catalog);
+        assertThat(actual.getVersion()).isEqualTo("8.2.1");
+    }
+
+    @Test
+    void get_ValueNotSerializable_SameValueReturned() {
+        // arrange
+        Object value = new Object();
+        cache.put("8.2.1", value);
+
+        // act
+        Cache.ValueWrapper actual = cache.get("8.2.1");
+
+        // assert
+        assertThat(actual.get()).isSameAs(value);
+    }
+
+    @Test
+    void get_KeyNotCached_NullReturned() {
+        // arrange
+
+        // act
+        Cache.ValueWrapper actual = cache.get("8.2.1");
+
+        // assert
+        assertThat(actual).isNull();
+    }
+}
@@ -0,0 +1,125 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class MeteredCacheTest {
+
+    ConcurrentMapCache delegate;
+    MeteredCache cache;
+
+    @BeforeEach
+    void beforeEach() {
+        this.delegate = new ConcurrentMapCache("BaseCatalog");
+        this.cache = new MeteredCache(delegate);
+    }
+
+    @Test
+    void get_KeyNotCached_MissCounted() {
+        // arrange
+
+        // act
+        Cache.ValueWrapper actual = cache.get("8.2.1");
+
+        // assert
+        assertThat(actual).isNull();
+        assertThat(cache.getHits()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void get_KeyCached_HitCounted() {
+        // arrange
+        cache.put("8.2.1", "catalog");
+
+        // act
+        Cache.ValueWrapper actual = cache.get("8.2.1");
+
+        // assert
+        assertThat(actual.get()).isEqualTo("catalog");
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isZero();
+    }
+
+    @Test
+    void get_ValueLoaderCalledOnce_OneMissAndOneHitCounted() {
+        // arrange
+        cache.get("8.2.1", () -> "catalog");
+
+        // act
+        String actual = cache.get("8.2.1", () -> "other catalog");
+
+        // assert
+        assertThat(actual).isEqualTo("catalog");
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void getSize_NativeCacheIsMap_NumberOfEntriesReturned() {
+        // arrange
+        cache.put("8.2.1", "catalog");
+        cache.put("8.2.2", "catalog");
+
+        // act
+        double actual = cache.getSize();
+
+        // assert
+        assertThat(actual).isEqualTo(2);
+    }
+
+    @Test
+    void getSize_NativeCacheNoMap_NaNReturned() {
+        // arrange
+        Cache nativeCache = mock(Cache.class);
+        given(nativeCache.getNativeCache()).willReturn(new Object());
+        MeteredCache meteredCache = new MeteredCache(nativeCache);
+
+        // act
+        double actual = meteredCache.getSize();
+
+        // assert
+        assertThat(actual).isNaN();
+    }
+
+    @Test
+    void clear_CacheDecorated_DelegateCleared() {
+        // arrange
+        Cache nativeCache = mock(Cache.class);
+        MeteredCache meteredCache = new MeteredCache(nativeCache);
+
+        // act
+        meteredCache.clear();
+
+        // assert
+        verify(nativeCache).clear();
+    }
+}
@@ -21,23 +21,37 @@
  */
 package eu.tailoringexpert;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.mockito.MockedStatic;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.cache.support.NoOpCache;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.condition.JRE.JAVA_21;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 
 class TenantCacheManagerTest {
 
+    private static final int TENANTS = 5;
+
     @Test
     void getCache_CacheNotExists_NoOpCacheReturned() {
         // arrange
@@ -126,4 +140,156 @@ class TenantCacheManagerTest {
         // assert
         assertThat(actual).hasSize(2);
     }
+
+    @Test
+    void getCache_MeterRegistryProvided_CacheMetricsRegistered() {
+        // arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Map<String, CacheManager> cacheManagers = Map.of("anyTenant", new ConcurrentMapCacheManager());
+        TenantCacheManager cacheManager = new TenantCacheManager(cacheManagers, meterRegistry);
+
+        // act
+        Cache actual;
+        try (MockedStatic<TenantContext> tc = mockStatic(TenantContext.class)) {
+            tc.when(TenantContext::getCurrentTenant).thenReturn("anyTenant");
+            actual = cacheManager.getCache("BaseCatalog");
+            actual.put("8.2.1", "catalog");
+            actual.get("8.2.1");
+            actual.get("8.2.2");
+        }
+
+        // assert
+        assertThat(actual).isInstanceOf(MeteredCache.class);
+        assertThat(meterRegistry.get("tailoringexpert.cache.size").tag("tenant", "anyTenant").tag("cache", "BaseCatalog").gauge().value())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("tailoringexpert.cache.gets").tag("result", "hit").functionCounter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("tailoringexpert.cache.gets").tag("result", "miss").functionCounter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void getCache_CacheRequestedTwice_SameMeteredCacheReturned() {
+        // arrange
+        Map<String, CacheManager> cacheManagers = Map.of("anyTenant", new ConcurrentMapCacheManager());
+        TenantCacheManager cacheManager = new TenantCacheManager(cacheManagers, new SimpleMeterRegistry());
+
+        // act
+        Cache first;
+        Cache actual;
+        try (MockedStatic<TenantContext> tc = mockStatic(TenantContext.class)) {
+            tc.when(TenantContext::getCurrentTenant).thenReturn("anyTenant");
+            first = cacheManager.getCache("BaseCatalog");
+            actual = cacheManager.getCache("BaseCatalog");
+        }
+
+        // assert
+        assertThat(actual).isSameAs(first);
+    }
+
+    @Test
+    void getCache_CopyingCacheConfigured_CopyOfCachedValueReturned() {
+        // arrange
+        Map<String, CacheManager> cacheManagers = Map.of("anyTenant", new ConcurrentMapCacheManager());
+        TenantCacheManager cacheManager = new TenantCacheManager(cacheManagers, null, Set.of("BaseCatalog"));
+        ArrayList<String> value = new ArrayList<>(List.of("8.2.1"));
+
+        // act
+        Object actual;
+        try (MockedStatic<TenantContext> tc = mockStatic(TenantContext.class)) {
+            tc.when(TenantContext::getCurrentTenant).thenReturn("anyTenant");
+            cacheManager.getCache("BaseCatalog").put("key", value);
+            actual = cacheManager.getCache("BaseCatalog").get("key").get();
+        }
+
+        // assert
+        assertThat(actual)
+            .isNotSameAs(value)
+            .isEqualTo(value);
+    }
+
+    @Test
+    void getCache_CopyingCacheNotConfigured_CachedValueReturned() {
+        // arrange
+        Map<String, CacheManager> cacheManagers = Map.of("anyTenant", new ConcurrentMapCacheManager());
+        TenantCacheManager cacheManager = new TenantCacheManager(cacheManagers, null, Set.of("BaseCatalog"));
+        ArrayList<String> value = new ArrayList<>(List.of("8.2.1"));
+
+        // act
+        Object actual;
+        try (MockedStatic<TenantContext> tc = mockStatic(TenantContext.class)) {
+            tc.when(TenantContext::getCurrentTenant).thenReturn("anyTenant");
+            cacheManager.getCache("Projects").put("key", value);
+            actual = cacheManager.getCache("Projects").get("key").get();
+        }
+
+        // assert
+        assertThat(actual).isSameAs(value);
+    }
+
+    @Test
+    void getCache_SeveralTenantsConcurrently_CacheOfSubmittingTenantUsed() throws Exception {
+        // arrange
+        Map<String, CacheManager> cacheManagers = cacheManagers(TENANTS);
+        TenantCacheManager cacheManager = new TenantCacheManager(cacheManagers, new SimpleMeterRegistry());
+        ExecutorService pool = newFixedThreadPool(16);
+
+        // act
+        try {
+            putConcurrently(cacheManager, new TenantAwareExecutor(pool), 5000);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // assert
+        assertCacheOfTenantUsed(cacheManagers, 5000);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JAVA_21)
+    void getCache_SeveralTenantsConcurrentlyOnVirtualThreads_CacheOfSubmittingTenantUsed() throws Exception {
+        // arrange
+        Map<String, CacheManager> cacheManagers = cacheManagers(TENANTS);
+        TenantCacheManager cacheManager = new TenantCacheManager(cacheManagers, new SimpleMeterRegistry());
+
+        // act
+        putConcurrently(cacheManager, new TenantAwareExecutor(new VirtualThreadTaskExecutor("tenant-test-")), 5000);
+
+        // assert
+        assertCacheOfTenantUsed(cacheManagers, 5000);
+    }
+
+    private static Map<String, CacheManager> cacheManagers(int tenants) {
+        Map<String, CacheManager> result = new HashMap<>();
+        for (int i = 0; i < tenants; i++) {
+            result.put("TENANT" + i, new ConcurrentMapCacheManager());
+        }
+        return result;
+    }
+
+    private static void putConcurrently(TenantCacheManager cacheManager, Executor executor, int tasks) throws Exception {
+        CountDownLatch done = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            int task = i;
+            TenantContext.runInTenant("TENANT" + (task % TENANTS), () -> executor.execute(() -> {
+                try {
+                    cacheManager.getCache("BaseCatalog").put(task, TenantContext.getCurrentTenant());
+                } finally {
+                    done.countDown();
+                }
+            }));
+        }
+        assertThat(done.await(30, SECONDS)).isTrue();
+    }
+
+    private static void assertCacheOfTenantUsed(Map<String, CacheManager> cacheManagers, int tasks) {
+        int entries = 0;
+        for (Map.Entry<String, CacheManager> entry : cacheManagers.entrySet()) {
+            @SuppressWarnings("unchecked")
+            Map<Object, Object> cache = (Map<Object, Object>) entry.getValue().getCache("BaseCatalog").getNativeCache();
+            assertThat(cache.values()).containsOnly(entry.getKey());
+            entries += cache.size();
+        }
+        assertThat(entries).isEqualTo(tasks);
+    }
 }
@@ -0,0 +1,154 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2023 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.condition.JRE.JAVA_21;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+class TenantDataSourceTest {
+
+    private static final int TENANTS = 5;
+
+    Map<String, Connection> connections;
+    TenantDataSource dataSource;
+
+    @BeforeEach
+    void setup() throws Exception {
+        this.connections = new HashMap<>();
+        Map<Object, Object> dataSources = new HashMap<>();
+        for (int i = 0; i < TENANTS; i++) {
+            String tenant = "TENANT" + i;
+            Connection connection = mock(Connection.class);
+            DataSource tenantDataSource = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+            given(tenantDataSource.getConnection()).willReturn(connection);
+            connections.put(tenant, connection);
+            dataSources.put(tenant, tenantDataSource);
+        }
+
+        this.dataSource = new TenantDataSource();
+        this.dataSource.setTargetDataSources(dataSources);
+        this.dataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void teardown() {
+        TenantContext.removeCurrentTenant();
+    }
+
+    @Test
+    void getConnection_TenantSet_ConnectionOfTenantDataSourceReturned() throws Exception {
+        // arrange
+        TenantContext.setCurrentTenant("TENANT2");
+
+        // act
+        Connection actual = dataSource.getConnection();
+
+        // assert
+        assertThat(actual).isSameAs(connections.get("TENANT2"));
+    }
+
+    @Test
+    void getConnection_SeveralTenantsConcurrently_ConnectionOfSubmittingTenantReturned() throws Exception {
+        // arrange
+        ExecutorService pool = newFixedThreadPool(16);
+
+        // act
+        Map<Integer, Connection> actual;
+        try {
+            actual = getConnections(new TenantAwareExecutor(pool), 5000);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // assert
+        assertThat(actual).hasSize(5000);
+        actual.forEach((task, connection) -> assertThat(connection).isSameAs(connections.get("TENANT" + (task % TENANTS))));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JAVA_21)
+    void getConnection_SeveralTenantsConcurrentlyOnVirtualThreads_ConnectionOfSubmittingTenantReturned() throws Exception {
+        // arrange
+        Executor executor = new TenantAwareExecutor(new VirtualThreadTaskExecutor("tenant-test-"));
+
+        // act
+        Map<Integer, Connection> actual = getConnections(executor, 5000);
+
+        // assert
+        assertThat(actual).hasSize(5000);
+        actual.forEach((task, connection) -> assertThat(connection).isSameAs(connections.get("TENANT" + (task % TENANTS))));
+    }
+
+    @Test
+    void close_TenantDataSourcesResolved_AllTenantDataSourcesClosed() throws Exception {
+        // arrange
+
+        // act
+        dataSource.close();
+
+        // assert
+        for (DataSource tenantDataSource : dataSource.getResolvedDataSources().values()) {
+            verify((AutoCloseable) tenantDataSource, times(1)).close();
+        }
+    }
+
+    private Map<Integer, Connection> getConnections(Executor executor, int tasks) throws Exception {
+        CountDownLatch done = new CountDownLatch(tasks);
+        Map<Integer, Connection> result = new ConcurrentHashMap<>();
+        for (int i = 0; i < tasks; i++) {
+            int task = i;
+            TenantContext.runInTenant("TENANT" + (task % TENANTS), () -> executor.execute(() -> {
+                try {
+                    result.put(task, dataSource.getConnection());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    done.countDown();
+                }
+            }));
+        }
+        assertThat(done.await(30, SECONDS)).isTrue();
+        return result;
+    }
+}
@@ -21,6 +21,8 @@
  */
 package eu.tailoringexpert;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +38,7 @@ import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.sql.Connection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -124,11 +127,11 @@ class TenantFactoryTest {
                 .thenReturn(Stream.of(file.toPath()));
             tf.when(() -> TenantFactory.loadProperties(eq(file), eq(this.encryptor)))
                 .thenReturn(properties);
-            tf.when(() -> TenantFactory.buildDataSource(eq(properties)))
+            tf.when(() -> TenantFactory.buildDataSource(eq(properties), any()))
                 .thenReturn(createDefaultDataSource());
 
-            tf.when(() -> TenantFactory.dataSource(any(), any(), any())).thenCallRealMethod();
-            actual = TenantFactory.dataSource(createDefaultDataSource(), tenantConfigRoot, this.encryptor);
+            tf.when(() -> TenantFactory.dataSource(any(), any(), any(), any())).thenCallRealMethod();
+            actual = TenantFactory.dataSource(createDefaultDataSource(), tenantConfigRoot, this.encryptor, new SimpleMeterRegistry());
         }
 
         // assert
@@ -141,17 +144,62 @@ class TenantFactoryTest {
     }
 
     @Test
-    void buildDataSource_PropertiesGiven_DriverManagerDataSourceReturned() {
+    void buildDataSource_PropertiesGiven_PooledDataSourceReturned() {
         // arrange
         Properties properties = createProperties();
 
         // act
-        DataSource actual = TenantFactory.buildDataSource(properties);
+        DataSource actual = TenantFactory.buildDataSource(properties, null);
 
         // assert
         assertThat(actual)
             .isNotNull()
-            .isInstanceOf(DriverManagerDataSource.class);
+            .isInstanceOf(HikariDataSource.class);
+        ((HikariDataSource) actual).close();
+    }
+
+    @Test
+    void buildDataSource_PoolPropertiesGiven_PoolConfigured() {
+        // arrange
+        Properties properties = createProperties();
+        properties.put("spring.datasource.hikari.maximum-pool-size", "7");
+        properties.put("spring.datasource.hikari.minimum-idle", " 2 ");
+        properties.put("spring.datasource.hikari.idle-timeout", "120000");
+        properties.put("spring.datasource.hikari.validation-timeout", "1000");
+        properties.put("spring.datasource.hikari.connection-test-query", "SELECT 1");
+
+        // act
+        HikariDataSource actual = (HikariDataSource) TenantFactory.buildDataSource(properties, null);
+
+        // assert
+        assertThat(actual.getPoolName()).isEqualTo("demo");
+        assertThat(actual.getMaximumPoolSize()).isEqualTo(7);
+        assertThat(actual.getMinimumIdle()).isEqualTo(2);
+        assertThat(actual.getIdleTimeout()).isEqualTo(120000);
+        assertThat(actual.getValidationTimeout()).isEqualTo(1000);
+        assertThat(actual.getConnectionTestQuery()).isEqualTo("SELECT 1");
+        actual.close();
+    }
+
+    @Test
+    void buildDataSource_MeterRegistryGiven_PoolMetricsOfTenantRegistered() throws Exception {
+        // arrange
+        Properties properties = createProperties();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:tailoringexpert-metrics");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // act
+        HikariDataSource actual = (HikariDataSource) TenantFactory.buildDataSource(properties, meterRegistry);
+        try (Connection connection = actual.getConnection()) {
+            assertThat(connection).isNotNull();
+        }
+
+        // assert
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "demo").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.idle").tag("pool", "demo").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.pending").tag("pool", "demo").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "demo").timer()).isNotNull();
+        actual.close();
     }
 
     @Test
@@ -0,0 +1,59 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2023 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.renderer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TemplateCacheEndpointTest {
+
+    ThymeleafTemplateCache templateCacheMock;
+    TemplateCacheEndpoint endpoint;
+
+    @BeforeEach
+    void beforeEach() {
+        this.templateCacheMock = mock(ThymeleafTemplateCache.class);
+        this.endpoint = new TemplateCacheEndpoint(templateCacheMock);
+    }
+
+    @Test
+    void evict_Tenant_TemplatesOfTenantEvicted() {
+        // arrange
+        given(templateCacheMock.evict("plattform")).willReturn(5);
+
+        // act
+        Map<String, Object> actual = endpoint.evict("plattform");
+
+        // assert
+        assertThat(actual)
+            .containsEntry("tenant", "plattform")
+            .containsEntry("evicted", 5);
+        verify(templateCacheMock).evict("plattform");
+    }
+}
@@ -0,0 +1,357 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.File;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.lang.System.currentTimeMillis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.copy;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.list;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.write;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.empty;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Size bounded cache of created documents on local disk.
+ * <p>
+ * Documents are stored under a key, which shall contain the content revision of the data the document is created of.
+ * Changed data therefore results in a new key, and outdated documents are evicted least recently used first as soon
+ * as the size of all cached documents exceeds the maximum size.
+ * <p>
+ * Keys are separated by the provided partition, e.g. the current tenant. The cache directory is cleared on creation,
+ * because cached documents might have been created with outdated templates. For the same reason all documents of a
+ * partition have to be evicted, if its templates change. Each eviction changes the generation of the partition, which
+ * can be used to tag documents provided to clients.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+public class DocumentCache {
+
+    /**
+     * Directory containing the cached documents.
+     */
+    private final Path directory;
+
+    /**
+     * Maximum size in bytes of all cached documents.
+     */
+    private final long maxSize;
+
+    /**
+     * Provider of partition keys are separated by.
+     */
+    private final Supplier<String> partition;
+
+    /**
+     * Cached documents in least recently used order.
+     */
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Current size in bytes of all cached documents.
+     */
+    private long size;
+
+    /**
+     * Creation time of cache, so generations of a restarted cache differ from the previous ones.
+     */
+    private final String created = Long.toString(currentTimeMillis(), 36);
+
+    /**
+     * Number of evictions of all partitions.
+     */
+    private long evictions;
+
+    /**
+     * Number of evictions of each partition.
+     */
+    private final Map<String, Long> partitionEvictions = new HashMap<>();
+
+    /**
+     * Creates a cache in the provided directory. Existing files in directory will be deleted.
+     *
+     * @param directory directory to store documents in
+     * @param maxSize   maximum size in bytes of all cached documents
+     * @param partition provider of partition keys are separated by
+     */
+    @SneakyThrows
+    public DocumentCache(@NonNull Path directory, long maxSize, @NonNull Supplier<String> partition) {
+        this.directory = createDirectories(directory);
+        this.maxSize = maxSize;
+        this.partition = partition;
+
+        try (Stream<Path> files = list(this.directory)) {
+            files.filter(Files::isRegularFile).forEach(DocumentCache::delete);
+        }
+    }
+
+    /**
+     * Get a cached document or create and cache it, if not already cached.
+     *
+     * @param key     key of document
+     * @param creator creator of document, if document is not cached
+     * @return cached or created document
+     */
+    public Optional<File> getFile(@NonNull String key, @NonNull Supplier<Optional<File>> creator) {
+        log.traceEntry(() -> key);
+
+        String cachePartition = partition.get();
+        String cacheKey = cacheKey(cachePartition, key);
+        Optional<File> result = lookup(cacheKey)
+            .flatMap(entry -> read(cacheKey, entry.getPath())
+                .map(data -> File.builder()
+                    .name(entry.getName())
+                    .data(data)
+                    .build()));
+
+        if (result.isEmpty()) {
+            result = creator.get();
+            result
+                .filter(file -> nonNull(file.getData()))
+                .ifPresent(file -> store(cachePartition, cacheKey, file.getName(), file.getLength(), path -> write(path, file.getData())));
+        }
+
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * Get a cached document bundle or create and cache it, if not already cached.
+     * <p>
+     * Returned bundle always is a temporary copy, so the cached bundle can be evicted while bundle is read.
+     *
+     * @param key     key of document bundle
+     * @param creator creator of document bundle, if bundle is not cached
+     * @return cached or created document bundle
+     */
+    public Optional<DocumentBundle> getBundle(@NonNull String key, @NonNull Supplier<Optional<DocumentBundle>> creator) {
+        log.traceEntry(() -> key);
+
+        String cachePartition = partition.get();
+        String cacheKey = cacheKey(cachePartition, key);
+        Optional<DocumentBundle> result = lookup(cacheKey)
+            .flatMap(entry -> copyToTemporary(cacheKey, entry.getPath())
+                .map(path -> DocumentBundle.builder()
+                    .name(entry.getName())
+                    .path(path)
+                    .build()));
+
+        if (result.isEmpty()) {
+            result = creator.get();
+            result.ifPresent(bundle -> store(cachePartition, cacheKey, bundle.getName(), bundle.getLength(), path -> copy(bundle.getPath(), path, REPLACE_EXISTING)));
+        }
+
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * Current size in bytes of all cached documents.
+     *
+     * @return size of cached documents
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Generation of the documents of the current partition. The generation changes whenever the documents of the
+     * partition are evicted.
+     *
+     * @return generation of current partition
+     */
+    public synchronized String getGeneration() {
+        return created + "." + (evictions + partitionEvictions.getOrDefault(partition.get(), 0L));
+    }
+
+    /**
+     * Removes all cached documents of a partition, e.g. because the templates of a tenant have been changed.
+     *
+     * @param partition partition to remove documents of
+     * @return number of removed documents
+     */
+    public synchronized int evict(@NonNull String partition) {
+        log.traceEntry(() -> partition);
+
+        partitionEvictions.merge(partition, 1L, Long::sum);
+        int result = 0;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (partition.equals(entry.getPartition())) {
+                iterator.remove();
+                size -= entry.getLength();
+                delete(entry.getPath());
+                result++;
+            }
+        }
+
+        log.info("Evicted {} cached documents of {}", result, partition);
+        return log.traceExit(result);
+    }
+
+    /**
+     * Removes all cached documents of all partitions.
+     */
+    public synchronized void evictAll() {
+        log.traceEntry();
+
+        evictions++;
+        entries.values().forEach(entry -> delete(entry.getPath()));
+        entries.clear();
+        size = 0;
+
+        log.traceExit();
+    }
+
+    private synchronized Optional<Entry> lookup(String cacheKey) {
+        return ofNullable(entries.get(cacheKey));
+    }
+
+    private synchronized void remove(String cacheKey) {
+        Entry entry = entries.remove(cacheKey);
+        if (nonNull(entry)) {
+            size -= entry.getLength();
+            delete(entry.getPath());
+        }
+    }
+
+    private void store(String cachePartition, String cacheKey, String name, long length, Writer writer) {
+        if (length > maxSize) {
+            log.info("document {} exceeds cache size and will not be cached", name);
+            return;
+        }
+
+        Path path = directory.resolve(cacheKey);
+        Path temporary = null;
+        try {
+            // write to a temporary file first, so the cached document is never read partially written
+            temporary = createTempFile(directory, cacheKey, ".tmp");
+            writer.write(temporary);
+            move(temporary, path, REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("document {} could not be cached", name, e);
+            delete(temporary);
+            return;
+        }
+
+        synchronized (this) {
+            Entry previous = entries.put(cacheKey, new Entry(cachePartition, name, path, length));
+            if (nonNull(previous)) {
+                size -= previous.getLength();
+            }
+            size += length;
+            evict();
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            iterator.remove();
+            size -= entry.getLength();
+            delete(entry.getPath());
+            log.debug("evicted cached document {}", entry.getName());
+        }
+    }
+
+    private Optional<byte[]> read(String cacheKey, Path path) {
+        try {
+            return Optional.of(readAllBytes(path));
+        } catch (IOException e) {
+            log.warn("cached document could not be read", e);
+            remove(cacheKey);
+            return empty();
+        }
+    }
+
+    private Optional<Path> copyToTemporary(String cacheKey, Path path) {
+        Path result = null;
+        try {
+            result = createTempFile("tailoringexpert-", ".zip");
+            copy(path, result, REPLACE_EXISTING);
+            return Optional.of(result);
+        } catch (IOException e) {
+            log.warn("cached document could not be read", e);
+            delete(result);
+            remove(cacheKey);
+            return empty();
+        }
+    }
+
+    @SneakyThrows
+    private String cacheKey(String cachePartition, String key) {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest((cachePartition + "/" + key).getBytes(UTF_8)));
+    }
+
+    private static void delete(Path path) {
+        if (nonNull(path)) {
+            try {
+                deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("file {} could not be deleted", path, e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(Path path) throws IOException;
+    }
+
+    @Value
+    private static class Entry {
+        String partition;
+        String name;
+        Path path;
+        long length;
+    }
+}
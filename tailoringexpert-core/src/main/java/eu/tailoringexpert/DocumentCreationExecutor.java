@@ -0,0 +1,147 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.File;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Executes independent document creations concurrently.
+ * <p>
+ * Each document creation is submitted to the provided executor. The degree of parallelism is defined by the executor,
+ * so a bounded executor shall be used. Created documents are handed over in the calling thread, so consumers do not
+ * need to be thread safe.
+ * <p>
+ * The executor is not provided by the application. Tenant document services creating independent documents create
+ * their own instance on a bounded pool, which has to be wrapped by a {@code TenantAwareExecutor} to propagate the
+ * tenant to the creating threads.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class DocumentCreationExecutor {
+
+    /**
+     * Executor to run document creations.
+     */
+    private final Executor executor;
+
+    /**
+     * Creates all documents and hands over each document to the consumer as soon as it is created.
+     * <p>
+     * If a document creation fails or the calling thread is interrupted, all other document creations not yet
+     * finished will be cancelled. The interrupt state of the calling thread is kept.
+     *
+     * @param creators named document creations
+     * @param consumer consumer of each created document
+     */
+    @SneakyThrows
+    public void execute(Map<String, Supplier<Optional<File>>> creators, Consumer<File> consumer) {
+        log.traceEntry(creators::keySet);
+
+        CompletionService<Optional<File>> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<Optional<File>>> futures = new ArrayList<>(creators.size());
+        try {
+            creators.forEach((name, creator) -> futures.add(completionService.submit(() -> create(name, creator))));
+            for (int i = 0; i < futures.size(); i++) {
+                completionService.take().get().ifPresent(consumer);
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw log.throwing(new TailoringexpertException("Document creation has been interrupted"));
+        } finally {
+            // remaining document creations are cancelled on failure or interruption
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        log.traceExit();
+    }
+
+    /**
+     * Creates all documents.
+     * <p>
+     * If a document creation fails or the calling thread is interrupted, all other document creations not yet
+     * finished will be cancelled. The interrupt state of the calling thread is kept.
+     *
+     * @param creators named document creations
+     * @return created documents in order of the provided document creations
+     */
+    @SneakyThrows
+    public Collection<File> execute(Map<String, Supplier<Optional<File>>> creators) {
+        log.traceEntry(creators::keySet);
+
+        List<Future<Optional<File>>> futures = new ArrayList<>(creators.size());
+        Collection<File> result = new ArrayList<>(creators.size());
+        try {
+            creators.forEach((name, creator) -> {
+                FutureTask<Optional<File>> future = new FutureTask<>(() -> create(name, creator));
+                futures.add(future);
+                executor.execute(future);
+            });
+            for (Future<Optional<File>> future : futures) {
+                future.get().ifPresent(result::add);
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw log.throwing(new TailoringexpertException("Document creation has been interrupted"));
+        } finally {
+            // remaining document creations are cancelled on failure or interruption
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        log.traceExit();
+        return result;
+    }
+
+    private Optional<File> create(String name, Supplier<Optional<File>> creator) {
+        long start = nanoTime();
+        try {
+            return creator.get();
+        } finally {
+            log.info("Creation of document {} took {} ms", name, NANOSECONDS.toMillis(nanoTime() - start));
+        }
+    }
+}
@@ -0,0 +1,432 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.DocumentJob;
+import eu.tailoringexpert.domain.DocumentJobState;
+import eu.tailoringexpert.domain.File;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static eu.tailoringexpert.domain.DocumentJobState.FAILED;
+import static eu.tailoringexpert.domain.DocumentJobState.FINISHED;
+import static eu.tailoringexpert.domain.DocumentJobState.QUEUED;
+import static eu.tailoringexpert.domain.DocumentJobState.RUNNING;
+import static java.nio.file.Files.copy;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.list;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.size;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.empty;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Executes document creations asynchronously as jobs.
+ * <p>
+ * Jobs are submitted to the provided executor, so queue limits and the degree of parallelism are defined by the
+ * executor. A job submitted while an identical job, identified by the same key, is queued, running or finished will
+ * not be executed again, but the existing job is returned. Keys therefore shall contain the content revision of the
+ * data the documents are created of.
+ * <p>
+ * Jobs not completed within the provided timeout, e.g. because the executor is stuck, are marked as failed, so they
+ * expire like any other completed job and identical jobs can be submitted again.
+ * <p>
+ * Created document bundles are stored in the provided directory until the job expires. Jobs are separated by the
+ * provided partition, e.g. the current tenant, so jobs are only visible within the partition they have been
+ * submitted in. The directory is cleared on creation, because jobs do not survive a restart.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+public class DocumentJobExecutor {
+
+    /**
+     * Default duration a job may be queued or running.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofHours(1);
+
+    /**
+     * Executor to run jobs.
+     */
+    private final Executor executor;
+
+    /**
+     * Directory containing the created document bundles.
+     */
+    private final Path directory;
+
+    /**
+     * Duration completed jobs will be kept.
+     */
+    private final Duration expiry;
+
+    /**
+     * Duration a job may be queued or running until it is marked as failed.
+     */
+    private final Duration timeout;
+
+    /**
+     * Provider of partition jobs are separated by.
+     */
+    private final Supplier<String> partition;
+
+    /**
+     * Jobs identified by their id.
+     */
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Ids of jobs identified by their partitioned key.
+     */
+    private final Map<String, String> keys = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an executor storing document bundles in the provided directory using the default timeout. Existing
+     * files in directory will be deleted.
+     *
+     * @param executor  executor to run jobs
+     * @param directory directory to store created document bundles in
+     * @param expiry    duration completed jobs will be kept
+     * @param partition provider of partition jobs are separated by
+     */
+    public DocumentJobExecutor(@NonNull Executor executor,
+                               @NonNull Path directory,
+                               @NonNull Duration expiry,
+                               @NonNull Supplier<String> partition) {
+        this(executor, directory, expiry, DEFAULT_TIMEOUT, partition);
+    }
+
+    /**
+     * Creates an executor storing document bundles in the provided directory. Existing files in directory will be
+     * deleted.
+     *
+     * @param executor  executor to run jobs
+     * @param directory directory to store created document bundles in
+     * @param expiry    duration completed jobs will be kept
+     * @param timeout   duration a job may be queued or running until it is marked as failed
+     * @param partition provider of partition jobs are separated by
+     */
+    @SneakyThrows
+    public DocumentJobExecutor(@NonNull Executor executor,
+                               @NonNull Path directory,
+                               @NonNull Duration expiry,
+                               @NonNull Duration timeout,
+                               @NonNull Supplier<String> partition) {
+        this.executor = executor;
+        this.directory = createDirectories(directory);
+        this.expiry = expiry;
+        this.timeout = timeout;
+        this.partition = partition;
+
+        try (Stream<Path> files = list(this.directory)) {
+            files.filter(Files::isRegularFile).forEach(DocumentJobExecutor::delete);
+        }
+    }
+
+    /**
+     * Submits a job creating a document bundle, if there is no identical job.
+     *
+     * @param key     key of job
+     * @param creator creator of document bundle, handing over each created document to provided consumer
+     * @return submitted or already existing identical job
+     * @throws RejectedExecutionException if job can not be accepted for execution
+     */
+    public DocumentJob submit(@NonNull String key, @NonNull Function<Consumer<File>, Optional<DocumentBundle>> creator) {
+        log.traceEntry(() -> key);
+        purge();
+
+        String jobKey = partition.get() + "/" + key;
+        Job job;
+        synchronized (this) {
+            Job existing = ofNullable(keys.get(jobKey)).map(jobs::get).orElse(null);
+            if (nonNull(existing) && existing.getState() != FAILED) {
+                log.info("document job {} already submitted", existing.getId());
+                return log.traceExit(existing.toDocumentJob());
+            }
+
+            job = new Job(UUID.randomUUID().toString(), jobKey, partition.get());
+            jobs.put(job.getId(), job);
+            keys.put(jobKey, job.getId());
+        }
+
+        try {
+            executor.execute(() -> run(job, creator));
+        } catch (RejectedExecutionException e) {
+            remove(job);
+            throw log.throwing(e);
+        }
+
+        DocumentJob result = job.toDocumentJob();
+        log.traceExit(result.getId());
+        return result;
+    }
+
+    /**
+     * Get current state of a job.
+     *
+     * @param id id of job
+     * @return state of job, empty if job does not exist or is expired
+     */
+    public Optional<DocumentJob> getJob(@NonNull String id) {
+        log.traceEntry(() -> id);
+        purge();
+
+        Optional<DocumentJob> result = lookup(id).map(Job::toDocumentJob);
+
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * Get document bundle created by a finished job.
+     * <p>
+     * Returned bundle always is a temporary copy, so the job can expire while bundle is read.
+     *
+     * @param id id of job
+     * @return created document bundle, empty if job does not exist or is not finished
+     */
+    public Optional<DocumentBundle> getResult(@NonNull String id) {
+        log.traceEntry(() -> id);
+        purge();
+
+        Optional<DocumentBundle> result = lookup(id)
+            .map(Job::toDocumentJob)
+            .filter(job -> job.getState() == FINISHED)
+            .flatMap(job -> copyToTemporary(id)
+                .map(path -> DocumentBundle.builder()
+                    .name(job.getName())
+                    .path(path)
+                    .build()));
+
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * Marks all timed out jobs as failed and deletes all expired jobs including their created document bundles.
+     */
+    public void purge() {
+        ZonedDateTime now = ZonedDateTime.now();
+        jobs.values()
+            .stream()
+            .filter(job -> job.timedOut(now.minus(timeout), now.plus(expiry)))
+            .forEach(job -> log.warn("document job {} timed out", job.getId()));
+
+        jobs.values()
+            .stream()
+            .filter(job -> job.isExpired(now))
+            .toList()
+            .forEach(job -> {
+                remove(job);
+                log.debug("removed expired document job {}", job.getId());
+            });
+    }
+
+    private Optional<Job> lookup(String id) {
+        return ofNullable(jobs.get(id))
+            .filter(job -> job.getPartition().equals(partition.get()));
+    }
+
+    private synchronized void remove(Job job) {
+        jobs.remove(job.getId());
+        keys.remove(job.getKey(), job.getId());
+        delete(path(job.getId()));
+    }
+
+    private void run(Job job, Function<Consumer<File>, Optional<DocumentBundle>> creator) {
+        if (!job.running()) {
+            log.info("document job {} timed out before execution", job.getId());
+            return;
+        }
+
+        Optional<DocumentBundle> bundle = empty();
+        try {
+            bundle = creator.apply(job::created);
+            if (bundle.isEmpty()) {
+                log.info("document job {} did not create any documents", job.getId());
+                job.failed("Documents could not be created", ZonedDateTime.now().plus(expiry));
+                return;
+            }
+
+            Path path = move(bundle.get().getPath(), path(job.getId()), REPLACE_EXISTING);
+            if (!job.finished(bundle.get().getName(), size(path), ZonedDateTime.now().plus(expiry))) {
+                log.info("document job {} timed out before documents were created", job.getId());
+                delete(path);
+            }
+        } catch (Exception e) {
+            failed(job, bundle, e);
+        } catch (Error e) {
+            // job must not remain running, otherwise it will never expire
+            failed(job, bundle, e);
+            throw e;
+        }
+    }
+
+    private void failed(Job job, Optional<DocumentBundle> bundle, Throwable e) {
+        log.error("document job " + job.getId() + " failed", e);
+        bundle.ifPresent(documents -> delete(documents.getPath()));
+        job.failed(e.getMessage(), ZonedDateTime.now().plus(expiry));
+    }
+
+    private Optional<Path> copyToTemporary(String id) {
+        Path result = null;
+        try {
+            result = createTempFile("tailoringexpert-", ".zip");
+            copy(path(id), result, REPLACE_EXISTING);
+            return Optional.of(result);
+        } catch (IOException e) {
+            log.warn("created documents of job {} could not be read", id, e);
+            delete(result);
+            return empty();
+        }
+    }
+
+    private Path path(String id) {
+        return directory.resolve(id + ".zip");
+    }
+
+    private static void delete(Path path) {
+        if (nonNull(path)) {
+            try {
+                deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("file {} could not be deleted", path, e);
+            }
+        }
+    }
+
+    /**
+     * Mutable state of a submitted job.
+     */
+    private static class Job {
+        private final String id;
+        private final String key;
+        private final String partition;
+        private final ZonedDateTime creationTimestamp = ZonedDateTime.now();
+        private final List<String> documents = new ArrayList<>();
+        private DocumentJobState state = QUEUED;
+        private String name;
+        private Long length;
+        private String message;
+        private ZonedDateTime expirationTimestamp;
+
+        Job(String id, String key, String partition) {
+            this.id = id;
+            this.key = key;
+            this.partition = partition;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        String getPartition() {
+            return partition;
+        }
+
+        synchronized DocumentJobState getState() {
+            return state;
+        }
+
+        synchronized boolean running() {
+            if (state != QUEUED) {
+                return false;
+            }
+            state = RUNNING;
+            return true;
+        }
+
+        synchronized void created(File document) {
+            documents.add(document.getName());
+        }
+
+        synchronized boolean finished(String name, long length, ZonedDateTime expirationTimestamp) {
+            if (state != RUNNING) {
+                return false;
+            }
+            this.state = FINISHED;
+            this.name = name;
+            this.length = length;
+            this.expirationTimestamp = expirationTimestamp;
+            return true;
+        }
+
+        synchronized void failed(String message, ZonedDateTime expirationTimestamp) {
+            this.state = FAILED;
+            this.message = message;
+            this.expirationTimestamp = expirationTimestamp;
+        }
+
+        synchronized boolean timedOut(ZonedDateTime deadline, ZonedDateTime expirationTimestamp) {
+            if ((state != QUEUED && state != RUNNING) || creationTimestamp.isAfter(deadline)) {
+                return false;
+            }
+            failed("Document job timed out", expirationTimestamp);
+            return true;
+        }
+
+        synchronized boolean isExpired(ZonedDateTime now) {
+            return nonNull(expirationTimestamp) && !expirationTimestamp.isAfter(now);
+        }
+
+        synchronized DocumentJob toDocumentJob() {
+            return DocumentJob.builder()
+                .id(id)
+                .state(state)
+                .documents(List.copyOf(documents))
+                .name(name)
+                .length(length)
+                .message(message)
+                .creationTimestamp(creationTimestamp)
+                .expirationTimestamp(expirationTimestamp)
+                .build();
+        }
+    }
+}
@@ -24,6 +24,8 @@ package eu.tailoringexpert.catalog;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.CatalogVersion;
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.DocumentJob;
 import eu.tailoringexpert.domain.File;
 
 import java.time.ZonedDateTime;
@@ -74,9 +76,9 @@ public interface CatalogService {
      * Creates printable version of base catalog.
      *
      * @param catalog base catalog data to create document of
-     * @return If base catalog availabe, a printable document, else empty
+     * @return If base catalog availabe, a bundle of printable documents, else empty
      */
-    Optional<File> createDocuments(Catalog<BaseRequirement> catalog);
+    Optional<DocumentBundle> createDocuments(Catalog<BaseRequirement> catalog);
 
     /**
      * Creates printable version of base catalog.
@@ -93,7 +95,16 @@ public interface CatalogService {
      * @param version version to load
      * @return Created zip-file containing all created documents
      */
-    Optional<File> createDocuments(String version);
+    Optional<DocumentBundle> createDocuments(String version);
+
+    /**
+     * Submit a job creating all documents of basecatalog asynchronously.<p>
+     * A job of the same basecatalog already submitted will be reused.
+     *
+     * @param version version of basecatalog to create all documents of
+     * @return submitted job, empty if basecatalog does not exist
+     */
+    Optional<DocumentJob> createDocumentJob(String version);
 
     /**
      * Loads all base catalog versions defined in system.
@@ -21,24 +21,24 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.DocumentJobExecutor;
 import eu.tailoringexpert.TailoringexpertException;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.CatalogVersion;
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.DocumentJob;
 import eu.tailoringexpert.domain.File;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 
-import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -62,6 +62,9 @@ public class CatalogServiceImpl implements CatalogService {
     @NonNull
     private Function<byte[], Catalog<BaseRequirement>> file2Catalog;
 
+    @NonNull
+    private DocumentJobExecutor documentJobExecutor;
+
     private static final String MSG_CATALOGDOCUMENT_NOT_CREATED = "catalog document NOT created due to non existing catalog version.";
 
     /**
@@ -121,25 +124,15 @@ public class CatalogServiceImpl implements CatalogService {
     }
 
     @Override
-    public Optional<File> createDocuments(Catalog<BaseRequirement> catalog) {
+    public Optional<DocumentBundle> createDocuments(Catalog<BaseRequirement> catalog) {
         log.traceEntry();
-        @SuppressWarnings("PMD.PrematureDeclaration") final LocalDateTime creationTimestamp = LocalDateTime.now();
-
-        if (ofNullable(catalog).isEmpty()) {
-            log.error(MSG_CATALOGDOCUMENT_NOT_CREATED);
-            log.traceExit();
-            return empty();
-        }
 
-        Collection<File> documents = documentService.createAll(catalog, creationTimestamp);
-        ByteArrayOutputStream os = createZip(documents);
+        Optional<DocumentBundle> result = createDocuments(catalog, document -> {
+            // no progress to report to
+        });
 
-        File result = File.builder()
-            .name("catalog_" + catalog.getVersion()+ ".zip")
-            .data(os.toByteArray())
-            .build();
-        log.traceExit(result.getName());
-        return of(result);
+        log.traceExit();
+        return result;
     }
 
     @Override
@@ -163,16 +156,39 @@ public class CatalogServiceImpl implements CatalogService {
      * {@inheritDoc}
      */
     @Override
-    public Optional<File> createDocuments(String version) {
+    public Optional<DocumentBundle> createDocuments(String version) {
         log.traceEntry(() -> version);
 
         Optional<Catalog<BaseRequirement>> catalog = repository.getCatalog(version);
-        Optional<File> result = createDocuments(catalog.orElse(null));
+        Optional<DocumentBundle> result = createDocuments(catalog.orElse(null));
 
         log.traceExit();
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<DocumentJob> createDocumentJob(String version) {
+        log.traceEntry(() -> version);
+
+        // catalog has to be loaded before submitting, because job is executed without persistence context
+        Optional<Catalog<BaseRequirement>> catalog = repository.getCatalog(version);
+        if (catalog.isEmpty()) {
+            log.error(MSG_CATALOGDOCUMENT_NOT_CREATED);
+            log.traceExit();
+            return empty();
+        }
+
+        DocumentJob result = documentJobExecutor.submit(
+            "catalog/" + version + "/all",
+            listener -> createDocuments(catalog.get(), listener));
+
+        log.traceExit(result.getId());
+        return of(result);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -214,33 +230,26 @@ public class CatalogServiceImpl implements CatalogService {
         return log.traceExit(result);
     }
 
-
     /**
-     * Create zip containing provided files.
+     * Creates all documents of base catalog.
      *
-     * @param documents documents files to add to zip
-     * @return created zip
+     * @param catalog  base catalog data to create documents of
+     * @param listener listener notified about each created document
+     * @return If base catalog availabe, a bundle of printable documents, else empty
      */
-    @SneakyThrows
-    ByteArrayOutputStream createZip(Collection<File> documents) {
-        try (ByteArrayOutputStream result = new ByteArrayOutputStream();
-             ZipOutputStream zip = new ZipOutputStream(result)) {
-            documents.forEach(file -> addToZip(file, zip));
-            return result;
+    private Optional<DocumentBundle> createDocuments(Catalog<BaseRequirement> catalog, Consumer<File> listener) {
+        @SuppressWarnings("PMD.PrematureDeclaration") final LocalDateTime creationTimestamp = LocalDateTime.now();
+
+        if (ofNullable(catalog).isEmpty()) {
+            log.error(MSG_CATALOGDOCUMENT_NOT_CREATED);
+            return empty();
         }
-    }
 
-    /**
-     * Add file to zip.
-     *
-     * @param file file to add
-     * @param zip  Zip, to add file to
-     */
-    @SneakyThrows
-    void addToZip(File file, ZipOutputStream zip) {
-        ZipEntry zipEntry = new ZipEntry(file.getName());
-        zip.putNextEntry(zipEntry);
-        zip.write(file.getData(), 0, file.getData().length);
-        zip.closeEntry();
+        DocumentBundle result = DocumentBundle.create(
+            "catalog_" + catalog.getVersion() + ".zip",
+            consumer -> documentService.createAll(catalog, creationTimestamp, consumer.andThen(listener))
+        );
+        log.info("created catalog documents {}", result.getName());
+        return of(result);
     }
 }
@@ -29,6 +29,7 @@ import eu.tailoringexpert.domain.File;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Interface for providing generated document files.
@@ -56,6 +57,22 @@ public interface DocumentService {
      */
     Collection<File> createAll(Catalog<BaseRequirement> catalog, LocalDateTime creationTimestamp);
 
+    /**
+     * Creates all documents belonging to a base catalog and hands over each document to the consumer
+     * as soon as it is created.
+     * <p>
+     * Default implementation delegates to {@link #createAll(Catalog, LocalDateTime)}. Implementations
+     * should override it, if documents can be provided one after another. Independent
+     * documents can be created concurrently by using {@link eu.tailoringexpert.DocumentCreationExecutor}.
+     *
+     * @param catalog           base catalog data for document creation
+     * @param creationTimestamp timestamp of document creation
+     * @param consumer          consumer of each created document
+     */
+    default void createAll(Catalog<BaseRequirement> catalog, LocalDateTime creationTimestamp, Consumer<File> consumer) {
+        createAll(catalog, creationTimestamp).forEach(consumer);
+    }
+
     /**
      * Create a base catalog excel document.
      *
@@ -65,8 +65,7 @@ public class Catalog<T extends Requirement> implements Serializable {
      * @return Chapter if exists otherwise empty
      */
     public Optional<Chapter<T>> getChapter(String number) {
-        return allChapters()
-            .filter(chapter -> number.equals(chapter.getNumber()))
-            .findFirst();
+        // toc itself is no chapter of the catalog, even if numbered equally to one of its chapters
+        return toc.getSubChapter(number);
     }
 }
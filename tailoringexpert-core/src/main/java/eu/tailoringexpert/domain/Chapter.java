@@ -24,17 +24,29 @@ package eu.tailoringexpert.domain;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.stream.Stream.of;
+import static lombok.AccessLevel.NONE;
 
 @Data
 @Builder
@@ -68,17 +80,64 @@ public class Chapter<T extends Requirement> implements Serializable {
      */
     private List<T> requirements;
 
+    /**
+     * Lazily built lookup of (sub)chapters by number.
+     * A rebuilt index is published as a whole, because catalogs might be shared by cache.
+     */
+    @Getter(NONE)
+    @Setter(NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final transient AtomicReference<Map<String, Chapter<T>>> chapterIndex = new AtomicReference<>(emptyMap());
+
+    /**
+     * Lazily built lookup of requirement list index by position.
+     */
+    @Getter(NONE)
+    @Setter(NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final transient AtomicReference<Map<String, Integer>> requirementIndex = new AtomicReference<>(emptyMap());
+
     /**
      * Get a chapter identified by chapter number.
+     * <p>
+     * Lookup is done by a lazily built index, which will be rebuild if a requested chapter could not be found
+     * (anymore).
      *
      * @param number number of chapter to get
      * @return Chapter if exists
      */
     public Chapter<T> getChapter(String number) {
-        return allChapters()
-            .filter(chapter -> number.equals(chapter.getNumber()))
-            .findFirst()
-            .orElse(null);
+        return number.equals(this.number) ? this : getSubChapter(number).orElse(null);
+    }
+
+    /**
+     * Get a subchapter identified by chapter number. The chapter itself is not part of the lookup.
+     *
+     * @param number number of subchapter to get
+     * @return Subchapter if exists, otherwise empty
+     */
+    public Optional<Chapter<T>> getSubChapter(String number) {
+        if (isNull(chapterIndex)) {
+            return subChapters()
+                .filter(chapter -> number.equals(chapter.getNumber()))
+                .findFirst();
+        }
+
+        Chapter<T> result = chapterIndex.get().get(number);
+        if (isNull(result) || !number.equals(result.getNumber())) {
+            Map<String, Chapter<T>> index = new HashMap<>();
+            for (Iterator<Chapter<T>> iterator = subChapters().iterator(); iterator.hasNext(); ) {
+                Chapter<T> chapter = iterator.next();
+                if (nonNull(chapter.getNumber())) {
+                    index.putIfAbsent(chapter.getNumber(), chapter);
+                }
+            }
+            chapterIndex.set(unmodifiableMap(index));
+            result = index.get(number);
+        }
+        return Optional.ofNullable(result);
     }
 
     /**
@@ -87,10 +146,16 @@ public class Chapter<T extends Requirement> implements Serializable {
      * @return Stream of complete/all chapters of catalog.
      */
     public Stream<Chapter<T>> allChapters() {
-        return Stream.concat(
-            of(this),
-            nonNull(chapters) ? chapters.stream().flatMap(Chapter::allChapters) : Stream.empty());
+        return Stream.concat(of(this), subChapters());
+    }
 
+    /**
+     * All subchapters excluding the chapter itself.
+     *
+     * @return Stream of all subchapters
+     */
+    private Stream<Chapter<T>> subChapters() {
+        return nonNull(chapters) ? chapters.stream().flatMap(Chapter::allChapters) : Stream.empty();
     }
 
     /**
@@ -110,10 +175,8 @@ public class Chapter<T extends Requirement> implements Serializable {
      * @return requirement if exists, otherwiese empty
      */
     public Optional<T> getRequirement(String position) {
-        return requirements
-            .stream()
-            .filter(requirement -> position.equals(requirement.getPosition()))
-            .findFirst();
+        OptionalInt index = indexOfRequirement(position);
+        return index.isPresent() ? Optional.of(requirements.get(index.getAsInt())) : Optional.empty();
     }
 
     /**
@@ -123,9 +186,29 @@ public class Chapter<T extends Requirement> implements Serializable {
      * @return index of requirement in requirement list
      */
     public OptionalInt indexOfRequirement(String position) {
-        return IntStream.range(0, requirements.size())
-            .filter(i -> position.equals(requirements.get(i).getPosition()))
-            .findFirst();
+        if (isNull(requirementIndex)) {
+            return IntStream.range(0, requirements.size())
+                .filter(i -> position.equals(requirements.get(i).getPosition()))
+                .findFirst();
+        }
+
+        // index is validated against current list, so inserted or renumbered requirements are respected
+        Integer result = requirementIndex.get().get(position);
+        if (isNull(result) || !isRequirementAt(result, position)) {
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < requirements.size(); i++) {
+                if (nonNull(requirements.get(i).getPosition())) {
+                    index.putIfAbsent(requirements.get(i).getPosition(), i);
+                }
+            }
+            requirementIndex.set(unmodifiableMap(index));
+            result = index.get(position);
+        }
+        return isNull(result) ? OptionalInt.empty() : OptionalInt.of(result);
+    }
+
+    private boolean isRequirementAt(int index, String position) {
+        return index < requirements.size() && position.equals(requirements.get(index).getPosition());
     }
 
 }
@@ -25,9 +25,22 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Arrays.stream;
+import static java.util.Collections.emptySet;
+import static java.util.Objects.isNull;
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+import static lombok.AccessLevel.NONE;
 
 @Data
 @Builder
@@ -61,4 +74,42 @@ public class DRD implements Serializable{
      * What to do.
      */
     private String action;
+
+    /**
+     * Parsed milestones of delivery date, only holding the entry of the current delivery date.
+     */
+    @Getter(NONE)
+    @Setter(NONE)
+    @ToString.Exclude
+    private final transient Map<String, Set<String>> deliveryMilestones = new ConcurrentHashMap<>(1);
+
+    /**
+     * Get the milestones of the delivery date.<p>
+     * Delivery date is parsed once and reused as long as it is not changed.
+     *
+     * @return all milestones of delivery date separated by ';'
+     */
+    public Set<String> deliveryMilestones() {
+        if (isNull(deliveryDate)) {
+            return emptySet();
+        }
+        if (isNull(deliveryMilestones)) {
+            return parseMilestones(deliveryDate);
+        }
+
+        Set<String> result = deliveryMilestones.get(deliveryDate);
+        if (isNull(result)) {
+            deliveryMilestones.clear();
+            result = parseMilestones(deliveryDate);
+            deliveryMilestones.put(deliveryDate, result);
+        }
+        return result;
+    }
+
+    private static Set<String> parseMilestones(String deliveryDate) {
+        return stream(deliveryDate.split(";"))
+            .filter(not(String::isEmpty))
+            .map(String::trim)
+            .collect(toUnmodifiableSet());
+    }
 }
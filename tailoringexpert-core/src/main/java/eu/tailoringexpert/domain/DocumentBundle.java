@@ -0,0 +1,141 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.Builder;
+import lombok.SneakyThrows;
+import lombok.Value;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.newInputStream;
+import static java.nio.file.Files.newOutputStream;
+import static java.nio.file.Files.size;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+
+/**
+ * Zip archive of documents stored in a temporary file.
+ * <p>
+ * Documents are written to the archive as soon as they are created, so the size of the archive has no impact on the
+ * used heap. The temporary file will be deleted when the stream provided by {@link #getInputStream()} is closed.
+ * Bundles which are not streamed have to be closed to delete the temporary file.
+ *
+ * @author Michael Bädorf
+ */
+@Value
+@Builder
+public class DocumentBundle implements AutoCloseable {
+
+    /**
+     * Name of the bundle.
+     */
+    String name;
+
+    /**
+     * Temporary file containing the zip archive.
+     */
+    Path path;
+
+    /**
+     * Creates a bundle containing all documents provided by the producer.
+     *
+     * @param name     name of the bundle
+     * @param producer producer handing over each created document to the provided consumer
+     * @return created bundle
+     */
+    @SneakyThrows
+    public static DocumentBundle create(String name, Consumer<Consumer<File>> producer) {
+        Path path = createTempFile("tailoringexpert-", ".zip");
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(newOutputStream(path)))) {
+            producer.accept(document -> addToZip(document, zip));
+        } catch (IOException | RuntimeException e) {
+            deleteIfExists(path);
+            throw e;
+        }
+
+        return DocumentBundle.builder()
+            .name(name)
+            .path(path)
+            .build();
+    }
+
+    /**
+     * Add file to zip.
+     *
+     * @param file file to add
+     * @param zip  Zip, to add file to
+     */
+    @SneakyThrows
+    static void addToZip(File file, ZipOutputStream zip) {
+        ZipEntry zipEntry = new ZipEntry(file.getName());
+        zip.putNextEntry(zipEntry);
+        zip.write(file.getData(), 0, file.getData().length);
+        zip.closeEntry();
+    }
+
+    /**
+     * Returns length of the bundle.
+     *
+     * @return length of bundle
+     */
+    @SneakyThrows
+    public long getLength() {
+        return size(path);
+    }
+
+    /**
+     * Get type/file extension of bundle.
+     *
+     * @return test after last .
+     */
+    public String getType() {
+        int index = name.lastIndexOf('.');
+        return index > -1 ? name.substring(index + 1) : null;
+    }
+
+    /**
+     * Opens the bundle for reading. The temporary file is deleted when the returned stream is closed.
+     *
+     * @return stream of zip archive
+     */
+    @SneakyThrows
+    public InputStream getInputStream() {
+        return newInputStream(path, DELETE_ON_CLOSE);
+    }
+
+    /**
+     * Deletes the temporary file of the bundle, if not already deleted by closing its stream.
+     */
+    @Override
+    @SneakyThrows
+    public void close() {
+        deleteIfExists(path);
+    }
+}
@@ -0,0 +1,78 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * State of an asynchronous document creation job.
+ *
+ * @author Michael Bädorf
+ */
+@Value
+@Builder
+public class DocumentJob {
+
+    /**
+     * Identifier of job.
+     */
+    String id;
+
+    /**
+     * Current state of job.
+     */
+    DocumentJobState state;
+
+    /**
+     * Names of documents already created by job.
+     */
+    List<String> documents;
+
+    /**
+     * Name of the document bundle created by job.
+     */
+    String name;
+
+    /**
+     * Length of created document bundle. Only set, if job is finished.
+     */
+    Long length;
+
+    /**
+     * Reason of failed job.
+     */
+    String message;
+
+    /**
+     * Creation timestamp of job.
+     */
+    ZonedDateTime creationTimestamp;
+
+    /**
+     * Timestamp, after which job and its created document bundle will be deleted. Only set, if job is completed.
+     */
+    ZonedDateTime expirationTimestamp;
+}
@@ -0,0 +1,58 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+/**
+ * States of an asynchronous document creation job.
+ *
+ * @author Michael Bädorf
+ */
+public enum DocumentJobState {
+    /**
+     * Job is waiting for a free worker.
+     */
+    QUEUED,
+
+    /**
+     * Documents are being created.
+     */
+    RUNNING,
+
+    /**
+     * All documents are created and can be downloaded.
+     */
+    FINISHED,
+
+    /**
+     * Documents could not be created.
+     */
+    FAILED;
+
+    /**
+     * Checks, if job will not change its state anymore.
+     *
+     * @return true, if job is finished or failed
+     */
+    public boolean isCompleted() {
+        return this == FINISHED || this == FAILED;
+    }
+}
@@ -0,0 +1,59 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Value
+@Builder
+public class ProjectInformationPage implements Serializable {
+    private static final long serialVersionUID = 3194853126704519823L;
+
+    /**
+     * Projects of the page.
+     */
+    private List<ProjectInformation> projects;
+
+    /**
+     * Number of the page, starting with 0.
+     */
+    private int page;
+
+    /**
+     * Requested number of projects per page.
+     */
+    private int size;
+
+    /**
+     * Flag, if there are more projects to load.
+     */
+    private boolean hasNext;
+
+    /**
+     * Cursor to load the next page, if there are more projects to load.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,131 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Filter, sort and page of a project overview request.
+ * <p>
+ * Either a page or a cursor is used to select the projects to load. A cursor is the identifier of the last project
+ * of the previous page and is only supported, when projects are sorted by their identifier.
+ * An unpaged query loads all matching projects at once.
+ */
+@Value
+@Builder
+public class ProjectInformationQuery implements Serializable {
+    private static final long serialVersionUID = -2307615938402458743L;
+
+    /**
+     * Number of projects of a page, if not requested.
+     */
+    public static final int DEFAULT_SIZE = 50;
+
+    /**
+     * Maximum number of projects of a page.
+     */
+    public static final int MAX_SIZE = 500;
+
+    /**
+     * Only projects in this state. All states, if not set.
+     */
+    private ProjectState state;
+
+    /**
+     * Only projects with at least one tailoring of this catalog version. All versions, if not set.
+     */
+    private String catalogVersion;
+
+    /**
+     * Only projects with an identifier starting with this prefix. All identifiers, if not set.
+     */
+    private String identifierPrefix;
+
+    /**
+     * Attribute to sort projects by.
+     */
+    @Builder.Default
+    private Sort sort = Sort.IDENTIFIER;
+
+    /**
+     * Sort projects ascending or descending.
+     */
+    @Builder.Default
+    private boolean ascending = true;
+
+    /**
+     * Load projects page by page. If not paged, page, size and cursor are ignored.
+     */
+    @Builder.Default
+    private boolean paged = true;
+
+    /**
+     * Number of page (starting with 0) to load. Ignored, if cursor is set.
+     */
+    private int page;
+
+    /**
+     * Number of projects per page.
+     */
+    @Builder.Default
+    private int size = DEFAULT_SIZE;
+
+    /**
+     * Identifier of the last project of the previous page.
+     */
+    private String cursor;
+
+    /**
+     * Sortable attributes of a project.
+     */
+    @SuppressWarnings("PMD.FieldDeclarationsShouldBeAtStartOfClass")
+    public enum Sort {
+        IDENTIFIER("identifier"),
+        CREATION_TIMESTAMP("creationTimestamp"),
+        STATE("state");
+
+        /**
+         * Name of the attribute to sort by.
+         */
+        @Getter
+        private String property;
+
+        Sort(String property) {
+            this.property = property;
+        }
+
+        private static Map<String, Sort> reverseLookup = stream(values()).collect(toMap(e -> e.property, Function.identity()));
+
+        public static Sort fromString(final String property) {
+            return reverseLookup.get(property);
+        }
+    }
+}
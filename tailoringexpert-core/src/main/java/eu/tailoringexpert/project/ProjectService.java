@@ -21,7 +21,6 @@
  */
 package eu.tailoringexpert.project;
 
-import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectInformation;
 import eu.tailoringexpert.domain.ProjectState;
 import eu.tailoringexpert.domain.SelectionVector;
@@ -65,9 +64,9 @@ public interface ProjectService {
      *
      * @param project        Identifier of project to copy
      * @param screeningSheet ScreeningSheet of project to copy to
-     * @return Created project
+     * @return Core data of created project
      */
-    Optional<Project> copyProject(String project, byte[] screeningSheet);
+    Optional<ProjectInformation> copyProject(String project, byte[] screeningSheet);
 
     /**
      * Delete a project.
@@ -43,7 +43,6 @@ import static java.lang.Integer.parseInt;
 import static java.util.Comparator.comparingInt;
 import static java.util.Objects.isNull;
 import static java.util.Optional.empty;
-import static java.util.Optional.of;
 
 /**
  * Implementation of {@link ProjectService}.
@@ -182,11 +181,10 @@ public class ProjectServiceImpl implements ProjectService {
      * {@inheritDoc}
      */
     @Override
-    public Optional<Project> copyProject(String project, byte[] screeningSheetData) {
+    public Optional<ProjectInformation> copyProject(String project, byte[] screeningSheetData) {
         log.traceEntry(() -> project);
 
-        Optional<Project> projectToCopy = repository.getProject(project);
-        if (projectToCopy.isEmpty()) {
+        if (!repository.isExistingProject(project)) {
             log.error("Project does not exist. Aborting");
             log.traceExit();
             return empty();
@@ -204,17 +202,8 @@ public class ProjectServiceImpl implements ProjectService {
             throw new TailoringexpertException("A project with name " + project + " already exists!\nEither change project identifier or add new tailoring to existing project.");
         }
 
-        Project projectCopy = projectToCopy.get();
-        projectCopy.setScreeningSheet(screeningSheet);
-        projectCopy.setIdentifier(screeningSheet.getProject());
-
-        projectCopy.getTailorings()
-            .forEach(tailorings -> {
-                log.debug("Copying tailoring {}", tailorings.getName());
-                tailorings.setScreeningSheet(screeningSheet);
-            });
-
-        Optional<Project> result = of(repository.createProject(projectCopy));
+        // copy is done by repository without loading the project to copy
+        Optional<ProjectInformation> result = repository.copyProject(project, screeningSheet);
         log.traceExit(result.isPresent());
         return result;
     }
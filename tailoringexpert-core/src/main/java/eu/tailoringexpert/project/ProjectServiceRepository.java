@@ -25,11 +25,12 @@ import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ProjectInformationPage;
+import eu.tailoringexpert.domain.ProjectInformationQuery;
 import eu.tailoringexpert.domain.ProjectState;
 import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.Tailoring;
 
-import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -81,11 +82,23 @@ public interface ProjectServiceRepository {
     Optional<Tailoring> addTailoring(String project, Tailoring tailoring);
 
     /**
-     * Load core project data of all projects.
+     * Create (full) copy of a persisted project including all tailorings.<p>
+     * Screeningsheets of project and tailorings will be replaced by provided screeningsheet, which also defines the
+     * identifier of the copy.
      *
-     * @return All projects with core data set
+     * @param project        identifier of project to copy
+     * @param screeningSheet screeningsheet of the copy
+     * @return core data of created copy, empty if project to copy does not exist
      */
-    Collection<ProjectInformation> getProjectInformations();
+    Optional<ProjectInformation> copyProject(String project, ScreeningSheet screeningSheet);
+
+    /**
+     * Load core project data of a page of projects.
+     *
+     * @param query filter, sort and page of projects to load
+     * @return requested page of projects with core data set
+     */
+    ProjectInformationPage getProjectInformations(ProjectInformationQuery query);
 
     /**
      * Load core data of requested project.
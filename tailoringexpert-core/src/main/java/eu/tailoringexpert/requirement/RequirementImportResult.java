@@ -0,0 +1,50 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.requirement;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Summary of an import of requirements into a tailoring.
+ *
+ * @author Michael Bädorf
+ */
+@Value
+@Builder
+public class RequirementImportResult {
+
+    /**
+     * Number of requirements with changed selection state and/or text.
+     */
+    int applied;
+
+    /**
+     * Number of requirements without any change.
+     */
+    int unchanged;
+
+    /**
+     * Number of imported positions not existing in tailoring catalog.
+     */
+    int unknown;
+}
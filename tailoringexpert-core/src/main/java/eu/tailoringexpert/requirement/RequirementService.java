@@ -23,7 +23,10 @@ package eu.tailoringexpert.requirement;
 
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.TailoringRequirement;
+import eu.tailoringexpert.tailoring.ImportRequirement;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -79,4 +82,14 @@ public interface RequirementService {
      * @return new created requirement
      */
     Optional<TailoringRequirement> createRequirement(String project, String tailoring, String chapter, String position, String text);
+
+    /**
+     * Apply selection state and text of all imported requirements of a tailoring at once.
+     *
+     * @param project      identifier of project
+     * @param tailoring    tailoring identifier
+     * @param requirements requirements to import grouped by chapter number
+     * @return summary of import, empty if tailoring does not exist or is not modifiable
+     */
+    Optional<RequirementImportResult> handleImport(String project, String tailoring, Map<String, Collection<ImportRequirement>> requirements);
 }
@@ -24,12 +24,15 @@ package eu.tailoringexpert.requirement;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.TailoringRequirement;
 import eu.tailoringexpert.domain.TailoringRequirement.TailoringRequirementBuilder;
+import eu.tailoringexpert.tailoring.ImportRequirement;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Scanner;
@@ -50,6 +53,9 @@ import static java.util.Optional.empty;
 @RequiredArgsConstructor
 public class RequirementServiceImpl implements RequirementService {
 
+    private static final String YES = "YES";
+    private static final String NO = "NO";
+
     @NonNull
     private RequirementServiceRepository repository;
 
@@ -69,19 +75,9 @@ public class RequirementServiceImpl implements RequirementService {
             return empty();
         }
 
-        Optional<TailoringRequirement> tailoringRequirement = repository.getRequirement(project, tailoring, chapter, position);
-        if (tailoringRequirement.isPresent()) {
-            if (!tailoringRequirement.get().getSelected().equals(selected)) {
-                TailoringRequirement requirement = handleSelected(tailoringRequirement.get(), selected, ZonedDateTime.now());
-                Optional<TailoringRequirement> result = repository.updateRequirement(project, tailoring, chapter, requirement);
-                log.traceExit();
-                return result;
-            }
-            log.traceExit();
-            return tailoringRequirement;
-        }
+        Optional<TailoringRequirement> result = repository.updateRequirementSelected(project, tailoring, chapter, position, selected, ZonedDateTime.now());
         log.traceExit();
-        return empty();
+        return result;
     }
 
     /**
@@ -127,27 +123,13 @@ public class RequirementServiceImpl implements RequirementService {
             return empty();
         }
 
-        Optional<TailoringRequirement> requirement = repository.getRequirement(project, tailoring, chapter, position);
-
-        if (requirement.isEmpty()) {
+        Optional<TailoringRequirement> result = repository.updateRequirementText(project, tailoring, chapter, position, text, ZonedDateTime.now());
+        if (result.isEmpty()) {
             log.error("no change in text of requirements");
-            log.traceExit();
-            return empty();
-        }
-
-        TailoringRequirement tailoringRequirement = requirement.get();
-        if (!tailoringRequirement.getText().equals(text)) {
-            tailoringRequirement.setText(text);
-            if (nonNull(tailoringRequirement.getReference())) {
-                tailoringRequirement.getReference().setChanged(true);
-            }
-            tailoringRequirement.setTextChanged(ZonedDateTime.now());
-            log.traceExit();
-            return repository.updateRequirement(project, tailoring, chapter, tailoringRequirement);
         }
 
         log.traceExit();
-        return requirement;
+        return result;
     }
 
     /**
@@ -213,6 +195,65 @@ public class RequirementServiceImpl implements RequirementService {
         return updateChapter.get().getRequirement(toCreate.getPosition());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<RequirementImportResult> handleImport(String project, String tailoring, Map<String, Collection<ImportRequirement>> requirements) {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        if (!modifiablePredicate.test(project, tailoring)) {
+            log.error("requirements not imported because of invalid/non given tailoring state");
+            log.traceExit();
+            return empty();
+        }
+
+        // matching and writing is done by repository in one transaction, so concurrent edits are not overwritten
+        final ZonedDateTime now = ZonedDateTime.now();
+        Optional<RequirementImportResult> result = repository.updateRequirements(
+            project,
+            tailoring,
+            requirements,
+            (requirement, importRequirement) -> handleImport(requirement, importRequirement, now));
+
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * Apply import data to requirement.
+     *
+     * @param requirement       requirement to update
+     * @param importRequirement imported data of requirement
+     * @param now               timestamp of modification
+     * @return true, if selection state or text of requirement has changed
+     */
+    private boolean handleImport(TailoringRequirement requirement, ImportRequirement importRequirement, ZonedDateTime now) {
+        String applicable = importRequirement.getApplicable();
+        if (!YES.equalsIgnoreCase(applicable) && !NO.equalsIgnoreCase(applicable)) {
+            return false;
+        }
+
+        Boolean selected = Boolean.valueOf(YES.equalsIgnoreCase(applicable));
+        boolean result = !requirement.getSelected().equals(selected);
+        handleSelected(requirement, selected, now);
+
+        String text = importRequirement.getText();
+        if (nonNull(text) && !text.isBlank() && !text.equals(requirement.getText())) {
+            handleText(requirement, text, now);
+            result = true;
+        }
+        return result;
+    }
+
+    private void handleText(TailoringRequirement requirement, String text, ZonedDateTime now) {
+        requirement.setText(text);
+        if (nonNull(requirement.getReference())) {
+            requirement.getReference().setChanged(true);
+        }
+        requirement.setTextChanged(now);
+    }
+
     private Chapter<TailoringRequirement> handleSelected(Chapter<TailoringRequirement> chapter, Boolean selected, ZonedDateTime now) {
         chapter.getRequirements()
             .stream()
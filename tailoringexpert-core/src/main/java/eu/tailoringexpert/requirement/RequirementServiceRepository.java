@@ -23,8 +23,13 @@ package eu.tailoringexpert.requirement;
 
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.TailoringRequirement;
+import eu.tailoringexpert.tailoring.ImportRequirement;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 
 /**
  * Service for handling (peristent) data used by @see {@link RequirementService}.
@@ -65,6 +70,40 @@ public interface RequirementServiceRepository {
      */
     Optional<TailoringRequirement> updateRequirement(String project, String tailoring, String chapter, TailoringRequirement requirement);
 
+    /**
+     * Update selection state of a single requirement.
+     * <p>
+     * Selection change timestamp is toggled only, if selection state differs from the persisted one.
+     *
+     * @param project     project identifier
+     * @param tailoring   tailoring name
+     * @param chapter     chapter, requirement is part of
+     * @param position    postion of requirement in chapter
+     * @param selected    new selection state
+     * @param pointOfTime timestamp of modification
+     * @return (updated) requirement, empty if requirement does not exist
+     */
+    Optional<TailoringRequirement> updateRequirementSelected(String project, String tailoring, String chapter,
+                                                             String position, Boolean selected,
+                                                             ZonedDateTime pointOfTime);
+
+    /**
+     * Update text of a single requirement.
+     * <p>
+     * Text change timestamp and reference change state are updated only, if text differs from the persisted one.
+     *
+     * @param project     project identifier
+     * @param tailoring   tailoring name
+     * @param chapter     chapter, requirement is part of
+     * @param position    postion of requirement in chapter
+     * @param text        new text of requirement
+     * @param pointOfTime timestamp of modification
+     * @return (updated) requirement, empty if requirement does not exist
+     */
+    Optional<TailoringRequirement> updateRequirementText(String project, String tailoring, String chapter,
+                                                         String position, String text,
+                                                         ZonedDateTime pointOfTime);
+
     /**
      * Update all direct and indirect requirements state of chapter.
      *
@@ -85,4 +124,21 @@ public interface RequirementServiceRepository {
      * @return updated chapter
      */
     Optional<Chapter<TailoringRequirement>> updateChapter(String project, String tailoring, Chapter<TailoringRequirement> chapter);
+
+    /**
+     * Apply import data to the requirements of a tailoring in a single transaction.<p>
+     * Each existing requirement addressed by chapter number and position is passed with its import data to the
+     * modifier. Requirements changed by the modifier are written at once, unknown requirements are skipped.
+     *
+     * @param project      project identifier
+     * @param tailoring    tailoring name
+     * @param requirements import data grouped by chapter number
+     * @param modifier     applies import data to requirement and returns true, if requirement has been changed
+     * @return number of applied, unchanged and unknown requirements, empty if tailoring does not exist
+     */
+    Optional<RequirementImportResult> updateRequirements(
+        String project,
+        String tailoring,
+        Map<String, Collection<ImportRequirement>> requirements,
+        BiPredicate<TailoringRequirement, ImportRequirement> modifier);
 }
@@ -0,0 +1,124 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import eu.tailoringexpert.domain.Chapter;
+import eu.tailoringexpert.domain.DRD;
+import eu.tailoringexpert.domain.Phase;
+import eu.tailoringexpert.domain.TailoringRequirement;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.isNull;
+
+/**
+ * Function sharing the relevant DRDs of a tailoring between all documents of one generation run.<p>
+ * All documents of a run are created of the same loaded catalog instance. So the DRDs of the delegate are determined
+ * once per chapter instance and phases and reused by all following document creators.
+ * Chapters are only weakly referenced, so results of finished runs will not be kept.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+public class CachingDRDProvider implements BiFunction<Chapter<TailoringRequirement>, Collection<Phase>, Map<DRD, Set<String>>> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private final BiFunction<Chapter<TailoringRequirement>, Collection<Phase>, Map<DRD, Set<String>>> delegate;
+    private final int capacity;
+
+    /**
+     * Most recently determined results, newest first.
+     */
+    private final Deque<Entry> entries = new ArrayDeque<>();
+
+    public CachingDRDProvider(@NonNull BiFunction<Chapter<TailoringRequirement>, Collection<Phase>, Map<DRD, Set<String>>> delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    public CachingDRDProvider(@NonNull BiFunction<Chapter<TailoringRequirement>, Collection<Phase>, Map<DRD, Set<String>>> delegate,
+                              int capacity) {
+        this.delegate = delegate;
+        this.capacity = capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<DRD, Set<String>> apply(Chapter<TailoringRequirement> chapter, Collection<Phase> phases) {
+        log.traceEntry(chapter::getNumber, () -> phases);
+
+        Set<Phase> key = isNull(phases) ? emptySet() : Set.copyOf(phases);
+        Map<DRD, Set<String>> result = lookup(chapter, key);
+        if (isNull(result)) {
+            result = unmodifiableMap(delegate.apply(chapter, phases));
+            store(chapter, key, result);
+        }
+
+        return log.traceExit(result);
+    }
+
+    private Map<DRD, Set<String>> lookup(Chapter<TailoringRequirement> chapter, Set<Phase> phases) {
+        synchronized (entries) {
+            for (Entry entry : entries) {
+                if (entry.chapter.get() == chapter && entry.phases.equals(phases)) {
+                    return entry.drds;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void store(Chapter<TailoringRequirement> chapter, Set<Phase> phases, Map<DRD, Set<String>> drds) {
+        synchronized (entries) {
+            for (Iterator<Entry> iterator = entries.iterator(); iterator.hasNext(); ) {
+                if (isNull(iterator.next().chapter.get())) {
+                    iterator.remove();
+                }
+            }
+            entries.addFirst(new Entry(new WeakReference<>(chapter), phases, drds));
+            while (entries.size() > capacity) {
+                entries.removeLast();
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class Entry {
+        private final WeakReference<Chapter<TailoringRequirement>> chapter;
+        private final Set<Phase> phases;
+        private final Map<DRD, Set<String>> drds;
+    }
+}
@@ -21,32 +21,33 @@
  */
 package eu.tailoringexpert.tailoring;
 
+import eu.tailoringexpert.domain.DRD;
 import eu.tailoringexpert.domain.Phase;
 import lombok.extern.log4j.Log4j2;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.Optional;
-import java.util.StringTokenizer;
+import java.util.Set;
 import java.util.function.BiPredicate;
 
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 
 /**
- * Predicate to check if delivery date is included in provided phases.
+ * Predicate to check if delivery date of a DRD is included in provided phases.
  *
  * @author Michael Bädorf
  */
 @Log4j2
-public class DRDApplicablePredicate implements BiPredicate<String, Collection<Phase>> {
+public class DRDApplicablePredicate implements BiPredicate<DRD, Collection<Phase>> {
 
-    private Map<Phase, Collection<String>> phase2Milestones;
-    private Collection<String> milestones;
+    private Map<Phase, Set<String>> phase2Milestones;
+    private Set<String> milestones;
 
     public DRDApplicablePredicate(Map<Phase, Collection<String>> phase2Milestones) {
-        this.phase2Milestones = phase2Milestones;
+        this.phase2Milestones = new EnumMap<>(Phase.class);
+        phase2Milestones.forEach((phase, phaseMilestones) -> this.phase2Milestones.put(phase, Set.copyOf(phaseMilestones)));
         this.milestones = this.phase2Milestones.values().stream()
             .flatMap(Collection::stream)
             .collect(toUnmodifiableSet());
@@ -56,24 +57,21 @@ public class DRDApplicablePredicate implements BiPredicate<String, Collection<Ph
      * {@inheritDoc}
      */
     @Override
-    public boolean test(String deliveryDate, Collection<Phase> phases) {
-        log.traceEntry(() -> deliveryDate, () -> phases);
+    public boolean test(DRD drd, Collection<Phase> phases) {
+        log.traceEntry(drd::getDeliveryDate, () -> phases);
 
-        // alle meilensteine phasensteine der phase ermitteln
-        List<String> dueDates = Collections.list(new StringTokenizer(deliveryDate, ";")).stream()
-            .map(token -> token.toString().trim())
-            .toList();
+        // alle meilensteine der lieferung (bereits beim laden der drd zerlegt)
+        Set<String> dueDates = drd.deliveryMilestones();
 
         // für jede phase prüfen
-        Optional<Phase> result = phases.stream()
-            .filter(phase -> {
-                Collection<String> phasenMeilensteine = phase2Milestones.get(phase);
+        boolean result = phases.stream()
+            .anyMatch(phase -> {
+                Set<String> phaseMilestones = phase2Milestones.getOrDefault(phase, emptySet());
                 return dueDates.stream()
-                    .anyMatch(dueDate -> phasenMeilensteine.contains(dueDate) || !milestones.contains(dueDate));
-            })
-            .findFirst();
+                    .anyMatch(dueDate -> phaseMilestones.contains(dueDate) || !milestones.contains(dueDate));
+            });
 
-        return log.traceExit(result.isPresent());
+        return log.traceExit(result);
     }
 
 }
@@ -30,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
@@ -50,7 +51,7 @@ import static java.util.Objects.isNull;
 public class DRDProvider implements BiFunction<Chapter<TailoringRequirement>, Collection<Phase>, Map<DRD, Set<String>>> {
 
     @NonNull
-    private BiPredicate<String, Collection<Phase>> predicate;
+    private BiPredicate<DRD, Collection<Phase>> predicate;
 
     /**
      * {@inheritDoc}
@@ -59,6 +60,8 @@ public class DRDProvider implements BiFunction<Chapter<TailoringRequirement>, Co
     public Map<DRD, Set<String>> apply(Chapter<TailoringRequirement> chapter, Collection<Phase> phases) {
         log.traceEntry(chapter::getNumber, () -> phases);
 
+        // drds are referenced by several requirements, so check applicability only once per drd
+        Map<DRD, Boolean> applicable = new HashMap<>();
         Map<DRD, Set<String>> result = new ConcurrentHashMap<>();
         chapter.allChapters()
             .forEach(subChapter -> subChapter.getRequirements()
@@ -67,7 +70,7 @@ public class DRDProvider implements BiFunction<Chapter<TailoringRequirement>, Co
                 .filter(TailoringRequirement::hasDRD)
                 .forEach(requirement -> requirement.getDrds()
                     .forEach(drd -> {
-                        if (predicate.test(drd.getDeliveryDate(), phases)) {
+                        if (applicable.computeIfAbsent(drd, key -> predicate.test(key, phases))) {
                             Set<String> chapters = result.get(drd);
                             if (isNull(chapters)) {
                                 chapters = new LinkedHashSet<>();
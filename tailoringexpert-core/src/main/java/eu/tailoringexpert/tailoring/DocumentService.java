@@ -28,6 +28,7 @@ import eu.tailoringexpert.domain.Tailoring;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Interface for providing generated document files of tailorings.
@@ -64,4 +65,20 @@ public interface DocumentService {
      * @return created document {@code zip-file}
      */
     Collection<File> createAll(Tailoring tailoring, LocalDateTime creationTimestamp);
+
+    /**
+     * Creates all documents of a tailoring and hands over each document to the consumer
+     * as soon as it is created.
+     * <p>
+     * Default implementation delegates to {@link #createAll(Tailoring, LocalDateTime)}. Implementations
+     * should override it, if documents can be provided one after another. Independent
+     * documents can be created concurrently by using {@link eu.tailoringexpert.DocumentCreationExecutor}.
+     *
+     * @param tailoring         Data to create document of
+     * @param creationTimestamp timestamp of document creation
+     * @param consumer          consumer of each created document
+     */
+    default void createAll(Tailoring tailoring, LocalDateTime creationTimestamp, Consumer<File> consumer) {
+        createAll(tailoring, creationTimestamp).forEach(consumer);
+    }
 }
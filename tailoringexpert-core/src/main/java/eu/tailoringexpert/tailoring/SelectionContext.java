@@ -0,0 +1,158 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Identifier;
+import eu.tailoringexpert.domain.Phase;
+import eu.tailoringexpert.domain.ScreeningSheet;
+import eu.tailoringexpert.domain.ScreeningSheetParameter;
+import eu.tailoringexpert.domain.SelectionVector;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Precompiled screeningsheet and selectionvector data used to select requirements in automatic tailoring.
+ * <p>
+ * The context is created once per tailoring catalog, so checking a single requirement does not need to rebuild any
+ * parameter or phase collection.
+ *
+ * @author Michael Bädorf
+ */
+public final class SelectionContext implements Predicate<BaseRequirement> {
+
+    private static final int TYPE_RANGE = 128;
+
+    private final Set<String> parameters;
+    private final Set<Phase> phases;
+    private final int[] levels;
+    private final SelectionVector selectionVector;
+
+    private SelectionContext(ScreeningSheet screeningSheet, SelectionVector selectionVector) {
+        this.parameters = new HashSet<>();
+        if (nonNull(screeningSheet.getParameters())) {
+            for (ScreeningSheetParameter parameter : screeningSheet.getParameters()) {
+                if (nonNull(parameter.getName())) {
+                    this.parameters.add(parameter.getName());
+                }
+            }
+        }
+
+        this.phases = EnumSet.noneOf(Phase.class);
+        if (nonNull(screeningSheet.getPhases())) {
+            this.phases.addAll(screeningSheet.getPhases());
+        }
+
+        this.levels = new int[TYPE_RANGE];
+        for (Entry<String, Integer> entry : selectionVector.getLevels().entrySet()) {
+            if (isIndexed(entry.getKey())) {
+                this.levels[entry.getKey().charAt(0)] = entry.getValue();
+            }
+        }
+        this.selectionVector = selectionVector;
+    }
+
+    /**
+     * Creates a selection context of the provided screeningsheet and selectionvector.
+     *
+     * @param screeningSheet  screeningsheet containing parameters and phases of project
+     * @param selectionVector selectionvector to use for selecting requirements
+     * @return created selection context
+     */
+    public static SelectionContext of(ScreeningSheet screeningSheet, SelectionVector selectionVector) {
+        return new SelectionContext(screeningSheet, selectionVector);
+    }
+
+    /**
+     * Checks, if requirement shall be selected.
+     *
+     * @param requirement base requirement containing rules for selecting in automatic tailoring
+     * @return true, if requirement is relevant in phases and at least one identifier is applicable
+     */
+    @Override
+    public boolean test(BaseRequirement requirement) {
+        if (isNull(requirement.getIdentifiers()) || !containsPhases(requirement.getPhases())) {
+            return false;
+        }
+
+        for (Identifier identifier : requirement.getIdentifiers()) {
+            if (isApplicable(identifier)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Level of requested type in selectionvector.
+     *
+     * @param type type to get level of
+     * @return if exists level of type otherwise 0
+     */
+    int getLevel(String type) {
+        return isIndexed(type) ? levels[type.charAt(0)] : selectionVector.getLevel(type);
+    }
+
+    private boolean isApplicable(Identifier identifier) {
+        int level = getLevel(identifier.getType());
+        // prüfen, ob abwendbarkeit ohne einschränkung
+        if (!identifier.hasLimitations()) {
+            return level >= identifier.getLevel();
+        }
+
+        // sind alle limitierungen enthalten und ist der level gleich
+        return level == identifier.getLevel() && containsAllLimitations(identifier.getLimitations());
+    }
+
+    private boolean containsPhases(Collection<Phase> requirementPhases) {
+        if (isNull(requirementPhases) || requirementPhases.isEmpty()) {
+            return true;
+        }
+        for (Phase phase : requirementPhases) {
+            if (phases.contains(phase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean containsAllLimitations(Collection<String> limitations) {
+        for (String limitation : limitations) {
+            if (!parameters.contains(limitation)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIndexed(String type) {
+        return nonNull(type) && type.length() == 1 && type.charAt(0) < TYPE_RANGE;
+    }
+}
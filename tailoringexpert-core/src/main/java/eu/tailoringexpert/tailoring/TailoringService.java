@@ -23,6 +23,8 @@ package eu.tailoringexpert.tailoring;
 
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.DocumentJob;
 import eu.tailoringexpert.domain.File;
 import eu.tailoringexpert.domain.DocumentSignature;
 import eu.tailoringexpert.domain.Chapter;
@@ -85,7 +87,27 @@ public interface TailoringService {
      * @param tailoring Tailoring to create all documents of
      * @return Created zip-file containing all created documents
      */
-    Optional<File> createDocuments(String project, String tailoring);
+    Optional<DocumentBundle> createDocuments(String project, String tailoring);
+
+    /**
+     * Submit a job creating all documents of tailoring asynchronously.<p>
+     * A job of the same tailoring revision already submitted will be reused.
+     *
+     * @param project   Project identifier
+     * @param tailoring Tailoring to create all documents of
+     * @return submitted job, empty if tailoring does not exist
+     */
+    Optional<DocumentJob> createDocumentJob(String project, String tailoring);
+
+    /**
+     * Load content revision of tailoring, all created documents of tailoring are based on.
+     * Revision changes with content of tailoring as well as with templates used to create documents.
+     *
+     * @param project   Project identifier
+     * @param tailoring Tailoring to get revision of
+     * @return revision of tailoring, if tailoring exists, otherwise empty
+     */
+    Optional<String> getRevision(String project, String tailoring);
 
     /**
      * Get requirement catalog of tailoring.
@@ -21,10 +21,14 @@
  */
 package eu.tailoringexpert.tailoring;
 
+import eu.tailoringexpert.DocumentCache;
+import eu.tailoringexpert.DocumentJobExecutor;
 import eu.tailoringexpert.domain.Note;
 import eu.tailoringexpert.requirement.RequirementService;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.File;
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.DocumentJob;
 import eu.tailoringexpert.domain.DocumentSignature;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.BaseRequirement;
@@ -37,10 +41,8 @@ import eu.tailoringexpert.domain.TailoringInformation;
 import eu.tailoringexpert.domain.TailoringState;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 
-import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
 import java.security.MessageDigest;
 import java.time.LocalDateTime;
@@ -49,17 +51,16 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
-import static java.util.function.Predicate.not;
 
 /**
  * Implementation of {@link TailoringService}.
@@ -92,8 +93,12 @@ public class TailoringServiceImpl implements TailoringService {
     @NonNull
     private AttachmentService attachmentService;
 
-    private static final String YES = "YES";
-    private static final String NO = "NO";
+    @NonNull
+    private DocumentCache documentCache;
+
+    @NonNull
+    private DocumentJobExecutor documentJobExecutor;
+
 
     /**
      * {@inheritDoc}
@@ -140,17 +145,10 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<File> createRequirementDocument(String project, String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        @SuppressWarnings("PMD.PrematureDeclaration") final LocalDateTime creationTimestamp = LocalDateTime.now();
-
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
-        if (oTailoring.isEmpty()) {
-            log.error(MSG_TAILORING_DOES_NOT_EXISTS);
-            log.traceExit();
-            return empty();
-        }
+        Optional<File> result = createDocument(project, tailoring, "catalog", documentService::createRequirementDocument);
 
         log.traceExit();
-        return documentService.createRequirementDocument(oTailoring.get(), creationTimestamp);
+        return result;
     }
 
     /**
@@ -160,17 +158,10 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<File> createComparisonDocument(String project, String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        @SuppressWarnings("PMD.PrematureDeclaration") final LocalDateTime creationTimestamp = LocalDateTime.now();
-
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
-        if (oTailoring.isEmpty()) {
-            log.error(MSG_TAILORING_DOES_NOT_EXISTS);
-            log.traceExit();
-            return empty();
-        }
+        Optional<File> result = createDocument(project, tailoring, "comparison", documentService::createComparisonDocument);
 
         log.traceExit();
-        return documentService.createComparisonDocument(oTailoring.get(), creationTimestamp);
+        return result;
     }
 
     /**
@@ -216,13 +207,12 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<ScreeningSheet> getScreeningSheet(@NonNull String project, @NonNull String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
-        if (oTailoring.isEmpty()) {
+        Optional<ScreeningSheet> result = repository.getScreeningSheet(project, tailoring);
+        if (result.isEmpty()) {
             log.info(MSG_TAILORING_DOES_NOT_EXISTS);
-            return log.traceExit(empty());
         }
 
-        return log.traceExit(ofNullable(oTailoring.get().getScreeningSheet()));
+        return log.traceExit(result);
     }
 
     /**
@@ -232,13 +222,12 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<SelectionVector> getSelectionVector(@NonNull String project, @NonNull String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
-        if (oTailoring.isEmpty()) {
+        Optional<SelectionVector> result = repository.getSelectionVector(project, tailoring);
+        if (result.isEmpty()) {
             log.info(MSG_TAILORING_DOES_NOT_EXISTS);
-            return log.traceExit(empty());
         }
 
-        return log.traceExit(ofNullable(oTailoring.get().getSelectionVector()));
+        return log.traceExit(result);
     }
 
     /**
@@ -264,13 +253,12 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<Collection<DocumentSignature>> getDocumentSignatures(@NonNull String project, @NonNull String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
-        if (oTailoring.isEmpty()) {
+        Optional<Collection<DocumentSignature>> result = repository.getDocumentSignatures(project, tailoring);
+        if (result.isEmpty()) {
             log.info(MSG_TAILORING_DOES_NOT_EXISTS);
-            return log.traceExit(empty());
         }
 
-        return log.traceExit(ofNullable(oTailoring.get().getSignatures()));
+        return log.traceExit(result);
     }
 
     /**
@@ -320,18 +308,9 @@ public class TailoringServiceImpl implements TailoringService {
         }
 
         Map<String, Collection<ImportRequirement>> importRequirements = tailoringAnforderungFileReader.apply(data);
-        importRequirements.entrySet().forEach(entry -> {
-            String chapter = entry.getKey();
-            entry.getValue().forEach(requirement -> {
-                if (YES.equalsIgnoreCase(requirement.getApplicable()) || NO.equalsIgnoreCase(requirement.getApplicable())) {
-                    boolean selected = YES.equalsIgnoreCase(requirement.getApplicable());
-                    requirementService.handleSelected(project, tailoring, chapter, requirement.getPosition(), selected);
-                    ofNullable(requirement.getText())
-                        .filter(not(String::isBlank))
-                        .ifPresent(text -> requirementService.handleText(project, tailoring, chapter, requirement.getPosition(), text));
-                }
-            });
-        });
+        requirementService.handleImport(project, tailoring, importRequirements)
+            .ifPresent(result -> log.info("Imported requirements: {} applied, {} unchanged, {} unknown",
+                result.getApplied(), result.getUnchanged(), result.getUnknown()));
 
         log.traceExit();
     }
@@ -364,21 +343,21 @@ public class TailoringServiceImpl implements TailoringService {
     @Override
     public Optional<Note> addNote(String project, String tailoring, String note) {
         log.traceEntry(() -> project, () -> tailoring, () -> note);
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
-        if (oTailoring.isEmpty()) {
+        Optional<Collection<Note>> oNotes = repository.getNotes(project, tailoring);
+        if (oNotes.isEmpty()) {
             log.info("Tailoring not exists. Note not added.");
             return log.traceExit(empty());
         }
 
-        Collection<Note> notes = oTailoring.get().getNotes();
+        Collection<Note> notes = oNotes.get();
         Note noteToAdd = Note.builder()
             .number(nonNull(notes) ? notes.size() + 1 : 1)
             .text(note)
             .creationTimestamp(ZonedDateTime.now())
             .build();
 
-        Optional<Tailoring> updatedTailoring = repository.addNote(project, tailoring, noteToAdd);
-        if (updatedTailoring.isEmpty()) {
+        Optional<Note> addedNote = repository.addNote(project, tailoring, noteToAdd);
+        if (addedNote.isEmpty()) {
             return log.traceExit("Note not added", empty());
         }
 
@@ -392,13 +371,13 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<Note> getNote(String project, String tailoring, Integer note) {
         log.traceEntry(() -> tailoring, () -> project);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
-        if (oTailoring.isEmpty()) {
+        Optional<Collection<Note>> oNotes = repository.getNotes(project, tailoring);
+        if (oNotes.isEmpty()) {
             log.info("Tailoring not exist. Note not added.");
             return log.traceExit(empty());
         }
 
-        Optional<Note> result = oTailoring.get().getNotes().stream()
+        Optional<Note> result = oNotes.get().stream()
             .filter(n -> note.equals(n.getNumber()))
             .findFirst();
 
@@ -412,24 +391,23 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<TailoringInformation> updateState(String project, String tailoring, TailoringState state) {
         log.traceEntry(state::name, () -> project, () -> tailoring);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
-        if (oTailoring.isEmpty()) {
+        Optional<TailoringState> oState = repository.getState(project, tailoring);
+        if (oState.isEmpty()) {
             log.info("Tailoring not existing. Not adding.");
             return log.traceExit(empty());
         }
         // no "downgrade": e.g. RELEASED -> AGREED
-        if (state.isBefore(oTailoring.get().getState())) {
+        if (state.isBefore(oState.get())) {
             log.info("Tailoring downgrade of states not supported");
-            return log.traceExit(of(mapper.toTailoringInformation(oTailoring.get())));
+            return log.traceExit(repository.getTailoringInformation(project, tailoring));
         }
 
-        Optional<Tailoring> updatedTailoring = repository.setState(project, tailoring, state);
-        if (updatedTailoring.isEmpty()) {
+        Optional<TailoringInformation> result = repository.setState(project, tailoring, state);
+        if (result.isEmpty()) {
             log.info("Failed setting state");
-            return log.traceExit(empty());
         }
 
-        return log.traceExit(of(mapper.toTailoringInformation(updatedTailoring.get())));
+        return log.traceExit(result);
     }
 
     /**
@@ -439,13 +417,11 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<Collection<Note>> getNotes(String project, String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
-        if (oTailoring.isEmpty()) {
+        Optional<Collection<Note>> result = repository.getNotes(project, tailoring);
+        if (result.isEmpty()) {
             log.info("Tailoring does not exists.");
-            return log.traceExit(empty());
         }
 
-        Optional<Collection<Note>> result = ofNullable(oTailoring.get().getNotes());
         return log.traceExit(result);
     }
 
@@ -453,43 +429,132 @@ public class TailoringServiceImpl implements TailoringService {
      * {@inheritDoc}
      */
     @Override
-    @SneakyThrows
-    public Optional<File> createDocuments(@NonNull String project, @NonNull String tailoring) {
+    public Optional<DocumentBundle> createDocuments(@NonNull String project, @NonNull String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        @SuppressWarnings("PMD.PrematureDeclaration") final LocalDateTime erstellungsZeitpunkt = LocalDateTime.now();
+        Optional<String> revision = revision(project, tailoring);
+        if (revision.isEmpty()) {
+            log.info("Tailoring does not exists.");
+            return log.traceExit(empty());
+        }
+
+        Optional<DocumentBundle> result = createDocuments(project, tailoring, revision.get(), document -> {
+            // no progress to report to
+        });
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
-        if (oTailoring.isEmpty()) {
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<DocumentJob> createDocumentJob(@NonNull String project, @NonNull String tailoring) {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        Optional<String> revision = revision(project, tailoring);
+        if (revision.isEmpty()) {
             log.info("Tailoring does not exists.");
             return log.traceExit(empty());
         }
 
-        Collection<File> documents = documentService.createAll(oTailoring.get(), erstellungsZeitpunkt);
-        ByteArrayOutputStream os = new ByteArrayOutputStream();
-        ZipOutputStream zip = new ZipOutputStream(os);
-        documents.forEach(dokument -> addToZip(dokument, zip));
-        zip.close();
+        DocumentJob result = documentJobExecutor.submit(
+            documentKey(project, tailoring, revision.get(), "all"),
+            listener -> createDocuments(project, tailoring, revision.get(), listener));
+
+        log.traceExit(result.getId());
+        return of(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> getRevision(@NonNull String project, @NonNull String tailoring) {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        Optional<String> result = revision(project, tailoring);
 
         log.traceExit();
-        return of(File.builder()
-            .name(project + "-" + tailoring + ".zip")
-            .data(os.toByteArray())
-            .build());
+        return result;
+    }
+
+    /**
+     * Content revision of tailoring combined with the generation of cached documents, so the revision changes as well
+     * if documents have to be created again because of changed templates.
+     *
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @return revision of tailoring documents, if tailoring exists, otherwise empty
+     */
+    private Optional<String> revision(String project, String tailoring) {
+        return repository.getRevision(project, tailoring)
+            .map(revision -> revision + "." + documentCache.getGeneration());
+    }
+
+    /**
+     * Get a document of the current tailoring revision from cache or create it, if not already cached.
+     *
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @param document  name of document type
+     * @param creator   document creator
+     * @return cached or created document
+     */
+    private Optional<File> createDocument(String project,
+                                          String tailoring,
+                                          String document,
+                                          BiFunction<Tailoring, LocalDateTime, Optional<File>> creator) {
+        Optional<String> revision = revision(project, tailoring);
+        if (revision.isEmpty()) {
+            log.error(MSG_TAILORING_DOES_NOT_EXISTS);
+            return empty();
+        }
+
+        return documentCache.getFile(documentKey(project, tailoring, revision.get(), document), () -> {
+            @SuppressWarnings("PMD.PrematureDeclaration") final LocalDateTime creationTimestamp = LocalDateTime.now();
 
+            Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
+            if (oTailoring.isEmpty()) {
+                log.error(MSG_TAILORING_DOES_NOT_EXISTS);
+                return empty();
+            }
+
+            return creator.apply(oTailoring.get(), creationTimestamp);
+        });
     }
 
     /**
-     * Add file to zip.
+     * Get all documents of a tailoring revision from cache or create them, if not already cached.
      *
-     * @param file file to add
-     * @param zip  Zip, to add file to
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @param revision  content revision of tailoring
+     * @param listener  listener notified about each created document
+     * @return cached or created document bundle
      */
-    @SneakyThrows
-    void addToZip(File file, ZipOutputStream zip) {
-        ZipEntry zipEntry = new ZipEntry(file.getName());
-        zip.putNextEntry(zipEntry);
-        zip.write(file.getData(), 0, file.getData().length);
-        zip.closeEntry();
+    private Optional<DocumentBundle> createDocuments(String project,
+                                                     String tailoring,
+                                                     String revision,
+                                                     Consumer<File> listener) {
+        return documentCache.getBundle(documentKey(project, tailoring, revision, "all"), () -> {
+            @SuppressWarnings("PMD.PrematureDeclaration") final LocalDateTime erstellungsZeitpunkt = LocalDateTime.now();
+
+            Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
+            if (oTailoring.isEmpty()) {
+                log.info("Tailoring does not exists.");
+                return empty();
+            }
+
+            return of(DocumentBundle.create(
+                project + "-" + tailoring + ".zip",
+                consumer -> documentService.createAll(oTailoring.get(), erstellungsZeitpunkt, consumer.andThen(listener))
+            ));
+        });
+    }
+
+    private String documentKey(String project, String tailoring, String revision, String document) {
+        return project + "/" + tailoring + "/" + revision + "/" + document;
     }
 }
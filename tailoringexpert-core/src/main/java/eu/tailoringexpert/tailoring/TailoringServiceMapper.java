@@ -24,9 +24,7 @@ package eu.tailoringexpert.tailoring;
 import eu.tailoringexpert.TailoringexpertMapperConfig;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
-import eu.tailoringexpert.domain.Phase;
 import eu.tailoringexpert.domain.ScreeningSheet;
-import eu.tailoringexpert.domain.ScreeningSheetParameter;
 import eu.tailoringexpert.domain.SelectionVector;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringRequirement;
@@ -40,12 +38,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValueMappingStrategy;
 
-import java.util.Collection;
-import java.util.Set;
-
-import static java.util.Collections.disjoint;
 import static java.util.Objects.isNull;
-import static java.util.stream.Collectors.toUnmodifiableSet;
 
 /**
  * Mapper for converting data object in @see {@link TailoringService}.
@@ -63,79 +56,48 @@ public abstract class TailoringServiceMapper {
     @Mapping(target = "catalogVersion", source = "domain.catalog.version")
     abstract TailoringInformation toTailoringInformation(Tailoring domain);
 
+    /**
+     * Maps base catalog to a tailoring catalog and performs automatic selection of requirements.
+     * <p>
+     * Screeningsheet and selectionvector are compiled once into a {@link SelectionContext} used for all requirements.
+     *
+     * @param catalog         base catalog to map
+     * @param screeningSheet  screeningsheet to use
+     * @param selectionVector selectionvector to use for selecting the requirements
+     * @return created tailoring catalog
+     */
+    Catalog<TailoringRequirement> toTailoringCatalog(
+        Catalog<BaseRequirement> catalog,
+        ScreeningSheet screeningSheet,
+        SelectionVector selectionVector) {
+        if (isNull(catalog)) {
+            return null;
+        }
+        return toTailoringCatalog(catalog, SelectionContext.of(screeningSheet, selectionVector));
+    }
+
     abstract Catalog<TailoringRequirement> toTailoringCatalog(
         Catalog<BaseRequirement> catalog,
-        @Context ScreeningSheet screeningSheet,
-        @Context SelectionVector selectionVector
+        @Context SelectionContext selectionContext
     );
 
     /**
      * Function to set selected state of a requirement after value mapping has performed/finished.
      *
-     * @param baseRequirement base requirement containing rules for selecting in automatic tailoring
-     * @param screeningSheet  screeningsheet to use
-     * @param selectionVector selectionvector to use for selecting the requirement
-     * @param builder         data object to set selected state
+     * @param baseRequirement  base requirement containing rules for selecting in automatic tailoring
+     * @param selectionContext compiled screeningsheet and selectionvector for selecting the requirement
+     * @param builder          data object to set selected state
      */
     @AfterMapping
     void toTailoringRequirement(
         BaseRequirement baseRequirement,
-        @Context ScreeningSheet screeningSheet,
-        @Context SelectionVector selectionVector,
+        @Context SelectionContext selectionContext,
         @MappingTarget TailoringRequirementBuilder builder) {
         log.traceEntry(baseRequirement::getPosition);
 
-        Set<String> parameterValues = screeningSheet.getParameters()
-            .stream()
-            .map(ScreeningSheetParameter::getName)
-            .filter(String.class::isInstance)
-            .map(String.class::cast)
-            .collect(toUnmodifiableSet());
-
-        Collection<Phase> phases = screeningSheet.getPhases();
-        boolean isRelevantPhase = containsPhases(phases, baseRequirement.getPhases());
-        boolean applicable = baseRequirement.getIdentifiers()
-            .stream()
-            .filter(identifier -> isRelevantPhase)
-            .anyMatch(identifier -> {
-                int level = selectionVector.getLevel(identifier.getType());
-                // prüfen, ob abwendbarkeit ohne einschränkung
-                if (!identifier.hasLimitations() && level >= identifier.getLevel()) {
-                    return true;
-                }
-
-                // sind alle limitierungen enthalten und ist der level gleich
-                return containsAllLimitations(parameterValues, identifier.getLimitations()) && level == identifier.getLevel();
-            });
-
-        builder.selected(Boolean.valueOf(applicable));
+        builder.selected(Boolean.valueOf(selectionContext.test(baseRequirement)));
 
         log.traceExit();
     }
 
-    /**
-     * Check, if phases of screening parameters exists in base catalog requirment phases.
-     *
-     * @param screeningPhases   phases provided in screeningsheet paranmeters
-     * @param requirementPhases phase defined in base catalog requirement
-     * @return
-     */
-    private boolean containsPhases(
-        Collection<Phase> screeningPhases,
-        Collection<Phase> requirementPhases) {
-        return isNull(requirementPhases) || requirementPhases.isEmpty() ||
-            !disjoint(requirementPhases, screeningPhases);
-    }
-
-    /**
-     * Chek, if all limitation definined in requirement are fulfilled.
-     *
-     * @param screeningParameter
-     * @param requirement
-     * @return
-     */
-    private boolean containsAllLimitations(Collection<String> screeningParameter, Collection<String> requirement) {
-        return screeningParameter.containsAll(requirement);
-    }
-
 }
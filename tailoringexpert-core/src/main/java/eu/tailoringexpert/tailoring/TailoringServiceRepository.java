@@ -25,8 +25,10 @@ import eu.tailoringexpert.domain.DocumentSignature;
 import eu.tailoringexpert.domain.Note;
 import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ScreeningSheet;
+import eu.tailoringexpert.domain.SelectionVector;
 import eu.tailoringexpert.domain.SelectionVectorProfile;
 import eu.tailoringexpert.domain.Tailoring;
+import eu.tailoringexpert.domain.TailoringInformation;
 import eu.tailoringexpert.domain.TailoringState;
 
 import java.util.Collection;
@@ -132,9 +134,9 @@ public interface TailoringServiceRepository {
      * @param project   project identifier
      * @param tailoring tailoring to add note to
      * @param note      Note to add
-     * @return In case successful adding tailoring, otherwise empty
+     * @return In case successful adding the added note, otherwise empty
      */
-    Optional<Tailoring> addNote(String project, String tailoring, Note note);
+    Optional<Note> addNote(String project, String tailoring, Note note);
 
     /**
      * Checks if a tailoring belongs to a dedicated project.
@@ -151,10 +153,65 @@ public interface TailoringServiceRepository {
      * @param project   project identifier
      * @param tailoring tailoring to add note to
      * @param state     state to set
-     * @return In case successful setting state tailoring, otherwise empty
+     * @return In case successful setting state information of tailoring, otherwise empty
      */
-    Optional<Tailoring> setState(String project, String tailoring, TailoringState state);
+    Optional<TailoringInformation> setState(String project, String tailoring, TailoringState state);
 
+    /**
+     * Load state of tailoring without loading the tailoring catalog.
+     *
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @return state of tailoring, if tailoring exists, otherwise empty
+     */
+    Optional<TailoringState> getState(String project, String tailoring);
+
+    /**
+     * Load content revision of tailoring without loading the tailoring catalog.
+     * <p>
+     * Revision changes with each modification of requirements, signatures, notes, name or state of tailoring.
+     *
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @return revision of tailoring, if tailoring exists, otherwise empty
+     */
+    Optional<String> getRevision(String project, String tailoring);
+
+    /**
+     * Load (header) information of tailoring without loading the tailoring catalog.
+     *
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @return information of tailoring, if tailoring exists, otherwise empty
+     */
+    Optional<TailoringInformation> getTailoringInformation(String project, String tailoring);
+
+    /**
+     * Load applied selection vector of tailoring without loading the tailoring catalog.
+     *
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @return applied selection vector, if tailoring exists, otherwise empty
+     */
+    Optional<SelectionVector> getSelectionVector(String project, String tailoring);
+
+    /**
+     * Load document signatures of tailoring without loading the tailoring catalog.
+     *
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @return all document signatures of tailoring, if tailoring exists, otherwise empty
+     */
+    Optional<Collection<DocumentSignature>> getDocumentSignatures(String project, String tailoring);
+
+    /**
+     * Load notes of tailoring without loading the tailoring catalog.
+     *
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @return all notes of tailoring, if tailoring exists, otherwise empty
+     */
+    Optional<Collection<Note>> getNotes(String project, String tailoring);
 
 }
 
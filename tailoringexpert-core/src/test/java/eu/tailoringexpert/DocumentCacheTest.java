@@ -0,0 +1,257 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.File;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.list;
+import static java.nio.file.Files.write;
+import static java.util.Optional.empty;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentCacheTest {
+
+    @TempDir
+    Path directory;
+
+    AtomicReference<String> tenant;
+    DocumentCache cache;
+
+    @BeforeEach
+    void setup() {
+        this.tenant = new AtomicReference<>("TENANT");
+        this.cache = new DocumentCache(directory, 20, tenant::get);
+    }
+
+    @Test
+    void DocumentCache_FilesInDirectory_FilesDeleted() throws IOException {
+        // arrange
+        write(directory.resolve("outdated"), "outdated".getBytes(UTF_8));
+
+        // act
+        new DocumentCache(directory, 20, tenant::get);
+
+        // assert
+        try (Stream<Path> files = list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void getFile_NotCached_DocumentCreatedAndCached() {
+        // arrange
+        AtomicInteger creations = new AtomicInteger();
+
+        // act
+        Optional<File> actual = cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "0123456789"));
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getName()).isEqualTo("DOC.pdf");
+        assertThat(creations).hasValue(1);
+        assertThat(cache.size()).isEqualTo(10);
+    }
+
+    @Test
+    void getFile_Cached_CachedDocumentReturned() {
+        // arrange
+        AtomicInteger creations = new AtomicInteger();
+        cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "0123456789"));
+
+        // act
+        Optional<File> actual = cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "0123456789"));
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getName()).isEqualTo("DOC.pdf");
+        assertThat(actual.get().getData()).isEqualTo("0123456789".getBytes(UTF_8));
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    void getFile_OtherPartition_DocumentCreated() {
+        // arrange
+        AtomicInteger creations = new AtomicInteger();
+        cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "0123456789"));
+        tenant.set("OTHER");
+
+        // act
+        Optional<File> actual = cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "0123456789"));
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(creations).hasValue(2);
+    }
+
+    @Test
+    void getFile_NotCreated_NothingCached() {
+        // arrange
+
+        // act
+        Optional<File> actual = cache.getFile("SAMPLE/master/1-0/catalog", Optional::empty);
+
+        // assert
+        assertThat(actual).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void getFile_DocumentExceedsMaxSize_DocumentNotCached() {
+        // arrange
+        AtomicInteger creations = new AtomicInteger();
+
+        // act
+        Optional<File> actual = cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "0123456789ABCDEFGHIJK"));
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void getFile_MaxSizeExceeded_LeastRecentlyUsedDocumentEvicted() {
+        // arrange
+        AtomicInteger creations = new AtomicInteger();
+        cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC-1.pdf", "0123456789"));
+        cache.getFile("SAMPLE/master/1-0/comparison", creator(creations, "DOC-2.pdf", "0123456789"));
+        cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC-1.pdf", "0123456789"));
+
+        // act
+        cache.getFile("SAMPLE/master/1-1/catalog", creator(creations, "DOC-3.pdf", "0123456789"));
+
+        // assert
+        assertThat(cache.size()).isEqualTo(20);
+        cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC-1.pdf", "0123456789"));
+        assertThat(creations).hasValue(3);
+        cache.getFile("SAMPLE/master/1-0/comparison", creator(creations, "DOC-2.pdf", "0123456789"));
+        assertThat(creations).hasValue(4);
+    }
+
+    @Test
+    void evict_DocumentsOfPartitionsCached_OnlyDocumentsOfPartitionEvicted() {
+        // arrange
+        AtomicInteger creations = new AtomicInteger();
+        cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "01234"));
+        tenant.set("OTHER");
+        cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "0123456789"));
+
+        // act
+        int actual = cache.evict("TENANT");
+
+        // assert
+        assertThat(actual).isOne();
+        assertThat(cache.size()).isEqualTo(10);
+        cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "0123456789"));
+        assertThat(creations).hasValue(2);
+        tenant.set("TENANT");
+        cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "01234"));
+        assertThat(creations).hasValue(3);
+    }
+
+    @Test
+    void evict_Partition_OnlyGenerationOfPartitionChanged() {
+        // arrange
+        String generation = cache.getGeneration();
+        tenant.set("OTHER");
+        String otherGeneration = cache.getGeneration();
+
+        // act
+        cache.evict("TENANT");
+
+        // assert
+        assertThat(cache.getGeneration()).isEqualTo(otherGeneration);
+        tenant.set("TENANT");
+        assertThat(cache.getGeneration()).isNotEqualTo(generation);
+    }
+
+    @Test
+    void evictAll_DocumentsCached_AllDocumentsEvictedAndGenerationChanged() throws IOException {
+        // arrange
+        AtomicInteger creations = new AtomicInteger();
+        cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "0123456789"));
+        tenant.set("OTHER");
+        cache.getFile("SAMPLE/master/1-0/catalog", creator(creations, "DOC.pdf", "0123456789"));
+        String generation = cache.getGeneration();
+
+        // act
+        cache.evictAll();
+
+        // assert
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getGeneration()).isNotEqualTo(generation);
+        try (Stream<Path> files = list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void getBundle_Cached_CopyOfCachedBundleReturned() throws IOException {
+        // arrange
+        AtomicInteger creations = new AtomicInteger();
+        Supplier<Optional<DocumentBundle>> creator = () -> {
+            creations.incrementAndGet();
+            return Optional.of(DocumentBundle.create("SAMPLE-master.zip", consumer -> {
+            }));
+        };
+        DocumentCache bundleCache = new DocumentCache(directory, 1024, tenant::get);
+        try (InputStream is = bundleCache.getBundle("SAMPLE/master/1-0/all", creator).get().getInputStream()) {
+            is.readAllBytes();
+        }
+
+        // act
+        Optional<DocumentBundle> actual = bundleCache.getBundle("SAMPLE/master/1-0/all", creator);
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getName()).isEqualTo("SAMPLE-master.zip");
+        assertThat(creations).hasValue(1);
+        try (InputStream is = actual.get().getInputStream()) {
+            is.readAllBytes();
+        }
+        assertThat(actual.get().getPath()).doesNotExist();
+        assertThat(bundleCache.getBundle("SAMPLE/master/1-0/all", () -> empty())).isPresent();
+    }
+
+    private Supplier<Optional<File>> creator(AtomicInteger creations, String name, String content) {
+        return () -> {
+            creations.incrementAndGet();
+            return Optional.of(File.builder()
+                .name(name)
+                .data(content.getBytes(UTF_8))
+                .build());
+        };
+    }
+}
@@ -0,0 +1,201 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.File;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class DocumentCreationExecutorTest {
+
+    ExecutorService executorService;
+    DocumentCreationExecutor executor;
+
+    @BeforeEach
+    void setup() {
+        this.executorService = newFixedThreadPool(2);
+        this.executor = new DocumentCreationExecutor(executorService);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    void execute_DocumentsCreated_DocumentsInOrderOfCreators() {
+        // arrange
+        Map<String, Supplier<Optional<File>>> creators = new LinkedHashMap<>();
+        creators.put("DOC-1", () -> Optional.of(File.builder().name("DOC-1.pdf").build()));
+        creators.put("DOC-2", Optional::empty);
+        creators.put("DOC-3", () -> Optional.of(File.builder().name("DOC-3.xlsx").build()));
+
+        // act
+        Collection<File> actual = executor.execute(creators);
+
+        // assert
+        assertThat(actual)
+            .extracting(File::getName)
+            .containsExactly("DOC-1.pdf", "DOC-3.xlsx");
+    }
+
+    @Test
+    void execute_CreatorsWaitingForEachOther_DocumentsCreatedConcurrently() {
+        // arrange
+        CountDownLatch latch = new CountDownLatch(2);
+        Map<String, Supplier<Optional<File>>> creators = new LinkedHashMap<>();
+        creators.put("DOC-1", () -> awaitOthers(latch, "DOC-1.pdf"));
+        creators.put("DOC-2", () -> awaitOthers(latch, "DOC-2.pdf"));
+
+        // act
+        Collection<File> actual = executor.execute(creators);
+
+        // assert
+        assertThat(actual).hasSize(2);
+    }
+
+    @Test
+    void execute_CreatorFails_ExceptionThrown() {
+        // arrange
+        Map<String, Supplier<Optional<File>>> creators = new LinkedHashMap<>();
+        creators.put("DOC-1", () -> Optional.of(File.builder().name("DOC-1.pdf").build()));
+        creators.put("DOC-2", () -> {
+            throw new TailoringexpertException("Document creation failed");
+        });
+
+        // act
+        Throwable actual = catchThrowable(() -> executor.execute(creators));
+
+        // assert
+        assertThat(actual)
+            .isInstanceOf(TailoringexpertException.class)
+            .hasMessage("Document creation failed");
+    }
+
+    @Test
+    void execute_ConsumerProvided_AllDocumentsHandedOverInCallingThread() {
+        // arrange
+        Map<String, Supplier<Optional<File>>> creators = new LinkedHashMap<>();
+        creators.put("DOC-1", () -> Optional.of(File.builder().name("DOC-1.pdf").build()));
+        creators.put("DOC-2", Optional::empty);
+        creators.put("DOC-3", () -> Optional.of(File.builder().name("DOC-3.xlsx").build()));
+
+        Thread caller = Thread.currentThread();
+        List<String> names = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        // act
+        executor.execute(creators, document -> {
+            names.add(document.getName());
+            threads.add(Thread.currentThread());
+        });
+
+        // assert
+        assertThat(names).containsExactlyInAnyOrder("DOC-1.pdf", "DOC-3.xlsx");
+        assertThat(threads).containsOnly(caller);
+    }
+
+    @Test
+    void execute_ConsumerProvidedCreatorFails_ExceptionThrown() {
+        // arrange
+        Map<String, Supplier<Optional<File>>> creators = new LinkedHashMap<>();
+        creators.put("DOC-1", () -> {
+            throw new TailoringexpertException("Document creation failed");
+        });
+
+        // act
+        Throwable actual = catchThrowable(() -> executor.execute(creators, document -> {
+        }));
+
+        // assert
+        assertThat(actual)
+            .isInstanceOf(TailoringexpertException.class)
+            .hasMessage("Document creation failed");
+    }
+
+    private static Optional<File> awaitOthers(CountDownLatch latch, String name) {
+        latch.countDown();
+        try {
+            if (!latch.await(5, SECONDS)) {
+                throw new TailoringexpertException("Documents not created concurrently");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TailoringexpertException(e.getMessage());
+        }
+        return Optional.of(File.builder().name(name).build());
+    }
+
+    @Test
+    void execute_CallingThreadInterrupted_CreationsCancelledAndInterruptStateKept() throws Exception {
+        // arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Map<String, Supplier<Optional<File>>> creators = new LinkedHashMap<>();
+        creators.put("DOC-1", () -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return Optional.empty();
+        });
+
+        AtomicReference<Throwable> exception = new AtomicReference<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread caller = new Thread(() -> {
+            exception.set(catchThrowable(() -> executor.execute(creators)));
+            interrupted.set(Thread.currentThread().isInterrupted());
+        });
+
+        // act
+        caller.start();
+        assertThat(started.await(5, SECONDS)).isTrue();
+        caller.interrupt();
+        caller.join(5000);
+
+        // assert
+        assertThat(exception.get()).isInstanceOf(TailoringexpertException.class);
+        assertThat(interrupted.get()).isTrue();
+        assertThat(cancelled.await(5, SECONDS)).isTrue();
+    }
+}
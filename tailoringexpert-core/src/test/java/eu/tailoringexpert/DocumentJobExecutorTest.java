@@ -0,0 +1,389 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.DocumentJob;
+import eu.tailoringexpert.domain.File;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static eu.tailoringexpert.domain.DocumentJobState.FAILED;
+import static eu.tailoringexpert.domain.DocumentJobState.FINISHED;
+import static eu.tailoringexpert.domain.DocumentJobState.QUEUED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.list;
+import static java.nio.file.Files.writeString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class DocumentJobExecutorTest {
+
+    @TempDir
+    Path directory;
+
+    AtomicReference<String> tenant;
+    List<Runnable> queue;
+
+    @BeforeEach
+    void setup() {
+        this.tenant = new AtomicReference<>("TENANT-1");
+        this.queue = new ArrayList<>();
+    }
+
+    @Test
+    void constructor_FilesInDirectory_FilesDeleted() throws IOException {
+        // arrange
+        writeString(directory.resolve("outdated.zip"), "outdated");
+
+        // act
+        new DocumentJobExecutor(Runnable::run, directory, Duration.ofHours(1), tenant::get);
+
+        // assert
+        assertThat(list(directory)).isEmpty();
+    }
+
+    @Test
+    void submit_DocumentsCreated_JobFinished() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(Runnable::run, directory, Duration.ofHours(1), tenant::get);
+
+        // act
+        DocumentJob submitted = executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf", "DOC-2.pdf"));
+
+        // assert
+        Optional<DocumentJob> actual = executor.getJob(submitted.getId());
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getState()).isEqualTo(FINISHED);
+        assertThat(actual.get().getName()).isEqualTo("documents.zip");
+        assertThat(actual.get().getDocuments()).containsExactly("DOC-1.pdf", "DOC-2.pdf");
+        assertThat(actual.get().getLength()).isPositive();
+        assertThat(actual.get().getExpirationTimestamp()).isAfter(actual.get().getCreationTimestamp());
+    }
+
+    @Test
+    void submit_JobNotYetExecuted_JobQueued() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(queue::add, directory, Duration.ofHours(1), tenant::get);
+
+        // act
+        DocumentJob actual = executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf"));
+
+        // assert
+        assertThat(actual.getState()).isEqualTo(QUEUED);
+        assertThat(actual.getDocuments()).isEmpty();
+        assertThat(actual.getExpirationTimestamp()).isNull();
+        assertThat(queue).hasSize(1);
+    }
+
+    @Test
+    void submit_IdenticalJobQueued_QueuedJobReturned() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(queue::add, directory, Duration.ofHours(1), tenant::get);
+        DocumentJob queued = executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf"));
+
+        // act
+        DocumentJob actual = executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf"));
+
+        // assert
+        assertThat(actual.getId()).isEqualTo(queued.getId());
+        assertThat(queue).hasSize(1);
+    }
+
+    @Test
+    void submit_IdenticalJobFinished_FinishedJobReturned() {
+        // arrange
+        AtomicInteger creations = new AtomicInteger();
+        DocumentJobExecutor executor = new DocumentJobExecutor(Runnable::run, directory, Duration.ofHours(1), tenant::get);
+        DocumentJob finished = executor.submit("8.2.1/all", listener -> {
+            creations.incrementAndGet();
+            return bundle(listener, "DOC-1.pdf");
+        });
+
+        // act
+        DocumentJob actual = executor.submit("8.2.1/all", listener -> {
+            creations.incrementAndGet();
+            return bundle(listener, "DOC-1.pdf");
+        });
+
+        // assert
+        assertThat(actual.getId()).isEqualTo(finished.getId());
+        assertThat(actual.getState()).isEqualTo(FINISHED);
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    void submit_IdenticalJobOfOtherTenant_NewJobSubmitted() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(queue::add, directory, Duration.ofHours(1), tenant::get);
+        DocumentJob other = executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf"));
+        tenant.set("TENANT-2");
+
+        // act
+        DocumentJob actual = executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf"));
+
+        // assert
+        assertThat(actual.getId()).isNotEqualTo(other.getId());
+        assertThat(queue).hasSize(2);
+    }
+
+    @Test
+    void submit_IdenticalJobFailed_NewJobSubmitted() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(Runnable::run, directory, Duration.ofHours(1), tenant::get);
+        DocumentJob failed = executor.submit("8.2.1/all", listener -> {
+            throw new TailoringexpertException("Document creation failed");
+        });
+
+        // act
+        DocumentJob actual = executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf"));
+
+        // assert
+        assertThat(actual.getId()).isNotEqualTo(failed.getId());
+        assertThat(actual.getState()).isEqualTo(FINISHED);
+    }
+
+    @Test
+    void submit_CreatorFails_JobFailed() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(Runnable::run, directory, Duration.ofHours(1), tenant::get);
+
+        // act
+        DocumentJob submitted = executor.submit("8.2.1/all", listener -> {
+            throw new TailoringexpertException("Document creation failed");
+        });
+
+        // assert
+        Optional<DocumentJob> actual = executor.getJob(submitted.getId());
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getState()).isEqualTo(FAILED);
+        assertThat(actual.get().getMessage()).isEqualTo("Document creation failed");
+        assertThat(executor.getResult(submitted.getId())).isEmpty();
+    }
+
+    @Test
+    void submit_CreatorThrowsError_JobFailedAndErrorThrown() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(queue::add, directory, Duration.ofHours(1), tenant::get);
+        DocumentJob submitted = executor.submit("8.2.1/all", listener -> {
+            throw new OutOfMemoryError("Java heap space");
+        });
+
+        // act
+        Throwable actual = catchThrowable(() -> queue.get(0).run());
+
+        // assert
+        assertThat(actual).isInstanceOf(OutOfMemoryError.class);
+        Optional<DocumentJob> job = executor.getJob(submitted.getId());
+        assertThat(job).isPresent();
+        assertThat(job.get().getState()).isEqualTo(FAILED);
+        assertThat(job.get().getExpirationTimestamp()).isNotNull();
+    }
+
+    @Test
+    void purge_JobQueuedLongerThanTimeout_JobFailedAndNotExecuted() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(queue::add, directory, Duration.ofHours(1), Duration.ZERO, tenant::get);
+        AtomicInteger executions = new AtomicInteger();
+        DocumentJob submitted = executor.submit("8.2.1/all", listener -> {
+            executions.incrementAndGet();
+            return bundle(listener, "DOC-1.pdf");
+        });
+
+        // act
+        executor.purge();
+
+        // assert
+        queue.get(0).run();
+        assertThat(executions).hasValue(0);
+        Optional<DocumentJob> actual = executor.getJob(submitted.getId());
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getState()).isEqualTo(FAILED);
+        assertThat(actual.get().getMessage()).isEqualTo("Document job timed out");
+        assertThat(executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf")).getId())
+            .isNotEqualTo(submitted.getId());
+    }
+
+    @Test
+    void purge_JobRunningLongerThanTimeout_CreatedDocumentsDeleted() throws IOException {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(Runnable::run, directory, Duration.ofHours(1), Duration.ZERO, tenant::get);
+
+        // act
+        DocumentJob submitted = executor.submit("8.2.1/all", listener -> {
+            executor.purge();
+            return bundle(listener, "DOC-1.pdf");
+        });
+
+        // assert
+        assertThat(executor.getJob(submitted.getId()))
+            .map(DocumentJob::getState)
+            .hasValue(FAILED);
+        assertThat(executor.getResult(submitted.getId())).isEmpty();
+        try (Stream<Path> files = list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void submit_NoDocumentsCreated_JobFailed() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(Runnable::run, directory, Duration.ofHours(1), tenant::get);
+
+        // act
+        DocumentJob submitted = executor.submit("8.2.1/all", listener -> Optional.empty());
+
+        // assert
+        assertThat(executor.getJob(submitted.getId()))
+            .map(DocumentJob::getState)
+            .hasValue(FAILED);
+    }
+
+    @Test
+    void submit_QueueFull_ExceptionThrownAndJobRemoved() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(rejecting(), directory, Duration.ofHours(1), tenant::get);
+
+        // act
+        Throwable actual = catchThrowable(() -> executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf")));
+
+        // assert
+        assertThat(actual).isInstanceOf(RejectedExecutionException.class);
+        DocumentJobExecutor retry = new DocumentJobExecutor(queue::add, directory, Duration.ofHours(1), tenant::get);
+        assertThat(retry.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf")).getState()).isEqualTo(QUEUED);
+    }
+
+    @Test
+    void getJob_JobNotExisting_EmptyReturned() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(Runnable::run, directory, Duration.ofHours(1), tenant::get);
+
+        // act
+        Optional<DocumentJob> actual = executor.getJob("4711");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getJob_JobOfOtherTenant_EmptyReturned() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(Runnable::run, directory, Duration.ofHours(1), tenant::get);
+        DocumentJob submitted = executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf"));
+        tenant.set("TENANT-2");
+
+        // act
+        Optional<DocumentJob> actual = executor.getJob(submitted.getId());
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getResult_JobFinished_CreatedDocumentsReturned() throws IOException {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(Runnable::run, directory, Duration.ofHours(1), tenant::get);
+        DocumentJob submitted = executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf", "DOC-2.pdf"));
+
+        // act
+        Optional<DocumentBundle> actual = executor.getResult(submitted.getId());
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getName()).isEqualTo("documents.zip");
+        assertThat(entries(actual.get())).containsExactly("DOC-1.pdf", "DOC-2.pdf");
+        assertThat(executor.getResult(submitted.getId())).isPresent();
+    }
+
+    @Test
+    void getResult_JobQueued_EmptyReturned() {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(queue::add, directory, Duration.ofHours(1), tenant::get);
+        DocumentJob submitted = executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf"));
+
+        // act
+        Optional<DocumentBundle> actual = executor.getResult(submitted.getId());
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void purge_JobExpired_JobAndDocumentsDeleted() throws IOException {
+        // arrange
+        DocumentJobExecutor executor = new DocumentJobExecutor(Runnable::run, directory, Duration.ZERO, tenant::get);
+        DocumentJob submitted = executor.submit("8.2.1/all", listener -> bundle(listener, "DOC-1.pdf"));
+
+        // act
+        executor.purge();
+
+        // assert
+        assertThat(executor.getJob(submitted.getId())).isEmpty();
+        assertThat(list(directory)).isEmpty();
+    }
+
+    private static Optional<DocumentBundle> bundle(Consumer<File> listener, String... names) {
+        return Optional.of(DocumentBundle.create("documents.zip", consumer -> {
+            for (String name : names) {
+                File document = File.builder()
+                    .name(name)
+                    .data(name.getBytes(UTF_8))
+                    .build();
+                consumer.accept(document);
+                listener.accept(document);
+            }
+        }));
+    }
+
+    private static Executor rejecting() {
+        return command -> {
+            throw new RejectedExecutionException("queue full");
+        };
+    }
+
+    private static List<String> entries(DocumentBundle bundle) throws IOException {
+        List<String> result = new ArrayList<>();
+        try (InputStream is = bundle.getInputStream(); ZipInputStream zip = new ZipInputStream(is)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                result.add(entry.getName());
+            }
+        }
+        return result;
+    }
+}
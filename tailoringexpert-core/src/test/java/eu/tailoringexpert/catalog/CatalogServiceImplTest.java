@@ -21,19 +21,21 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.DocumentJobExecutor;
 import eu.tailoringexpert.TailoringexpertException;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.CatalogVersion;
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.DocumentJob;
 import eu.tailoringexpert.domain.File;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -41,10 +43,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
@@ -56,7 +58,8 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.BDDMockito.willCallRealMethod;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -68,6 +71,7 @@ class CatalogServiceImplTest {
     private CatalogServiceRepository repositoryMock;
     private DocumentService documentServiceMock;
     private Function<byte[], Catalog<BaseRequirement>> file2CatalogConverterMock;
+    private DocumentJobExecutor documentJobExecutorMock;
     private CatalogServiceImpl service;
 
     @BeforeEach
@@ -75,10 +79,12 @@ class CatalogServiceImplTest {
         this.repositoryMock = mock(CatalogServiceRepository.class);
         this.documentServiceMock = mock(DocumentService.class);
         this.file2CatalogConverterMock = mock(Function.class);
+        this.documentJobExecutorMock = mock(DocumentJobExecutor.class);
         this.service = new CatalogServiceImpl(
             repositoryMock,
             documentServiceMock,
-            file2CatalogConverterMock
+            file2CatalogConverterMock,
+            documentJobExecutorMock
         );
     }
 
@@ -286,7 +292,7 @@ class CatalogServiceImplTest {
         given(repositoryMock.getCatalog("8.2.1")).willReturn(empty());
 
         // act
-        Optional<File> actual = service.createDocuments("8.2.1");
+        Optional<DocumentBundle> actual = service.createDocuments("8.2.1");
 
         // assert
         assertThat(actual).isEmpty();
@@ -306,24 +312,26 @@ class CatalogServiceImplTest {
                 .build()
         );
         given(documentServiceMock.createAll(eq(catalog), any())).willReturn(dokumente);
+        willCallRealMethod().given(documentServiceMock).createAll(eq(catalog), any(), any());
 
         // act
-        Optional<File> actual = service.createDocuments("8.2.1");
+        Optional<DocumentBundle> actual = service.createDocuments("8.2.1");
 
         // assert
         assertThat(actual).isNotEmpty();
         assertThat(actual.get().getName()).isEqualTo("catalog_8.2.1.zip");
         assertThat(actual.get().getType()).isEqualTo("zip");
 
-        Collection<String> zipDateien = fileNameInZip(actual.get().getData());
+        Collection<String> zipDateien = fileNameInZip(actual.get().getInputStream());
+        assertThat(actual.get().getPath()).doesNotExist();
         assertThat(zipDateien)
             .hasSize(1)
             .containsExactly("DUMMY-KATALOG.pdf");
     }
 
-    Collection<String> fileNameInZip(byte[] zip) throws IOException {
+    Collection<String> fileNameInZip(InputStream zip) throws IOException {
         Collection<String> result = new ArrayList<>();
-        ZipInputStream zin = new ZipInputStream(new ByteArrayInputStream(zip));
+        ZipInputStream zin = new ZipInputStream(zip);
         ZipEntry entry;
         while (nonNull(entry = zin.getNextEntry())) {
             result.add(entry.getName());
@@ -334,64 +342,96 @@ class CatalogServiceImplTest {
     }
 
     @Test
-    void createDocuments_CloseZipOutputStreamException_ExceptionThrown() {
+    void createDocuments_DocumentCreationException_ExceptionThrown() {
         // arrange
         Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder().version("8.2.1").build();
         given(repositoryMock.getCatalog("8.2.1"))
             .willReturn(of(catalog));
 
-        List<File> dokumente = asList(
-            File.builder()
-                .name("DUMMY-KATALOG.pdf")
-                .data("Testdokument".getBytes(UTF_8))
-                .build()
-        );
-        given(documentServiceMock.createAll(eq(catalog), any())).willReturn(dokumente);
-
-        CatalogServiceImpl serviceSpy = Mockito.spy(service);
-        given(serviceSpy.createZip(dokumente)).willThrow(new RuntimeException());
+        willThrow(new RuntimeException()).given(documentServiceMock).createAll(eq(catalog), any(), any());
 
         // act
-        Throwable actual = catchThrowable(() -> serviceSpy.createDocuments("8.2.1"));
+        Throwable actual = catchThrowable(() -> service.createDocuments("8.2.1"));
 
         // assert
         assertThat(actual).isInstanceOf(RuntimeException.class);
     }
 
     @Test
-    void createZip_addToZipSimulatedException_ExceptionThrown() {
+    void createDocumentJob_CatalogNotExisting_EmptyReturned() {
         // arrange
-        List<File> files = List.of(
+        given(repositoryMock.getCatalog("8.2.1")).willReturn(empty());
+
+        // act
+        Optional<DocumentJob> actual = service.createDocumentJob("8.2.1");
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(documentJobExecutorMock, times(0)).submit(any(), any());
+    }
+
+    @Test
+    void createDocumentJob_CatalogExisting_JobCreatingAllDocumentsSubmitted() throws IOException {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder().version("8.2.1").build();
+        given(repositoryMock.getCatalog("8.2.1")).willReturn(of(catalog));
+
+        List<File> dokumente = asList(
             File.builder()
                 .name("DUMMY-KATALOG.pdf")
                 .data("Testdokument".getBytes(UTF_8))
                 .build()
         );
+        given(documentServiceMock.createAll(eq(catalog), any())).willReturn(dokumente);
+        willCallRealMethod().given(documentServiceMock).createAll(eq(catalog), any(), any());
 
-        CatalogServiceImpl serviceSpy = Mockito.spy(service);
-        doThrow(new RuntimeException()).when(serviceSpy).addToZip(any(File.class), any(ZipOutputStream.class));
+        List<DocumentBundle> bundles = new ArrayList<>();
+        given(documentJobExecutorMock.submit(eq("catalog/8.2.1/all"), any())).willAnswer(invocation -> {
+            Function<Consumer<File>, Optional<DocumentBundle>> creator = invocation.getArgument(1);
+            List<String> created = new ArrayList<>();
+            creator.apply(document -> created.add(document.getName())).ifPresent(bundles::add);
+            return DocumentJob.builder().id("4711").documents(created).build();
+        });
 
         // act
-        Throwable actual = catchThrowable(() -> serviceSpy.createZip(files));
+        Optional<DocumentJob> actual = service.createDocumentJob("8.2.1");
 
         // assert
-        assertThat(actual).isInstanceOf(RuntimeException.class);
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getId()).isEqualTo("4711");
+        assertThat(actual.get().getDocuments()).containsExactly("DUMMY-KATALOG.pdf");
+        assertThat(bundles).hasSize(1);
+        assertThat(bundles.get(0).getName()).isEqualTo("catalog_8.2.1.zip");
+        assertThat(fileNameInZip(bundles.get(0).getInputStream())).containsExactly("DUMMY-KATALOG.pdf");
     }
 
     @Test
-    void addToZip_ZipOutputStremException_ExceptionThrown() throws Exception {
+    void createDocumentJob_JobExecutedWithoutPersistenceContext_CatalogLoadedBeforeSubmitting() {
         // arrange
-        Throwable actual;
-        try (ZipOutputStream zipMock = mock(ZipOutputStream.class)) {
-            File file = File.builder().name("dummy.pdf").build();
-            doThrow(new IOException()).when(zipMock).putNextEntry(any());
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder().version("8.2.1").build();
+        given(repositoryMock.getCatalog("8.2.1")).willReturn(of(catalog));
+        given(documentServiceMock.createAll(eq(catalog), any())).willReturn(List.of(File.builder()
+            .name("DUMMY-KATALOG.pdf")
+            .data("Testdokument".getBytes(UTF_8))
+            .build()));
+        willCallRealMethod().given(documentServiceMock).createAll(eq(catalog), any(), any());
+
+        List<DocumentBundle> bundles = new ArrayList<>();
+        given(documentJobExecutorMock.submit(eq("catalog/8.2.1/all"), any())).willAnswer(invocation -> {
+            given(repositoryMock.getCatalog("8.2.1")).willThrow(new IllegalStateException("no session"));
+            Function<Consumer<File>, Optional<DocumentBundle>> creator = invocation.getArgument(1);
+            creator.apply(document -> {
+            }).ifPresent(bundles::add);
+            return DocumentJob.builder().id("4711").build();
+        });
 
-            // act
-            actual = catchThrowable(() -> service.addToZip(file, zipMock));
-        }
+        // act
+        Optional<DocumentJob> actual = service.createDocumentJob("8.2.1");
 
         // assert
-        assertThat(actual).isInstanceOf(IOException.class);
+        assertThat(actual).isPresent();
+        assertThat(bundles).hasSize(1);
+        verify(repositoryMock, times(1)).getCatalog("8.2.1");
     }
 
     @Test
@@ -480,7 +520,7 @@ class CatalogServiceImplTest {
             LocalDateTime.of(2020, 12, 1, 8, 0, 0);
 
         // act
-        Optional<File> actual = null;
+        Optional<DocumentBundle> actual = null;
         try (MockedStatic<LocalDateTime> dateTimeMock = mockStatic(LocalDateTime.class)) {
             dateTimeMock.when(LocalDateTime::now).thenReturn(now);
             actual = service.createDocuments(catalog);
@@ -488,7 +528,7 @@ class CatalogServiceImplTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(documentServiceMock, times(0)).createAll(catalog, now);
+        verify(documentServiceMock, times(0)).createAll(eq(catalog), eq(now), any());
     }
 
     @Test
@@ -501,9 +541,10 @@ class CatalogServiceImplTest {
 
         given(documentServiceMock.createAll(eq(catalog), any()))
             .willReturn(List.of(File.builder().name("preview.pdf").data("dummy".getBytes(UTF_8)).build()));
+        willCallRealMethod().given(documentServiceMock).createAll(eq(catalog), any(), any());
 
         // act
-        Optional<File> actual = null;
+        Optional<DocumentBundle> actual = null;
         try (MockedStatic<LocalDateTime> dateTimeMock = mockStatic(LocalDateTime.class)) {
             dateTimeMock.when(LocalDateTime::now).thenReturn(now);
             dateTimeMock.when(() -> LocalDateTime.ofInstant(any(), any())).thenReturn(now);
@@ -512,7 +553,7 @@ class CatalogServiceImplTest {
 
         // assert
         assertThat(actual).isPresent();
-        verify(documentServiceMock, times(1)).createAll(catalog, now);
+        verify(documentServiceMock, times(1)).createAll(eq(catalog), eq(now), any());
     }
 
     @Test
@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogTest {
+
+    @Test
+    void getChapter_ChapterNumberedAsToc_ChapterReturned() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .name("Chapter")
+            .build();
+        Catalog<TailoringRequirement> catalog = Catalog.<TailoringRequirement>builder()
+            .toc(Chapter.<TailoringRequirement>builder()
+                .number("1")
+                .chapters(asList(chapter))
+                .build())
+            .build();
+
+        // act
+        Optional<Chapter<TailoringRequirement>> actual = catalog.getChapter("1");
+
+        // assert
+        assertThat(actual).containsSame(chapter);
+    }
+
+    @Test
+    void getChapter_NumberOfTocOnly_EmptyReturned() {
+        // arrange
+        Catalog<TailoringRequirement> catalog = Catalog.<TailoringRequirement>builder()
+            .toc(Chapter.<TailoringRequirement>builder()
+                .number("0")
+                .chapters(asList(Chapter.<TailoringRequirement>builder()
+                    .number("1")
+                    .build()))
+                .build())
+            .build();
+
+        // act
+        Optional<Chapter<TailoringRequirement>> actual = catalog.getChapter("0");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+}
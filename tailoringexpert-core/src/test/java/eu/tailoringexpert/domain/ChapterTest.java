@@ -24,9 +24,20 @@ package eu.tailoringexpert.domain;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
+import static java.util.Objects.isNull;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Log4j2
@@ -139,4 +150,175 @@ class ChapterTest {
 
     }
 
+    @Test
+    void getChapter_ChapterNotExisting_NullReturned() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .chapters(asList(
+                Chapter.<TailoringRequirement>builder()
+                    .number("1.1")
+                    .build()))
+            .build();
+
+        // act
+        Chapter<TailoringRequirement> actual = chapter.getChapter("1.2");
+
+        // assert
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void getChapter_ChapterAddedAfterLookup_ChapterReturned() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .chapters(new ArrayList<>(asList(
+                Chapter.<TailoringRequirement>builder()
+                    .number("1.1")
+                    .build())))
+            .build();
+        chapter.getChapter("1.1");
+        chapter.getChapters().add(Chapter.<TailoringRequirement>builder().number("1.2").build());
+
+        // act
+        Chapter<TailoringRequirement> actual = chapter.getChapter("1.2");
+
+        // assert
+        assertThat(actual).isNotNull();
+        assertThat(actual.getNumber()).isEqualTo("1.2");
+    }
+
+    @Test
+    void getRequirement_RequirementInsertedAfterLookup_InsertedRequirementReturned() {
+        // arrange
+        List<TailoringRequirement> requirements = new ArrayList<>(asList(
+            TailoringRequirement.builder().position("a").build(),
+            TailoringRequirement.builder().position("b").build()
+        ));
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .requirements(requirements)
+            .build();
+        chapter.getRequirement("b");
+        requirements.add(1, TailoringRequirement.builder().position("a1").text("new").build());
+
+        // act
+        Optional<TailoringRequirement> actual = chapter.getRequirement("a1");
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getText()).isEqualTo("new");
+    }
+
+    @Test
+    void indexOfRequirement_RequirementInsertedBefore_ShiftedIndexReturned() {
+        // arrange
+        List<TailoringRequirement> requirements = new ArrayList<>(asList(
+            TailoringRequirement.builder().position("a").build(),
+            TailoringRequirement.builder().position("b").build()
+        ));
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .requirements(requirements)
+            .build();
+        chapter.indexOfRequirement("b");
+        requirements.add(1, TailoringRequirement.builder().position("a1").build());
+
+        // act
+        OptionalInt actual = chapter.indexOfRequirement("b");
+
+        // assert
+        assertThat(actual).hasValue(2);
+    }
+
+    @Test
+    void indexOfRequirement_RequirementNotExisting_EmptyReturned() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .requirements(asList(TailoringRequirement.builder().position("a").build()))
+            .build();
+
+        // act
+        OptionalInt actual = chapter.indexOfRequirement("b");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getSubChapter_SubchapterNumberedAsChapter_SubchapterReturned() {
+        // arrange
+        Chapter<TailoringRequirement> subChapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .name("Subchapter")
+            .build();
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .chapters(asList(subChapter))
+            .build();
+
+        // act
+        Optional<Chapter<TailoringRequirement>> actual = chapter.getSubChapter("1");
+
+        // assert
+        assertThat(actual).containsSame(subChapter);
+    }
+
+    @Test
+    void getChapter_OwnNumber_ChapterItselfReturned() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .chapters(asList(Chapter.<TailoringRequirement>builder()
+                .number("1.1")
+                .build()))
+            .build();
+
+        // act
+        Chapter<TailoringRequirement> actual = chapter.getChapter("1");
+
+        // assert
+        assertThat(actual).isSameAs(chapter);
+    }
+
+    @Test
+    void getChapter_ConcurrentLookupsWithIndexRebuild_ExistingChaptersAlwaysReturned() throws Exception {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .chapters(range(0, 100)
+                .mapToObj(i -> Chapter.<TailoringRequirement>builder()
+                    .number("1." + i)
+                    .build())
+                .collect(toList()))
+            .build();
+
+        // each lookup of a not existing chapter rebuilds index, while other threads still use it
+        Callable<Long> lookups = () -> {
+            long missing = 0;
+            for (int i = 0; i < 1_000; i++) {
+                chapter.getChapter("2");
+                if (isNull(chapter.getChapter("1." + (i % 100)))) {
+                    missing++;
+                }
+            }
+            return missing;
+        };
+
+        // act
+        List<Long> actual = new ArrayList<>();
+        ExecutorService pool = newFixedThreadPool(8);
+        try {
+            for (Future<Long> future : pool.invokeAll(range(0, 8).mapToObj(i -> lookups).collect(toList()))) {
+                actual.add(future.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // assert
+        assertThat(actual).containsOnly(0L);
+    }
 }
@@ -0,0 +1,82 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DRDTest {
+
+    @Test
+    void deliveryMilestones_MultipleMilestones_TrimmedMilestonesReturned() {
+        // arrange
+        DRD drd = DRD.builder().deliveryDate("PDR; CDR;;on regular basis ").build();
+
+        // act
+        Set<String> actual = drd.deliveryMilestones();
+
+        // assert
+        assertThat(actual).containsOnly("PDR", "CDR", "on regular basis");
+    }
+
+    @Test
+    void deliveryMilestones_CalledTwice_SameMilestonesReturned() {
+        // arrange
+        DRD drd = DRD.builder().deliveryDate("PDR;CDR").build();
+        Set<String> milestones = drd.deliveryMilestones();
+
+        // act
+        Set<String> actual = drd.deliveryMilestones();
+
+        // assert
+        assertThat(actual).isSameAs(milestones);
+    }
+
+    @Test
+    void deliveryMilestones_DeliveryDateChanged_NewMilestonesReturned() {
+        // arrange
+        DRD drd = DRD.builder().deliveryDate("PDR").build();
+        drd.deliveryMilestones();
+        drd.setDeliveryDate("ORR");
+
+        // act
+        Set<String> actual = drd.deliveryMilestones();
+
+        // assert
+        assertThat(actual).containsOnly("ORR");
+    }
+
+    @Test
+    void deliveryMilestones_NoDeliveryDate_EmptySetReturned() {
+        // arrange
+        DRD drd = new DRD();
+
+        // act
+        Set<String> actual = drd.deliveryMilestones();
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+}
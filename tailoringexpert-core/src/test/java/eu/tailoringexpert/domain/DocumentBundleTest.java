@@ -0,0 +1,144 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.nonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class DocumentBundleTest {
+
+    @Test
+    void create_DocumentsProvided_AllDocumentsInZip() throws IOException {
+        // arrange
+        List<File> documents = List.of(
+            File.builder().name("DOC-1.pdf").data("Dokument 1".getBytes(UTF_8)).build(),
+            File.builder().name("DOC-2.xlsx").data("Dokument 2".getBytes(UTF_8)).build()
+        );
+
+        // act
+        DocumentBundle actual = DocumentBundle.create("SAMPLE-master.zip", documents::forEach);
+
+        // assert
+        assertThat(actual.getName()).isEqualTo("SAMPLE-master.zip");
+        assertThat(actual.getType()).isEqualTo("zip");
+        assertThat(actual.getLength()).isPositive();
+
+        Collection<String> names = new ArrayList<>();
+        try (ZipInputStream zin = new ZipInputStream(actual.getInputStream())) {
+            ZipEntry entry;
+            while (nonNull(entry = zin.getNextEntry())) {
+                names.add(entry.getName());
+                zin.closeEntry();
+            }
+        }
+        assertThat(names).containsExactly("DOC-1.pdf", "DOC-2.xlsx");
+    }
+
+    @Test
+    void getInputStream_StreamClosed_TemporaryFileDeleted() throws IOException {
+        // arrange
+        DocumentBundle bundle = DocumentBundle.create("SAMPLE-master.zip", consumer -> {
+        });
+
+        // act
+        try (InputStream is = bundle.getInputStream()) {
+            is.readAllBytes();
+        }
+
+        // assert
+        assertThat(bundle.getPath()).doesNotExist();
+    }
+
+    @Test
+    void create_ProducerException_ExceptionThrown() {
+        // arrange
+
+        // act
+        Throwable actual = catchThrowable(() -> DocumentBundle.create("SAMPLE-master.zip", consumer -> {
+            throw new IllegalStateException();
+        }));
+
+        // assert
+        assertThat(actual).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void addToZip_ZipOutputStremException_ExceptionThrown() throws Exception {
+        // arrange
+        Throwable actual;
+        try (ZipOutputStream zipMock = mock(ZipOutputStream.class)) {
+            File file = File.builder().name("dummy.pdf").build();
+            doThrow(new IOException()).when(zipMock).putNextEntry(any());
+
+            // act
+            actual = catchThrowable(() -> DocumentBundle.addToZip(file, zipMock));
+        }
+
+        // assert
+        assertThat(actual).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void close_BundleNotStreamed_TemporaryFileDeleted() {
+        // arrange
+        DocumentBundle bundle = DocumentBundle.create("SAMPLE-master.zip", consumer -> {
+        });
+
+        // act
+        bundle.close();
+
+        // assert
+        assertThat(bundle.getPath()).doesNotExist();
+    }
+
+    @Test
+    void close_BundleAlreadyStreamed_NoExceptionThrown() throws IOException {
+        // arrange
+        DocumentBundle bundle = DocumentBundle.create("SAMPLE-master.zip", consumer -> {
+        });
+        try (InputStream is = bundle.getInputStream()) {
+            is.readAllBytes();
+        }
+
+        // act
+        Throwable actual = catchThrowable(bundle::close);
+
+        // assert
+        assertThat(actual).isNull();
+    }
+}
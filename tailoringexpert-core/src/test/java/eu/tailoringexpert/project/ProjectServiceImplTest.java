@@ -33,6 +33,7 @@ import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.ScreeningSheetParameter;
 import eu.tailoringexpert.domain.SelectionVector;
 import eu.tailoringexpert.domain.Tailoring;
+import eu.tailoringexpert.domain.TailoringInformation;
 import eu.tailoringexpert.domain.TailoringState;
 import eu.tailoringexpert.tailoring.ScreeningSheetDataProviderSupplier;
 import eu.tailoringexpert.screeningsheet.ScreeningSheetService;
@@ -643,15 +644,16 @@ class ProjectServiceImplTest {
             data = is.readAllBytes();
         }
 
-        given(repositoryMock.getProject("DUMMY")).willReturn(empty());
+        given(repositoryMock.isExistingProject("DUMMY")).willReturn(false);
 
         // act
-        Optional<Project> actual = service.copyProject("DUMMY", data);
+        Optional<ProjectInformation> actual = service.copyProject("DUMMY", data);
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(0)).createProject(any());
-        verify(repositoryMock, times(0)).isExistingProject(any());
+        verify(repositoryMock, times(0)).copyProject(any(), any());
+        verify(repositoryMock, times(1)).isExistingProject(any());
+        verify(screeningSheetServiceMock, times(0)).createScreeningSheet(any());
     }
 
     @Test
@@ -659,50 +661,37 @@ class ProjectServiceImplTest {
         // arrange
         byte[] data = newInputStream(get("src/test/resources/screeningsheet.pdf")).readAllBytes();
 
-        given(repositoryMock.getProject("SAMPLE"))
-            .willAnswer(invocation -> of(
-                Project.builder()
-                    .identifier(invocation.getArgument(0))
-                    .tailorings(asList(
-                        Tailoring.builder()
-                            .name("master")
-                            .phases(asList(
-                                Phase.ZERO,
-                                Phase.A
-                            ))
-                            .build(),
-                        Tailoring.builder()
-                            .name("master1")
-                            .phases(asList(
-                                Phase.B,
-                                Phase.C,
-                                Phase.D
-                            ))
-                            .build()
-                    ))
-                    .build())
-            );
+        given(repositoryMock.isExistingProject("SAMPLE"))
+            .willReturn(true);
 
+        ScreeningSheet screeningSheet = ScreeningSheet.builder()
+            .project("DUMMY")
+            .parameters(asList(ScreeningSheetParameter.builder().category(ScreeningSheetDataProviderSupplier.Identifier.getName()).value("DUMMY").build()))
+            .build();
         given(screeningSheetServiceMock.createScreeningSheet(data))
-            .willReturn(ScreeningSheet.builder()
-                .project("DUMMY")
-                .parameters(asList(ScreeningSheetParameter.builder().category(ScreeningSheetDataProviderSupplier.Identifier.getName()).value("DUMMY").build()))
-                .build());
+            .willReturn(screeningSheet);
         given(repositoryMock.isExistingProject("DUMMY"))
             .willReturn(false);
 
-        ArgumentCaptor<Project> projectCopyCaptor = forClass(Project.class);
-        given(repositoryMock.createProject(projectCopyCaptor.capture()))
-            .willAnswer(invocation -> invocation.getArgument(0));
+        given(repositoryMock.copyProject("SAMPLE", screeningSheet))
+            .willReturn(of(ProjectInformation.builder()
+                .identifier("DUMMY")
+                .tailorings(asList(
+                    TailoringInformation.builder().name("master").build(),
+                    TailoringInformation.builder().name("master1").build()
+                ))
+                .build()));
 
         // act
-        Optional<Project> actual = service.copyProject("SAMPLE", data);
+        Optional<ProjectInformation> actual = service.copyProject("SAMPLE", data);
 
         // assert
         assertThat(actual).isPresent();
-        assertThat(projectCopyCaptor.getValue().getTailorings()).hasSize(2);
-        verify(repositoryMock, times(1)).isExistingProject(any());
-
+        assertThat(actual.get().getIdentifier()).isEqualTo("DUMMY");
+        assertThat(actual.get().getTailorings()).hasSize(2);
+        verify(repositoryMock, times(2)).isExistingProject(any());
+        verify(repositoryMock, times(0)).getProject(any());
+        verify(repositoryMock, times(0)).createProject(any());
     }
 
     @Test
@@ -738,8 +727,6 @@ class ProjectServiceImplTest {
     void copyProject_SameName_ProjectcopyNotCreated() throws IOException {
         byte[] data = newInputStream(get("src/test/resources/screeningsheet.pdf")).readAllBytes();
 
-        given(repositoryMock.getProject("SAMPLE"))
-            .willReturn(of(Project.builder().identifier("SAMPLE").build()));
         given(screeningSheetServiceMock.createScreeningSheet(data))
             .willReturn(ScreeningSheet.builder().project("SAMPLE").build());
         given(repositoryMock.isExistingProject("SAMPLE"))
@@ -751,7 +738,7 @@ class ProjectServiceImplTest {
 
         // assert
         assertThat(actual).isInstanceOf(TailoringexpertException.class);
-        verify(repositoryMock, times(0)).createProject(any());
-        verify(repositoryMock, times(1)).isExistingProject(any());
+        verify(repositoryMock, times(0)).copyProject(any(), any());
+        verify(repositoryMock, times(2)).isExistingProject(any());
     }
 }
@@ -24,16 +24,21 @@ package eu.tailoringexpert.requirement;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.Reference;
 import eu.tailoringexpert.domain.TailoringRequirement;
+import eu.tailoringexpert.tailoring.ImportRequirement;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -43,6 +48,7 @@ import static java.util.Optional.of;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -89,24 +95,20 @@ class RequirementServiceImplTest {
         assertThat(actual).isEmpty();
 
         verify(predicateMock, times(1)).test("SAMPLE", "master");
-        verify(repositoryMock, times(0)).getRequirement(any(), any(), any(), any());
-        verify(repositoryMock, times(0)).updateRequirement(any(), any(), any(), any());
+        verify(repositoryMock, times(0)).updateRequirementSelected(any(), any(), any(), any(), any(), any());
     }
 
 
     @Test
-    void handleSelected_RequirementNotSelectedBefore_StateSelected() {
+    void handleSelected_RequirementExists_UpdatedRequirementReturned() {
         // arrange
         given(predicateMock.test("SAMPLE", "master")).willReturn(true);
-        given(repositoryMock.getRequirement("SAMPLE", "master", "1.1", "a")).willReturn(of(
-                TailoringRequirement.builder()
-                    .selected(FALSE)
-                    .build()
-            )
-        );
-        given(repositoryMock.updateRequirement(anyString(), anyString(), anyString(), any(TailoringRequirement.class)))
-            .willAnswer(invocation -> of(invocation.getArgument(3)));
-
+        TailoringRequirement requirement = TailoringRequirement.builder()
+            .selected(TRUE)
+            .selectionChanged(ZonedDateTime.now())
+            .build();
+        given(repositoryMock.updateRequirementSelected(eq("SAMPLE"), eq("master"), eq("1.1"), eq("a"), eq(TRUE), any(ZonedDateTime.class)))
+            .willReturn(of(requirement));
 
         // act
         Optional<TailoringRequirement> actual = service.handleSelected("SAMPLE", "master", "1.1", "a", TRUE);
@@ -114,10 +116,9 @@ class RequirementServiceImplTest {
         // assert
         verify(predicateMock, times(1)).test("SAMPLE", "master");
         verify(repositoryMock, times(1))
-            .updateRequirement(eq("SAMPLE"), eq("master"), eq("1.1"), any(TailoringRequirement.class));
-        assertThat(actual).isPresent();
-        assertThat(actual.get().getSelected()).isTrue();
-        assertThat(actual.get().getSelectionChanged()).isNotNull();
+            .updateRequirementSelected(eq("SAMPLE"), eq("master"), eq("1.1"), eq("a"), eq(TRUE), any(ZonedDateTime.class));
+        verify(repositoryMock, times(0)).getRequirement(any(), any(), any(), any());
+        assertThat(actual).contains(requirement);
     }
 
 
@@ -125,7 +126,8 @@ class RequirementServiceImplTest {
     void handleSelected_RequirementNotExist_EmptyReturned() {
         // arrange
         given(predicateMock.test("SAMPLE", "master")).willReturn(true);
-        given(repositoryMock.getRequirement("SAMPLE", "master", "1.1", "a")).willReturn(empty());
+        given(repositoryMock.updateRequirementSelected(eq("SAMPLE"), eq("master"), eq("1.1"), eq("a"), eq(TRUE), any(ZonedDateTime.class)))
+            .willReturn(empty());
 
         // act
         Optional<TailoringRequirement> actual = service.handleSelected("SAMPLE", "master", "1.1", "a", TRUE);
@@ -134,59 +136,8 @@ class RequirementServiceImplTest {
         assertThat(actual).isEmpty();
 
         verify(predicateMock, times(1)).test("SAMPLE", "master");
-        verify(repositoryMock, times(0)).updateRequirement(any(), any(), any(), any());
-    }
-
-    @Test
-    void handleSelected_RequirementSelectedChangeToNotSelected_RequirementReturned() {
-        // arrange
-        given(predicateMock.test("SAMPLE", "master")).willReturn(true);
-        given(repositoryMock.getRequirement("SAMPLE", "master", "1.1", "a")).willReturn(of(
-                TailoringRequirement.builder()
-                    .selected(FALSE)
-                    .selectionChanged(ZonedDateTime.now())
-                    .build()
-            )
-        );
-        given(repositoryMock.updateRequirement(anyString(), anyString(), anyString(), any()))
-            .willAnswer(invocation -> of(invocation.getArgument(3)));
-
-        // act
-        Optional<TailoringRequirement> actual = service.handleSelected("SAMPLE", "master", "1.1", "a", TRUE);
-
-        // assert
-        assertThat(actual.get().getSelected()).isTrue();
-        assertThat(actual.get().getSelectionChanged()).isNull();
-        assertThat(actual).isPresent();
-
-        verify(predicateMock, times(1)).test("SAMPLE", "master");
-        verify(repositoryMock, times(1))
-            .updateRequirement(eq("SAMPLE"), eq("master"), eq("1.1"), any(TailoringRequirement.class));
     }
 
-    @Test
-    void handleSelected_NoSelectedChange_RequirementReturned() {
-        // arrange
-        given(predicateMock.test("SAMPLE", "master")).willReturn(true);
-        given(repositoryMock.getRequirement("SAMPLE", "master", "1.1", "a")).willReturn(of(
-                TailoringRequirement.builder()
-                    .selected(FALSE)
-                    .selectionChanged(ZonedDateTime.now())
-                    .build()
-            )
-        );
-
-        // act
-        Optional<TailoringRequirement> actual = service.handleSelected("SAMPLE", "master", "1.1", "a", FALSE);
-
-        // assert
-        verify(predicateMock, times(1)).test("SAMPLE", "master");
-        assertThat(actual).isPresent();
-        assertThat(actual.get().getSelected()).isFalse();
-        assertThat(actual.get().getSelectionChanged()).isNotNull();
-    }
-
-
     @Test
     void handleSelected_NonModifiableTailoringChapter_EmptyReturned() {
         // arrange
@@ -673,8 +624,7 @@ class RequirementServiceImplTest {
         assertThat(actual).isEmpty();
 
         verify(predicateMock, times(1)).test("SAMPLE", "master");
-        verify(repositoryMock, times(0)).getRequirement(any(), any(), any(), any());
-        verify(repositoryMock, times(0)).updateRequirement(any(), any(), any(), any());
+        verify(repositoryMock, times(0)).updateRequirementText(any(), any(), any(), any(), any(), any());
     }
 
 
@@ -682,7 +632,8 @@ class RequirementServiceImplTest {
     void handleText_RequirementNotExists_EmptyReturned() {
         // arrange
         given(predicateMock.test("SAMPLE", "master")).willReturn(true);
-        given(repositoryMock.getRequirement("SAMPLE", "master", "1.1", "a")).willReturn(empty());
+        given(repositoryMock.updateRequirementText(eq("SAMPLE"), eq("master"), eq("1.1"), eq("a"), anyString(), any(ZonedDateTime.class)))
+            .willReturn(empty());
 
         // act
         Optional<TailoringRequirement> actual = service.handleText(
@@ -697,23 +648,20 @@ class RequirementServiceImplTest {
         assertThat(actual).isEmpty();
 
         verify(predicateMock, times(1)).test("SAMPLE", "master");
-        verify(repositoryMock, times(0))
-            .updateRequirement(anyString(), anyString(), anyString(), any(TailoringRequirement.class));
     }
 
     @Test
-    void handleText_NeuerTextKeineReferenz_RequirmentReturend() {
+    void handleText_RequirementExists_UpdatedRequirementReturned() {
         // arrange
         given(predicateMock.test("SAMPLE", "master")).willReturn(true);
-        given(repositoryMock.getRequirement("SAMPLE", "master", "1.1", "a")).willReturn(of(
-                TailoringRequirement.builder()
-                    .text("Der Text vor der Änderung")
-                    .selected(TRUE)
-                    .build()
-            )
-        );
-        given(repositoryMock.updateRequirement(anyString(), anyString(), anyString(), any()))
-            .willAnswer(invocation -> of(invocation.getArgument(3)));
+        TailoringRequirement requirement = TailoringRequirement.builder()
+            .text("Dies iet ein geändeter Text")
+            .textChanged(ZonedDateTime.now())
+            .selected(TRUE)
+            .reference(Reference.builder().text("Reference").changed(TRUE).build())
+            .build();
+        given(repositoryMock.updateRequirementText(eq("SAMPLE"), eq("master"), eq("1.1"), eq("a"), eq("Dies iet ein geändeter Text"), any(ZonedDateTime.class)))
+            .willReturn(of(requirement));
 
         // act
         Optional<TailoringRequirement> actual = service.handleText(
@@ -725,80 +673,130 @@ class RequirementServiceImplTest {
         );
 
         // assert
-        assertThat(actual).isPresent();
-        assertThat(actual.get().getText()).isEqualTo("Dies iet ein geändeter Text");
-        assertThat(actual.get().getTextChanged()).isNotNull();
+        assertThat(actual).contains(requirement);
 
         verify(predicateMock, times(1)).test("SAMPLE", "master");
-        verify(repositoryMock, times(1))
-            .updateRequirement(eq("SAMPLE"), eq("master"), eq("1.1"), any(TailoringRequirement.class));
+        verify(repositoryMock, times(0)).getRequirement(any(), any(), any(), any());
+        verify(repositoryMock, times(0)).updateRequirement(any(), any(), any(), any());
     }
 
     @Test
-    void handleText_CreatedNeuerTextReferenz_AnforderungTextAktualisiertReferenzMod() {
+    void handleImport_NonModifiableTailoring_EmptyReturned() {
+        // arrange
+        given(predicateMock.test("SAMPLE", "master")).willReturn(false);
+
+        // act
+        Optional<RequirementImportResult> actual = service.handleImport("SAMPLE", "master", Map.of());
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(repositoryMock, times(0)).updateRequirements(any(), any(), anyMap(), any());
+    }
+
+    @Test
+    void handleImport_TailoringNotExists_EmptyReturned() {
         // arrange
         given(predicateMock.test("SAMPLE", "master")).willReturn(true);
-        given(repositoryMock.getRequirement("SAMPLE", "master", "1.1", "a")).willReturn(of(
-                TailoringRequirement.builder()
-                    .text("Der Text vor der Änderung")
-                    .selected(TRUE)
-                    .reference(Reference.builder().text("Reference").build())
-                    .build()
-            )
-        );
-        given(repositoryMock.updateRequirement(anyString(), anyString(), anyString(), any()))
-            .willAnswer(invocation -> of(invocation.getArgument(3)));
+        given(repositoryMock.updateRequirements(eq("SAMPLE"), eq("master"), anyMap(), any())).willReturn(empty());
 
         // act
-        Optional<TailoringRequirement> actual = service.handleText(
-            "SAMPLE",
-            "master",
-            "1.1",
-            "a",
-            "Dies iet ein geändeter Text"
-        );
+        Optional<RequirementImportResult> actual = service.handleImport("SAMPLE", "master", Map.of());
 
         // assert
-        assertThat(actual).isPresent();
-        assertThat(actual.get().getText()).isEqualTo("Dies iet ein geändeter Text");
-        assertThat(actual.get().getTextChanged()).isNotNull();
-        assertThat(actual.get().getReference().getChanged()).isTrue();
+        assertThat(actual).isEmpty();
+    }
 
-        verify(predicateMock, times(1)).test("SAMPLE", "master");
-        verify(repositoryMock, times(1))
-            .updateRequirement(eq("SAMPLE"), eq("master"), eq("1.1"), any(TailoringRequirement.class));
+    @Test
+    void handleImport_RequirementsProvided_RequirementsUpdatedByRepositoryAtOnce() {
+        // arrange
+        Map<String, Collection<ImportRequirement>> requirements = Map.of(
+            "1", asList(ImportRequirement.builder().position("a").applicable("YES").build())
+        );
+        RequirementImportResult result = RequirementImportResult.builder()
+            .applied(1)
+            .build();
+
+        given(predicateMock.test("SAMPLE", "master")).willReturn(true);
+        given(repositoryMock.updateRequirements(eq("SAMPLE"), eq("master"), eq(requirements), any())).willReturn(of(result));
+
+        // act
+        Optional<RequirementImportResult> actual = service.handleImport("SAMPLE", "master", requirements);
+
+        // assert
+        assertThat(actual).containsSame(result);
+        verify(repositoryMock, times(1)).updateRequirements(eq("SAMPLE"), eq("master"), eq(requirements), any());
+        verify(repositoryMock, times(0)).getRequirement(any(), any(), any(), any());
+        verify(repositoryMock, times(0)).updateRequirement(any(), any(), any(), any());
     }
 
     @Test
-    void handleText_NoTextChange_AnforderungNichtAktualisiert() {
+    void handleImport_ChangedAndUnchangedRequirements_ModifierAppliesImportData() {
         // arrange
+        TailoringRequirement requirementA = TailoringRequirement.builder()
+            .position("a")
+            .text("Text a")
+            .selected(FALSE)
+            .build();
+        TailoringRequirement requirementB = TailoringRequirement.builder()
+            .position("b")
+            .text("Text b")
+            .selected(FALSE)
+            .build();
+        TailoringRequirement requirementC = TailoringRequirement.builder()
+            .position("c")
+            .text("Text c")
+            .selected(TRUE)
+            .reference(Reference.builder().changed(false).build())
+            .build();
+
         given(predicateMock.test("SAMPLE", "master")).willReturn(true);
-        given(repositoryMock.getRequirement("SAMPLE", "master", "1.1", "a")).willReturn(of(
-                TailoringRequirement.builder()
-                    .text("Der Text vor der Änderung")
-                    .selected(TRUE)
-                    .build()
-            )
-        );
-        given(repositoryMock.updateRequirement(anyString(), anyString(), anyString(), any()))
-            .willAnswer(invocation -> of(invocation.getArgument(3)));
+        ArgumentCaptor<BiPredicate<TailoringRequirement, ImportRequirement>> modifierCaptor = ArgumentCaptor.forClass(BiPredicate.class);
+        given(repositoryMock.updateRequirements(eq("SAMPLE"), eq("master"), anyMap(), modifierCaptor.capture()))
+            .willReturn(of(RequirementImportResult.builder().build()));
+        service.handleImport("SAMPLE", "master", Map.of());
+        BiPredicate<TailoringRequirement, ImportRequirement> modifier = modifierCaptor.getValue();
 
         // act
-        Optional<TailoringRequirement> actual = service.handleText(
-            "SAMPLE",
-            "master",
-            "1.1",
-            "a",
-            "Der Text vor der Änderung"
-        );
+        boolean actualA = modifier.test(requirementA, ImportRequirement.builder().position("a").applicable("YES").build());
+        boolean actualB = modifier.test(requirementB, ImportRequirement.builder().position("b").applicable("NO").text("").build());
+        boolean actualC = modifier.test(requirementC, ImportRequirement.builder().position("c").applicable("yes").text("Neuer Text c").build());
 
         // assert
-        assertThat(actual).isPresent();
-        assertThat(actual.get().getText()).isEqualTo("Der Text vor der Änderung");
-        assertThat(actual.get().getTextChanged()).isNull();
+        assertThat(actualA).isTrue();
+        assertThat(requirementA.getSelected()).isTrue();
+        assertThat(requirementA.getSelectionChanged()).isNotNull();
 
-        verify(predicateMock, times(1)).test("SAMPLE", "master");
-        verify(repositoryMock, times(0))
-            .updateRequirement(eq("SAMPLE"), eq("master"), eq("1.1"), any(TailoringRequirement.class));
+        assertThat(actualB).isFalse();
+        assertThat(requirementB.getText()).isEqualTo("Text b");
+
+        assertThat(actualC).isTrue();
+        assertThat(requirementC.getText()).isEqualTo("Neuer Text c");
+        assertThat(requirementC.getTextChanged()).isNotNull();
+        assertThat(requirementC.getReference().getChanged()).isTrue();
+    }
+
+    @Test
+    void handleImport_InvalidApplicableState_RequirementNotChanged() {
+        // arrange
+        TailoringRequirement requirement = TailoringRequirement.builder()
+            .position("a")
+            .text("Text a")
+            .selected(FALSE)
+            .build();
+
+        given(predicateMock.test("SAMPLE", "master")).willReturn(true);
+        ArgumentCaptor<BiPredicate<TailoringRequirement, ImportRequirement>> modifierCaptor = ArgumentCaptor.forClass(BiPredicate.class);
+        given(repositoryMock.updateRequirements(eq("SAMPLE"), eq("master"), anyMap(), modifierCaptor.capture()))
+            .willReturn(of(RequirementImportResult.builder().build()));
+        service.handleImport("SAMPLE", "master", Map.of());
+
+        // act
+        boolean actual = modifierCaptor.getValue()
+            .test(requirement, ImportRequirement.builder().position("a").applicable("JA").text("Neuer Text").build());
+
+        // assert
+        assertThat(actual).isFalse();
+        assertThat(requirement.getSelected()).isFalse();
+        assertThat(requirement.getText()).isEqualTo("Text a");
     }
 }
@@ -0,0 +1,139 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import eu.tailoringexpert.domain.Chapter;
+import eu.tailoringexpert.domain.DRD;
+import eu.tailoringexpert.domain.Phase;
+import eu.tailoringexpert.domain.TailoringRequirement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static java.util.List.of;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CachingDRDProviderTest {
+
+    BiFunction<Chapter<TailoringRequirement>, Collection<Phase>, Map<DRD, Set<String>>> delegateMock;
+
+    CachingDRDProvider provider;
+
+    @BeforeEach
+    void beforeEach() {
+        this.delegateMock = Mockito.mock(BiFunction.class);
+        this.provider = new CachingDRDProvider(delegateMock, 2);
+    }
+
+    @Test
+    void apply_SameChapterAndPhases_DelegateCalledOnce() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder().number("1").build();
+        Map<DRD, Set<String>> drds = new HashMap<>(Map.of(DRD.builder().number("01.01").build(), Set.of("1")));
+        given(delegateMock.apply(chapter, of(Phase.C, Phase.D))).willReturn(drds);
+
+        // act
+        Map<DRD, Set<String>> first = provider.apply(chapter, of(Phase.C, Phase.D));
+        Map<DRD, Set<String>> actual = provider.apply(chapter, of(Phase.D, Phase.C));
+
+        // assert
+        assertThat(actual)
+            .isSameAs(first)
+            .isEqualTo(drds);
+        verify(delegateMock, times(1)).apply(any(), any());
+    }
+
+    @Test
+    void apply_EqualChapterOtherInstance_DelegateCalledAgain() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder().number("1").build();
+        Chapter<TailoringRequirement> other = Chapter.<TailoringRequirement>builder().number("1").build();
+        given(delegateMock.apply(any(), any())).willReturn(Map.of());
+
+        // act
+        provider.apply(chapter, of(Phase.C));
+        provider.apply(other, of(Phase.C));
+
+        // assert
+        verify(delegateMock, times(1)).apply(chapter, of(Phase.C));
+        verify(delegateMock, times(1)).apply(other, of(Phase.C));
+    }
+
+    @Test
+    void apply_OtherPhases_DelegateCalledAgain() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder().number("1").build();
+        given(delegateMock.apply(any(), any())).willReturn(Map.of());
+
+        // act
+        provider.apply(chapter, of(Phase.C));
+        provider.apply(chapter, of(Phase.E));
+
+        // assert
+        verify(delegateMock, times(2)).apply(any(), any());
+    }
+
+    @Test
+    void apply_CapacityExceeded_OldestResultEvicted() {
+        // arrange
+        Chapter<TailoringRequirement> chapter1 = Chapter.<TailoringRequirement>builder().number("1").build();
+        Chapter<TailoringRequirement> chapter2 = Chapter.<TailoringRequirement>builder().number("2").build();
+        Chapter<TailoringRequirement> chapter3 = Chapter.<TailoringRequirement>builder().number("3").build();
+        given(delegateMock.apply(any(), any())).willReturn(Map.of());
+
+        // act
+        provider.apply(chapter1, of(Phase.C));
+        provider.apply(chapter2, of(Phase.C));
+        provider.apply(chapter3, of(Phase.C));
+        provider.apply(chapter1, of(Phase.C));
+        provider.apply(chapter3, of(Phase.C));
+
+        // assert
+        verify(delegateMock, times(2)).apply(chapter1, of(Phase.C));
+        verify(delegateMock, times(1)).apply(chapter3, of(Phase.C));
+    }
+
+    @Test
+    void apply_ResultModified_ExceptionThrown() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder().number("1").build();
+        given(delegateMock.apply(any(), any())).willReturn(new HashMap<>());
+        Map<DRD, Set<String>> drds = provider.apply(chapter, of(Phase.C));
+
+        // act
+        Throwable actual = catchThrowable(() -> drds.put(DRD.builder().number("01.01").build(), Set.of("1")));
+
+        // assert
+        assertThat(actual).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -21,6 +21,7 @@
  */
 package eu.tailoringexpert.tailoring;
 
+import eu.tailoringexpert.domain.DRD;
 import eu.tailoringexpert.domain.Phase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,11 +61,11 @@ class DRDApplicablePredicateTest {
     @Test
     void test_MilestoneNotInRelevantPhase_FalseReturned() {
         // arrange
-        String deliveryDate = "PDR";
+        DRD drd = DRD.builder().deliveryDate("PDR").build();
         Collection<Phase> phases = asList(E);
 
         // act
-        boolean actual = predicate.test(deliveryDate, phases);
+        boolean actual = predicate.test(drd, phases);
 
         // assert
         assertThat(actual).isFalse();
@@ -73,11 +74,11 @@ class DRDApplicablePredicateTest {
     @Test
     void test_MilestoneInRelevantPhase_TrueReturned() {
         // arrange
-        String deliveryDate = "ORR";
+        DRD drd = DRD.builder().deliveryDate("ORR").build();
         Collection<Phase> phases = asList(E);
 
         // act
-        boolean actual = predicate.test(deliveryDate, phases);
+        boolean actual = predicate.test(drd, phases);
 
         // assert
         assertThat(actual).isTrue();
@@ -86,11 +87,11 @@ class DRDApplicablePredicateTest {
     @Test
     void test_CustomTextMilestoneNotInRelevantPhase_TrueReturned() {
         // arrange
-        String deliveryDate = "PDR;on regular basis within project progress";
+        DRD drd = DRD.builder().deliveryDate("PDR;on regular basis within project progress").build();
         Collection<Phase> phases = asList(E);
 
         // act
-        boolean actual = predicate.test(deliveryDate, phases);
+        boolean actual = predicate.test(drd, phases);
 
         // assert
         assertThat(actual).isTrue();
@@ -99,11 +100,11 @@ class DRDApplicablePredicateTest {
     @Test
     void test_MultipleMilestonesOneRelevant_TrueReturned() {
         // arrange
-        String deliveryDate = "ORR;on regular basis within project progress";
+        DRD drd = DRD.builder().deliveryDate("ORR;on regular basis within project progress").build();
         Collection<Phase> phases = asList(D, E);
 
         // act
-        boolean actual = predicate.test(deliveryDate, phases);
+        boolean actual = predicate.test(drd, phases);
 
         // assert
         assertThat(actual).isTrue();
@@ -112,11 +113,11 @@ class DRDApplicablePredicateTest {
     @Test
     void test_MultipleMilestonesNonRelevant_FalseReturned() {
         // arrange
-        String deliveryDate = "PDR";
+        DRD drd = DRD.builder().deliveryDate("PDR").build();
         Collection<Phase> phases = asList(D, E);
 
         // act
-        boolean actual = predicate.test(deliveryDate, phases);
+        boolean actual = predicate.test(drd, phases);
 
         // assert
         assertThat(actual).isFalse();
@@ -125,11 +126,38 @@ class DRDApplicablePredicateTest {
     @Test
     void test_MultipleMilestonesNonRelevantMilestoneCustomText_TrueReturned() {
         // arrange
-        String deliveryDate = "PDR;on regular basis within project progress";
+        DRD drd = DRD.builder().deliveryDate("PDR;on regular basis within project progress").build();
         Collection<Phase> phases = asList(D, E);
 
         // act
-        boolean actual = predicate.test(deliveryDate, phases);
+        boolean actual = predicate.test(drd, phases);
+
+        // assert
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void test_NoDeliveryDate_FalseReturned() {
+        // arrange
+        DRD drd = DRD.builder().build();
+        Collection<Phase> phases = asList(D, E);
+
+        // act
+        boolean actual = predicate.test(drd, phases);
+
+        // assert
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void test_PhaseWithoutMilestones_CustomTextTrueReturned() {
+        // arrange
+        this.predicate = new DRDApplicablePredicate(Map.of(A, asList("SRR")));
+        DRD drd = DRD.builder().deliveryDate("SRR; on regular basis").build();
+        Collection<Phase> phases = asList(E);
+
+        // act
+        boolean actual = predicate.test(drd, phases);
 
         // assert
         assertThat(actual).isTrue();
@@ -39,7 +39,7 @@ import java.util.function.BiPredicate;
 
 import static java.util.List.of;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
@@ -49,7 +49,7 @@ class DRDProviderTest {
 
     DRDProvider provider;
 
-    BiPredicate<String, Collection<Phase>> predicateMock;
+    BiPredicate<DRD, Collection<Phase>> predicateMock;
 
     @BeforeEach
     void beforeEach() {
@@ -114,7 +114,7 @@ class DRDProviderTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(predicateMock, times(3)).test(anyString(), eq(phases));
+        verify(predicateMock, times(3)).test(any(DRD.class), eq(phases));
     }
 
     @Test
@@ -173,9 +173,9 @@ class DRDProviderTest {
             Phase.E,
             Phase.F
         );
-        given(predicateMock.test("CDR", phases)).willReturn(true);
-        given(predicateMock.test("PDR", phases)).willReturn(true);
-        given(predicateMock.test("FAR", phases)).willReturn(true);
+        given(predicateMock.test(drd0101, phases)).willReturn(true);
+        given(predicateMock.test(drd0102, phases)).willReturn(true);
+        given(predicateMock.test(drd1101, phases)).willReturn(true);
 
 
         // act
@@ -186,7 +186,7 @@ class DRDProviderTest {
             .hasSize(3)
             .containsOnlyKeys(drd0101, drd0102, drd1101);
 
-        verify(predicateMock, times(3)).test(anyString(), eq(phases));
+        verify(predicateMock, times(3)).test(any(DRD.class), eq(phases));
     }
 
     @Test
@@ -245,9 +245,9 @@ class DRDProviderTest {
             Phase.E,
             Phase.F
         );
-        given(predicateMock.test("CDR", phases)).willReturn(true);
-        given(predicateMock.test("PDR", phases)).willReturn(true);
-        given(predicateMock.test("FAR", phases)).willReturn(false);
+        given(predicateMock.test(drd0101, phases)).willReturn(true);
+        given(predicateMock.test(drd0102, phases)).willReturn(true);
+        given(predicateMock.test(drd1101, phases)).willReturn(false);
 
 
         // act
@@ -258,7 +258,7 @@ class DRDProviderTest {
             .hasSize(2)
             .containsOnlyKeys(drd0101, drd0102);
 
-        verify(predicateMock, times(3)).test(anyString(), eq(phases));
+        verify(predicateMock, times(3)).test(any(DRD.class), eq(phases));
     }
 
     @Test
@@ -300,7 +300,7 @@ class DRDProviderTest {
             Phase.E,
             Phase.F
         );
-        given(predicateMock.test("CDR", phases)).willReturn(true);
+        given(predicateMock.test(drd0101, phases)).willReturn(true);
 
 
         // act
@@ -311,7 +311,7 @@ class DRDProviderTest {
             .hasSize(1)
             .containsOnlyKeys(drd0101);
 
-        verify(predicateMock, times(2)).test(anyString(), eq(phases));
+        verify(predicateMock, times(1)).test(drd0101, phases);
     }
 
     private DRD createDRD(String number, String deliveryDate) {
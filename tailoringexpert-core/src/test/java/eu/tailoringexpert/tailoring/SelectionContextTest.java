@@ -0,0 +1,196 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Identifier;
+import eu.tailoringexpert.domain.ScreeningSheet;
+import eu.tailoringexpert.domain.ScreeningSheetParameter;
+import eu.tailoringexpert.domain.SelectionVector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static eu.tailoringexpert.domain.Phase.A;
+import static eu.tailoringexpert.domain.Phase.E;
+import static eu.tailoringexpert.domain.Phase.F;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SelectionContextTest {
+
+    private SelectionContext context;
+
+    @BeforeEach
+    void setup() {
+        ScreeningSheet screeningSheet = ScreeningSheet.builder()
+            .phases(List.of(E, F))
+            .parameters(asList(
+                ScreeningSheetParameter.builder().name("SAT").build(),
+                ScreeningSheetParameter.builder().name("LEO").build(),
+                ScreeningSheetParameter.builder().build()
+            ))
+            .build();
+
+        SelectionVector selectionVector = SelectionVector.builder()
+            .level("Q", 6)
+            .level("S", 7)
+            .level("SW", 3)
+            .build();
+
+        this.context = SelectionContext.of(screeningSheet, selectionVector);
+    }
+
+    @Test
+    void getLevel_SingleCharacterType_LevelReturned() {
+        // arrange
+
+        // act
+        int actual = context.getLevel("Q");
+
+        // assert
+        assertThat(actual).isEqualTo(6);
+    }
+
+    @Test
+    void getLevel_MultiCharacterType_LevelReturned() {
+        // arrange
+
+        // act
+        int actual = context.getLevel("SW");
+
+        // assert
+        assertThat(actual).isEqualTo(3);
+    }
+
+    @Test
+    void getLevel_TypeNotDefined_ZeroReturned() {
+        // arrange
+
+        // act
+        int actual = context.getLevel("G");
+
+        // assert
+        assertThat(actual).isZero();
+    }
+
+    @Test
+    void test_IdentifierWithoutLimitationAndLowerLevel_TrueReturned() {
+        // arrange
+        BaseRequirement requirement = BaseRequirement.builder()
+            .identifiers(List.of(Identifier.builder().type("S").level(5).build()))
+            .build();
+
+        // act
+        boolean actual = context.test(requirement);
+
+        // assert
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void test_IdentifierWithoutLimitationAndHigherLevel_FalseReturned() {
+        // arrange
+        BaseRequirement requirement = BaseRequirement.builder()
+            .identifiers(List.of(Identifier.builder().type("S").level(8).build()))
+            .build();
+
+        // act
+        boolean actual = context.test(requirement);
+
+        // assert
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void test_AllLimitationsContainedAndSameLevel_TrueReturned() {
+        // arrange
+        BaseRequirement requirement = BaseRequirement.builder()
+            .identifiers(List.of(Identifier.builder().type("Q").level(6).limitations(asList("SAT", "LEO")).build()))
+            .build();
+
+        // act
+        boolean actual = context.test(requirement);
+
+        // assert
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void test_LimitationNotContained_FalseReturned() {
+        // arrange
+        BaseRequirement requirement = BaseRequirement.builder()
+            .identifiers(List.of(Identifier.builder().type("Q").level(6).limitations(asList("SAT", "GEO")).build()))
+            .build();
+
+        // act
+        boolean actual = context.test(requirement);
+
+        // assert
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void test_PhaseNotRelevant_FalseReturned() {
+        // arrange
+        BaseRequirement requirement = BaseRequirement.builder()
+            .phases(List.of(A))
+            .identifiers(List.of(Identifier.builder().type("S").level(1).build()))
+            .build();
+
+        // act
+        boolean actual = context.test(requirement);
+
+        // assert
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void test_NoIdentifiers_FalseReturned() {
+        // arrange
+        BaseRequirement requirement = BaseRequirement.builder()
+            .identifiers(emptyList())
+            .build();
+
+        // act
+        boolean actual = context.test(requirement);
+
+        // assert
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void of_ScreeningSheetWithoutParametersAndPhases_ContextCreated() {
+        // arrange
+        BaseRequirement requirement = BaseRequirement.builder()
+            .identifiers(List.of(Identifier.builder().type("S").level(1).build()))
+            .build();
+
+        // act
+        SelectionContext actual = SelectionContext.of(ScreeningSheet.builder().build(), SelectionVector.builder().level("S", 1).build());
+
+        // assert
+        assertThat(actual.test(requirement)).isTrue();
+    }
+}
@@ -21,13 +21,19 @@
  */
 package eu.tailoringexpert.tailoring;
 
+import eu.tailoringexpert.DocumentCache;
+import eu.tailoringexpert.DocumentJobExecutor;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Note;
 import eu.tailoringexpert.domain.TailoringState;
+import eu.tailoringexpert.requirement.RequirementImportResult;
 import eu.tailoringexpert.requirement.RequirementService;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.File;
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.DocumentJob;
+import eu.tailoringexpert.domain.DocumentJobState;
 import eu.tailoringexpert.domain.DocumentSignature;
 import eu.tailoringexpert.domain.DocumentSignatureState;
 import eu.tailoringexpert.domain.Project;
@@ -40,11 +46,13 @@ import eu.tailoringexpert.domain.TailoringInformation;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
@@ -56,7 +64,6 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
 import static eu.tailoringexpert.domain.Phase.E;
 import static eu.tailoringexpert.domain.Phase.F;
@@ -71,7 +78,6 @@ import static java.util.Arrays.asList;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
-import static java.util.Optional.ofNullable;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentCaptor.forClass;
@@ -79,8 +85,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willCallRealMethod;
 import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -101,6 +107,15 @@ class TailoringServiceImplTest {
 
     private AttachmentService attachmentServiceMock;
 
+    private DocumentJobExecutor documentJobExecutor;
+    private DocumentCache documentCache;
+
+    @TempDir
+    Path documentCacheDirectory;
+
+    @TempDir
+    Path documentJobDirectory;
+
     @BeforeEach
     void setup() {
         this.repositoryMock = mock(TailoringServiceRepository.class);
@@ -110,6 +125,8 @@ class TailoringServiceImplTest {
         this.requirementServiceMock = mock(RequirementService.class);
         this.tailoringAnforderungFileReaderMock = mock(Function.class);
         this.attachmentServiceMock = mock(AttachmentService.class);
+        this.documentJobExecutor = new DocumentJobExecutor(Runnable::run, documentJobDirectory, Duration.ofHours(1), () -> "TEST");
+        this.documentCache = new DocumentCache(documentCacheDirectory, 1024 * 1024, () -> "TEST");
         this.service = new TailoringServiceImpl(
             repositoryMock,
             mapperMock,
@@ -117,7 +134,9 @@ class TailoringServiceImplTest {
             documentServiceMock,
             requirementServiceMock,
             tailoringAnforderungFileReaderMock,
-            attachmentServiceMock
+            attachmentServiceMock,
+            documentCache,
+            documentJobExecutor
         );
     }
 
@@ -248,6 +267,7 @@ class TailoringServiceImplTest {
                 .build())
             .signatures(zeichnungen)
             .build();
+        given(repositoryMock.getRevision("SAMPLE", "master1")).willReturn(of("1-0"));
         given(repositoryMock.getTailoring("SAMPLE", "master1"))
             .willAnswer(invocation -> of(tailoring));
 
@@ -263,6 +283,67 @@ class TailoringServiceImplTest {
             .createRequirementDocument(eq(tailoring), any());
     }
 
+    @Test
+    void createRequirementDocument_RevisionNotChanged_CachedDocumentReturned() {
+        // arrange
+        Tailoring tailoring = Tailoring.builder().name("master1").build();
+        given(repositoryMock.getRevision("SAMPLE", "master1")).willReturn(of("1-0"));
+        given(repositoryMock.getTailoring("SAMPLE", "master1")).willReturn(of(tailoring));
+
+        given(documentServiceMock.createRequirementDocument(eq(tailoring), any()))
+            .willReturn(of(File.builder().name("DOC-CAT.pdf").data("Katalog".getBytes(UTF_8)).build()));
+        service.createRequirementDocument("SAMPLE", "master1");
+
+        // act
+        Optional<File> actual = service.createRequirementDocument("SAMPLE", "master1");
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getName()).isEqualTo("DOC-CAT.pdf");
+        assertThat(actual.get().getData()).isEqualTo("Katalog".getBytes(UTF_8));
+        verify(repositoryMock, times(1)).getTailoring("SAMPLE", "master1");
+        verify(documentServiceMock, times(1)).createRequirementDocument(eq(tailoring), any());
+    }
+
+    @Test
+    void createRequirementDocument_RevisionChanged_DocumentCreatedAgain() {
+        // arrange
+        Tailoring tailoring = Tailoring.builder().name("master1").build();
+        given(repositoryMock.getRevision("SAMPLE", "master1")).willReturn(of("1-0"), of("1-1"));
+        given(repositoryMock.getTailoring("SAMPLE", "master1")).willReturn(of(tailoring));
+
+        given(documentServiceMock.createRequirementDocument(eq(tailoring), any()))
+            .willReturn(of(File.builder().name("DOC-CAT.pdf").data("Katalog".getBytes(UTF_8)).build()));
+        service.createRequirementDocument("SAMPLE", "master1");
+
+        // act
+        Optional<File> actual = service.createRequirementDocument("SAMPLE", "master1");
+
+        // assert
+        assertThat(actual).isPresent();
+        verify(documentServiceMock, times(2)).createRequirementDocument(eq(tailoring), any());
+    }
+
+    @Test
+    void createRequirementDocument_CachedDocumentsEvicted_DocumentCreatedAgain() {
+        // arrange
+        Tailoring tailoring = Tailoring.builder().name("master1").build();
+        given(repositoryMock.getRevision("SAMPLE", "master1")).willReturn(of("1-0"));
+        given(repositoryMock.getTailoring("SAMPLE", "master1")).willReturn(of(tailoring));
+
+        given(documentServiceMock.createRequirementDocument(eq(tailoring), any()))
+            .willReturn(of(File.builder().name("DOC-CAT.pdf").data("Katalog".getBytes(UTF_8)).build()));
+        service.createRequirementDocument("SAMPLE", "master1");
+        documentCache.evict("TEST");
+
+        // act
+        Optional<File> actual = service.createRequirementDocument("SAMPLE", "master1");
+
+        // assert
+        assertThat(actual).isPresent();
+        verify(documentServiceMock, times(2)).createRequirementDocument(eq(tailoring), any());
+    }
+
     @Test
     void getRequirements_ProjectNull_NullPointerExceptionThrown() {
         // arrange
@@ -376,44 +457,29 @@ class TailoringServiceImplTest {
     @Test
     void getScreeningSheet_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(empty());
+        given(repositoryMock.getScreeningSheet(any(), any())).willReturn(empty());
 
         // act
         Optional<ScreeningSheet> actual = service.getScreeningSheet("Dummy", "master1");
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master1");
-    }
-
-    @Test
-    void getScreeningSheet_TailoringNoScreeningSheet_EmptyReturned() {
-        // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
-            Tailoring.builder().screeningSheet(null).build()
-        ));
-
-        // act
-        Optional<ScreeningSheet> actual = service.getScreeningSheet("Dummy", "master");
-
-        // assert
-        assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getScreeningSheet("Dummy", "master1");
+        verify(repositoryMock, times(0)).getTailoring(any(), any());
     }
 
     @Test
     void getScreeningSheet_TailoringWithScreningSheet_ScreeningSheeReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
-            Tailoring.builder().screeningSheet(ScreeningSheet.builder().build()).build()
-        ));
+        given(repositoryMock.getScreeningSheet(any(), any())).willReturn(of(ScreeningSheet.builder().build()));
 
         // act
         Optional<ScreeningSheet> actual = service.getScreeningSheet("Dummy", "master");
 
         // assert
         assertThat(actual).isNotEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getScreeningSheet("Dummy", "master");
+        verify(repositoryMock, times(0)).getTailoring(any(), any());
     }
 
     @Test
@@ -441,29 +507,28 @@ class TailoringServiceImplTest {
     @Test
     void getSelectionVector_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(empty());
+        given(repositoryMock.getSelectionVector(any(), any())).willReturn(empty());
 
         // act
         Optional<SelectionVector> actual = service.getSelectionVector("Dummy", "master1");
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master1");
+        verify(repositoryMock, times(1)).getSelectionVector("Dummy", "master1");
     }
 
     @Test
     void getSelectionVector_TailoringWithSelectionVector_SelectionVectorReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
-            Tailoring.builder().selectionVector(SelectionVector.builder().build()).build()
-        ));
+        given(repositoryMock.getSelectionVector(any(), any())).willReturn(of(SelectionVector.builder().build()));
 
         // act
         Optional<SelectionVector> actual = service.getSelectionVector("Dummy", "master");
 
         // assert
         assertThat(actual).isNotEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getSelectionVector("Dummy", "master");
+        verify(repositoryMock, times(0)).getTailoring(any(), any());
     }
 
 
@@ -566,28 +631,27 @@ class TailoringServiceImplTest {
     @Test
     void getDocumentSignatures_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(empty());
+        given(repositoryMock.getDocumentSignatures(any(), any())).willReturn(empty());
 
         // act
         Optional<Collection<DocumentSignature>> actual = service.getDocumentSignatures("Dummy", "master1");
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master1");
+        verify(repositoryMock, times(1)).getDocumentSignatures("Dummy", "master1");
     }
 
     @Test
     void getDocumentSignatures_TailoringWithSignatuesExists_DocumentSignaturesReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
-            Tailoring.builder().signatures(asList(
-                    DocumentSignature.builder()
-                        .faculty("Software")
-                        .signee("Hans Dampf")
-                        .state(DocumentSignatureState.AGREED)
-                        .build()
-                ))
-                .build()
+        given(repositoryMock.getDocumentSignatures(any(), any())).willReturn(of(
+            asList(
+                DocumentSignature.builder()
+                    .faculty("Software")
+                    .signee("Hans Dampf")
+                    .state(DocumentSignatureState.AGREED)
+                    .build()
+            )
         ));
 
         // act
@@ -596,7 +660,8 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isNotEmpty();
         assertThat(actual.get()).hasSize(1);
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getDocumentSignatures("Dummy", "master");
+        verify(repositoryMock, times(0)).getTailoring(any(), any());
     }
 
     @Test
@@ -864,7 +929,7 @@ class TailoringServiceImplTest {
         given(repositoryMock.getTailoring("DUMMY", "master1")).willReturn(empty());
 
         // act
-        Optional<File> actual = service.createDocuments("DUMMY", "master1");
+        Optional<DocumentBundle> actual = service.createDocuments("DUMMY", "master1");
 
         // assert
         assertThat(actual).isEmpty();
@@ -874,6 +939,7 @@ class TailoringServiceImplTest {
     void createDocuments_TailoringExists_ZipReturned() throws IOException {
         // arrange
         Tailoring tailoring = Tailoring.builder().name("master").build();
+        given(repositoryMock.getRevision("DUMMY", "master")).willReturn(of("1-0"));
         given(repositoryMock.getTailoring("DUMMY", "master")).willReturn(of(tailoring));
 
         List<File> dokumente = asList(
@@ -883,21 +949,145 @@ class TailoringServiceImplTest {
                 .build()
         );
         given(documentServiceMock.createAll(eq(tailoring), any())).willReturn(dokumente);
+        willCallRealMethod().given(documentServiceMock).createAll(eq(tailoring), any(), any());
 
         // act
-        Optional<File> actual = service.createDocuments("DUMMY", "master");
+        Optional<DocumentBundle> actual = service.createDocuments("DUMMY", "master");
 
         // assert
         assertThat(actual).isNotEmpty();
         assertThat(actual.get().getName()).isEqualTo("DUMMY-master.zip");
         assertThat(actual.get().getType()).isEqualTo("zip");
 
-        Collection<String> zipDateien = fileNameInZip(actual.get().getData());
+        Collection<String> zipDateien = fileNameInZip(actual.get().getInputStream());
+        assertThat(actual.get().getPath()).doesNotExist();
         assertThat(zipDateien)
             .hasSize(1)
             .containsExactly("DUMMY-KATALOG.pdf");
     }
 
+    @Test
+    void createDocuments_RevisionNotChanged_CachedZipReturned() throws IOException {
+        // arrange
+        Tailoring tailoring = Tailoring.builder().name("master").build();
+        given(repositoryMock.getRevision("DUMMY", "master")).willReturn(of("1-0"));
+        given(repositoryMock.getTailoring("DUMMY", "master")).willReturn(of(tailoring));
+
+        given(documentServiceMock.createAll(eq(tailoring), any())).willReturn(asList(
+            File.builder()
+                .name("DUMMY-KATALOG.pdf")
+                .data("Testdokument".getBytes(UTF_8))
+                .build()
+        ));
+        willCallRealMethod().given(documentServiceMock).createAll(eq(tailoring), any(), any());
+        try (InputStream is = service.createDocuments("DUMMY", "master").get().getInputStream()) {
+            is.readAllBytes();
+        }
+
+        // act
+        Optional<DocumentBundle> actual = service.createDocuments("DUMMY", "master");
+
+        // assert
+        assertThat(actual).isNotEmpty();
+        assertThat(actual.get().getName()).isEqualTo("DUMMY-master.zip");
+        assertThat(fileNameInZip(actual.get().getInputStream())).containsExactly("DUMMY-KATALOG.pdf");
+        verify(repositoryMock, times(1)).getTailoring("DUMMY", "master");
+    }
+
+    @Test
+    void createDocumentJob_TailoringNotExists_EmptyReturned() {
+        // arrange
+        given(repositoryMock.getRevision("DUMMY", "master")).willReturn(empty());
+
+        // act
+        Optional<DocumentJob> actual = service.createDocumentJob("DUMMY", "master");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void createDocumentJob_TailoringExists_JobFinishedWithCreatedDocuments() throws IOException {
+        // arrange
+        Tailoring tailoring = Tailoring.builder().name("master").build();
+        given(repositoryMock.getRevision("DUMMY", "master")).willReturn(of("1-0"));
+        given(repositoryMock.getTailoring("DUMMY", "master")).willReturn(of(tailoring));
+
+        given(documentServiceMock.createAll(eq(tailoring), any())).willReturn(asList(
+            File.builder()
+                .name("DUMMY-KATALOG.pdf")
+                .data("Testdokument".getBytes(UTF_8))
+                .build()
+        ));
+        willCallRealMethod().given(documentServiceMock).createAll(eq(tailoring), any(), any());
+
+        // act
+        Optional<DocumentJob> actual = service.createDocumentJob("DUMMY", "master");
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getState()).isEqualTo(DocumentJobState.FINISHED);
+        assertThat(actual.get().getName()).isEqualTo("DUMMY-master.zip");
+        assertThat(actual.get().getDocuments()).containsExactly("DUMMY-KATALOG.pdf");
+
+        Optional<DocumentBundle> result = documentJobExecutor.getResult(actual.get().getId());
+        assertThat(result).isPresent();
+        assertThat(fileNameInZip(result.get().getInputStream())).containsExactly("DUMMY-KATALOG.pdf");
+    }
+
+    @Test
+    void createDocumentJob_IdenticalJobSubmitted_DocumentsCreatedOnce() {
+        // arrange
+        Tailoring tailoring = Tailoring.builder().name("master").build();
+        given(repositoryMock.getRevision("DUMMY", "master")).willReturn(of("1-0"));
+        given(repositoryMock.getTailoring("DUMMY", "master")).willReturn(of(tailoring));
+
+        given(documentServiceMock.createAll(eq(tailoring), any())).willReturn(asList(
+            File.builder()
+                .name("DUMMY-KATALOG.pdf")
+                .data("Testdokument".getBytes(UTF_8))
+                .build()
+        ));
+        willCallRealMethod().given(documentServiceMock).createAll(eq(tailoring), any(), any());
+        Optional<DocumentJob> submitted = service.createDocumentJob("DUMMY", "master");
+
+        // act
+        Optional<DocumentJob> actual = service.createDocumentJob("DUMMY", "master");
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getId()).isEqualTo(submitted.get().getId());
+        verify(repositoryMock, times(1)).getTailoring("DUMMY", "master");
+    }
+
+    @Test
+    void getRevision_TailoringExists_RevisionReturned() {
+        // arrange
+        given(repositoryMock.getRevision("DUMMY", "master")).willReturn(of("1-4"));
+
+        // act
+        Optional<String> actual = service.getRevision("DUMMY", "master");
+
+        // assert
+        assertThat(actual).contains("1-4." + documentCache.getGeneration());
+    }
+
+    @Test
+    void getRevision_CachedDocumentsEvicted_RevisionChanged() {
+        // arrange
+        given(repositoryMock.getRevision("DUMMY", "master")).willReturn(of("1-4"));
+        Optional<String> revision = service.getRevision("DUMMY", "master");
+        documentCache.evict("TEST");
+
+        // act
+        Optional<String> actual = service.getRevision("DUMMY", "master");
+
+        // assert
+        assertThat(actual)
+            .isPresent()
+            .isNotEqualTo(revision);
+    }
+
     @Test
     void createComparisonDocument_TailoringNotExists_EmptyReturned() {
         // arrange
@@ -914,6 +1104,7 @@ class TailoringServiceImplTest {
     void createComparisonDocument_TailoringExists_ComparisonDocumentReturned() {
         // arrange
         Tailoring tailoring = Tailoring.builder().build();
+        given(repositoryMock.getRevision("DUMMY", "master")).willReturn(of("1-0"));
         given(repositoryMock.getTailoring("DUMMY", "master")).willReturn(of(tailoring));
 
         given(documentServiceMock.createComparisonDocument(eq(tailoring), any())).willReturn(of(File.builder().build()));
@@ -982,100 +1173,31 @@ class TailoringServiceImplTest {
     }
 
     @Test
-    void updateImportedRequirements_RequirementsInValidAndInvalidStates_InvalidStateNotUpdates() {
+    void updateImportedRequirements_RequirementsRead_AllRequirementsImportedAtOnce() {
         // arrange
         String project = "DUMMY";
         String tailoring = "master";
         byte[] data = "Filereader mocked. No file parsing".getBytes(UTF_8);
 
-        given(tailoringAnforderungFileReaderMock.apply(data)).willReturn(Map.ofEntries(
-                new AbstractMap.SimpleEntry<>("1", asList(
-                    ImportRequirement.builder().position("a").applicable("YNO").build(),
-                    ImportRequirement.builder().position("b").applicable("NO").build()
-                ))
-            )
+        Map<String, Collection<ImportRequirement>> importRequirements = Map.ofEntries(
+            new AbstractMap.SimpleEntry<>("1", asList(
+                ImportRequirement.builder().position("a").applicable("YES").text("Dies ist der neue Text").build(),
+                ImportRequirement.builder().position("b").applicable("NO").build()
+            ))
         );
+        given(tailoringAnforderungFileReaderMock.apply(data)).willReturn(importRequirements);
+        given(requirementServiceMock.handleImport(project, tailoring, importRequirements))
+            .willReturn(of(RequirementImportResult.builder().applied(2).build()));
 
         // act
         service.updateImportedRequirements(project, tailoring, data);
 
         // assert
-        verify(requirementServiceMock, times(0)).handleSelected(eq("DUMMY"), eq("master"), eq("1"), eq("a"), any());
-        verify(requirementServiceMock, times(1)).handleSelected("DUMMY", "master", "1", "b", false);
+        verify(requirementServiceMock, times(1)).handleImport(project, tailoring, importRequirements);
+        verify(requirementServiceMock, times(0)).handleSelected(any(), any(), any(), any(), any());
+        verify(requirementServiceMock, times(0)).handleText(any(), any(), any(), any(), any());
     }
 
-    @Test
-    void updateImportedRequirements_RequirementsAllValidStates_AllRequirementProcesed() {
-        // arrange
-        String project = "DUMMY";
-        String tailoring = "master";
-        byte[] data = "Filereader mocked. No file parsing".getBytes(UTF_8);
-
-        given(tailoringAnforderungFileReaderMock.apply(data)).willReturn(Map.ofEntries(
-                new AbstractMap.SimpleEntry<>("1", asList(
-                    ImportRequirement.builder().position("a").applicable("YES").build(),
-                    ImportRequirement.builder().position("b").applicable("NO").build()
-                ))
-            )
-        );
-
-        // act
-        service.updateImportedRequirements(project, tailoring, data);
-
-        // assert
-        verify(requirementServiceMock, times(1)).handleSelected("DUMMY", "master", "1", "a", true);
-        verify(requirementServiceMock, times(1)).handleSelected("DUMMY", "master", "1", "b", false);
-    }
-
-
-    @Test
-    void updateImportedRequirements_RequirementsValidStateAndTextChanges_AllRequirementsProcesed() {
-        // arrange
-        String project = "DUMMY";
-        String tailoring = "master";
-        byte[] data = "Filereader mocked. No file parsing".getBytes(UTF_8);
-
-        given(tailoringAnforderungFileReaderMock.apply(data)).willReturn(Map.ofEntries(
-                new AbstractMap.SimpleEntry<>("1", asList(
-                    ImportRequirement.builder().position("a").applicable("YES").text("Dies ist der neue Text").build(),
-                    ImportRequirement.builder().position("b").applicable("NO").build()
-                ))
-            )
-        );
-
-        // act
-        service.updateImportedRequirements(project, tailoring, data);
-
-        // assert
-        verify(requirementServiceMock, times(1)).handleText(eq("DUMMY"), eq("master"), eq("1"), any(), any());
-        verify(requirementServiceMock, times(1)).handleText("DUMMY", "master", "1", "a", "Dies ist der neue Text");
-
-    }
-
-    @Test
-    void updateImportedRequirements_RequirementsValidStateAndEmptyTextChanges_AllRequirementsWithoutTextProcessed() {
-        // arrange
-        String project = "DUMMY";
-        String tailoring = "master";
-        byte[] data = "Filereader wird gemockt. Kein parsen einer File".getBytes(UTF_8);
-
-        given(tailoringAnforderungFileReaderMock.apply(data)).willReturn(Map.ofEntries(
-                new AbstractMap.SimpleEntry<>("1", asList(
-                    ImportRequirement.builder().position("a").applicable("JA").text("").build(),
-                    ImportRequirement.builder().position("b").applicable("NEIN").build()
-                ))
-            )
-        );
-
-        // act
-        service.updateImportedRequirements(project, tailoring, data);
-
-        // assert
-        verify(requirementServiceMock, times(0)).handleText(eq("DUMMY"), eq("master"), eq("1"), any(), any());
-
-    }
-
-
     @Test
     void deleteTailoring_ProjectNull_NullPointerExceptionThrown() {
         // arrange
@@ -1186,9 +1308,9 @@ class TailoringServiceImplTest {
     }
 
 
-    Collection<String> fileNameInZip(byte[] zip) throws IOException {
+    Collection<String> fileNameInZip(InputStream zip) throws IOException {
         Collection<String> result = new ArrayList<>();
-        ZipInputStream zin = new ZipInputStream(new ByteArrayInputStream(zip));
+        ZipInputStream zin = new ZipInputStream(zip);
         ZipEntry entry;
         while (nonNull(entry = zin.getNextEntry())) {
             result.add(entry.getName());
@@ -1201,21 +1323,21 @@ class TailoringServiceImplTest {
     @Test
     void getNote_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(empty());
+        given(repositoryMock.getNotes(any(), any())).willReturn(empty());
 
         // act
         Optional<Note> actual = service.getNote("Dummy", "master1", 1);
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master1");
+        verify(repositoryMock, times(1)).getNotes("Dummy", "master1");
     }
 
     @Test
     void getNote_TailoringNoteNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
-            Tailoring.builder().notes(List.of(Note.builder().number(1).text("demo").build())).build()
+        given(repositoryMock.getNotes(any(), any())).willReturn(of(
+            List.of(Note.builder().number(1).text("demo").build())
         ));
 
         // act
@@ -1223,14 +1345,14 @@ class TailoringServiceImplTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getNotes("Dummy", "master");
     }
 
     @Test
     void getNote_TailoringWithNote_NoteReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
-            Tailoring.builder().notes(List.of(Note.builder().number(1).text("demo").build())).build()
+        given(repositoryMock.getNotes(any(), any())).willReturn(of(
+            List.of(Note.builder().number(1).text("demo").build())
         ));
 
         // act
@@ -1239,26 +1361,28 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isNotEmpty();
         assertThat(actual.get().getNumber()).isEqualTo(1);
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getNotes("Dummy", "master");
+        verify(repositoryMock, times(0)).getTailoring(any(), any());
     }
 
     @Test
     void addNote_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(empty());
+        given(repositoryMock.getNotes(any(), any())).willReturn(empty());
 
         // act
         Optional<Note> actual = service.addNote("Dummy", "master", "This a demo note");
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getNotes("Dummy", "master");
+        verify(repositoryMock, times(0)).addNote(any(), any(), any());
     }
 
     @Test
     void addNote_RespositoryAddError_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(Tailoring.builder().build()));
+        given(repositoryMock.getNotes(any(), any())).willReturn(of(List.of()));
         given(repositoryMock.addNote(any(), any(), any())).willReturn(empty());
 
         // act
@@ -1266,7 +1390,7 @@ class TailoringServiceImplTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getNotes("Dummy", "master");
         verify(repositoryMock, times(1)).addNote(eq("Dummy"), eq("master"), any());
     }
 
@@ -1276,27 +1400,26 @@ class TailoringServiceImplTest {
         Note note1 = Note.builder().number(1).text("demo").build();
         List<Note> notes = new ArrayList<>();
         notes.add(note1);
-        Tailoring tailoring = Tailoring.builder().notes(notes).build();
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(tailoring));
+        given(repositoryMock.getNotes(any(), any())).willReturn(of(notes));
 
         ArgumentCaptor<Note> noteCaptor = forClass(Note.class);
         given(repositoryMock.addNote(eq("Dummy"), eq("master"), noteCaptor.capture()))
             .willAnswer(invocation -> {
-                    tailoring.getNotes().add(noteCaptor.getValue());
-                    return of(tailoring);
+                    notes.add(noteCaptor.getValue());
+                    return of(noteCaptor.getValue());
                 }
             );
 
-        given(mapperMock.toTailoringInformation(any())).willReturn(TailoringInformation.builder().build());
-
         // act
         Optional<Note> actual = service.addNote("Dummy", "master", "This the second demo note");
 
         // assert
         assertThat(actual).isNotEmpty();
-        assertThat(tailoring.getNotes()).hasSize(2);
-        assertThat(tailoring.getNotes()).containsExactly(note1, noteCaptor.getValue());
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        assertThat(actual.get().getNumber()).isEqualTo(2);
+        assertThat(notes).hasSize(2);
+        assertThat(notes).containsExactly(note1, noteCaptor.getValue());
+        verify(repositoryMock, times(1)).getNotes("Dummy", "master");
+        verify(repositoryMock, times(0)).getTailoring(any(), any());
     }
 
     @Test
@@ -1305,51 +1428,35 @@ class TailoringServiceImplTest {
         Note note1 = Note.builder().number(1).text("demo").build();
         List<Note> notes = new ArrayList<>();
         notes.add(note1);
-        Tailoring tailoring = Tailoring.builder().notes(notes).build();
-        given(repositoryMock.getTailoring("Dummy", "master")).willReturn(of(tailoring));
+        given(repositoryMock.getNotes("Dummy", "master")).willReturn(of(notes));
 
         // act
         Optional<Collection<Note>> actual = service.getNotes("Dummy", "master");
 
         // assert
         assertThat(actual).isNotEmpty();
-        assertThat(tailoring.getNotes()).hasSize(1);
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        assertThat(actual.get()).hasSize(1);
+        verify(repositoryMock, times(1)).getNotes("Dummy", "master");
+        verify(repositoryMock, times(0)).getTailoring(any(), any());
     }
 
     @Test
     void getNotes_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring("Dummy", "master")).willReturn(ofNullable(null));
+        given(repositoryMock.getNotes("Dummy", "master")).willReturn(empty());
 
         // act
         Optional<Collection<Note>> actual = service.getNotes("Dummy", "master");
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
-    }
-
-    @Test
-    void addToZip_ZipOutputStremException_ExceptionThrown() throws Exception {
-        // arrange
-        Throwable actual;
-        try (ZipOutputStream zipMock = mock(ZipOutputStream.class)) {
-            File file = File.builder().name("dummy.pdf").build();
-            doThrow(new IOException()).when(zipMock).putNextEntry(any());
-
-            // act
-            actual = catchThrowable(() -> service.addToZip(file, zipMock));
-        }
-
-        // assert
-        assertThat(actual).isInstanceOf(IOException.class);
+        verify(repositoryMock, times(1)).getNotes("Dummy", "master");
     }
 
     @Test
     void updateState_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring("SAMPLE", "master")).willReturn(empty());
+        given(repositoryMock.getState("SAMPLE", "master")).willReturn(empty());
 
         // act
         Optional<TailoringInformation> actual = service.updateState("SAMPLE", "master", AGREED);
@@ -1357,18 +1464,17 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isEmpty();
 
-        verify(repositoryMock, times(1)).getTailoring("SAMPLE", "master");
+        verify(repositoryMock, times(1)).getState("SAMPLE", "master");
         verify(repositoryMock, times(0)).setState(any(), any(), any());
     }
 
     @Test
     void updateState_StateDowngrade_UnmodifiedTailoringReturned() {
         // arrange
-        Tailoring tailoring = Tailoring.builder().state(TailoringState.RELEASED).build();
-        given(repositoryMock.getTailoring("SAMPLE", "master")).willReturn(of(tailoring));
+        given(repositoryMock.getState("SAMPLE", "master")).willReturn(of(TailoringState.RELEASED));
 
-        TailoringInformation tailoringInformation = TailoringInformation.builder().build();
-        given(mapperMock.toTailoringInformation(tailoring)).willReturn(tailoringInformation);
+        TailoringInformation tailoringInformation = TailoringInformation.builder().state(TailoringState.RELEASED).build();
+        given(repositoryMock.getTailoringInformation("SAMPLE", "master")).willReturn(of(tailoringInformation));
 
         // act
         Optional<TailoringInformation> actual = service.updateState("SAMPLE", "master", AGREED);
@@ -1378,14 +1484,15 @@ class TailoringServiceImplTest {
             .isPresent()
             .contains(tailoringInformation);
 
-        verify(repositoryMock, times(1)).getTailoring("SAMPLE", "master");
+        verify(repositoryMock, times(1)).getState("SAMPLE", "master");
         verify(repositoryMock, times(0)).setState(any(), any(), any());
+        verify(repositoryMock, times(0)).getTailoring(any(), any());
     }
 
     @Test
     void updateState_RespositorySetStateError_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring("SAMPLE", "master")).willReturn(of(Tailoring.builder().state(CREATED).build()));
+        given(repositoryMock.getState("SAMPLE", "master")).willReturn(of(CREATED));
         given(repositoryMock.setState("SAMPLE", "master", AGREED)).willReturn(empty());
 
         // act
@@ -1394,22 +1501,18 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isEmpty();
 
-        verify(repositoryMock, times(1)).getTailoring("SAMPLE", "master");
+        verify(repositoryMock, times(1)).getState("SAMPLE", "master");
         verify(repositoryMock, times(1)).setState(any(), any(), any());
     }
 
     @Test
     void updateState_StateChanged_UpdatedTailoringReturned() {
         // arrange
-        given(repositoryMock.getTailoring("SAMPLE", "master"))
-            .willReturn(of(Tailoring.builder().state(CREATED).build()));
+        given(repositoryMock.getState("SAMPLE", "master")).willReturn(of(CREATED));
 
-        Tailoring tailoring = Tailoring.builder().state(AGREED).build();
+        TailoringInformation tailoringInformation = TailoringInformation.builder().state(AGREED).build();
         given(repositoryMock.setState("SAMPLE", "master", AGREED))
-            .willReturn(of(tailoring));
-
-        TailoringInformation tailoringInformation = TailoringInformation.builder().build();
-        given(mapperMock.toTailoringInformation(tailoring)).willReturn(tailoringInformation);
+            .willReturn(of(tailoringInformation));
 
         // act
         Optional<TailoringInformation> actual = service.updateState("SAMPLE", "master", AGREED);
@@ -1419,7 +1522,8 @@ class TailoringServiceImplTest {
             .isPresent()
             .contains(tailoringInformation);
 
-        verify(repositoryMock, times(1)).getTailoring("SAMPLE", "master");
+        verify(repositoryMock, times(1)).getState("SAMPLE", "master");
         verify(repositoryMock, times(1)).setState(any(), any(), any());
+        verify(repositoryMock, times(0)).getTailoring(any(), any());
     }
 }
@@ -125,7 +125,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -202,7 +202,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -279,7 +279,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -360,7 +360,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -439,7 +439,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -522,7 +522,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -605,7 +605,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -685,7 +685,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -766,7 +766,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -843,7 +843,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -924,7 +924,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -1054,7 +1054,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        Throwable actual = catchThrowable(() -> mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder));
+        Throwable actual = catchThrowable(() -> mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder));
 
         // assert
         assertThat(actual).isInstanceOf(RuntimeException.class);
@@ -1131,7 +1131,7 @@ class TailoringServiceMapperTest {
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, tailoringRequirementBuilder);
+        mapper.toTailoringRequirement(requirement, SelectionContext.of(screeningSheet, selectionVector), tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
         // assert
@@ -0,0 +1,133 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.domain.DRD;
+import eu.tailoringexpert.domain.DRDEntity;
+import eu.tailoringexpert.domain.Logo;
+import eu.tailoringexpert.domain.LogoEntity;
+import eu.tailoringexpert.domain.Requirement;
+import eu.tailoringexpert.repository.DRDRepository;
+import eu.tailoringexpert.repository.LogoRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Lookup table of DRD and logo entities referenced by requirements of a single mapping operation.
+ * <p>
+ * All referenced entities are loaded in bulk when creating the lookup, so mapping a catalog does not need a query for
+ * each reference.
+ *
+ * @author Michael Bädorf
+ */
+public class ReferenceLookup {
+
+    private final Map<String, DRDEntity> drds = new HashMap<>();
+    private final Map<String, LogoEntity> logos = new HashMap<>();
+
+    /**
+     * Creates a lookup of all DRDs and logos referenced by the provided requirements.
+     *
+     * @param requirements   requirements to load references of
+     * @param drdRepository  repository to load DRDs. If null, no DRDs are loaded
+     * @param logoRepository repository to load logos. If null, no logos are loaded
+     * @return created lookup
+     */
+    public static ReferenceLookup of(Stream<? extends Requirement> requirements,
+                                     DRDRepository drdRepository,
+                                     LogoRepository logoRepository) {
+        Set<String> drdNumbers = new TreeSet<>();
+        Set<String> logoNames = new TreeSet<>();
+        requirements.forEach(requirement -> {
+            if (nonNull(requirement.getDrds())) {
+                requirement.getDrds()
+                    .stream()
+                    .filter(drd -> nonNull(drd) && nonNull(drd.getNumber()))
+                    .forEach(drd -> drdNumbers.add(drd.getNumber()));
+            }
+            if (nonNull(requirement.getReference()) &&
+                nonNull(requirement.getReference().getLogo()) &&
+                nonNull(requirement.getReference().getLogo().getName())) {
+                logoNames.add(requirement.getReference().getLogo().getName());
+            }
+        });
+
+        ReferenceLookup result = new ReferenceLookup();
+        if (nonNull(drdRepository) && !drdNumbers.isEmpty()) {
+            result.addDRDs(drdRepository.findAllByNumberIn(drdNumbers));
+        }
+        if (nonNull(logoRepository) && !logoNames.isEmpty()) {
+            logoRepository.findAllByNameIn(logoNames)
+                .forEach(logo -> result.logos.put(logo.getName(), logo));
+        }
+        return result;
+    }
+
+    /**
+     * All requirements of a catalog.
+     *
+     * @param catalog catalog to get requirements of
+     * @param <T>     type of requirements
+     * @return Stream of all requirements of catalog. Empty stream if catalog or its table of contents is null
+     */
+    public static <T extends Requirement> Stream<T> requirements(Catalog<T> catalog) {
+        return nonNull(catalog) && nonNull(catalog.getToc()) ? catalog.getToc().allRequirements() : Stream.empty();
+    }
+
+    /**
+     * Add DRDs to lookup, e.g. after creating them.
+     *
+     * @param entities DRDs to add
+     */
+    public void addDRDs(Collection<DRDEntity> entities) {
+        entities.forEach(drd -> drds.put(drd.getNumber(), drd));
+    }
+
+    /**
+     * Get entity of a DRD.
+     *
+     * @param domain DRD to get entity of
+     * @return entity of DRD or null, if DRD is unknown
+     */
+    public DRDEntity getDRD(DRD domain) {
+        return isNull(domain) ? null : drds.get(domain.getNumber());
+    }
+
+    /**
+     * Get entity of a logo.
+     *
+     * @param domain logo to get entity of
+     * @return entity of logo or null, if logo is unknown
+     */
+    public LogoEntity getLogo(Logo domain) {
+        return isNull(domain) ? null : logos.get(domain.getName());
+    }
+}
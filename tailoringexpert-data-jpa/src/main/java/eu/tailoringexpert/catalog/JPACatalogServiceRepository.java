@@ -21,6 +21,7 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.ReferenceLookup;
 import eu.tailoringexpert.TailoringexpertException;
 import eu.tailoringexpert.domain.BaseCatalogEntity;
 import eu.tailoringexpert.domain.BaseCatalogVersionProjection;
@@ -37,17 +38,20 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 
 import jakarta.transaction.Transactional;
 
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
+import static java.util.function.Function.identity;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
 
@@ -76,7 +80,7 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
      * {@inheritDoc}
      */
     @Override
-    @CacheEvict(cacheNames = {BaseCatalogRepository.CACHE_BASECATALOGLIST})
+    @CacheEvict(cacheNames = {BaseCatalogRepository.CACHE_BASECATALOGLIST, BaseCatalogRepository.CACHE_CATALOG}, allEntries = true)
     @Transactional
     public Optional<Catalog<BaseRequirement>> createCatalog(Catalog<BaseRequirement> catalog, ZonedDateTime validFrom) {
         log.traceEntry();
@@ -85,15 +89,17 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
             return empty();
         }
 
-        Collection<DRD> drds = apply(catalog.getToc());
-        drds.forEach(domain -> {
-            DRDEntity entity = drdRepository.findByNumber(domain.getNumber());
-            if (isNull(entity)) {
-                drdRepository.save(mapper.createCatalog(domain));
-            }
-        });
+        ReferenceLookup lookup = mapper.createReferenceLookup(catalog);
+        List<DRDEntity> drds = apply(catalog.getToc())
+            .stream()
+            .filter(domain -> isNull(lookup.getDRD(domain)))
+            .map(mapper::createCatalog)
+            .toList();
+        if (!drds.isEmpty()) {
+            lookup.addDRDs(drdRepository.saveAll(drds));
+        }
 
-        BaseCatalogEntity toSave = mapper.createCatalog(catalog);
+        BaseCatalogEntity toSave = mapper.createCatalog(catalog, lookup);
         Optional<Catalog<BaseRequirement>> result = ofNullable(mapper.createCatalog(baseCatalogRepository.save(toSave)));
 
         log.traceExit();
@@ -104,6 +110,7 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
      * {@inheritDoc}
      */
     @Override
+    @Cacheable(BaseCatalogRepository.CACHE_CATALOG)
     public Optional<Catalog<BaseRequirement>> getCatalog(String version) {
         log.traceEntry(version);
 
@@ -142,6 +149,7 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
      * {@inheritDoc}
      */
     @Override
+    @CacheEvict(cacheNames = {BaseCatalogRepository.CACHE_BASECATALOGLIST, BaseCatalogRepository.CACHE_CATALOG}, allEntries = true)
     public Optional<CatalogVersion> limitCatalogValidity(String version, ZonedDateTime validUntil) {
         log.traceEntry(() -> version, () -> validUntil);
 
@@ -158,6 +166,7 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
      * {@inheritDoc}
      */
     @Override
+    @CacheEvict(cacheNames = {BaseCatalogRepository.CACHE_BASECATALOGLIST, BaseCatalogRepository.CACHE_CATALOG}, allEntries = true)
     @Transactional
     public boolean deleteCatalog(String version) {
         log.traceEntry(() -> version);
@@ -190,6 +199,7 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
             .map(BaseRequirement::getDrds)
             .filter(Objects::nonNull)
             .flatMap(Collection::stream)
-            .collect(Collectors.toSet());
+            .collect(Collectors.toMap(DRD::getNumber, identity(), (first, second) -> first, LinkedHashMap::new))
+            .values();
     }
 }
@@ -21,6 +21,7 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.ReferenceLookup;
 import eu.tailoringexpert.TailoringexpertMapperConfig;
 import eu.tailoringexpert.domain.BaseCatalogChapterEntity;
 import eu.tailoringexpert.domain.BaseCatalogChapterEntity.BaseCatalogChapterEntityBuilder;
@@ -37,6 +38,7 @@ import eu.tailoringexpert.domain.DRD;
 import eu.tailoringexpert.domain.Logo;
 import lombok.Setter;
 import org.mapstruct.AfterMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -47,6 +49,7 @@ import java.lang.annotation.Target;
 
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.RetentionPolicy.CLASS;
+import static eu.tailoringexpert.ReferenceLookup.requirements;
 import static java.util.Objects.nonNull;
 
 /**
@@ -63,20 +66,35 @@ public abstract class JPACatalogServiceRepositoryMapper {
     @Setter
     private DRDRepository drdRepository;
 
+    /**
+     * Creates a lookup of all DRD and logo entities referenced by requirements of the catalog.
+     *
+     * @param domain catalog to create lookup for
+     * @return created lookup
+     */
+    public ReferenceLookup createReferenceLookup(Catalog<BaseRequirement> domain) {
+        return ReferenceLookup.of(requirements(domain), drdRepository, logoRepository);
+    }
+
+    @DoNotSelectForMapping
+    public BaseCatalogEntity createCatalog(Catalog<BaseRequirement> domain) {
+        return createCatalog(domain, createReferenceLookup(domain));
+    }
+
     @Mapping(target = "validFrom", expression = "java( java.time.ZonedDateTime.now())")
-    public abstract BaseCatalogEntity createCatalog(Catalog<BaseRequirement> domain);
+    public abstract BaseCatalogEntity createCatalog(Catalog<BaseRequirement> domain, @Context ReferenceLookup lookup);
 
     public abstract Catalog<BaseRequirement> createCatalog(BaseCatalogEntity entity);
 
-    LogoEntity resolve(Logo domain) {
-        return nonNull(domain) ? logoRepository.findByName(domain.getName()) : null;
+    LogoEntity resolve(Logo domain, @Context ReferenceLookup lookup) {
+        return lookup.getLogo(domain);
     }
 
     @DoNotSelectForMapping
     public abstract DRDEntity createCatalog(DRD domain);
 
-    DRDEntity resolve(DRD domain) {
-        return nonNull(domain) ? drdRepository.findByNumber(domain.getNumber()) : null;
+    DRDEntity resolve(DRD domain, @Context ReferenceLookup lookup) {
+        return lookup.getDRD(domain);
     }
 
     public abstract Catalog<BaseRequirement> getCatalog(BaseCatalogEntity entity);
@@ -58,7 +58,8 @@ public class BaseCatalogChapterEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_BASECATALOGCHAPTER", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_BASECATALOGCHAPTER", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_BASECATALOGCHAPTER", initialValue = 1,
+        allocationSize = 500)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_BASECATALOGCHAPTER")
     @Column(name = "CHAPTER_ID")
     private Long id;
@@ -69,7 +69,8 @@ public class BaseRequirementEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_BASEREQUIREMENT", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_BASEREQUIREMENT", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_BASEREQUIREMENT", initialValue = 1,
+        allocationSize = 500)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_BASEREQUIREMENT")
     @Column(name = "REQUIREMENT_ID")
     private Long id;
@@ -25,7 +25,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -36,16 +40,22 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderColumn;
 import jakarta.persistence.Table;
 import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Transient;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static jakarta.persistence.CascadeType.ALL;
 import static jakarta.persistence.FetchType.LAZY;
 import static jakarta.persistence.GenerationType.TABLE;
+import static lombok.AccessLevel.NONE;
 
 @Data
 @EqualsAndHashCode(of = {"id"})
@@ -57,12 +67,18 @@ import static jakarta.persistence.GenerationType.TABLE;
 public class TailoringCatalogChapterEntity implements Serializable {
     private static final long serialVersionUID = -2953875408100894292L;
 
+    /**
+     * Number of chapter collections initialized by a single query, when walking down the chapter tree.
+     */
+    public static final int BATCH_SIZE = 500;
+
     /**
      * Technical ID.
      */
     @Id
     @TableGenerator(name = "SEQ_TAILORINGCATALOGCHAPTER", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGCATALOGCHAPTER", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGCATALOGCHAPTER", initialValue = 1,
+        allocationSize = 500)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_TAILORINGCATALOGCHAPTER")
     @Column(name = "CHAPTER_ID")
     private Long id;
@@ -91,6 +107,7 @@ public class TailoringCatalogChapterEntity implements Serializable {
     @OneToMany(cascade = ALL, fetch = LAZY)
     @JoinColumn(name = "PARENTCHAPTER_ID", referencedColumnName = "CHAPTER_ID")
     @OrderColumn(name = "CHAPTER_ORDER")
+    @BatchSize(size = BATCH_SIZE)
     private List<TailoringCatalogChapterEntity> chapters;
 
     /**
@@ -99,18 +116,97 @@ public class TailoringCatalogChapterEntity implements Serializable {
     @OneToMany(cascade = ALL, orphanRemoval = true, fetch = LAZY)
     @JoinColumn(name = "CHAPTER_ID", referencedColumnName = "CHAPTER_ID", nullable = false)
     @OrderColumn(name = "REQUIREMENT_ORDER")
+    @BatchSize(size = BATCH_SIZE)
     private List<TailoringRequirementEntity> requirements = new ArrayList<>();
 
+    /**
+     * Lazily built lookup of (sub)chapters by number.
+     */
+    @Transient
+    @Getter(NONE)
+    @Setter(NONE)
+    @ToString.Exclude
+    private final transient Map<String, TailoringCatalogChapterEntity> chapterIndex = new HashMap<>();
+
+    /**
+     * Lazily built lookup of requirement list index by position.
+     */
+    @Transient
+    @Getter(NONE)
+    @Setter(NONE)
+    @ToString.Exclude
+    private final transient Map<String, Integer> requirementIndex = new HashMap<>();
+
     /**
      * Get a chapter identified by chapter number.
+     * <p>
+     * Lookup is done by a lazily built index, which will be rebuild if a requested chapter could not be found
+     * (anymore).
      *
      * @param number number of chapter to get
      * @return Chapter if exists
      */
     public Optional<TailoringCatalogChapterEntity> getChapter(String number) {
-        return allChapters()
-            .filter(chapter -> number.equals(chapter.getNumber()))
-            .findFirst();
+        return number.equals(this.number) ? Optional.of(this) : getSubChapter(number);
+    }
+
+    /**
+     * Get a subchapter identified by chapter number. The chapter itself is not part of the lookup.
+     *
+     * @param number number of subchapter to get
+     * @return Subchapter if exists, otherwise empty
+     */
+    public Optional<TailoringCatalogChapterEntity> getSubChapter(String number) {
+        if (isNull(chapterIndex)) {
+            return subChapters()
+                .filter(chapter -> number.equals(chapter.getNumber()))
+                .findFirst();
+        }
+
+        TailoringCatalogChapterEntity result = chapterIndex.get(number);
+        if (isNull(result) || !number.equals(result.getNumber())) {
+            chapterIndex.clear();
+            for (Iterator<TailoringCatalogChapterEntity> iterator = subChapters().iterator(); iterator.hasNext(); ) {
+                TailoringCatalogChapterEntity chapter = iterator.next();
+                if (nonNull(chapter.getNumber())) {
+                    chapterIndex.putIfAbsent(chapter.getNumber(), chapter);
+                }
+            }
+            result = chapterIndex.get(number);
+        }
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Get requirement of chapter identified by position.
+     * <p>
+     * Lookup is done by a lazily built index, which will be rebuild if a requested requirement could not be found
+     * (anymore).
+     *
+     * @param position position in chapter of requirement to get
+     * @return requirement if exists, otherwise empty
+     */
+    public Optional<TailoringRequirementEntity> getRequirement(String position) {
+        if (isNull(requirementIndex)) {
+            return requirements.stream()
+                .filter(requirement -> position.equals(requirement.getPosition()))
+                .findFirst();
+        }
+
+        // index is validated against current list, so inserted or renumbered requirements are respected
+        Integer result = requirementIndex.get(position);
+        if (isNull(result) || !isRequirementAt(result, position)) {
+            requirementIndex.clear();
+            for (int i = 0; i < requirements.size(); i++) {
+                requirementIndex.putIfAbsent(requirements.get(i).getPosition(), i);
+            }
+            result = requirementIndex.get(position);
+        }
+        return isNull(result) ? Optional.empty() : Optional.of(requirements.get(result));
+    }
+
+    private boolean isRequirementAt(int index, String position) {
+        return index < requirements.size() && position.equals(requirements.get(index).getPosition());
     }
 
     /**
@@ -119,8 +215,15 @@ public class TailoringCatalogChapterEntity implements Serializable {
      * @return Stream of complete/all chapters of catalog.
      */
     public Stream<TailoringCatalogChapterEntity> allChapters() {
-        return Stream.concat(
-            Stream.of(this),
-            nonNull(chapters) ? chapters.stream().flatMap(TailoringCatalogChapterEntity::allChapters) : Stream.empty());
+        return Stream.concat(Stream.of(this), subChapters());
+    }
+
+    /**
+     * All subchapters excluding the chapter itself.
+     *
+     * @return Stream of all subchapters
+     */
+    private Stream<TailoringCatalogChapterEntity> subChapters() {
+        return nonNull(chapters) ? chapters.stream().flatMap(TailoringCatalogChapterEntity::allChapters) : Stream.empty();
     }
 }
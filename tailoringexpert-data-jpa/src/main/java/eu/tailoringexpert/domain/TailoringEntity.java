@@ -35,6 +35,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.OrderColumn;
@@ -56,9 +59,46 @@ import static jakarta.persistence.GenerationType.TABLE;
 @AllArgsConstructor
 @Entity(name = "Tailoring")
 @Table(name = "TAILORING")
+@NamedEntityGraph(
+    name = TailoringEntity.GRAPH_HEADER,
+    attributeNodes = {@NamedAttributeNode("phases"), @NamedAttributeNode("catalog")}
+)
+@NamedEntityGraph(
+    name = TailoringEntity.GRAPH_CHAPTERS,
+    attributeNodes = @NamedAttributeNode(value = "catalog", subgraph = "catalog"),
+    subgraphs = {
+        @NamedSubgraph(name = "catalog", attributeNodes = @NamedAttributeNode(value = "toc", subgraph = "toc")),
+        @NamedSubgraph(name = "toc", attributeNodes = @NamedAttributeNode("chapters"))
+    }
+)
+@NamedEntityGraph(
+    name = TailoringEntity.GRAPH_CATALOG,
+    attributeNodes = {@NamedAttributeNode("phases"), @NamedAttributeNode(value = "catalog", subgraph = "catalog")},
+    subgraphs = {
+        @NamedSubgraph(name = "catalog", attributeNodes = @NamedAttributeNode(value = "toc", subgraph = "toc")),
+        @NamedSubgraph(name = "toc", attributeNodes = {@NamedAttributeNode("chapters"), @NamedAttributeNode("requirements")})
+    }
+)
 public class TailoringEntity implements Serializable {
     private static final long serialVersionUID = -2503249103618921192L;
 
+    /**
+     * Fetch plan of tailoring data without the catalog tree.
+     */
+    public static final String GRAPH_HEADER = "Tailoring.header";
+
+    /**
+     * Fetch plan of tailoring including chapter structure of the catalog to navigate to a chapter subtree.
+     */
+    public static final String GRAPH_CHAPTERS = "Tailoring.chapters";
+
+    /**
+     * Fetch plan of tailoring including complete catalog, e.g. to create documents.
+     * <p>
+     * Subchapters, requirements and DRDs below the table of contents are batch fetched level by level.
+     */
+    public static final String GRAPH_CATALOG = "Tailoring.catalog";
+
     /**
      * Technical ID.
      */
@@ -123,6 +163,12 @@ public class TailoringEntity implements Serializable {
     @Column(name = "STATE")
     private TailoringState state;
 
+    /**
+     * Content revision of tailoring. Only changed by {@code TailoringRepository#incrementRevision}.
+     */
+    @Column(name = "REVISION", updatable = false)
+    private long revision;
+
     /**
      * Signatures to be used for document generation.
      */
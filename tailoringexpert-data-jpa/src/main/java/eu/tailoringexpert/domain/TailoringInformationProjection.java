@@ -0,0 +1,64 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+/**
+ * Row of a tailoring overview. A tailoring with multiple phases is returned in one row per phase.
+ */
+public interface TailoringInformationProjection {
+
+    /**
+     * Returns identifier of the project of the tailoring.
+     *
+     * @return identifier of project
+     */
+    String getProject();
+
+    /**
+     * Returns name of the tailoring.
+     *
+     * @return name of tailoring
+     */
+    String getName();
+
+    /**
+     * Returns version of the catalog used by the tailoring.
+     *
+     * @return version of catalog
+     */
+    String getCatalogVersion();
+
+    /**
+     * Returns state of the tailoring.
+     *
+     * @return state of tailoring
+     */
+    TailoringState getState();
+
+    /**
+     * Returns one phase of the tailoring.
+     *
+     * @return phase of tailoring, null if tailoring has no phases
+     */
+    Phase getPhase();
+
+}
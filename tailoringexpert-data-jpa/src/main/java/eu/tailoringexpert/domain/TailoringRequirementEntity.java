@@ -25,6 +25,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import jakarta.persistence.AssociationOverride;
 import jakarta.persistence.Column;
@@ -58,7 +59,8 @@ public class TailoringRequirementEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_TAILORINGREQUIREMENT", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGREQUIREMENT", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGREQUIREMENT", initialValue = 1,
+        allocationSize = 500)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_TAILORINGREQUIREMENT")
     @Column(name = "REQUIREMENT_ID")
     private Long id;
@@ -87,6 +89,7 @@ public class TailoringRequirementEntity implements Serializable {
      * List of DRDs requirement shall be part of.
      */
     @OneToMany(fetch = LAZY)
+    @BatchSize(size = TailoringCatalogChapterEntity.BATCH_SIZE)
     @JoinTable(
         name = "TAILORINGREQUIREMENT_DRD",
         joinColumns = {@JoinColumn(name = "REQUIREMENT_ID", referencedColumnName = "REQUIREMENT_ID")},
@@ -27,26 +27,51 @@ import eu.tailoringexpert.domain.BaseCatalogEntity;
 import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectEntity;
 import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ProjectInformationPage;
+import eu.tailoringexpert.domain.ProjectInformationProjection;
+import eu.tailoringexpert.domain.ProjectInformationQuery;
 import eu.tailoringexpert.domain.ProjectState;
 import eu.tailoringexpert.domain.ScreeningSheet;
+import eu.tailoringexpert.domain.ScreeningSheetEntity;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringInformation;
+import eu.tailoringexpert.domain.TailoringInformationProjection;
 import eu.tailoringexpert.repository.BaseCatalogRepository;
+import eu.tailoringexpert.repository.ProjectCopyRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 
 import jakarta.transaction.Transactional;
 
-import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 
+import static eu.tailoringexpert.domain.ProjectInformationQuery.Sort.IDENTIFIER;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.groupingBy;
+import static java.time.ZonedDateTime.now;
+import static java.util.stream.Collectors.toList;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 /**
  * Implementation of {@link ProjectServiceRepository}.
@@ -58,7 +83,30 @@ import static java.util.Optional.ofNullable;
 @Transactional
 public class JPAProjectServiceRepository implements ProjectServiceRepository {
 
-    public static final String CACHE_BASECATALOG = "ProjectServiceRepository#BaseCatalog";
+    public static final String CACHE_BASECATALOG = BaseCatalogRepository.CACHE_CATALOG;
+
+    private static final String SEQ_TAILORING = "SEQ_TAILORING";
+    private static final String SEQ_TAILORINGCATALOG = "SEQ_TAILORINGCATALOG";
+    private static final String SEQ_TAILORINGCATALOGCHAPTER = "SEQ_TAILORINGCATALOGCHAPTER";
+    private static final String SEQ_TAILORINGREQUIREMENT = "SEQ_TAILORINGREQUIREMENT";
+    private static final String SEQ_SELECTIONVECTOR = "SEQ_SELECTIONVECTOR";
+    private static final String SEQ_SCREENINGSHEET = "SEQ_SCREENINGSHEET";
+    private static final String SEQ_SCREENINGSHEETPARAMETER = "SEQ_SCREENINGSHEETPARAMETER";
+    private static final String SEQ_NOTE = "SEQ_NOTE";
+
+    /**
+     * Allocation sizes of the table generators of the copied entities, if different from the default size of
+     * {@link #DEFAULT_ALLOCATION_SIZE}. Have to be changed together with the generators of the entities.
+     */
+    private static final Map<String, Long> ALLOCATION_SIZES = Map.of(
+        SEQ_TAILORINGCATALOGCHAPTER, 500L,
+        SEQ_TAILORINGREQUIREMENT, 500L
+    );
+
+    /**
+     * Default allocation size of table generators.
+     */
+    private static final long DEFAULT_ALLOCATION_SIZE = 50;
 
     @NonNull
     private JPAProjectServiceRepositoryMapper mapper;
@@ -69,6 +117,9 @@ public class JPAProjectServiceRepository implements ProjectServiceRepository {
     @NonNull
     private BaseCatalogRepository baseCatalogRepository;
 
+    @NonNull
+    private ProjectCopyRepository projectCopyRepository;
+
     /**
      * {@inheritDoc}
      */
@@ -141,20 +192,260 @@ public class JPAProjectServiceRepository implements ProjectServiceRepository {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Only the new project and its screeningsheet are persisted by JPA. All tailoring data is copied inside the
+     * database by set based statements without loading it, so the number of statements depends on the depth of the
+     * chapter trees only. Ids of copied rows are reserved as dense blocks of the size of the copied rows, independent
+     * of gaps between the source ids.
+     */
+    @Override
+    public Optional<ProjectInformation> copyProject(String project, ScreeningSheet screeningSheet) {
+        log.traceEntry(() -> project, screeningSheet::getProject);
+
+        ProjectEntity source = projectRepository.findByIdentifier(project);
+        if (isNull(source)) {
+            log.traceExit();
+            return empty();
+        }
+
+        ProjectEntity target = projectRepository.saveAndFlush(mapper.copyProject(source, screeningSheet));
+        copyTailorings(source.getId(), target);
+
+        String identifier = target.getIdentifier();
+        Optional<ProjectInformation> result = ofNullable(projectRepository.findProjectInformation(identifier))
+            .map(copy -> mapper.getProjectInformation(copy,
+                getTailoringInformations(List.of(identifier)).getOrDefault(identifier, emptyList())));
+
+        log.traceExit();
+        return result;
+    }
+
+    private void copyTailorings(Long project, ProjectEntity target) {
+        Long copy = target.getId();
+        long tailorings = projectCopyRepository.countTailorings(project);
+        if (tailorings == 0) {
+            return;
+        }
+        long tailoringBase = reserve(SEQ_TAILORING, tailorings);
+        projectCopyRepository.mapTailorings(copy, project, tailoringBase);
+
+        // each tailoring gets its own copy of the screeningsheet of the project, ids are derived of the tailoring ids
+        ScreeningSheetEntity screeningSheet = target.getScreeningSheet();
+        long screeningSheetSelectionVectorOffset = 0;
+        if (nonNull(screeningSheet.getSelectionVector())) {
+            Long selectionVector = screeningSheet.getSelectionVector().getId();
+            screeningSheetSelectionVectorOffset = reserve(SEQ_SELECTIONVECTOR, tailorings) - tailoringBase;
+            projectCopyRepository.copySelectionVectorPerTailoring(copy, selectionVector, screeningSheetSelectionVectorOffset);
+            projectCopyRepository.copySelectionVectorLevelsPerTailoring(copy, selectionVector, screeningSheetSelectionVectorOffset);
+        }
+        long screeningSheetOffset = reserve(SEQ_SCREENINGSHEET, tailorings) - tailoringBase;
+        projectCopyRepository.copyScreeningSheetPerTailoring(copy, screeningSheet.getId(), screeningSheetOffset, screeningSheetSelectionVectorOffset);
+
+        long parameters = projectCopyRepository.countScreeningSheetParameters(screeningSheet.getId());
+        if (parameters > 0) {
+            long offset = reserve(SEQ_SCREENINGSHEETPARAMETER, parameters * tailorings);
+            projectCopyRepository.copyScreeningSheetParametersPerTailoring(
+                copy, screeningSheet.getId(), tailoringBase, parameters, offset, screeningSheetOffset);
+        }
+
+        if (map(SEQ_SELECTIONVECTOR, projectCopyRepository.countSelectionVectors(project),
+            base -> projectCopyRepository.mapSelectionVectors(copy, project, base))) {
+            projectCopyRepository.copySelectionVectors(copy);
+            projectCopyRepository.copySelectionVectorLevels(copy);
+        }
+
+        copyChapters(project, copy);
+        if (map(SEQ_TAILORINGCATALOG, projectCopyRepository.countCatalogs(project),
+            base -> projectCopyRepository.mapCatalogs(copy, project, base))) {
+            projectCopyRepository.copyCatalogs(copy);
+        }
+
+        // creation timestamp has to be passed in representation of ZonedDateTimeAttributeConverter
+        projectCopyRepository.copyTailorings(copy, screeningSheetOffset, now().toString());
+        projectCopyRepository.copyPhases(copy);
+        projectCopyRepository.copySignatures(copy);
+        if (map(SEQ_NOTE, projectCopyRepository.countNotes(project),
+            base -> projectCopyRepository.mapNotes(copy, project, base))) {
+            projectCopyRepository.copyNotes(copy);
+        }
+
+        projectCopyRepository.deleteIdMappings(copy);
+    }
+
+    /**
+     * Copies the chapter trees of all tailoring catalogs of a project level by level including their requirements.
+     *
+     * @param project id of project to copy chapters of
+     * @param copy    id of target project
+     */
+    private void copyChapters(Long project, Long copy) {
+        long chapters = projectCopyRepository.countTableOfContents(project);
+        if (chapters == 0) {
+            return;
+        }
+
+        long lowerBound = reserve(SEQ_TAILORINGCATALOGCHAPTER, chapters);
+        projectCopyRepository.mapTableOfContents(copy, project, lowerBound);
+        while (chapters > 0) {
+            long upperBound = lowerBound + chapters - 1;
+            projectCopyRepository.copyChapters(copy, lowerBound, upperBound);
+
+            chapters = projectCopyRepository.countSubChapters(copy, lowerBound, upperBound);
+            if (chapters > 0) {
+                long subChapterLowerBound = reserve(SEQ_TAILORINGCATALOGCHAPTER, chapters);
+                projectCopyRepository.mapSubChapters(copy, lowerBound, upperBound, subChapterLowerBound);
+                lowerBound = subChapterLowerBound;
+            }
+        }
+
+        if (map(SEQ_TAILORINGREQUIREMENT, projectCopyRepository.countRequirements(copy),
+            base -> projectCopyRepository.mapRequirements(copy, base))) {
+            projectCopyRepository.copyRequirements(copy);
+            projectCopyRepository.copyRequirementDRDs(copy);
+        }
+    }
+
+    /**
+     * Maps the ids of rows to copy to a block of reserved ids, if there are rows to copy.
+     *
+     * @param sequence sequence of the ids of the rows
+     * @param count    number of rows to copy
+     * @param mapping  mapping of rows to execute with first id of reserved block
+     * @return {@code true}, if rows have been mapped
+     */
+    private boolean map(String sequence, long count, LongConsumer mapping) {
+        if (count == 0) {
+            return false;
+        }
+        mapping.accept(reserve(sequence, count));
+        return true;
+    }
+
+    /**
+     * Reserves a block of ids of a sequence.
+     * <p>
+     * Sequence is updated optimistic, same as done by the table generators of the entities. With the pooled-lo
+     * optimizer configured by the DatabaseConfiguration of the application, a generator reading the stored value
+     * hands out the ids starting at this value. With the pooled optimizer however, a generator reading the stored
+     * value hands out the allocation size of ids up to this value. Sequence therefore is set behind the reserved block
+     * padded by the allocation size of the generator, so the reserved ids are used by neither optimizer. The block
+     * itself is as large as the number of copied rows.
+     *
+     * @param sequence sequence to reserve ids of
+     * @param size     number of ids to reserve
+     * @return first id of reserved block
+     */
+    private long reserve(String sequence, long size) {
+        long padding = ALLOCATION_SIZES.getOrDefault(sequence, DEFAULT_ALLOCATION_SIZE);
+        Long current = projectCopyRepository.findSequence(sequence);
+        if (isNull(current)) {
+            projectCopyRepository.createSequence(sequence, size + 1 + padding);
+            return 1;
+        }
+        while (projectCopyRepository.updateSequence(sequence, current, current + size + 1 + padding) == 0) {
+            current = projectCopyRepository.findSequence(sequence);
+        }
+        return current + 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Independent of the number of projects and tailorings, the page is loaded by one query for the projects and one
+     * query for all tailorings of these projects. An unpaged query loads the tailorings of at most
+     * {@link ProjectInformationQuery#MAX_SIZE} projects per query.
      */
     @Override
-    public Collection<ProjectInformation> getProjectInformations() {
-        log.traceEntry();
+    public ProjectInformationPage getProjectInformations(ProjectInformationQuery query) {
+        log.traceEntry(() -> query);
 
-        List<ProjectInformation> result = projectRepository.findAll()
-            .stream()
-            .map(mapper::getProjectInformationen)
+        boolean cursor = query.isPaged() && nonNull(query.getCursor());
+        if (cursor && IDENTIFIER != query.getSort()) {
+            throw log.throwing(new IllegalArgumentException("Cursor is only supported for projects sorted by identifier"));
+        }
+
+        Direction direction = query.isAscending() ? ASC : DESC;
+        Sort sort = Sort.by(direction, query.getSort().getProperty());
+        if (IDENTIFIER != query.getSort()) {
+            // identifier as second order keeps pages stable for projects with same sort value
+            sort = sort.and(Sort.by(direction, IDENTIFIER.getProperty()));
+        }
+
+        Slice<ProjectInformationProjection> projects = projectRepository.findProjectInformations(
+            query.getState(),
+            escapeLikePattern(query.getIdentifierPrefix()),
+            query.getCatalogVersion(),
+            cursor && query.isAscending() ? query.getCursor() : null,
+            cursor && !query.isAscending() ? query.getCursor() : null,
+            query.isPaged() ? PageRequest.of(cursor ? 0 : query.getPage(), query.getSize(), sort) : Pageable.unpaged(sort));
+
+        List<String> identifiers = projects.stream()
+            .map(ProjectInformationProjection::getIdentifier)
             .toList();
+        Map<String, List<TailoringInformation>> tailorings = getTailoringInformations(identifiers);
+
+        ProjectInformationPage result = ProjectInformationPage.builder()
+            .projects(projects.stream()
+                .map(project -> mapper.getProjectInformation(project, tailorings.getOrDefault(project.getIdentifier(), emptyList())))
+                .toList())
+            .page(query.getPage())
+            .size(query.getSize())
+            .hasNext(projects.hasNext())
+            .nextCursor(projects.hasNext() && IDENTIFIER == query.getSort() ? identifiers.get(identifiers.size() - 1) : null)
+            .build();
 
         log.traceExit();
         return result;
     }
 
+    /**
+     * Escapes all characters of a prefix with a special meaning in a like pattern.
+     *
+     * @param prefix prefix to escape
+     * @return prefix with {@code !} as escape character
+     */
+    static String escapeLikePattern(String prefix) {
+        if (isNull(prefix)) {
+            return null;
+        }
+        return prefix.replace("!", "!!")
+            .replace("%", "!%")
+            .replace("_", "!_");
+    }
+
+    private Map<String, List<TailoringInformation>> getTailoringInformations(List<String> projects) {
+        if (projects.isEmpty()) {
+            return emptyMap();
+        }
+
+        // unpaged requests might contain all projects, so limit the number of query parameters
+        Map<String, List<TailoringInformation>> result = new HashMap<>();
+        for (int i = 0; i < projects.size(); i += ProjectInformationQuery.MAX_SIZE) {
+            projectRepository.findTailoringInformations(projects.subList(i, Math.min(i + ProjectInformationQuery.MAX_SIZE, projects.size())))
+                .stream()
+                .collect(groupingBy(TailoringInformationProjection::getProject, LinkedHashMap::new,
+                    groupingBy(TailoringInformationProjection::getName, LinkedHashMap::new, toList())))
+                .forEach((project, rows) -> result.put(project, rows.values()
+                    .stream()
+                    .map(this::toTailoringInformation)
+                    .toList()));
+        }
+        return result;
+    }
+
+    private TailoringInformation toTailoringInformation(List<TailoringInformationProjection> rows) {
+        TailoringInformationProjection tailoring = rows.get(0);
+        return TailoringInformation.builder()
+            .name(tailoring.getName())
+            .catalogVersion(tailoring.getCatalogVersion())
+            .state(tailoring.getState())
+            .phases(rows.stream()
+                .map(TailoringInformationProjection::getPhase)
+                .filter(Objects::nonNull)
+                .toList())
+            .build();
+    }
+
     /**
      * {@inheritDoc}
      */
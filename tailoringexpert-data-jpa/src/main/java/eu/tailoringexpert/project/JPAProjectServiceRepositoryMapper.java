@@ -21,6 +21,7 @@
  */
 package eu.tailoringexpert.project;
 
+import eu.tailoringexpert.ReferenceLookup;
 import eu.tailoringexpert.TailoringexpertMapperConfig;
 import eu.tailoringexpert.domain.DRD;
 import eu.tailoringexpert.domain.DRDEntity;
@@ -32,6 +33,7 @@ import eu.tailoringexpert.domain.LogoEntity;
 import eu.tailoringexpert.domain.ProjectEntity;
 import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ProjectInformationProjection;
 import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.ScreeningSheetEntity;
 import eu.tailoringexpert.domain.Tailoring;
@@ -44,10 +46,20 @@ import eu.tailoringexpert.repository.LogoRepository;
 import lombok.Setter;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.BeanMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Qualifier;
 
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import static eu.tailoringexpert.ReferenceLookup.requirements;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.CLASS;
 import static java.util.Objects.nonNull;
 
 /**
@@ -70,16 +82,47 @@ public abstract class JPAProjectServiceRepositoryMapper {
     @Mapping(target = "screeningSheet.data", source = "entity.screeningSheet.data")
     abstract Project toDomain(ProjectEntity entity);
 
+    @DoNotSelectForMapping
+    TailoringEntity toEntity(Tailoring domain) {
+        return toEntity(domain, ReferenceLookup.of(
+            nonNull(domain) ? requirements(domain.getCatalog()) : Stream.empty(), drdRepository, logoRepository));
+    }
+
     @Mapping(target = "creationTimestamp", expression = "java( java.time.ZonedDateTime.now())")
-    abstract TailoringEntity toEntity(Tailoring domain);
+    abstract TailoringEntity toEntity(Tailoring domain, @Context ReferenceLookup lookup);
 
     abstract Tailoring toDomain(TailoringEntity entity);
 
     abstract Catalog<BaseRequirement> toDomain(BaseCatalogEntity entity);
 
+    @DoNotSelectForMapping
+    ProjectEntity createProject(Project domain) {
+        return createProject(domain, ReferenceLookup.of(
+            nonNull(domain) && nonNull(domain.getTailorings()) ?
+                domain.getTailorings().stream().flatMap(tailoring -> requirements(tailoring.getCatalog())) :
+                Stream.empty(),
+            drdRepository,
+            logoRepository));
+    }
+
     @Mapping(target = "creationTimestamp", expression = "java( java.time.ZonedDateTime.now())")
-    abstract ProjectEntity createProject(Project domain);
+    abstract ProjectEntity createProject(Project domain, @Context ReferenceLookup lookup);
+
 
+    /**
+     * Creates a new project entity to copy the given project to.
+     * Tailorings are not part of the created entity.
+     *
+     * @param entity         project to copy
+     * @param screeningSheet screeningsheet of the copy
+     * @return The created entity
+     */
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "identifier", source = "screeningSheet.project")
+    @Mapping(target = "screeningSheet", source = "screeningSheet")
+    @Mapping(target = "state", source = "entity.state")
+    @Mapping(target = "creationTimestamp", expression = "java( java.time.ZonedDateTime.now())")
+    abstract ProjectEntity copyProject(ProjectEntity entity, ScreeningSheet screeningSheet);
 
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "identifier", source = "entity.identifier")
@@ -88,6 +131,12 @@ public abstract class JPAProjectServiceRepositoryMapper {
     @Mapping(target = "state", source = "entity.state")
     abstract ProjectInformation getProjectInformationen(ProjectEntity entity);
 
+    @Mapping(target = "identifier", source = "projection.identifier")
+    @Mapping(target = "creationTimestamp", source = "projection.creationTimestamp")
+    @Mapping(target = "tailorings", source = "tailorings")
+    @Mapping(target = "state", source = "projection.state")
+    abstract ProjectInformation getProjectInformation(ProjectInformationProjection projection, Collection<TailoringInformation> tailorings);
+
     /**
      * Erstellt ein neues Domänen-Objekt mit den Werten der Phasen.
      *
@@ -108,12 +157,12 @@ public abstract class JPAProjectServiceRepositoryMapper {
         return nonNull(domain) ? baseCatalogRepository.findByVersion(domain.getVersion()) : null;
     }
 
-    LogoEntity resolve(Logo domain) {
-        return nonNull(domain) ? logoRepository.findByName(domain.getName()) : null;
+    LogoEntity resolve(Logo domain, @Context ReferenceLookup lookup) {
+        return lookup.getLogo(domain);
     }
 
-    DRDEntity resolve(DRD domain) {
-        return nonNull(domain) ? drdRepository.findByNumber(domain.getNumber()) : null;
+    DRDEntity resolve(DRD domain, @Context ReferenceLookup lookup) {
+        return lookup.getDRD(domain);
     }
 
     @AfterMapping
@@ -126,4 +175,9 @@ public abstract class JPAProjectServiceRepositoryMapper {
         builder.requirements(entity.getRequirements());
     }
 
+    @Qualifier
+    @Target(METHOD)
+    @Retention(CLASS)
+    public @interface DoNotSelectForMapping {
+    }
 }
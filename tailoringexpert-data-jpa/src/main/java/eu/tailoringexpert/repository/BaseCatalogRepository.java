@@ -41,16 +41,19 @@ import java.util.Collection;
  */
 public interface BaseCatalogRepository extends JpaRepository<BaseCatalogEntity, Long> {
 
-    String CACHE_BASECATALOG = "BaseCatalogRepository#BaseCatalog";
     String CACHE_BASECATALOGLIST = "BaseCatalogRepository#BaseCatalogList";
 
+    /**
+     * Cache of completely mapped base catalog domain objects.
+     */
+    String CACHE_CATALOG = "ProjectServiceRepository#BaseCatalog";
+
     /**
      * Load a dedicated base catalog.
      *
      * @param version version of base catalog to load
      * @return loaded base catalog
      */
-    @Cacheable(CACHE_BASECATALOG)
     BaseCatalogEntity findByVersion(String version);
 
     /**
@@ -76,7 +79,7 @@ public interface BaseCatalogRepository extends JpaRepository<BaseCatalogEntity,
      * @return saved base catalog
      */
     @Override
-    @CacheEvict(value = {CACHE_BASECATALOGLIST, CACHE_BASECATALOG}, allEntries = true)
+    @CacheEvict(value = {CACHE_BASECATALOGLIST, CACHE_CATALOG}, allEntries = true)
     <S extends BaseCatalogEntity> S save(S entity);
 
     /**
@@ -97,7 +100,7 @@ public interface BaseCatalogRepository extends JpaRepository<BaseCatalogEntity,
     @Transactional
     @Modifying
     @Query("update #{#entityName} c set c.validUntil=:validUntil where c.version=:version")
-    @CacheEvict(value = {CACHE_BASECATALOGLIST, CACHE_BASECATALOG}, allEntries = true)
+    @CacheEvict(value = {CACHE_BASECATALOGLIST, CACHE_CATALOG}, allEntries = true)
     int setValidUntilForVersion(@Param("version") String version, @Param("validUntil") ZonedDateTime pointOfTime);
 
     /**
@@ -105,6 +108,7 @@ public interface BaseCatalogRepository extends JpaRepository<BaseCatalogEntity,
      *
      * @param version version of base catalog to delete
      */
+    @CacheEvict(value = {CACHE_BASECATALOGLIST, CACHE_CATALOG}, allEntries = true)
     void deleteByVersion(String version);
 
 
@@ -24,6 +24,8 @@ package eu.tailoringexpert.repository;
 import eu.tailoringexpert.domain.DRDEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+
 /**
  * Spring Data access layer of {@link DRDEntity}.
  *
@@ -39,4 +41,12 @@ public interface DRDRepository extends JpaRepository<DRDEntity, Long> {
      */
     DRDEntity findByNumber(String number);
 
+    /**
+     * Load all requested DRDs.
+     *
+     * @param numbers numbers of DRDs to load
+     * @return loaded DRDs
+     */
+    Collection<DRDEntity> findAllByNumberIn(Collection<String> numbers);
+
 }
@@ -22,10 +22,14 @@
 package eu.tailoringexpert.repository;
 
 import eu.tailoringexpert.domain.LogoEntity;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Spring Data access layer of {@link LogoEntity}.
  *
@@ -33,6 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 public interface LogoRepository extends JpaRepository<LogoEntity, Long> {
     String CACHE_LOGO = "LogoRepository#Name";
+    String CACHE_LOGOS = "LogoRepository#Names";
 
     /**
      * Load a logo.
@@ -43,4 +48,126 @@ public interface LogoRepository extends JpaRepository<LogoEntity, Long> {
     @Cacheable(CACHE_LOGO)
     @Transactional(readOnly = true)
     LogoEntity findByName(String name);
+
+    /**
+     * Load all requested logos.
+     *
+     * @param names names of logos to load
+     * @return loaded logos
+     */
+    @Cacheable(CACHE_LOGOS)
+    @Transactional(readOnly = true)
+    Collection<LogoEntity> findAllByNameIn(Collection<String> names);
+
+    /**
+     * Save a logo.
+     *
+     * @param entity logo to save
+     * @param <S>    type of logo
+     * @return saved logo
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    <S extends LogoEntity> S save(S entity);
+
+    /**
+     * Save a logo and flush changes instantly.
+     *
+     * @param entity logo to save
+     * @param <S>    type of logo
+     * @return saved logo
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    <S extends LogoEntity> S saveAndFlush(S entity);
+
+    /**
+     * Save all logos.
+     *
+     * @param entities logos to save
+     * @param <S>      type of logo
+     * @return saved logos
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    <S extends LogoEntity> List<S> saveAll(Iterable<S> entities);
+
+    /**
+     * Save all logos and flush changes instantly.
+     *
+     * @param entities logos to save
+     * @param <S>      type of logo
+     * @return saved logos
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    <S extends LogoEntity> List<S> saveAllAndFlush(Iterable<S> entities);
+
+    /**
+     * Delete a logo.
+     *
+     * @param entity logo to delete
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    void delete(LogoEntity entity);
+
+    /**
+     * Delete a logo.
+     *
+     * @param id id of logo to delete
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    void deleteById(Long id);
+
+    /**
+     * Delete all requested logos.
+     *
+     * @param ids ids of logos to delete
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    void deleteAllById(Iterable<? extends Long> ids);
+
+    /**
+     * Delete all requested logos.
+     *
+     * @param entities logos to delete
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    void deleteAll(Iterable<? extends LogoEntity> entities);
+
+    /**
+     * Delete all logos.
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    void deleteAll();
+
+    /**
+     * Delete all requested logos in a single query.
+     *
+     * @param entities logos to delete
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    void deleteAllInBatch(Iterable<LogoEntity> entities);
+
+    /**
+     * Delete all requested logos in a single query.
+     *
+     * @param ids ids of logos to delete
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    void deleteAllByIdInBatch(Iterable<Long> ids);
+
+    /**
+     * Delete all logos in a single query.
+     */
+    @Override
+    @CacheEvict(value = {CACHE_LOGO, CACHE_LOGOS}, allEntries = true)
+    void deleteAllInBatch();
 }
@@ -0,0 +1,529 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.ProjectEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+/**
+ * Spring Data access layer to copy the tailorings of a {@link ProjectEntity} inside the database.
+ * <p>
+ * All rows are copied by set based statements without loading them. Before rows are copied, the ids of the source
+ * rows are mapped in table PROJECTCOPYID to a block of ids reserved by {@link #updateSequence(String, long, long)}.
+ * The block has the size of the number of source rows and is assigned in order of the source ids, so copied rows get
+ * dense ids independent of gaps between the source ids. References between copied rows are remapped by the same
+ * table. Mappings of a copy are identified by the id of the target project and the kind of the mapped rows.
+ * <p>
+ * Rows of a catalog tree are mapped and copied level by level. Source rows of a level are selected by the mapped
+ * rows of the level above, identified by their range of target ids.
+ *
+ * @author Michael Bädorf
+ */
+public interface ProjectCopyRepository extends Repository<ProjectEntity, Long> {
+
+    /**
+     * Loads current value of an id sequence in a new transaction.
+     *
+     * @param sequence name of the sequence
+     * @return next id to use, null if sequence has not been used yet
+     */
+    @Transactional(propagation = REQUIRES_NEW, readOnly = true)
+    @Query(value = "select SEQ_COUNT from SEQUENCE where SEQ_NAME=:sequence", nativeQuery = true)
+    Long findSequence(@Param("sequence") String sequence);
+
+    /**
+     * Creates an id sequence in a new transaction.
+     *
+     * @param sequence name of the sequence
+     * @param value    next id to use
+     * @return number of created sequences
+     */
+    @Transactional(propagation = REQUIRES_NEW)
+    @Modifying
+    @Query(value = "insert into SEQUENCE (SEQ_NAME, SEQ_COUNT) values (:sequence, :value)", nativeQuery = true)
+    int createSequence(@Param("sequence") String sequence, @Param("value") long value);
+
+    /**
+     * Updates an id sequence in a new transaction, if it still has the expected value.
+     * <p>
+     * Same as done by id generators of the entities, so reserved ids will not be used by them.
+     *
+     * @param sequence name of the sequence
+     * @param current  expected current value of the sequence
+     * @param value    value to set
+     * @return number of updated sequences, 0 if sequence has been changed concurrently
+     */
+    @Transactional(propagation = REQUIRES_NEW)
+    @Modifying
+    @Query(value = "update SEQUENCE set SEQ_COUNT=:value where SEQ_NAME=:sequence and SEQ_COUNT=:current", nativeQuery = true)
+    int updateSequence(@Param("sequence") String sequence, @Param("current") long current, @Param("value") long value);
+
+    /**
+     * Deletes all id mappings of a copy.
+     *
+     * @param target id of target project
+     * @return number of deleted mappings
+     */
+    @Modifying
+    @Query(value = "delete from PROJECTCOPYID where PROJECT_ID=:target", nativeQuery = true)
+    int deleteIdMappings(@Param("target") Long target);
+
+    /**
+     * Counts the tailorings of a project.
+     *
+     * @param project id of project
+     * @return number of tailorings
+     */
+    @Query(value = "select count(*) from TAILORING t where t.PROJECT_ID=:project", nativeQuery = true)
+    long countTailorings(@Param("project") Long project);
+
+    /**
+     * Maps the ids of the tailorings of a project to a block of reserved ids.
+     *
+     * @param target  id of target project
+     * @param project id of source project
+     * @param base    first id of the reserved block
+     * @return number of mapped tailorings
+     */
+    @Modifying
+    @Query(value = "insert into PROJECTCOPYID (PROJECT_ID, KIND, SOURCE_ID, TARGET_ID) " +
+        "select :target, 'TAILORING', t.TAILORING_ID, :base + row_number() over (order by t.TAILORING_ID) - 1 " +
+        "from TAILORING t where t.PROJECT_ID=:project",
+        nativeQuery = true)
+    int mapTailorings(@Param("target") Long target, @Param("project") Long project, @Param("base") long base);
+
+    /**
+     * Counts the applied selection vectors of the tailorings of a project.
+     *
+     * @param project id of project
+     * @return number of selection vectors
+     */
+    @Query(value = "select count(t.SELECTIONVECTOR_ID) from TAILORING t where t.PROJECT_ID=:project", nativeQuery = true)
+    long countSelectionVectors(@Param("project") Long project);
+
+    /**
+     * Maps the ids of the applied selection vectors of the tailorings of a project to a block of reserved ids.
+     *
+     * @param target  id of target project
+     * @param project id of source project
+     * @param base    first id of the reserved block
+     * @return number of mapped selection vectors
+     */
+    @Modifying
+    @Query(value = "insert into PROJECTCOPYID (PROJECT_ID, KIND, SOURCE_ID, TARGET_ID) " +
+        "select :target, 'SELECTIONVECTOR', t.SELECTIONVECTOR_ID, :base + row_number() over (order by t.SELECTIONVECTOR_ID) - 1 " +
+        "from TAILORING t where t.PROJECT_ID=:project and t.SELECTIONVECTOR_ID is not null",
+        nativeQuery = true)
+    int mapSelectionVectors(@Param("target") Long target, @Param("project") Long project, @Param("base") long base);
+
+    /**
+     * Counts the catalogs of the tailorings of a project.
+     *
+     * @param project id of project
+     * @return number of catalogs
+     */
+    @Query(value = "select count(t.TAILORINGCATALOG_ID) from TAILORING t where t.PROJECT_ID=:project", nativeQuery = true)
+    long countCatalogs(@Param("project") Long project);
+
+    /**
+     * Maps the ids of the catalogs of the tailorings of a project to a block of reserved ids.
+     *
+     * @param target  id of target project
+     * @param project id of source project
+     * @param base    first id of the reserved block
+     * @return number of mapped catalogs
+     */
+    @Modifying
+    @Query(value = "insert into PROJECTCOPYID (PROJECT_ID, KIND, SOURCE_ID, TARGET_ID) " +
+        "select :target, 'TAILORINGCATALOG', t.TAILORINGCATALOG_ID, :base + row_number() over (order by t.TAILORINGCATALOG_ID) - 1 " +
+        "from TAILORING t where t.PROJECT_ID=:project and t.TAILORINGCATALOG_ID is not null",
+        nativeQuery = true)
+    int mapCatalogs(@Param("target") Long target, @Param("project") Long project, @Param("base") long base);
+
+    /**
+     * Counts the table of contents of the tailoring catalogs of a project.
+     *
+     * @param project id of project
+     * @return number of table of contents chapters
+     */
+    @Query(value = "select count(k.CHAPTER_ID) from TAILORINGCATALOG k " +
+        "inner join TAILORING t on t.TAILORINGCATALOG_ID=k.CATALOG_ID where t.PROJECT_ID=:project",
+        nativeQuery = true)
+    long countTableOfContents(@Param("project") Long project);
+
+    /**
+     * Maps the ids of the table of contents of the tailoring catalogs of a project to a block of reserved ids.
+     *
+     * @param target  id of target project
+     * @param project id of source project
+     * @param base    first id of the reserved block
+     * @return number of mapped chapters
+     */
+    @Modifying
+    @Query(value = "insert into PROJECTCOPYID (PROJECT_ID, KIND, SOURCE_ID, TARGET_ID) " +
+        "select :target, 'TAILORINGCATALOGCHAPTER', k.CHAPTER_ID, :base + row_number() over (order by k.CHAPTER_ID) - 1 " +
+        "from TAILORINGCATALOG k inner join TAILORING t on t.TAILORINGCATALOG_ID=k.CATALOG_ID " +
+        "where t.PROJECT_ID=:project and k.CHAPTER_ID is not null",
+        nativeQuery = true)
+    int mapTableOfContents(@Param("target") Long target, @Param("project") Long project, @Param("base") long base);
+
+    /**
+     * Counts the subchapters of mapped chapters.
+     *
+     * @param target     id of target project
+     * @param lowerBound smallest target id of the mapped chapters
+     * @param upperBound largest target id of the mapped chapters
+     * @return number of subchapters of the source chapters
+     */
+    @Query(value = "select count(*) from TAILORINGCATALOGCHAPTER c inner join PROJECTCOPYID m on m.SOURCE_ID=c.PARENTCHAPTER_ID " +
+        "where m.PROJECT_ID=:target and m.KIND='TAILORINGCATALOGCHAPTER' and m.TARGET_ID between :lowerBound and :upperBound",
+        nativeQuery = true)
+    long countSubChapters(@Param("target") Long target,
+                          @Param("lowerBound") long lowerBound,
+                          @Param("upperBound") long upperBound);
+
+    /**
+     * Maps the ids of the subchapters of mapped chapters to a block of reserved ids.
+     *
+     * @param target     id of target project
+     * @param lowerBound smallest target id of the mapped chapters
+     * @param upperBound largest target id of the mapped chapters
+     * @param base       first id of the reserved block
+     * @return number of mapped subchapters
+     */
+    @Modifying
+    @Query(value = "insert into PROJECTCOPYID (PROJECT_ID, KIND, SOURCE_ID, TARGET_ID) " +
+        "select :target, 'TAILORINGCATALOGCHAPTER', c.CHAPTER_ID, :base + row_number() over (order by c.CHAPTER_ID) - 1 " +
+        "from TAILORINGCATALOGCHAPTER c inner join PROJECTCOPYID m on m.SOURCE_ID=c.PARENTCHAPTER_ID " +
+        "where m.PROJECT_ID=:target and m.KIND='TAILORINGCATALOGCHAPTER' and m.TARGET_ID between :lowerBound and :upperBound",
+        nativeQuery = true)
+    int mapSubChapters(@Param("target") Long target,
+                       @Param("lowerBound") long lowerBound,
+                       @Param("upperBound") long upperBound,
+                       @Param("base") long base);
+
+    /**
+     * Counts the requirements of all mapped chapters.
+     *
+     * @param target id of target project
+     * @return number of requirements of the source chapters
+     */
+    @Query(value = "select count(*) from TAILORINGREQUIREMENT r inner join PROJECTCOPYID m on m.SOURCE_ID=r.CHAPTER_ID " +
+        "where m.PROJECT_ID=:target and m.KIND='TAILORINGCATALOGCHAPTER'",
+        nativeQuery = true)
+    long countRequirements(@Param("target") Long target);
+
+    /**
+     * Maps the ids of the requirements of all mapped chapters to a block of reserved ids.
+     *
+     * @param target id of target project
+     * @param base   first id of the reserved block
+     * @return number of mapped requirements
+     */
+    @Modifying
+    @Query(value = "insert into PROJECTCOPYID (PROJECT_ID, KIND, SOURCE_ID, TARGET_ID) " +
+        "select :target, 'TAILORINGREQUIREMENT', r.REQUIREMENT_ID, :base + row_number() over (order by r.REQUIREMENT_ID) - 1 " +
+        "from TAILORINGREQUIREMENT r inner join PROJECTCOPYID m on m.SOURCE_ID=r.CHAPTER_ID " +
+        "where m.PROJECT_ID=:target and m.KIND='TAILORINGCATALOGCHAPTER'",
+        nativeQuery = true)
+    int mapRequirements(@Param("target") Long target, @Param("base") long base);
+
+    /**
+     * Counts the notes of the tailorings of a project.
+     *
+     * @param project id of project
+     * @return number of notes
+     */
+    @Query(value = "select count(*) from NOTE n inner join TAILORING t on t.TAILORING_ID=n.TAILORING_ID where t.PROJECT_ID=:project",
+        nativeQuery = true)
+    long countNotes(@Param("project") Long project);
+
+    /**
+     * Maps the ids of the notes of the tailorings of a project to a block of reserved ids.
+     *
+     * @param target  id of target project
+     * @param project id of source project
+     * @param base    first id of the reserved block
+     * @return number of mapped notes
+     */
+    @Modifying
+    @Query(value = "insert into PROJECTCOPYID (PROJECT_ID, KIND, SOURCE_ID, TARGET_ID) " +
+        "select :target, 'NOTE', n.NOTE_ID, :base + row_number() over (order by n.NOTE_ID) - 1 " +
+        "from NOTE n inner join TAILORING t on t.TAILORING_ID=n.TAILORING_ID where t.PROJECT_ID=:project",
+        nativeQuery = true)
+    int mapNotes(@Param("target") Long target, @Param("project") Long project, @Param("base") long base);
+
+    /**
+     * Counts the parameters of a screeningsheet.
+     *
+     * @param screeningSheet id of screeningsheet
+     * @return number of parameters
+     */
+    @Query(value = "select count(*) from SCREENINGSHEETPARAMETER p where p.SCREENINGSHEET_ID=:screeningSheet", nativeQuery = true)
+    long countScreeningSheetParameters(@Param("screeningSheet") Long screeningSheet);
+
+    /**
+     * Copies the mapped selection vectors.
+     *
+     * @param target id of target project
+     * @return number of copied selection vectors
+     */
+    @Modifying
+    @Query(value = "insert into SELECTIONVECTOR (SELECTIONVECTOR_ID) " +
+        "select m.TARGET_ID from PROJECTCOPYID m where m.PROJECT_ID=:target and m.KIND='SELECTIONVECTOR'",
+        nativeQuery = true)
+    int copySelectionVectors(@Param("target") Long target);
+
+    /**
+     * Copies the levels of the mapped selection vectors.
+     *
+     * @param target id of target project
+     * @return number of copied levels
+     */
+    @Modifying
+    @Query(value = "insert into SELECTIONVECTORPARAMETER (SELECTIONVECTOR_ID, TYPE, LEVEL) " +
+        "select m.TARGET_ID, v.TYPE, v.LEVEL from SELECTIONVECTORPARAMETER v " +
+        "inner join PROJECTCOPYID m on m.SOURCE_ID=v.SELECTIONVECTOR_ID where m.PROJECT_ID=:target and m.KIND='SELECTIONVECTOR'",
+        nativeQuery = true)
+    int copySelectionVectorLevels(@Param("target") Long target);
+
+    /**
+     * Creates a selection vector per mapped tailoring with the levels of a given selection vector.
+     *
+     * @param target          id of target project
+     * @param selectionVector id of selection vector to copy
+     * @param offset          offset added to the target ids of the tailorings to get the selection vector ids
+     * @return number of created selection vectors
+     */
+    @Modifying
+    @Query(value = "insert into SELECTIONVECTOR (SELECTIONVECTOR_ID) " +
+        "select m.TARGET_ID + :offset from PROJECTCOPYID m, SELECTIONVECTOR v " +
+        "where m.PROJECT_ID=:target and m.KIND='TAILORING' and v.SELECTIONVECTOR_ID=:selectionVector",
+        nativeQuery = true)
+    int copySelectionVectorPerTailoring(@Param("target") Long target,
+                                        @Param("selectionVector") Long selectionVector,
+                                        @Param("offset") long offset);
+
+    /**
+     * Copies the levels of a selection vector to the selection vectors created by
+     * {@link #copySelectionVectorPerTailoring(Long, Long, long)}.
+     *
+     * @param target          id of target project
+     * @param selectionVector id of selection vector to copy
+     * @param offset          offset added to the target ids of the tailorings to get the selection vector ids
+     * @return number of copied levels
+     */
+    @Modifying
+    @Query(value = "insert into SELECTIONVECTORPARAMETER (SELECTIONVECTOR_ID, TYPE, LEVEL) " +
+        "select m.TARGET_ID + :offset, v.TYPE, v.LEVEL from PROJECTCOPYID m, SELECTIONVECTORPARAMETER v " +
+        "where m.PROJECT_ID=:target and m.KIND='TAILORING' and v.SELECTIONVECTOR_ID=:selectionVector",
+        nativeQuery = true)
+    int copySelectionVectorLevelsPerTailoring(@Param("target") Long target,
+                                              @Param("selectionVector") Long selectionVector,
+                                              @Param("offset") long offset);
+
+    /**
+     * Creates a copy of a screeningsheet per mapped tailoring.
+     *
+     * @param target                id of target project
+     * @param screeningSheet        id of screeningsheet to copy
+     * @param offset                offset added to the target ids of the tailorings to get the screeningsheet ids
+     * @param selectionVectorOffset offset added to the target ids of the tailorings to get the selection vector ids
+     * @return number of created screeningsheets
+     */
+    @Modifying
+    @Query(value = "insert into SCREENINGSHEET (SCREENINGSHEET_ID, DATA, SELEKTIONVECTOR_ID) " +
+        "select m.TARGET_ID + :offset, s.DATA, " +
+        "case when s.SELEKTIONVECTOR_ID is null then null else m.TARGET_ID + :selectionVectorOffset end " +
+        "from PROJECTCOPYID m, SCREENINGSHEET s where m.PROJECT_ID=:target and m.KIND='TAILORING' and s.SCREENINGSHEET_ID=:screeningSheet",
+        nativeQuery = true)
+    int copyScreeningSheetPerTailoring(@Param("target") Long target,
+                                       @Param("screeningSheet") Long screeningSheet,
+                                       @Param("offset") long offset,
+                                       @Param("selectionVectorOffset") long selectionVectorOffset);
+
+    /**
+     * Copies the parameters of a screeningsheet to the screeningsheets created by
+     * {@link #copyScreeningSheetPerTailoring(Long, Long, long, long)}.
+     * <p>
+     * Id of a copied parameter is calculated by the index of the tailoring in the reserved tailoring ids multiplied
+     * with the number of parameters plus the index of the parameter and offset.
+     *
+     * @param target               id of target project
+     * @param screeningSheet       id of screeningsheet to copy parameters of
+     * @param tailoring            first id of the reserved tailoring ids
+     * @param size                 number of parameters of the screeningsheet
+     * @param offset               first id of the reserved parameter ids
+     * @param screeningSheetOffset offset added to the target ids of the tailorings to get the screeningsheet ids
+     * @return number of copied parameters
+     */
+    @Modifying
+    @Query(value = "insert into SCREENINGSHEETPARAMETER (SCREENINGSHEETPARAMETER_ID, CATEGORY, PARAMETERVALUE, POSITION, SCREENINGSHEET_ID) " +
+        "select (m.TARGET_ID - :tailoring) * :size + p.PARAMETER_INDEX + :offset, p.CATEGORY, p.PARAMETERVALUE, p.POSITION, " +
+        "m.TARGET_ID + :screeningSheetOffset from PROJECTCOPYID m, " +
+        "(select q.CATEGORY, q.PARAMETERVALUE, q.POSITION, row_number() over (order by q.SCREENINGSHEETPARAMETER_ID) - 1 as PARAMETER_INDEX " +
+        "from SCREENINGSHEETPARAMETER q where q.SCREENINGSHEET_ID=:screeningSheet) p " +
+        "where m.PROJECT_ID=:target and m.KIND='TAILORING'",
+        nativeQuery = true)
+    int copyScreeningSheetParametersPerTailoring(@Param("target") Long target,
+                                                 @Param("screeningSheet") Long screeningSheet,
+                                                 @Param("tailoring") long tailoring,
+                                                 @Param("size") long size,
+                                                 @Param("offset") long offset,
+                                                 @Param("screeningSheetOffset") long screeningSheetOffset);
+
+    /**
+     * Copies mapped chapters of a level of the chapter trees.
+     *
+     * @param target     id of target project
+     * @param lowerBound smallest target id of the chapters to copy
+     * @param upperBound largest target id of the chapters to copy
+     * @return number of copied chapters
+     */
+    @Modifying
+    @Query(value = "insert into TAILORINGCATALOGCHAPTER (CHAPTER_ID, NAME, POSITION, NUMBER, CHAPTER_ORDER, PARENTCHAPTER_ID) " +
+        "select m.TARGET_ID, c.NAME, c.POSITION, c.NUMBER, c.CHAPTER_ORDER, p.TARGET_ID from PROJECTCOPYID m " +
+        "inner join TAILORINGCATALOGCHAPTER c on c.CHAPTER_ID=m.SOURCE_ID " +
+        "left join PROJECTCOPYID p on p.PROJECT_ID=m.PROJECT_ID and p.KIND=m.KIND and p.SOURCE_ID=c.PARENTCHAPTER_ID " +
+        "where m.PROJECT_ID=:target and m.KIND='TAILORINGCATALOGCHAPTER' and m.TARGET_ID between :lowerBound and :upperBound",
+        nativeQuery = true)
+    int copyChapters(@Param("target") Long target,
+                     @Param("lowerBound") long lowerBound,
+                     @Param("upperBound") long upperBound);
+
+    /**
+     * Copies the mapped requirements.
+     *
+     * @param target id of target project
+     * @return number of copied requirements
+     */
+    @Modifying
+    @Query(value = "insert into TAILORINGREQUIREMENT (REQUIREMENT_ID, TEXT, REFERENCE, REFERENCE_CHANGED, REFERENCELOGO_ID, ISSUE, RELEASEDATE, " +
+        "POSITION, SELECTED, SELECTIONCHANGED, TEXTCHANGED, NUMBER, CHAPTER_ID, REQUIREMENT_ORDER) " +
+        "select m.TARGET_ID, r.TEXT, r.REFERENCE, r.REFERENCE_CHANGED, r.REFERENCELOGO_ID, r.ISSUE, r.RELEASEDATE, " +
+        "r.POSITION, r.SELECTED, r.SELECTIONCHANGED, r.TEXTCHANGED, r.NUMBER, c.TARGET_ID, r.REQUIREMENT_ORDER from PROJECTCOPYID m " +
+        "inner join TAILORINGREQUIREMENT r on r.REQUIREMENT_ID=m.SOURCE_ID " +
+        "inner join PROJECTCOPYID c on c.PROJECT_ID=m.PROJECT_ID and c.KIND='TAILORINGCATALOGCHAPTER' and c.SOURCE_ID=r.CHAPTER_ID " +
+        "where m.PROJECT_ID=:target and m.KIND='TAILORINGREQUIREMENT'",
+        nativeQuery = true)
+    int copyRequirements(@Param("target") Long target);
+
+    /**
+     * Copies the DRD assignments of the mapped requirements.
+     *
+     * @param target id of target project
+     * @return number of copied DRD assignments
+     */
+    @Modifying
+    @Query(value = "insert into TAILORINGREQUIREMENT_DRD (REQUIREMENT_ID, DRD_ID) " +
+        "select m.TARGET_ID, d.DRD_ID from TAILORINGREQUIREMENT_DRD d " +
+        "inner join PROJECTCOPYID m on m.SOURCE_ID=d.REQUIREMENT_ID where m.PROJECT_ID=:target and m.KIND='TAILORINGREQUIREMENT'",
+        nativeQuery = true)
+    int copyRequirementDRDs(@Param("target") Long target);
+
+    /**
+     * Copies the mapped tailoring catalogs.
+     *
+     * @param target id of target project
+     * @return number of copied catalogs
+     */
+    @Modifying
+    @Query(value = "insert into TAILORINGCATALOG (CATALOG_ID, VERSION, CHAPTER_ID) " +
+        "select m.TARGET_ID, k.VERSION, c.TARGET_ID from PROJECTCOPYID m " +
+        "inner join TAILORINGCATALOG k on k.CATALOG_ID=m.SOURCE_ID " +
+        "left join PROJECTCOPYID c on c.PROJECT_ID=m.PROJECT_ID and c.KIND='TAILORINGCATALOGCHAPTER' and c.SOURCE_ID=k.CHAPTER_ID " +
+        "where m.PROJECT_ID=:target and m.KIND='TAILORINGCATALOG'",
+        nativeQuery = true)
+    int copyCatalogs(@Param("target") Long target);
+
+    /**
+     * Copies the mapped tailorings to the target project.
+     * <p>
+     * Revision of the copied tailorings is reset. As the tailorings of the target project are changed in database,
+     * persistence context will be cleared.
+     *
+     * @param target               id of target project
+     * @param screeningSheetOffset offset added to the target ids of the tailorings to get the screeningsheet ids
+     * @param creationTimestamp    creation timestamp of the copied tailorings in database representation
+     * @return number of copied tailorings
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "insert into TAILORING (TAILORING_ID, IDENTIFER, NAME, TAILORINGCATALOG_ID, SCREENINGSHEET_ID, SELECTIONVECTOR_ID, " +
+        "STATE, CREATIONTIMESTAMP, REVISION, PROJECT_ID, TAILORING_ORDER) " +
+        "select m.TARGET_ID, t.IDENTIFER, t.NAME, k.TARGET_ID, m.TARGET_ID + :screeningSheetOffset, " +
+        "v.TARGET_ID, t.STATE, :creationTimestamp, 0, :target, t.TAILORING_ORDER from PROJECTCOPYID m " +
+        "inner join TAILORING t on t.TAILORING_ID=m.SOURCE_ID " +
+        "left join PROJECTCOPYID k on k.PROJECT_ID=m.PROJECT_ID and k.KIND='TAILORINGCATALOG' and k.SOURCE_ID=t.TAILORINGCATALOG_ID " +
+        "left join PROJECTCOPYID v on v.PROJECT_ID=m.PROJECT_ID and v.KIND='SELECTIONVECTOR' and v.SOURCE_ID=t.SELECTIONVECTOR_ID " +
+        "where m.PROJECT_ID=:target and m.KIND='TAILORING'",
+        nativeQuery = true)
+    int copyTailorings(@Param("target") Long target,
+                       @Param("screeningSheetOffset") long screeningSheetOffset,
+                       @Param("creationTimestamp") String creationTimestamp);
+
+    /**
+     * Copies the phases of the mapped tailorings.
+     *
+     * @param target id of target project
+     * @return number of copied phases
+     */
+    @Modifying
+    @Query(value = "insert into TAILORING_PHASE (TAILORING_ID, PHASE, PHASE_ORDER) " +
+        "select m.TARGET_ID, p.PHASE, p.PHASE_ORDER from TAILORING_PHASE p " +
+        "inner join PROJECTCOPYID m on m.SOURCE_ID=p.TAILORING_ID where m.PROJECT_ID=:target and m.KIND='TAILORING'",
+        nativeQuery = true)
+    int copyPhases(@Param("target") Long target);
+
+    /**
+     * Copies the document signatures of the mapped tailorings.
+     *
+     * @param target id of target project
+     * @return number of copied signatures
+     */
+    @Modifying
+    @Query(value = "insert into DOCUMENTSIGNATURE (TAILORING_ID, FACULTY, SIGNEE, STATE, APPLICABLE, POSITION) " +
+        "select m.TARGET_ID, s.FACULTY, s.SIGNEE, s.STATE, s.APPLICABLE, s.POSITION from DOCUMENTSIGNATURE s " +
+        "inner join PROJECTCOPYID m on m.SOURCE_ID=s.TAILORING_ID where m.PROJECT_ID=:target and m.KIND='TAILORING'",
+        nativeQuery = true)
+    int copySignatures(@Param("target") Long target);
+
+    /**
+     * Copies the mapped notes.
+     *
+     * @param target id of target project
+     * @return number of copied notes
+     */
+    @Modifying
+    @Query(value = "insert into NOTE (NOTE_ID, NUMBER, TEXT, CREATIONTIMESTAMP, TAILORING_ID) " +
+        "select m.TARGET_ID, n.NUMBER, n.TEXT, n.CREATIONTIMESTAMP, t.TARGET_ID from PROJECTCOPYID m " +
+        "inner join NOTE n on n.NOTE_ID=m.SOURCE_ID " +
+        "inner join PROJECTCOPYID t on t.PROJECT_ID=m.PROJECT_ID and t.KIND='TAILORING' and t.SOURCE_ID=n.TAILORING_ID " +
+        "where m.PROJECT_ID=:target and m.KIND='NOTE'",
+        nativeQuery = true)
+    int copyNotes(@Param("target") Long target);
+}
@@ -21,13 +21,27 @@
  */
 package eu.tailoringexpert.repository;
 
+import eu.tailoringexpert.domain.DocumentSignatureEntity;
+import eu.tailoringexpert.domain.NoteEntity;
 import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.ProjectInformationProjection;
+import eu.tailoringexpert.domain.ProjectState;
+import eu.tailoringexpert.domain.SelectionVectorEntity;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringInformationProjection;
 import eu.tailoringexpert.domain.TailoringState;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
+import static org.springframework.data.jpa.repository.EntityGraph.EntityGraphType.LOAD;
+
 /**
  * Spring Data access layer of {@link ProjectEntity}.
  *
@@ -60,6 +74,42 @@ public interface ProjectRepository extends JpaRepository<ProjectEntity, Long> {
     @Query("Select t from #{#entityName} p inner join p.tailorings t where p.identifier=:project and t.name=:name")
     TailoringEntity findTailoring(@Param("project") String project, @Param("name") String name);
 
+    /**
+     * Load tailoring of project without its catalog tree.
+     *
+     * @param project poject identifier
+     * @param name    name to tailoring to load
+     * @return loadad tailoring
+     */
+    @EntityGraph(value = TailoringEntity.GRAPH_HEADER, type = LOAD)
+    @Query("Select t from Tailoring t where t.name=:name and t in (Select pt from #{#entityName} p inner join p.tailorings pt where p.identifier=:project)")
+    TailoringEntity findTailoringHeader(@Param("project") String project, @Param("name") String name);
+
+    /**
+     * Load tailoring of project including the chapter structure of its catalog.
+     * Requirements are loaded lazily for the chapters actually accessed.
+     *
+     * @param project poject identifier
+     * @param name    name to tailoring to load
+     * @return loadad tailoring
+     */
+    @EntityGraph(value = TailoringEntity.GRAPH_CHAPTERS, type = LOAD)
+    @Query("Select t from Tailoring t where t.name=:name and t in (Select pt from #{#entityName} p inner join p.tailorings pt where p.identifier=:project)")
+    TailoringEntity findTailoringWithChapters(@Param("project") String project, @Param("name") String name);
+
+    /**
+     * Load tailoring of project including its complete catalog.
+     * The number of queries depends on the depth of the chapter tree only, not on the number of chapters or
+     * requirements.
+     *
+     * @param project poject identifier
+     * @param name    name to tailoring to load
+     * @return loadad tailoring
+     */
+    @EntityGraph(value = TailoringEntity.GRAPH_CATALOG, type = LOAD)
+    @Query("Select t from Tailoring t where t.name=:name and t in (Select pt from #{#entityName} p inner join p.tailorings pt where p.identifier=:project)")
+    TailoringEntity findTailoringWithCatalog(@Param("project") String project, @Param("name") String name);
+
     /**
      * Checks if a tailoring belongs to a dedicated project.
      *
@@ -80,6 +130,109 @@ public interface ProjectRepository extends JpaRepository<ProjectEntity, Long> {
     @Query("Select t.state from #{#entityName} p inner join p.tailorings t where p.identifier=:project and t.name=:name")
     TailoringState findTailoringState(@Param("project") String project, @Param("name") String name);
 
+    /**
+     * Loads technical id of requested tailoring without loading the tailoring.
+     *
+     * @param project poject identifier
+     * @param name    name to tailoring
+     * @return id of tailoring
+     */
+    @Query("Select t.id from #{#entityName} p inner join p.tailorings t where p.identifier=:project and t.name=:name")
+    Long findTailoringId(@Param("project") String project, @Param("name") String name);
+
+    /**
+     * Loads content revision of requested tailoring.
+     * <p>
+     * Revision contains the technical id of the tailoring, so a recreated tailoring with the same name does not share
+     * revisions with the deleted one.
+     *
+     * @param project poject identifier
+     * @param name    name to tailoring
+     * @return loaded revision
+     */
+    @Query("Select concat(cast(t.id as String), '-', cast(t.revision as String)) from #{#entityName} p inner join p.tailorings t where p.identifier=:project and t.name=:name")
+    String findTailoringRevision(@Param("project") String project, @Param("name") String name);
+
+    /**
+     * Loads applied selection vector of requested tailoring without loading the tailoring catalog.
+     *
+     * @param project poject identifier
+     * @param name    name to tailoring to load selection vector of
+     * @return loaded selection vector
+     */
+    @Query("Select t.selectionVector from #{#entityName} p inner join p.tailorings t where p.identifier=:project and t.name=:name")
+    SelectionVectorEntity findTailoringSelectionVector(@Param("project") String project, @Param("name") String name);
+
+    /**
+     * Loads document signatures of requested tailoring without loading the tailoring catalog.
+     *
+     * @param project poject identifier
+     * @param name    name to tailoring to load signatures of
+     * @return loaded signatures ordered by position
+     */
+    @Query("Select s from #{#entityName} p inner join p.tailorings t inner join t.signatures s where p.identifier=:project and t.name=:name order by s.position")
+    List<DocumentSignatureEntity> findTailoringSignatures(@Param("project") String project, @Param("name") String name);
+
+    /**
+     * Loads notes of requested tailoring without loading the tailoring catalog.
+     *
+     * @param project poject identifier
+     * @param name    name to tailoring to load notes of
+     * @return loaded notes ordered by number
+     */
+    @Query("Select n from #{#entityName} p inner join p.tailorings t inner join t.notes n where p.identifier=:project and t.name=:name order by n.number")
+    List<NoteEntity> findTailoringNotes(@Param("project") String project, @Param("name") String name);
+
+    /**
+     * Loads core data of a page of projects without loading their tailorings.
+     * <p>
+     * All filter parameters are optional and ignored, if null.
+     * The prefix is used as like pattern with {@code !} as escape character, so {@code !}, {@code %} and {@code _}
+     * contained in a prefix have to be escaped by {@code !}.
+     *
+     * @param state    state of projects to load
+     * @param prefix   escaped prefix of the identifier of projects to load
+     * @param version  catalog version of at least one tailoring of projects to load
+     * @param after    only projects with an identifier after this one
+     * @param before   only projects with an identifier before this one
+     * @param pageable page and sort of projects to load
+     * @return loaded page of projects
+     */
+    @Query("Select p.identifier as identifier, p.creationTimestamp as creationTimestamp, p.state as state from #{#entityName} p " +
+        "where (:state is null or p.state=:state) " +
+        "and (:prefix is null or p.identifier like concat(:prefix, '%') escape '!') " +
+        "and (:version is null or exists (Select t.id from #{#entityName} vp inner join vp.tailorings t where vp=p and t.catalog.version=:version)) " +
+        "and (:after is null or p.identifier>:after) " +
+        "and (:before is null or p.identifier<:before)")
+    Slice<ProjectInformationProjection> findProjectInformations(@Param("state") ProjectState state,
+                                                                @Param("prefix") String prefix,
+                                                                @Param("version") String version,
+                                                                @Param("after") String after,
+                                                                @Param("before") String before,
+                                                                Pageable pageable);
+
+    /**
+     * Loads core data of a project without loading its tailorings.
+     *
+     * @param project identifier of project to load
+     * @return loaded project core data
+     */
+    @Query("Select p.identifier as identifier, p.creationTimestamp as creationTimestamp, p.state as state from #{#entityName} p where p.identifier=:project")
+    ProjectInformationProjection findProjectInformation(@Param("project") String project);
+
+    /**
+     * Loads core data of all tailorings of the requested projects in one query.
+     * <p>
+     * Rows are ordered by project and tailoring order. A tailoring is returned in one row per phase.
+     *
+     * @param projects identifiers of projects to load tailorings of
+     * @return loaded tailoring rows
+     */
+    @Query("Select p.identifier as project, t.name as name, c.version as catalogVersion, t.state as state, ph as phase " +
+        "from #{#entityName} p inner join p.tailorings t left join t.catalog c left join t.phases ph " +
+        "where p.identifier in :projects order by p.identifier, index(t), index(ph)")
+    List<TailoringInformationProjection> findTailoringInformations(@Param("projects") Collection<String> projects);
+
     /**
      * Checks if a project exists.
      *
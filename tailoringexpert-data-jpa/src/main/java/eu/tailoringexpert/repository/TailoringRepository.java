@@ -23,6 +23,9 @@ package eu.tailoringexpert.repository;
 
 import eu.tailoringexpert.domain.TailoringEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Spring Data access layer of {@link TailoringEntity}.
@@ -30,4 +33,17 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @author Michael Bädorf
  */
 public interface TailoringRepository extends JpaRepository<TailoringEntity, Long> {
+
+    /**
+     * Increments the content revision of a tailoring.
+     * <p>
+     * Revision is incremented in database, so concurrent modifications of a tailoring do not result in the same
+     * revision.
+     *
+     * @param id id of tailoring
+     * @return number of updated tailorings
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update #{#entityName} t set t.revision=t.revision+1 where t.id=:id")
+    int incrementRevision(@Param("id") Long id);
 }
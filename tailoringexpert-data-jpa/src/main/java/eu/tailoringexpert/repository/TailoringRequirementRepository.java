@@ -0,0 +1,96 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2024 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Spring Data access layer of {@link TailoringRequirementEntity}.
+ *
+ * @author Michael Bädorf
+ */
+public interface TailoringRequirementRepository extends JpaRepository<TailoringRequirementEntity, Long> {
+
+    /**
+     * Determines the id of a requirement of a chapter without loading requirements of chapter.
+     *
+     * @param chapter  id of chapter containing requirement
+     * @param position position of requirement in chapter
+     * @return id of requirement, null if not existing
+     */
+    @Query("Select r.id from TailoringCatalogChapter c inner join c.requirements r where c.id=:chapter and r.position=:position")
+    Long findRequirementId(@Param("chapter") Long chapter, @Param("position") String position);
+
+    /**
+     * Sets selection state of requirement, if state differs from the current one.
+     * Selection change timestamp will be set if not already set, otherwise it will be removed.
+     *
+     * @param id          id of requirement to update
+     * @param selected    new selection state
+     * @param pointOfTime timestamp of modification
+     * @return number of updated requirements
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update #{#entityName} r set r.selected=:selected, " +
+        "r.selectionChanged=case when r.selectionChanged is null then :pointOfTime else null end " +
+        "where r.id=:id and r.selected<>:selected")
+    int updateSelected(@Param("id") Long id,
+                       @Param("selected") Boolean selected,
+                       @Param("pointOfTime") ZonedDateTime pointOfTime);
+
+    /**
+     * Loads the text of a requirement without loading the requirement.
+     *
+     * @param id id of requirement
+     * @return text of requirement, null if not existing
+     */
+    @Query("Select r.text from #{#entityName} r where r.id=:id")
+    String findText(@Param("id") Long id);
+
+    /**
+     * Sets text of requirement.
+     * Text change timestamp will be set and an existing reference will be marked as changed.
+     * <p>
+     * Whether the text differs from the current one has to be checked by the caller, because comparing the text in
+     * the database depends on the collation of the column and might ignore case or trailing spaces.
+     *
+     * @param id          id of requirement to update
+     * @param text        new text of requirement
+     * @param pointOfTime timestamp of modification
+     * @return number of updated requirements
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update #{#entityName} r set r.text=:text, r.textChanged=:pointOfTime, " +
+        "r.reference.changed=case when r.reference.text is null and r.reference.issue is null " +
+        "and r.reference.releaseDate is null and r.reference.logo is null and r.reference.changed is null " +
+        "then r.reference.changed else true end " +
+        "where r.id=:id")
+    int updateText(@Param("id") Long id,
+                   @Param("text") String text,
+                   @Param("pointOfTime") ZonedDateTime pointOfTime);
+}
@@ -21,22 +21,33 @@
  */
 package eu.tailoringexpert.requirement;
 
+import eu.tailoringexpert.ReferenceLookup;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.TailoringRequirementEntity;
 import eu.tailoringexpert.domain.TailoringEntity;
 import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
 import eu.tailoringexpert.domain.TailoringRequirement;
 import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.TailoringRepository;
+import eu.tailoringexpert.repository.TailoringRequirementRepository;
+import eu.tailoringexpert.tailoring.ImportRequirement;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import jakarta.transaction.Transactional;
 import lombok.extern.log4j.Log4j2;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 
 import static java.util.Comparator.comparing;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
@@ -57,6 +68,12 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
     @NonNull
     private ProjectRepository projectRepository;
 
+    @NonNull
+    private TailoringRequirementRepository requirementRepository;
+
+    @NonNull
+    private TailoringRepository tailoringRepository;
+
     /**
      * {@inheritDoc}
      */
@@ -75,10 +92,7 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
         }
 
         Optional<TailoringRequirement> result = ofNullable(mapper.toDomain(oChapter.get()
-            .getRequirements()
-            .stream()
-            .filter(requirement -> position.equals(requirement.getPosition()))
-            .findFirst()
+            .getRequirement(position)
             .orElse(null)));
 
         log.traceExit();
@@ -102,11 +116,7 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
             return empty();
         }
 
-        Optional<TailoringRequirementEntity> oRequirement = oChapter.get()
-            .getRequirements()
-            .stream()
-            .filter(a -> requirement.getPosition().equals(a.getPosition()))
-            .findFirst();
+        Optional<TailoringRequirementEntity> oRequirement = oChapter.get().getRequirement(requirement.getPosition());
 
         if (oRequirement.isEmpty()) {
             log.traceExit();
@@ -114,12 +124,72 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
         }
 
         mapper.updateRequirement(requirement, oRequirement.get());
+        incrementRevision(project, tailoring);
         Optional<TailoringRequirement> result = of(mapper.toDomain(oRequirement.get()));
 
         log.traceExit();
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<TailoringRequirement> updateRequirementSelected(
+        @NonNull String project,
+        @NonNull String tailoring,
+        @NonNull String chapter,
+        @NonNull String position,
+        @NonNull Boolean selected,
+        @NonNull ZonedDateTime pointOfTime) {
+        log.traceEntry(() -> project, () -> tailoring, () -> chapter, () -> position, () -> selected);
+
+        Long id = findRequirementId(project, tailoring, chapter, position);
+        if (isNull(id)) {
+            log.traceExit();
+            return empty();
+        }
+
+        if (requirementRepository.updateSelected(id, selected, pointOfTime) > 0) {
+            incrementRevision(project, tailoring);
+        }
+        Optional<TailoringRequirement> result = requirementRepository.findById(id)
+            .map(mapper::toDomain);
+
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<TailoringRequirement> updateRequirementText(
+        @NonNull String project,
+        @NonNull String tailoring,
+        @NonNull String chapter,
+        @NonNull String position,
+        @NonNull String text,
+        @NonNull ZonedDateTime pointOfTime) {
+        log.traceEntry(() -> project, () -> tailoring, () -> chapter, () -> position, () -> text);
+
+        Long id = findRequirementId(project, tailoring, chapter, position);
+        if (isNull(id)) {
+            log.traceExit();
+            return empty();
+        }
+
+        if (!text.equals(requirementRepository.findText(id))) {
+            requirementRepository.updateText(id, text, pointOfTime);
+            incrementRevision(project, tailoring);
+        }
+        Optional<TailoringRequirement> result = requirementRepository.findById(id)
+            .map(mapper::toDomain);
+
+        log.traceExit();
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -153,6 +223,7 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
             return empty();
         }
 
+        ReferenceLookup lookup = mapper.createReferenceLookup(chapter.allRequirements());
         oChapter.get().allChapters()
             .forEachOrdered(subChapter -> {
                 Chapter<TailoringRequirement> domainChapter = chapter.getChapter(subChapter.getNumber());
@@ -161,9 +232,11 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
                     .sorted(comparing(TailoringRequirementEntity::getPosition))
                     .forEachOrdered(requirement -> mapper.updateRequirement(
                         domainChapter.getRequirement(requirement.getPosition()).get(),
-                        requirement)
+                        requirement,
+                        lookup)
                     );
             });
+        incrementRevision(project, tailoring);
         Optional<Chapter<TailoringRequirement>> result = of(mapper.toDomain(oChapter.get()));
 
         log.traceExit();
@@ -190,6 +263,7 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
             .stream()
             .filter(requirement -> isNull(requirement.getNumber()))
             .forEach(requirement -> requirement.setNumber(chapter.getNumber() + "." + requirement.getPosition()));
+        incrementRevision(project, tailoring);
 
         Optional<Chapter<TailoringRequirement>> result = of(mapper.toDomain(oEntity.get()));
 
@@ -197,6 +271,100 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<RequirementImportResult> updateRequirements(
+        @NonNull String project,
+        @NonNull String tailoring,
+        @NonNull Map<String, Collection<ImportRequirement>> requirements,
+        @NonNull BiPredicate<TailoringRequirement, ImportRequirement> modifier) {
+        log.traceEntry(() -> project, () -> tailoring, requirements::size);
+
+        TailoringEntity eTailoring = projectRepository.findTailoringWithChapters(project, tailoring);
+        if (isNull(eTailoring)) {
+            log.traceExit();
+            return empty();
+        }
+
+        TailoringCatalogChapterEntity toc = eTailoring.getCatalog().getToc();
+        // identity map, because equal requirements might exist in different chapters
+        Map<TailoringRequirement, TailoringRequirementEntity> modified = new IdentityHashMap<>();
+        int unchanged = 0;
+        int unknown = 0;
+        for (Entry<String, Collection<ImportRequirement>> entry : requirements.entrySet()) {
+            Optional<TailoringCatalogChapterEntity> oChapter = toc.getSubChapter(entry.getKey());
+            for (ImportRequirement importRequirement : entry.getValue()) {
+                Optional<TailoringRequirementEntity> oRequirement = oChapter
+                    .flatMap(chapter -> chapter.getRequirement(importRequirement.getPosition()));
+                if (oRequirement.isEmpty()) {
+                    unknown++;
+                    continue;
+                }
+
+                // only data changeable by import is mapped, managed entity is updated in place
+                TailoringRequirement requirement = mapper.toImportDomain(oRequirement.get());
+                if (modifier.test(requirement, importRequirement)) {
+                    modified.put(requirement, oRequirement.get());
+                } else {
+                    unchanged++;
+                }
+            }
+        }
+
+        if (!modified.isEmpty()) {
+            modified.forEach(mapper::updateImportedRequirement);
+            tailoringRepository.incrementRevision(eTailoring.getId());
+        }
+
+        Optional<RequirementImportResult> result = of(RequirementImportResult.builder()
+            .applied(modified.size())
+            .unchanged(unchanged)
+            .unknown(unknown)
+            .build());
+
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * Determine the id of a requirement without loading the requirements of the tailoring catalog.
+     *
+     * @param project   project tailoring belongs to
+     * @param tailoring tailoring requirement belongs to
+     * @param chapter   chapter containing requirement
+     * @param position  position of requirement in chapter
+     * @return id of requirement if exists, otherwise null
+     */
+    private Long findRequirementId(
+        String project,
+        String tailoring,
+        String chapter,
+        String position) {
+        log.traceEntry(() -> project, () -> tailoring, () -> chapter, () -> position);
+
+        Long result = findChapter(project, tailoring, chapter)
+            .map(eChapter -> requirementRepository.findRequirementId(eChapter.getId(), position))
+            .orElse(null);
+
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * Increments content revision of tailoring, because requirements of tailoring have been changed.
+     *
+     * @param project   project tailoring belongs to
+     * @param tailoring changed tailoring
+     */
+    private void incrementRevision(String project, String tailoring) {
+        Long id = projectRepository.findTailoringId(project, tailoring);
+        if (nonNull(id)) {
+            tailoringRepository.incrementRevision(id);
+        }
+    }
+
     /**
      * Load a requested tailoring catalog chapter.
      *
@@ -211,7 +379,7 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
         String chapter) {
         log.traceEntry(() -> project, () -> tailoring, () -> chapter);
 
-        TailoringEntity eTailoring = projectRepository.findTailoring(project, tailoring);
+        TailoringEntity eTailoring = projectRepository.findTailoringWithChapters(project, tailoring);
         if (isNull(eTailoring)) {
             log.traceExit();
             return empty();
@@ -220,7 +388,7 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
         Optional<TailoringCatalogChapterEntity> result = eTailoring
             .getCatalog()
             .getToc()
-            .getChapter(chapter);
+            .getSubChapter(chapter);
 
         log.traceExit();
         return result;
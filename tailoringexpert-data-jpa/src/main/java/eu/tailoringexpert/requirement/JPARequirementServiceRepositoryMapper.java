@@ -21,10 +21,13 @@
  */
 package eu.tailoringexpert.requirement;
 
+import eu.tailoringexpert.ReferenceLookup;
 import eu.tailoringexpert.TailoringexpertMapperConfig;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.DRDEntity;
 import eu.tailoringexpert.domain.LogoEntity;
+import eu.tailoringexpert.domain.Reference;
+import eu.tailoringexpert.domain.ReferenceEntity;
 import eu.tailoringexpert.domain.TailoringRequirementEntity;
 import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
 import eu.tailoringexpert.domain.DRD;
@@ -33,8 +36,14 @@ import eu.tailoringexpert.domain.TailoringRequirement;
 import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.LogoRepository;
 import lombok.Setter;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
+
+import java.util.stream.Stream;
 
 import static java.util.Objects.nonNull;
 
@@ -52,19 +61,84 @@ public abstract class JPARequirementServiceRepositoryMapper {
     @Setter
     private DRDRepository drdRepository;
 
+    /**
+     * Creates a lookup of all DRD and logo entities referenced by the provided requirements.
+     *
+     * @param requirements requirements to create lookup for
+     * @return created lookup
+     */
+    ReferenceLookup createReferenceLookup(Stream<TailoringRequirement> requirements) {
+        return ReferenceLookup.of(requirements, drdRepository, logoRepository);
+    }
+
     abstract TailoringRequirement toDomain(TailoringRequirementEntity entity);
 
-    abstract void updateRequirement(TailoringRequirement domain, @MappingTarget TailoringRequirementEntity entity);
+    abstract void updateRequirement(TailoringRequirement domain,
+                                    @MappingTarget TailoringRequirementEntity entity,
+                                    @Context ReferenceLookup lookup);
+
+    void updateRequirement(TailoringRequirement domain, TailoringRequirementEntity entity) {
+        updateRequirement(domain, entity, createReferenceLookup(Stream.ofNullable(domain)));
+    }
+
+    /**
+     * Creates a requirement containing only the data changeable by an import. Neither DRDs nor the logo of the
+     * reference are mapped.
+     *
+     * @param entity requirement to import data to
+     * @return created requirement
+     */
+    @Named("toImportDomain")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "position", source = "position")
+    @Mapping(target = "text", source = "text")
+    @Mapping(target = "selected", source = "selected")
+    @Mapping(target = "selectionChanged", source = "selectionChanged")
+    @Mapping(target = "textChanged", source = "textChanged")
+    @Mapping(target = "reference", source = "reference", qualifiedByName = "toImportReference")
+    abstract TailoringRequirement toImportDomain(TailoringRequirementEntity entity);
+
+    @Named("toImportReference")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "changed", source = "changed")
+    abstract Reference toImportReference(ReferenceEntity entity);
+
+    @Named("updateImportData")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "text", source = "text")
+    @Mapping(target = "selected", source = "selected")
+    @Mapping(target = "selectionChanged", source = "selectionChanged")
+    @Mapping(target = "textChanged", source = "textChanged")
+    abstract void updateImportData(TailoringRequirement domain, @MappingTarget TailoringRequirementEntity entity);
+
+    /**
+     * Updates the data changeable by an import of a managed requirement entity.
+     *
+     * @param domain requirement created by {@link #toImportDomain(TailoringRequirementEntity)} with imported data
+     * @param entity managed requirement to update
+     */
+    void updateImportedRequirement(TailoringRequirement domain, TailoringRequirementEntity entity) {
+        updateImportData(domain, entity);
+        if (nonNull(domain.getReference()) && nonNull(entity.getReference())) {
+            entity.getReference().setChanged(domain.getReference().getChanged());
+        }
+    }
 
     abstract Chapter<TailoringRequirement> toDomain(TailoringCatalogChapterEntity entity);
 
-    abstract void updateChapter(Chapter<TailoringRequirement> domain, @MappingTarget TailoringCatalogChapterEntity entity);
+    abstract void updateChapter(Chapter<TailoringRequirement> domain,
+                                @MappingTarget TailoringCatalogChapterEntity entity,
+                                @Context ReferenceLookup lookup);
+
+    void updateChapter(Chapter<TailoringRequirement> domain, TailoringCatalogChapterEntity entity) {
+        updateChapter(domain, entity, createReferenceLookup(nonNull(domain) ? domain.allRequirements() : Stream.empty()));
+    }
 
-    LogoEntity resolve(Logo domain) {
-        return nonNull(domain) ? logoRepository.findByName(domain.getName()) : null;
+    LogoEntity resolve(Logo domain, @Context ReferenceLookup lookup) {
+        return lookup.getLogo(domain);
     }
 
-    DRDEntity resolve(DRD domain) {
-        return nonNull(domain) ? drdRepository.findByNumber(domain.getNumber()) : null;
+    DRDEntity resolve(DRD domain, @Context ReferenceLookup lookup) {
+        return lookup.getDRD(domain);
     }
 }
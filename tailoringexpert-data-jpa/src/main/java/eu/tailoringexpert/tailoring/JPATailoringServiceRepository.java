@@ -25,10 +25,13 @@ import eu.tailoringexpert.domain.DocumentSignature;
 import eu.tailoringexpert.domain.DocumentSignatureEntity;
 import eu.tailoringexpert.domain.Note;
 import eu.tailoringexpert.domain.Project;
+import eu.tailoringexpert.domain.NoteEntity;
 import eu.tailoringexpert.domain.ScreeningSheet;
+import eu.tailoringexpert.domain.SelectionVector;
 import eu.tailoringexpert.domain.SelectionVectorProfile;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringInformation;
 import eu.tailoringexpert.domain.TailoringState;
 import eu.tailoringexpert.repository.DokumentSigneeRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
@@ -39,6 +42,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -48,6 +52,7 @@ import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toCollection;
 
 /**
  * Implementation of {@link TailoringServiceRepository}.
@@ -96,6 +101,7 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
         if (nonNull(toUpdate)) {
             mapper.updateTailoring(tailoring, toUpdate);
             projectRepository.flush();
+            tailoringRepository.incrementRevision(toUpdate.getId());
             return mapper.toDomain(toUpdate);
         }
 
@@ -114,7 +120,7 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
         if (isNull(project) || isNull(tailoring)) {
             return empty();
         }
-        TailoringEntity entity = projectRepository.findTailoring(project, tailoring);
+        TailoringEntity entity = projectRepository.findTailoringWithCatalog(project, tailoring);
         Optional<Tailoring> result = ofNullable(mapper.toDomain(entity));
 
         log.traceExit();
@@ -181,6 +187,7 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
         }
 
         mapper.updateDocumentSignature(signature, toUpdate.get());
+        tailoringRepository.incrementRevision(eTailoring.getId());
         Optional<DocumentSignature> result = of(mapper.toDomain(toUpdate.get()));
 
         log.traceExit();
@@ -197,6 +204,7 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
         Optional<TailoringEntity> oTailoring = findTailoring(project, tailoring);
         if (oTailoring.isPresent()) {
             oTailoring.get().setName(name);
+            tailoringRepository.incrementRevision(oTailoring.get().getId());
             Optional<Tailoring> result = of(mapper.toDomain(oTailoring.get()));
             log.traceExit();
             return result;
@@ -258,7 +266,7 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
      * {@inheritDoc}
      */
     @Override
-    public Optional<Tailoring> addNote(String project, String tailoring, Note note) {
+    public Optional<Note> addNote(String project, String tailoring, Note note) {
         log.traceEntry(() -> project, () -> tailoring, () -> note);
 
         Optional<TailoringEntity> oTailoring = findTailoring(project, tailoring);
@@ -268,8 +276,10 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
             return empty();
         }
 
-        oTailoring.get().getNotes().add(mapper.toEntity(note));
-        Optional<Tailoring> result = of(mapper.toDomain(oTailoring.get()));
+        NoteEntity toAdd = mapper.toEntity(note);
+        oTailoring.get().getNotes().add(toAdd);
+        tailoringRepository.incrementRevision(oTailoring.get().getId());
+        Optional<Note> result = of(mapper.toDomain(toAdd));
 
         log.traceExit();
         return result;
@@ -288,21 +298,115 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
      * {@inheritDoc}
      */
     @Override
-    public Optional<Tailoring> setState(String project, String tailoring, TailoringState state) {
+    public Optional<TailoringInformation> setState(String project, String tailoring, TailoringState state) {
         log.traceEntry(() -> project, () -> tailoring, () -> state);
 
-        Optional<TailoringEntity> oTailoring = findTailoring(project, tailoring);
+        Optional<TailoringEntity> oTailoring = findTailoringHeader(project, tailoring);
         if (oTailoring.isEmpty()) {
             log.traceExit();
             return empty();
         }
 
         oTailoring.get().setState(state);
-        Optional<Tailoring> result = of(mapper.toDomain(oTailoring.get()));
+        tailoringRepository.incrementRevision(oTailoring.get().getId());
+        Optional<TailoringInformation> result = of(mapper.toTailoringInformation(oTailoring.get()));
+
+        log.traceExit();
+        return result;
+
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<TailoringState> getState(String project, String tailoring) {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        if (isNull(project) || isNull(tailoring)) {
+            return log.traceExit(empty());
+        }
+
+        Optional<TailoringState> result = ofNullable(projectRepository.findTailoringState(project, tailoring));
+        return log.traceExit(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> getRevision(String project, String tailoring) {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        Optional<String> result = ofNullable(projectRepository.findTailoringRevision(project, tailoring));
 
         log.traceExit();
         return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<TailoringInformation> getTailoringInformation(String project, String tailoring) {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        Optional<TailoringInformation> result = findTailoringHeader(project, tailoring)
+            .map(mapper::toTailoringInformation);
 
+        return log.traceExit(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<SelectionVector> getSelectionVector(String project, String tailoring) {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        if (isNull(project) || isNull(tailoring)) {
+            return log.traceExit(empty());
+        }
+
+        Optional<SelectionVector> result = ofNullable(projectRepository.findTailoringSelectionVector(project, tailoring))
+            .map(mapper::toDomain);
+        return log.traceExit(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Collection<DocumentSignature>> getDocumentSignatures(String project, String tailoring) {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        if (!existsTailoring(project, tailoring)) {
+            return log.traceExit(empty());
+        }
+
+        Collection<DocumentSignature> result = projectRepository.findTailoringSignatures(project, tailoring)
+            .stream()
+            .map(mapper::toDomain)
+            .toList();
+        return log.traceExit(of(result));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Collection<Note>> getNotes(String project, String tailoring) {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        if (!existsTailoring(project, tailoring)) {
+            return log.traceExit(empty());
+        }
+
+        Collection<Note> result = projectRepository.findTailoringNotes(project, tailoring)
+            .stream()
+            .map(mapper::toDomain)
+            .collect(toCollection(ArrayList::new));
+        return log.traceExit(of(result));
     }
 
     /**
@@ -318,4 +422,18 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
         }
         return ofNullable(projectRepository.findTailoring(project, tailoring));
     }
+
+    /**
+     * Loads tailoring of a project without its catalog tree.
+     *
+     * @param project   identifier of project tailoring belongs to
+     * @param tailoring name of tailoring to load
+     * @return Loaded tailoring
+     */
+    private Optional<TailoringEntity> findTailoringHeader(String project, String tailoring) {
+        if (isNull(project) || isNull(tailoring)) {
+            return empty();
+        }
+        return ofNullable(projectRepository.findTailoringHeader(project, tailoring));
+    }
 }
@@ -21,6 +21,7 @@
  */
 package eu.tailoringexpert.tailoring;
 
+import eu.tailoringexpert.ReferenceLookup;
 import eu.tailoringexpert.TailoringexpertMapperConfig;
 import eu.tailoringexpert.domain.DocumentSignature;
 import eu.tailoringexpert.domain.DocumentSigneeEntity;
@@ -36,20 +37,27 @@ import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.ScreeningSheet.ScreeningSheetBuilder;
 import eu.tailoringexpert.domain.ScreeningSheetEntity;
 import eu.tailoringexpert.domain.ScreeningSheetParameterEntity;
+import eu.tailoringexpert.domain.SelectionVector;
+import eu.tailoringexpert.domain.SelectionVectorEntity;
 import eu.tailoringexpert.domain.SelectionVectorProfile;
 import eu.tailoringexpert.domain.SelectionVectorProfileEntity;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringInformation;
 import eu.tailoringexpert.repository.LogoRepository;
 import lombok.Setter;
 import org.mapstruct.AfterMapping;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 import java.util.LinkedList;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static eu.tailoringexpert.ReferenceLookup.requirements;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.nonNull;
 
@@ -73,7 +81,14 @@ public abstract class JPATailoringServiceRepositoryMapper {
     @Mapping(target = "catalog", source = "domain.catalog")
     @Mapping(target = "selectionVector", source = "domain.selectionVector")
     @Mapping(target = "state", source = "domain.state")
-    abstract void updateTailoring(Tailoring domain, @MappingTarget TailoringEntity entity);
+    abstract void updateTailoring(Tailoring domain,
+                                  @MappingTarget TailoringEntity entity,
+                                  @Context ReferenceLookup lookup);
+
+    void updateTailoring(Tailoring domain, TailoringEntity entity) {
+        updateTailoring(domain, entity, ReferenceLookup.of(
+            nonNull(domain) ? requirements(domain.getCatalog()) : Stream.empty(), null, logoRepository));
+    }
 
     @Mapping(target = "data", ignore = true)
     @Mapping(target = "selectionVector", source = "entity.selectionVector")
@@ -108,7 +123,18 @@ public abstract class JPATailoringServiceRepositoryMapper {
 
     abstract NoteEntity toEntity(Note domain);
 
-    LogoEntity resolve(Logo domain) {
-        return nonNull(domain) ? logoRepository.findByName(domain.getName()) : null;
+    abstract Note toDomain(NoteEntity entity);
+
+    abstract SelectionVector toDomain(SelectionVectorEntity entity);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "name", source = "entity.name")
+    @Mapping(target = "phases", source = "entity.phases")
+    @Mapping(target = "catalogVersion", source = "entity.catalog.version")
+    @Mapping(target = "state", source = "entity.state")
+    abstract TailoringInformation toTailoringInformation(TailoringEntity entity);
+
+    LogoEntity resolve(Logo domain, @Context ReferenceLookup lookup) {
+        return lookup.getLogo(domain);
     }
 }
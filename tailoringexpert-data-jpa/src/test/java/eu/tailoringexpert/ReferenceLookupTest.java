@@ -0,0 +1,182 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.domain.Chapter;
+import eu.tailoringexpert.domain.DRD;
+import eu.tailoringexpert.domain.DRDEntity;
+import eu.tailoringexpert.domain.Logo;
+import eu.tailoringexpert.domain.LogoEntity;
+import eu.tailoringexpert.domain.Reference;
+import eu.tailoringexpert.repository.DRDRepository;
+import eu.tailoringexpert.repository.LogoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.List.of;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ReferenceLookupTest {
+
+    DRDRepository drdRepositoryMock;
+    LogoRepository logoRepositoryMock;
+
+    @BeforeEach
+    void setup() {
+        this.drdRepositoryMock = mock(DRDRepository.class);
+        this.logoRepositoryMock = mock(LogoRepository.class);
+    }
+
+    @Test
+    void of_NoReferences_NothingLoaded() {
+        // arrange
+        Stream<BaseRequirement> requirements = Stream.of(BaseRequirement.builder().position("a").build());
+
+        // act
+        ReferenceLookup actual = ReferenceLookup.of(requirements, drdRepositoryMock, logoRepositoryMock);
+
+        // assert
+        assertThat(actual.getDRD(DRD.builder().number("04.11").build())).isNull();
+        assertThat(actual.getLogo(Logo.builder().name("ECSS").build())).isNull();
+        verify(drdRepositoryMock, times(0)).findAllByNumberIn(any());
+        verify(logoRepositoryMock, times(0)).findAllByNameIn(any());
+    }
+
+    @Test
+    void of_RequirementsWithReferences_DistinctReferencesLoadedOnce() {
+        // arrange
+        Logo ecss = Logo.builder().name("ECSS").build();
+        Stream<BaseRequirement> requirements = Stream.of(
+            BaseRequirement.builder()
+                .reference(Reference.builder().logo(ecss).build())
+                .drds(of(DRD.builder().number("04.11").build(), DRD.builder().number("10.1").build()))
+                .build(),
+            BaseRequirement.builder()
+                .reference(Reference.builder().logo(Logo.builder().name("ECSS").build()).build())
+                .drds(of(DRD.builder().number("04.11").build()))
+                .build(),
+            BaseRequirement.builder()
+                .reference(Reference.builder().build())
+                .build()
+        );
+
+        DRDEntity drd0411 = DRDEntity.builder().number("04.11").build();
+        DRDEntity drd101 = DRDEntity.builder().number("10.1").build();
+        given(drdRepositoryMock.findAllByNumberIn(Set.of("04.11", "10.1"))).willReturn(List.of(drd0411, drd101));
+
+        LogoEntity logoEntity = LogoEntity.builder().name("ECSS").build();
+        given(logoRepositoryMock.findAllByNameIn(Set.of("ECSS"))).willReturn(List.of(logoEntity));
+
+        // act
+        ReferenceLookup actual = ReferenceLookup.of(requirements, drdRepositoryMock, logoRepositoryMock);
+
+        // assert
+        assertThat(actual.getDRD(DRD.builder().number("04.11").build())).isSameAs(drd0411);
+        assertThat(actual.getDRD(DRD.builder().number("10.1").build())).isSameAs(drd101);
+        assertThat(actual.getLogo(ecss)).isSameAs(logoEntity);
+        verify(drdRepositoryMock, times(1)).findAllByNumberIn(any());
+        verify(logoRepositoryMock, times(1)).findAllByNameIn(any());
+    }
+
+    @Test
+    void of_RepositoriesNull_ReferencesNotResolved() {
+        // arrange
+        Stream<BaseRequirement> requirements = Stream.of(BaseRequirement.builder()
+            .reference(Reference.builder().logo(Logo.builder().name("ECSS").build()).build())
+            .drds(of(DRD.builder().number("04.11").build()))
+            .build());
+
+        // act
+        ReferenceLookup actual = ReferenceLookup.of(requirements, null, null);
+
+        // assert
+        assertThat(actual.getDRD(DRD.builder().number("04.11").build())).isNull();
+        assertThat(actual.getLogo(Logo.builder().name("ECSS").build())).isNull();
+    }
+
+    @Test
+    void addDRDs_NewDRD_DRDResolvable() {
+        // arrange
+        ReferenceLookup lookup = ReferenceLookup.of(Stream.empty(), drdRepositoryMock, logoRepositoryMock);
+        DRDEntity drd = DRDEntity.builder().number("04.11").build();
+
+        // act
+        lookup.addDRDs(List.of(drd));
+
+        // assert
+        assertThat(lookup.getDRD(DRD.builder().number("04.11").build())).isSameAs(drd);
+    }
+
+    @Test
+    void getDRD_Null_NullReturned() {
+        // arrange
+        ReferenceLookup lookup = ReferenceLookup.of(Stream.empty(), drdRepositoryMock, logoRepositoryMock);
+
+        // act
+        DRDEntity actual = lookup.getDRD(null);
+
+        // assert
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void requirements_CatalogWithSubchapters_AllRequirementsReturned() {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .toc(Chapter.<BaseRequirement>builder()
+                .requirements(of(BaseRequirement.builder().position("a").build()))
+                .chapters(of(Chapter.<BaseRequirement>builder()
+                    .requirements(of(BaseRequirement.builder().position("b").build()))
+                    .build()))
+                .build())
+            .build();
+
+        // act
+        Stream<BaseRequirement> actual = ReferenceLookup.requirements(catalog);
+
+        // assert
+        assertThat(actual).extracting(BaseRequirement::getPosition).containsExactly("a", "b");
+    }
+
+    @Test
+    void requirements_CatalogNull_EmptyStreamReturned() {
+        // arrange
+        Catalog<BaseRequirement> catalog = null;
+
+        // act
+        Stream<BaseRequirement> actual = ReferenceLookup.requirements(catalog);
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+}
@@ -21,6 +21,7 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.ReferenceLookup;
 import eu.tailoringexpert.domain.BaseCatalogChapterEntity;
 import eu.tailoringexpert.domain.BaseCatalogChapterEntity.BaseCatalogChapterEntityBuilder;
 import eu.tailoringexpert.domain.BaseCatalogEntity;
@@ -33,6 +34,7 @@ import eu.tailoringexpert.domain.DRDEntity;
 import eu.tailoringexpert.domain.Logo;
 import eu.tailoringexpert.domain.LogoEntity;
 import eu.tailoringexpert.domain.Phase;
+import eu.tailoringexpert.domain.Reference;
 import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.LogoRepository;
 import lombok.extern.log4j.Log4j2;
@@ -40,6 +42,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -122,6 +125,47 @@ class JPACatalogServiceRepositoryMapperTest {
         assertThat(actual.getToc().getRequirements()).hasSize(1);
     }
 
+    @Test
+    void createCatalog_RequirementsWithSameReferences_ReferencesLoadedOnce() {
+        // arrange
+        Reference reference = Reference.builder().text("ECSS-Q-ST-80").logo(Logo.builder().name("ECSS").build()).build();
+        DRD drd = DRD.builder().number("04.11").build();
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .version("8.2.1")
+            .toc(Chapter.<BaseRequirement>builder()
+                .requirements(asList(
+                    BaseRequirement.builder().position("a").reference(reference).drds(asList(drd)).build(),
+                    BaseRequirement.builder().position("b").reference(reference).drds(asList(drd)).build()
+                ))
+                .chapters(asList(Chapter.<BaseRequirement>builder()
+                    .number("1.1")
+                    .requirements(asList(
+                        BaseRequirement.builder().position("a").reference(reference).drds(asList(drd)).build()
+                    ))
+                    .build()))
+                .build())
+            .build();
+
+        LogoEntity logoEntity = LogoEntity.builder().name("ECSS").build();
+        given(logoRepositoryMock.findAllByNameIn(any())).willReturn(asList(logoEntity));
+
+        DRDEntity drdEntity = DRDEntity.builder().number("04.11").build();
+        given(drdRepositoryMock.findAllByNumberIn(any())).willReturn(asList(drdEntity));
+
+        // act
+        BaseCatalogEntity actual = mapper.createCatalog(catalog);
+
+        // assert
+        assertThat(actual.getToc().getRequirements())
+            .extracting(requirement -> requirement.getReference().getLogo(), requirement -> requirement.getDrds().iterator().next())
+            .containsOnly(tuple(logoEntity, drdEntity));
+        assertThat(actual.getToc().getChapters().get(0).getRequirements().get(0).getReference().getLogo()).isSameAs(logoEntity);
+        verify(logoRepositoryMock, times(1)).findAllByNameIn(any());
+        verify(logoRepositoryMock, times(0)).findByName(any());
+        verify(drdRepositoryMock, times(1)).findAllByNumberIn(any());
+        verify(drdRepositoryMock, times(0)).findByNumber(any());
+    }
+
     @Test
     void createCatalog_BaseCatalogEntityNull_NullReturned() {
         // arrange
@@ -171,13 +215,14 @@ class JPACatalogServiceRepositoryMapperTest {
     void resolve_LogoNull_NullReturned() {
         // arrange
         Logo logo = null;
+        ReferenceLookup lookup = ReferenceLookup.of(Stream.empty(), null, logoRepositoryMock);
 
         // act
-        LogoEntity actual = mapper.resolve(logo);
+        LogoEntity actual = mapper.resolve(logo, lookup);
 
         // assert
         assertThat(actual).isNull();
-        verify(logoRepositoryMock, times(0)).findByName(any());
+        verify(logoRepositoryMock, times(0)).findAllByNameIn(any());
     }
 
     @Test
@@ -186,28 +231,30 @@ class JPACatalogServiceRepositoryMapperTest {
         Logo logo = Logo.builder().name("ECSS").build();
 
         LogoEntity logoEntity = LogoEntity.builder().name("ECSS").build();
-        given(logoRepositoryMock.findByName("ECSS")).willReturn(logoEntity);
+        ReferenceLookup lookup = Mockito.mock(ReferenceLookup.class);
+        given(lookup.getLogo(logo)).willReturn(logoEntity);
 
         // act
-        LogoEntity actual = mapper.resolve(logo);
+        LogoEntity actual = mapper.resolve(logo, lookup);
 
         // assert
         assertThat(actual).isNotNull();
         assertThat(actual.getName()).isEqualTo("ECSS");
-        verify(logoRepositoryMock, times(1)).findByName("ECSS");
+        verify(logoRepositoryMock, times(0)).findByName(any());
     }
 
     @Test
     void resolve_DRDNull_NullReturned() {
         // arrange
         DRD drd = null;
+        ReferenceLookup lookup = ReferenceLookup.of(Stream.empty(), drdRepositoryMock, null);
 
         // act
-        DRDEntity actual = mapper.resolve(drd);
+        DRDEntity actual = mapper.resolve(drd, lookup);
 
         // assert
         assertThat(actual).isNull();
-        verify(drdRepositoryMock, times(0)).findByNumber(any());
+        verify(drdRepositoryMock, times(0)).findAllByNumberIn(any());
     }
 
     @Test
@@ -216,15 +263,16 @@ class JPACatalogServiceRepositoryMapperTest {
         DRD drd = DRD.builder().number("drd-47.11").build();
 
         DRDEntity drdEntity = DRDEntity.builder().id(12l).build();
-        given(drdRepositoryMock.findByNumber("drd-47.11")).willReturn(drdEntity);
+        ReferenceLookup lookup = Mockito.mock(ReferenceLookup.class);
+        given(lookup.getDRD(drd)).willReturn(drdEntity);
 
         // act
-        DRDEntity actual = mapper.resolve(drd);
+        DRDEntity actual = mapper.resolve(drd, lookup);
 
         // assert
         assertThat(actual).isNotNull();
         assertThat(actual.getId()).isNotNull();
-        verify(drdRepositoryMock, times(1)).findByNumber("drd-47.11");
+        verify(drdRepositoryMock, times(0)).findByNumber(any());
     }
 
 
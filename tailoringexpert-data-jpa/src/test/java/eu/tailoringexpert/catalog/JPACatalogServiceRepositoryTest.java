@@ -21,6 +21,7 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.ReferenceLookup;
 import eu.tailoringexpert.TailoringexpertException;
 import eu.tailoringexpert.domain.BaseCatalogEntity;
 import eu.tailoringexpert.domain.BaseCatalogVersionProjection;
@@ -80,7 +81,9 @@ class JPACatalogServiceRepositoryTest {
             .toc(Chapter.<BaseRequirement>builder().build())
             .build();
         BaseCatalogEntity toSave = BaseCatalogEntity.builder().build();
-        given(mapperMock.createCatalog(catalog)).willReturn(toSave);
+        ReferenceLookup lookup = mock(ReferenceLookup.class);
+        given(mapperMock.createReferenceLookup(catalog)).willReturn(lookup);
+        given(mapperMock.createCatalog(catalog, lookup)).willReturn(toSave);
 
         BaseCatalogEntity savedKatalog = null;
         given(baseCatalogRepositoryMock.save(toSave)).willReturn(savedKatalog);
@@ -93,7 +96,7 @@ class JPACatalogServiceRepositoryTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(mapperMock, times(1)).createCatalog(catalog);
+        verify(mapperMock, times(1)).createCatalog(catalog, lookup);
         verify(mapperMock, times(1)).createCatalog(savedKatalog);
         verify(baseCatalogRepositoryMock, times(1)).save(toSave);
     }
@@ -105,7 +108,9 @@ class JPACatalogServiceRepositoryTest {
             .toc(Chapter.<BaseRequirement>builder().build())
             .build();
         BaseCatalogEntity toSave = BaseCatalogEntity.builder().build();
-        given(mapperMock.createCatalog(catalog)).willReturn(toSave);
+        ReferenceLookup lookup = mock(ReferenceLookup.class);
+        given(mapperMock.createReferenceLookup(catalog)).willReturn(lookup);
+        given(mapperMock.createCatalog(catalog, lookup)).willReturn(toSave);
 
         BaseCatalogEntity savedKatalog = null;
         given(baseCatalogRepositoryMock.save(toSave)).willReturn(savedKatalog);
@@ -118,7 +123,7 @@ class JPACatalogServiceRepositoryTest {
 
         // assert
         assertThat(actual).isPresent();
-        verify(mapperMock, times(1)).createCatalog(catalog);
+        verify(mapperMock, times(1)).createCatalog(catalog, lookup);
         verify(mapperMock, times(1)).createCatalog(savedKatalog);
         verify(baseCatalogRepositoryMock, times(1)).save(toSave);
     }
@@ -134,7 +139,8 @@ class JPACatalogServiceRepositoryTest {
         // assert
         assertThat(actual).isEmpty();
         verify(baseCatalogRepositoryMock, times(0)).save(any());
-        verify(mapperMock, times(0)).createCatalog(any(Catalog.class));
+        verify(mapperMock, times(0)).createReferenceLookup(any());
+        verify(mapperMock, times(0)).createCatalog(any(Catalog.class), any());
         verify(mapperMock, times(0)).createCatalog(any(BaseCatalogEntity.class));
         verify(baseCatalogRepositoryMock, times(0)).save(any());
     }
@@ -155,9 +161,10 @@ class JPACatalogServiceRepositoryTest {
             .build();
         BaseCatalogEntity toSave = BaseCatalogEntity.builder().build();
 
-        given(drdRepositoryMock.findByNumber("04.11")).willReturn(DRDEntity.builder().build());
-
-        given(mapperMock.createCatalog(catalog)).willReturn(toSave);
+        ReferenceLookup lookup = mock(ReferenceLookup.class);
+        given(mapperMock.createReferenceLookup(catalog)).willReturn(lookup);
+        given(lookup.getDRD(any())).willReturn(DRDEntity.builder().build());
+        given(mapperMock.createCatalog(catalog, lookup)).willReturn(toSave);
 
         BaseCatalogEntity savedKatalog = null;
         given(baseCatalogRepositoryMock.save(toSave)).willReturn(savedKatalog);
@@ -170,8 +177,9 @@ class JPACatalogServiceRepositoryTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(drdRepositoryMock, times(0)).save(any());
-        verify(mapperMock, times(1)).createCatalog(catalog);
+        verify(drdRepositoryMock, times(0)).saveAll(any());
+        verify(drdRepositoryMock, times(0)).findByNumber(any());
+        verify(mapperMock, times(1)).createCatalog(catalog, lookup);
         verify(mapperMock, times(1)).createCatalog(savedKatalog);
         verify(baseCatalogRepositoryMock, times(1)).save(toSave);
     }
@@ -197,10 +205,17 @@ class JPACatalogServiceRepositoryTest {
                 .build())
             .build();
 
-        given(drdRepositoryMock.findByNumber("04.11")).willReturn(null);
+        ReferenceLookup lookup = mock(ReferenceLookup.class);
+        given(mapperMock.createReferenceLookup(catalog)).willReturn(lookup);
+        given(lookup.getDRD(drd)).willReturn(null);
+
+        DRDEntity drdEntity = DRDEntity.builder().number("04.11").build();
+        given(mapperMock.createCatalog(drd)).willReturn(drdEntity);
+        List<DRDEntity> savedDRDs = List.of(drdEntity);
+        given(drdRepositoryMock.saveAll(List.of(drdEntity))).willReturn(savedDRDs);
 
         BaseCatalogEntity toSave = BaseCatalogEntity.builder().build();
-        given(mapperMock.createCatalog(catalog)).willReturn(toSave);
+        given(mapperMock.createCatalog(catalog, lookup)).willReturn(toSave);
 
         BaseCatalogEntity savedKatalog = null;
         given(baseCatalogRepositoryMock.save(toSave)).willReturn(savedKatalog);
@@ -213,12 +228,40 @@ class JPACatalogServiceRepositoryTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(drdRepositoryMock, times(1)).save(any());
-        verify(mapperMock, times(1)).createCatalog(catalog);
+        verify(drdRepositoryMock, times(1)).saveAll(List.of(drdEntity));
+        verify(lookup, times(1)).addDRDs(savedDRDs);
+        verify(mapperMock, times(1)).createCatalog(catalog, lookup);
         verify(mapperMock, times(1)).createCatalog(savedKatalog);
         verify(baseCatalogRepositoryMock, times(1)).save(toSave);
     }
 
+    @Test
+    void createCatalog_CatalogSameNewDRDInMultipleRequirements_NewDRDCreatedOnce() {
+        // arrange
+        DRD drd = DRD.builder().number("04.11").title("Common Cause Analysis").build();
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .toc(Chapter.<BaseRequirement>builder()
+                .requirements(asList(
+                    BaseRequirement.builder().position("a").drds(asList(drd)).build(),
+                    BaseRequirement.builder().position("b").drds(asList(DRD.builder().number("04.11").build())).build()
+                ))
+                .build())
+            .build();
+
+        ReferenceLookup lookup = mock(ReferenceLookup.class);
+        given(mapperMock.createReferenceLookup(catalog)).willReturn(lookup);
+
+        DRDEntity drdEntity = DRDEntity.builder().number("04.11").build();
+        given(mapperMock.createCatalog(drd)).willReturn(drdEntity);
+
+        // act
+        repository.createCatalog(catalog, ZonedDateTime.now());
+
+        // assert
+        verify(mapperMock, times(1)).createCatalog(any(DRD.class));
+        verify(drdRepositoryMock, times(1)).saveAll(List.of(drdEntity));
+    }
+
     @Test
     void getCatalog_NonExistingVersion_EmptyReturned() {
         // arrange
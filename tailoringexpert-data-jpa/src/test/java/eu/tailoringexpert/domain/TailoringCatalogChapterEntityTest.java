@@ -0,0 +1,129 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TailoringCatalogChapterEntityTest {
+
+    @Test
+    void getChapter_SubchapterExists_ChapterReturned() {
+        // arrange
+        TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
+            .number("1")
+            .chapters(asList(
+                TailoringCatalogChapterEntity.builder()
+                    .number("1.1")
+                    .chapters(asList(
+                        TailoringCatalogChapterEntity.builder()
+                            .number("1.1.1")
+                            .build()))
+                    .build()))
+            .build();
+
+        // act
+        Optional<TailoringCatalogChapterEntity> actual = chapter.getChapter("1.1.1");
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getNumber()).isEqualTo("1.1.1");
+    }
+
+    @Test
+    void getChapter_ChapterNotExisting_EmptyReturned() {
+        // arrange
+        TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
+            .number("1")
+            .build();
+
+        // act
+        Optional<TailoringCatalogChapterEntity> actual = chapter.getChapter("2");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getRequirement_RequirementInsertedAfterLookup_InsertedRequirementReturned() {
+        // arrange
+        List<TailoringRequirementEntity> requirements = new ArrayList<>(asList(
+            TailoringRequirementEntity.builder().position("a").build(),
+            TailoringRequirementEntity.builder().position("b").build()
+        ));
+        TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
+            .number("1")
+            .requirements(requirements)
+            .build();
+        chapter.getRequirement("b");
+        requirements.add(1, TailoringRequirementEntity.builder().position("a1").text("new").build());
+
+        // act
+        Optional<TailoringRequirementEntity> actual = chapter.getRequirement("a1");
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getText()).isEqualTo("new");
+    }
+
+    @Test
+    void getRequirement_RequirementRenumbered_RequirementOfNewPositionReturned() {
+        // arrange
+        TailoringRequirementEntity requirement = TailoringRequirementEntity.builder().position("a1").build();
+        TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
+            .number("1")
+            .requirements(new ArrayList<>(asList(requirement)))
+            .build();
+        chapter.getRequirement("a1");
+        requirement.setPosition("a2");
+
+        // act
+        Optional<TailoringRequirementEntity> actual = chapter.getRequirement("a1");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getSubChapter_SubchapterNumberedAsChapter_SubchapterReturned() {
+        // arrange
+        TailoringCatalogChapterEntity subChapter = TailoringCatalogChapterEntity.builder()
+            .number("1")
+            .build();
+        TailoringCatalogChapterEntity toc = TailoringCatalogChapterEntity.builder()
+            .number("1")
+            .chapters(asList(subChapter))
+            .build();
+
+        // act
+        Optional<TailoringCatalogChapterEntity> actual = toc.getSubChapter("1");
+
+        // assert
+        assertThat(actual).containsSame(subChapter);
+    }
+}
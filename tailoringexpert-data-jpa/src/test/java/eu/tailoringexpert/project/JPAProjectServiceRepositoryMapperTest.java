@@ -33,6 +33,7 @@ import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectEntity;
 import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.ScreeningSheetEntity;
+import eu.tailoringexpert.domain.SelectionVector;
 import eu.tailoringexpert.domain.SelectionVectorEntity;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
@@ -45,6 +46,10 @@ import eu.tailoringexpert.repository.LogoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
+import static eu.tailoringexpert.domain.ProjectState.COMPLETED;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
@@ -165,6 +170,34 @@ class JPAProjectServiceRepositoryMapperTest {
         assertThat(actual).isNull();
     }
 
+    @Test
+    void copyProject_ProjectWithTailorings_ProjectEntityWithoutTailoringsReturned() {
+        // arrange
+        ProjectEntity project = ProjectEntity.builder()
+            .id(1L)
+            .identifier("SAMPLE")
+            .state(COMPLETED)
+            .tailorings(asList(TailoringEntity.builder().name("master").build()))
+            .build();
+        ScreeningSheet screeningSheet = ScreeningSheet.builder()
+            .project("COPY")
+            .data("screeningsheet".getBytes(UTF_8))
+            .selectionVector(SelectionVector.builder().levels(Map.of("G", 2)).build())
+            .build();
+
+        // act
+        ProjectEntity actual = mapper.copyProject(project, screeningSheet);
+
+        // assert
+        assertThat(actual.getId()).isNull();
+        assertThat(actual.getIdentifier()).isEqualTo("COPY");
+        assertThat(actual.getState()).isEqualTo(COMPLETED);
+        assertThat(actual.getCreationTimestamp()).isNotNull();
+        assertThat(actual.getTailorings()).isNullOrEmpty();
+        assertThat(actual.getScreeningSheet().getData()).isEqualTo("screeningsheet".getBytes(UTF_8));
+        assertThat(actual.getScreeningSheet().getSelectionVector().getLevels()).containsEntry("G", 2);
+    }
+
     @Test
     void getTailoringInformationen_TailoringEntityNull_NullReturned() {
         // arrange
@@ -26,36 +26,60 @@ import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.Phase;
 import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ProjectInformationPage;
+import eu.tailoringexpert.domain.ProjectInformationProjection;
+import eu.tailoringexpert.domain.ProjectInformationQuery;
 import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.ScreeningSheetEntity;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringRequirement;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringInformation;
+import eu.tailoringexpert.domain.TailoringInformationProjection;
 import eu.tailoringexpert.repository.BaseCatalogRepository;
+import eu.tailoringexpert.repository.ProjectCopyRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import static eu.tailoringexpert.domain.Phase.E;
+import static eu.tailoringexpert.domain.Phase.F;
+import static eu.tailoringexpert.domain.Phase.ZERO;
+import static eu.tailoringexpert.domain.ProjectInformationQuery.Sort.CREATION_TIMESTAMP;
+import static eu.tailoringexpert.domain.ProjectInformationQuery.Sort.STATE;
 import static eu.tailoringexpert.domain.ProjectState.COMPLETED;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 class JPAProjectServiceRepositoryTest {
 
     ProjectRepository projectRepositoryMock;
     BaseCatalogRepository baseCatalogRepositoryMock;
+    ProjectCopyRepository projectCopyRepositoryMock;
     JPAProjectServiceRepositoryMapper mapperMock;
     JPAProjectServiceRepository repository;
 
@@ -63,11 +87,13 @@ class JPAProjectServiceRepositoryTest {
     void setup() {
         this.projectRepositoryMock = mock(ProjectRepository.class);
         this.baseCatalogRepositoryMock = mock(BaseCatalogRepository.class);
+        this.projectCopyRepositoryMock = mock(ProjectCopyRepository.class);
         this.mapperMock = mock(JPAProjectServiceRepositoryMapper.class);
         this.repository = new JPAProjectServiceRepository(
             this.mapperMock,
             this.projectRepositoryMock,
-            this.baseCatalogRepositoryMock
+            this.baseCatalogRepositoryMock,
+            this.projectCopyRepositoryMock
         );
     }
 
@@ -191,29 +217,273 @@ class JPAProjectServiceRepositoryTest {
     }
 
     @Test
-    void getProjektInformationen() {
+    void copyProject_ProjectNotExists_EmptyReturned() {
         // arrange
-        given(projectRepositoryMock.findAll())
-            .willReturn(Arrays.asList(
-                    ProjectEntity.builder()
-                        .identifier("SAMPLE")
-                        .build(),
-                    ProjectEntity.builder()
-                        .identifier("H3SAT")
-                        .build(),
-                    ProjectEntity.builder()
-                        .identifier("H4SAT")
-                        .build()
-                )
-            );
-
-        given(mapperMock.getProjectInformationen(any(ProjectEntity.class))).willReturn(ProjectInformation.builder().build());
+        ScreeningSheet screeningSheet = ScreeningSheet.builder().project("COPY").build();
+        given(projectRepositoryMock.findByIdentifier("SAMPLE")).willReturn(null);
+
+        // act
+        Optional<ProjectInformation> actual = repository.copyProject("SAMPLE", screeningSheet);
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(projectRepositoryMock, times(0)).saveAndFlush(any());
+        verify(projectCopyRepositoryMock, times(0)).countTailorings(any());
+    }
+
+    @Test
+    void copyProject_ProjectWithoutTailorings_ProjectCopiedWithoutReservingIds() {
+        // arrange
+        ScreeningSheet screeningSheet = ScreeningSheet.builder().project("COPY").build();
+        ProjectEntity source = ProjectEntity.builder().id(1L).identifier("SAMPLE").build();
+        given(projectRepositoryMock.findByIdentifier("SAMPLE")).willReturn(source);
+
+        ProjectEntity target = ProjectEntity.builder()
+            .identifier("COPY")
+            .screeningSheet(ScreeningSheetEntity.builder().build())
+            .build();
+        given(mapperMock.copyProject(source, screeningSheet)).willReturn(target);
+        given(projectRepositoryMock.saveAndFlush(target)).willAnswer(invocation -> {
+            target.setId(2L);
+            return target;
+        });
+        given(projectCopyRepositoryMock.countTailorings(1L)).willReturn(0L);
+
+        ProjectInformationProjection copy = createProject("COPY");
+        given(projectRepositoryMock.findProjectInformation("COPY")).willReturn(copy);
+        given(projectRepositoryMock.findTailoringInformations(List.of("COPY"))).willReturn(List.of());
+        given(mapperMock.getProjectInformation(copy, List.of()))
+            .willReturn(ProjectInformation.builder().identifier("COPY").build());
+
+        // act
+        Optional<ProjectInformation> actual = repository.copyProject("SAMPLE", screeningSheet);
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getIdentifier()).isEqualTo("COPY");
+        verify(projectCopyRepositoryMock, times(0)).findSequence(any());
+        verify(projectCopyRepositoryMock, times(0)).mapTailorings(any(), any(), anyLong());
+        verify(projectCopyRepositoryMock, times(0)).copyTailorings(any(), anyLong(), any());
+    }
+
+    @Test
+    void copyProject_ProjectWithTailorings_RowsCopiedWithDenseReservedIds() {
+        // arrange
+        ScreeningSheet screeningSheet = ScreeningSheet.builder().project("COPY").build();
+        ProjectEntity source = ProjectEntity.builder().id(1L).identifier("SAMPLE").build();
+        given(projectRepositoryMock.findByIdentifier("SAMPLE")).willReturn(source);
+
+        ProjectEntity target = ProjectEntity.builder()
+            .id(2L)
+            .identifier("COPY")
+            .screeningSheet(ScreeningSheetEntity.builder().id(3L).build())
+            .build();
+        given(mapperMock.copyProject(source, screeningSheet)).willReturn(target);
+        given(projectRepositoryMock.saveAndFlush(target)).willReturn(target);
+
+        given(projectCopyRepositoryMock.countTailorings(1L)).willReturn(2L);
+        // concurrent update of tailoring sequence
+        given(projectCopyRepositoryMock.findSequence("SEQ_TAILORING")).willReturn(200L, 210L);
+        given(projectCopyRepositoryMock.updateSequence("SEQ_TAILORING", 200L, 253L)).willReturn(0);
+        given(projectCopyRepositoryMock.updateSequence("SEQ_TAILORING", 210L, 263L)).willReturn(1);
+
+        given(projectCopyRepositoryMock.findSequence("SEQ_SCREENINGSHEET")).willReturn(100L);
+        given(projectCopyRepositoryMock.updateSequence("SEQ_SCREENINGSHEET", 100L, 153L)).willReturn(1);
+
+        // 2 table of contents -> 5 subchapters -> no further subchapters
+        given(projectCopyRepositoryMock.countTableOfContents(1L)).willReturn(2L);
+        given(projectCopyRepositoryMock.findSequence("SEQ_TAILORINGCATALOGCHAPTER")).willReturn(1000L, 1503L);
+        given(projectCopyRepositoryMock.updateSequence("SEQ_TAILORINGCATALOGCHAPTER", 1000L, 1503L)).willReturn(1);
+        given(projectCopyRepositoryMock.updateSequence("SEQ_TAILORINGCATALOGCHAPTER", 1503L, 2009L)).willReturn(1);
+        given(projectCopyRepositoryMock.countSubChapters(2L, 1001L, 1002L)).willReturn(5L);
+        given(projectCopyRepositoryMock.countSubChapters(2L, 1504L, 1508L)).willReturn(0L);
+        given(projectCopyRepositoryMock.countRequirements(2L)).willReturn(3L);
+
+        given(projectCopyRepositoryMock.countCatalogs(1L)).willReturn(2L);
+
+        ProjectInformationProjection copy = createProject("COPY");
+        given(projectRepositoryMock.findProjectInformation("COPY")).willReturn(copy);
+        given(projectRepositoryMock.findTailoringInformations(List.of("COPY"))).willReturn(List.of());
+        given(mapperMock.getProjectInformation(copy, List.of()))
+            .willReturn(ProjectInformation.builder().identifier("COPY").build());
+
+        // act
+        Optional<ProjectInformation> actual = repository.copyProject("SAMPLE", screeningSheet);
+
+        // assert
+        assertThat(actual).isPresent();
+        verify(projectCopyRepositoryMock, times(1)).mapTailorings(2L, 1L, 211L);
+        verify(projectCopyRepositoryMock, times(1)).copyScreeningSheetPerTailoring(2L, 3L, -110L, 0L);
+        verify(projectCopyRepositoryMock, times(0)).copySelectionVectorPerTailoring(any(), any(), anyLong());
+        verify(projectCopyRepositoryMock, times(0)).copyScreeningSheetParametersPerTailoring(any(), any(), anyLong(), anyLong(), anyLong(), anyLong());
+        verify(projectCopyRepositoryMock, times(0)).copySelectionVectors(any());
+        verify(projectCopyRepositoryMock, times(1)).mapTableOfContents(2L, 1L, 1001L);
+        verify(projectCopyRepositoryMock, times(1)).copyChapters(2L, 1001L, 1002L);
+        verify(projectCopyRepositoryMock, times(1)).mapSubChapters(2L, 1001L, 1002L, 1504L);
+        verify(projectCopyRepositoryMock, times(1)).copyChapters(2L, 1504L, 1508L);
+        // requirement sequence not used yet
+        verify(projectCopyRepositoryMock, times(1)).createSequence("SEQ_TAILORINGREQUIREMENT", 504L);
+        verify(projectCopyRepositoryMock, times(1)).mapRequirements(2L, 1L);
+        verify(projectCopyRepositoryMock, times(1)).copyRequirements(2L);
+        verify(projectCopyRepositoryMock, times(1)).copyRequirementDRDs(2L);
+        verify(projectCopyRepositoryMock, times(1)).createSequence("SEQ_TAILORINGCATALOG", 53L);
+        verify(projectCopyRepositoryMock, times(1)).mapCatalogs(2L, 1L, 1L);
+        verify(projectCopyRepositoryMock, times(1)).copyCatalogs(2L);
+        verify(projectCopyRepositoryMock, times(1)).copyTailorings(eq(2L), eq(-110L), anyString());
+        verify(projectCopyRepositoryMock, times(1)).copyPhases(2L);
+        verify(projectCopyRepositoryMock, times(1)).copySignatures(2L);
+        verify(projectCopyRepositoryMock, times(0)).copyNotes(any());
+        verify(projectCopyRepositoryMock, times(1)).deleteIdMappings(2L);
+    }
+
+    @Test
+    void getProjectInformations_ProjectsWithTailoringsExist_PageWithTailoringPhasesReturned() {
+        // arrange
+        ProjectInformationProjection h3sat = createProject("H3SAT");
+        ProjectInformationProjection sample = createProject("SAMPLE");
+        given(projectRepositoryMock.findProjectInformations(any(), any(), any(), any(), any(), any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of(h3sat, sample), PageRequest.of(0, 2), true));
+
+        List<TailoringInformationProjection> tailorings = List.of(
+            createTailoring("H3SAT", "master", E),
+            createTailoring("H3SAT", "master", F),
+            createTailoring("H3SAT", "master1", null),
+            createTailoring("SAMPLE", "master", ZERO)
+        );
+        given(projectRepositoryMock.findTailoringInformations(List.of("H3SAT", "SAMPLE"))).willReturn(tailorings);
+
+        ArgumentCaptor<Collection<TailoringInformation>> tailoringsCaptor = ArgumentCaptor.forClass(Collection.class);
+        given(mapperMock.getProjectInformation(any(ProjectInformationProjection.class), tailoringsCaptor.capture()))
+            .willReturn(ProjectInformation.builder().build());
+
+        // act
+        ProjectInformationPage actual = repository.getProjectInformations(ProjectInformationQuery.builder().size(2).build());
+
+        // assert
+        assertThat(actual.getProjects()).hasSize(2);
+        assertThat(actual.isHasNext()).isTrue();
+        assertThat(actual.getNextCursor()).isEqualTo("SAMPLE");
+        assertThat(tailoringsCaptor.getAllValues().get(0))
+            .extracting(TailoringInformation::getName, TailoringInformation::getPhases)
+            .containsExactly(tuple("master", List.of(E, F)), tuple("master1", List.of()));
+        assertThat(tailoringsCaptor.getAllValues().get(1))
+            .extracting(TailoringInformation::getName, TailoringInformation::getPhases)
+            .containsExactly(tuple("master", List.of(ZERO)));
+        verify(projectRepositoryMock, times(1)).findProjectInformations(null, null, null, null, null,
+            PageRequest.of(0, 2, Sort.by(ASC, "identifier")));
+        verify(projectRepositoryMock, times(1)).findTailoringInformations(any());
+    }
+
+    @Test
+    void getProjectInformations_NoProjects_NoTailoringsLoaded() {
+        // arrange
+        given(projectRepositoryMock.findProjectInformations(any(), any(), any(), any(), any(), any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 50), false));
+
+        // act
+        ProjectInformationPage actual = repository.getProjectInformations(ProjectInformationQuery.builder().build());
+
+        // assert
+        assertThat(actual.getProjects()).isEmpty();
+        assertThat(actual.isHasNext()).isFalse();
+        assertThat(actual.getNextCursor()).isNull();
+        verify(projectRepositoryMock, times(0)).findTailoringInformations(any());
+    }
+
+    @Test
+    void getProjectInformations_CursorDescending_ProjectsBeforeCursorLoaded() {
+        // arrange
+        given(projectRepositoryMock.findProjectInformations(any(), any(), any(), any(), any(), any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+
+        // act
+        repository.getProjectInformations(ProjectInformationQuery.builder()
+            .ascending(false)
+            .page(3)
+            .size(10)
+            .cursor("SAMPLE")
+            .state(COMPLETED)
+            .catalogVersion("8.2.1")
+            .identifierPrefix("S")
+            .build());
+
+        // assert
+        verify(projectRepositoryMock, times(1)).findProjectInformations(COMPLETED, "S", "8.2.1", null, "SAMPLE",
+            PageRequest.of(0, 10, Sort.by(DESC, "identifier")));
+    }
+
+    @Test
+    void getProjectInformations_SortByCreationTimestamp_IdentifierAsSecondOrderNoCursorReturned() {
+        // arrange
+        ProjectInformationProjection sample = createProject("SAMPLE");
+        given(projectRepositoryMock.findProjectInformations(any(), any(), any(), any(), any(), any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of(sample), PageRequest.of(1, 1), true));
+        given(projectRepositoryMock.findTailoringInformations(List.of("SAMPLE"))).willReturn(List.of());
+
+        // act
+        ProjectInformationPage actual = repository.getProjectInformations(ProjectInformationQuery.builder()
+            .sort(CREATION_TIMESTAMP)
+            .page(1)
+            .size(1)
+            .build());
+
+        // assert
+        assertThat(actual.isHasNext()).isTrue();
+        assertThat(actual.getNextCursor()).isNull();
+        assertThat(actual.getPage()).isEqualTo(1);
+        verify(projectRepositoryMock, times(1)).findProjectInformations(null, null, null, null, null,
+            PageRequest.of(1, 1, Sort.by(ASC, "creationTimestamp").and(Sort.by(ASC, "identifier"))));
+    }
+
+    @Test
+    void getProjectInformations_Unpaged_AllProjectsLoaded() {
+        // arrange
+        given(projectRepositoryMock.findProjectInformations(any(), any(), any(), any(), any(), any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of()));
 
         // act
-        Collection<ProjectInformation> actual = repository.getProjectInformations();
+        ProjectInformationPage actual = repository.getProjectInformations(ProjectInformationQuery.builder()
+            .paged(false)
+            .page(3)
+            .cursor("SAMPLE")
+            .build());
 
         // assert
-        assertThat(actual).hasSize(3);
+        assertThat(actual.isHasNext()).isFalse();
+        verify(projectRepositoryMock, times(1)).findProjectInformations(null, null, null, null, null,
+            Pageable.unpaged(Sort.by(ASC, "identifier")));
+    }
+
+    @Test
+    void getProjectInformations_PrefixWithLikeWildcards_EscapedPrefixUsed() {
+        // arrange
+        given(projectRepositoryMock.findProjectInformations(any(), any(), any(), any(), any(), any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 50), false));
+
+        // act
+        repository.getProjectInformations(ProjectInformationQuery.builder()
+            .identifierPrefix("H_3%!")
+            .build());
+
+        // assert
+        verify(projectRepositoryMock, times(1)).findProjectInformations(null, "H!_3!%!!", null, null, null,
+            PageRequest.of(0, 50, Sort.by(ASC, "identifier")));
+    }
+
+    @Test
+    void getProjectInformations_CursorWithSortByState_ExceptionThrown() {
+        // arrange
+        ProjectInformationQuery query = ProjectInformationQuery.builder()
+            .sort(STATE)
+            .cursor("SAMPLE")
+            .build();
+
+        // act
+        Throwable actual = catchThrowable(() -> repository.getProjectInformations(query));
+
+        // assert
+        assertThat(actual).isInstanceOf(IllegalArgumentException.class);
+        verify(projectRepositoryMock, times(0)).findProjectInformations(any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -382,4 +652,18 @@ class JPAProjectServiceRepositoryTest {
         assertThat(actual).isTrue();
         verify(projectRepositoryMock, times(1)).existsProjectByIdentifier("SAMPLE");
     }
+
+    private ProjectInformationProjection createProject(String identifier) {
+        ProjectInformationProjection result = mock(ProjectInformationProjection.class);
+        given(result.getIdentifier()).willReturn(identifier);
+        return result;
+    }
+
+    private TailoringInformationProjection createTailoring(String project, String name, Phase phase) {
+        TailoringInformationProjection result = mock(TailoringInformationProjection.class);
+        given(result.getProject()).willReturn(project);
+        given(result.getName()).willReturn(name);
+        given(result.getPhase()).willReturn(phase);
+        return result;
+    }
 }
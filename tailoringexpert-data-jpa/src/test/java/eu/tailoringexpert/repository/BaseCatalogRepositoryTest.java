@@ -27,19 +27,26 @@ import eu.tailoringexpert.domain.BaseRequirementEntity;
 import eu.tailoringexpert.domain.DRDEntity;
 import eu.tailoringexpert.domain.IdentifierEntity;
 import eu.tailoringexpert.domain.BaseCatalogChapterEntity;
+import jakarta.persistence.EntityManager;
 import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static eu.tailoringexpert.domain.Phase.A;
+import static java.lang.System.nanoTime;
 import static java.util.Arrays.asList;
 import static java.util.Set.of;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -51,6 +58,9 @@ class BaseCatalogRepositoryTest {
     @Autowired
     BaseCatalogRepository repository;
 
+    @Autowired
+    EntityManager entityManager;
+
     @Test
     void save_ValidBaseCatalog_BaseCatalogSaved() {
         // arrange
@@ -86,6 +96,43 @@ class BaseCatalogRepositoryTest {
         assertThat(actual.getId()).isNotNull();
     }
 
+    @Test
+    void save_BaseCatalogWith5000Requirements_InsertsSentInBatches() {
+        // arrange
+        List<BaseRequirementEntity> requirements = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            requirements.add(BaseRequirementEntity.builder()
+                .position(String.valueOf(i))
+                .phase(A)
+                .text("Requirement " + i)
+                .build());
+        }
+
+        BaseCatalogEntity entity = BaseCatalogEntity.builder()
+            .version("8.2.1")
+            .toc(BaseCatalogChapterEntity.builder()
+                .requirements(requirements)
+                .name("Chapter 1")
+                .position(1)
+                .build())
+            .build();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // act
+        long start = nanoTime();
+        repository.save(entity);
+        entityManager.flush();
+        log.info("Saved 5000 requirements in {} ms using {} statements",
+            NANOSECONDS.toMillis(nanoTime() - start), statistics.getPrepareStatementCount());
+
+        // assert
+        assertThat(statistics.getEntityInsertCount()).isGreaterThanOrEqualTo(5002);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(500);
+    }
+
     @Test
     void findByVersion_BaseCatalogExists_BaseCatalogReturned() {
         // arrange
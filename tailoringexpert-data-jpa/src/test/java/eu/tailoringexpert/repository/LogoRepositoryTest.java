@@ -1,55 +1,120 @@
-/*-
- * #%L
- * TailoringExpert
- * %%
- * Copyright (C) 2022 Michael Bädorf and others
- * %%
- * This program is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as
- * published by the Free Software Foundation, either version 3 of the
- * License, or (at your option) any later version.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public
- * License along with this program.  If not, see
- * <http://www.gnu.org/licenses/gpl-3.0.html>.
- * #L%
- */
-package eu.tailoringexpert.repository;
-
-import eu.tailoringexpert.domain.LogoEntity;
-import lombok.extern.log4j.Log4j2;
-import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
-import org.springframework.transaction.annotation.Transactional;
-
-import static org.assertj.core.api.Assertions.assertThat;
-
-
-@Log4j2
-@SpringJUnitConfig(classes = {DBConfiguration.class})
-@Transactional
-class LogoRepositoryTest {
-    @Autowired
-    LogoRepository repository;
-
-    @Test
-    void findByName_LogoExist_LogoEntityReturned() {
-        // arrange
-        repository.save(LogoEntity.builder()
-            .name("ecss")
-            .build());
-
-
-        // act
-        LogoEntity actual = repository.findByName("ecss");
-
-        // assert
-        assertThat(actual).isNotNull();
-    }
-}
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.LogoEntity;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@Log4j2
+@SpringJUnitConfig(classes = {DBConfiguration.class, LogoRepositoryTest.CacheConfiguration.class})
+@Transactional
+class LogoRepositoryTest {
+    @Autowired
+    LogoRepository repository;
+
+    @Test
+    void findByName_LogoExist_LogoEntityReturned() {
+        // arrange
+        repository.save(LogoEntity.builder()
+            .name("ecss")
+            .build());
+
+
+        // act
+        LogoEntity actual = repository.findByName("ecss");
+
+        // assert
+        assertThat(actual).isNotNull();
+    }
+
+    @Test
+    void deleteById_LogosCached_CachedLogosEvicted() {
+        // arrange
+        LogoEntity logo = repository.save(LogoEntity.builder()
+            .name("ecss")
+            .build());
+        repository.findAllByNameIn(List.of("ecss"));
+
+        // act
+        repository.deleteById(logo.getId());
+
+        // assert
+        Collection<LogoEntity> actual = repository.findAllByNameIn(List.of("ecss"));
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void saveAll_LogosCached_CachedLogosEvicted() {
+        // arrange
+        repository.findAllByNameIn(List.of("ecss"));
+
+        // act
+        repository.saveAll(List.of(LogoEntity.builder()
+            .name("ecss")
+            .build()));
+
+        // assert
+        Collection<LogoEntity> actual = repository.findAllByNameIn(List.of("ecss"));
+        assertThat(actual).hasSize(1);
+    }
+
+    @Test
+    void deleteAll_LogoCached_CachedLogoEvicted() {
+        // arrange
+        repository.save(LogoEntity.builder()
+            .name("ecss")
+            .build());
+        repository.findByName("ecss");
+
+        // act
+        repository.deleteAll();
+
+        // assert
+        LogoEntity actual = repository.findByName("ecss");
+        assertThat(actual).isNull();
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CacheConfiguration {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+    }
+}
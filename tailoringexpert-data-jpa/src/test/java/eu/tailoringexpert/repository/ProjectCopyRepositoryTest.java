@@ -0,0 +1,371 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.DRDEntity;
+import eu.tailoringexpert.domain.DocumentSignatureEntity;
+import eu.tailoringexpert.domain.DocumentSignatureState;
+import eu.tailoringexpert.domain.NoteEntity;
+import eu.tailoringexpert.domain.Project;
+import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ReferenceEntity;
+import eu.tailoringexpert.domain.ScreeningSheet;
+import eu.tailoringexpert.domain.ScreeningSheetEntity;
+import eu.tailoringexpert.domain.ScreeningSheetParameter;
+import eu.tailoringexpert.domain.ScreeningSheetParameterEntity;
+import eu.tailoringexpert.domain.SelectionVector;
+import eu.tailoringexpert.domain.SelectionVectorEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
+import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import eu.tailoringexpert.project.JPAProjectServiceRepository;
+import eu.tailoringexpert.project.JPAProjectServiceRepositoryMapperGenerated;
+import jakarta.persistence.EntityManager;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static eu.tailoringexpert.domain.DocumentSignatureState.PREPARED;
+import static eu.tailoringexpert.domain.Phase.A;
+import static eu.tailoringexpert.domain.Phase.B;
+import static eu.tailoringexpert.domain.Phase.ZERO;
+import static eu.tailoringexpert.domain.ProjectState.ONGOING;
+import static eu.tailoringexpert.domain.TailoringState.AGREED;
+import static eu.tailoringexpert.domain.TailoringState.CREATED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Log4j2
+@SpringJUnitConfig(classes = {DBConfiguration.class})
+@Transactional
+class ProjectCopyRepositoryTest {
+
+    @Autowired
+    BaseCatalogRepository baseCatalogRepository;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    ProjectCopyRepository projectCopyRepository;
+
+    @Autowired
+    DRDRepository drdRepository;
+
+    @Autowired
+    LogoRepository logoRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    JPAProjectServiceRepository repository;
+
+    @BeforeEach
+    void setup() {
+        JPAProjectServiceRepositoryMapperGenerated mapper = new JPAProjectServiceRepositoryMapperGenerated();
+        mapper.setBaseCatalogRepository(baseCatalogRepository);
+        mapper.setLogoRepository(logoRepository);
+        mapper.setDrdRepository(drdRepository);
+        this.repository = new JPAProjectServiceRepository(mapper, projectRepository, baseCatalogRepository, projectCopyRepository);
+    }
+
+    @Test
+    void copyProject_ProjectWithTailorings_SameProjectAsCopyOfLoadedProject() {
+        // arrange
+        saveProject("SAMPLE", 3, 4, 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        copyLoadedProject("SAMPLE", "EXPECTED");
+        entityManager.flush();
+        entityManager.clear();
+        Project expected = repository.getProject("EXPECTED").orElseThrow();
+        entityManager.clear();
+
+        // act
+        Optional<ProjectInformation> actual = repository.copyProject("SAMPLE", createScreeningSheet("COPY"));
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getIdentifier()).isEqualTo("COPY");
+        assertThat(actual.get().getState()).isEqualTo(ONGOING);
+        assertThat(actual.get().getTailorings())
+            .extracting("name")
+            .containsExactly("master", "master1");
+
+        entityManager.flush();
+        entityManager.clear();
+        Project copy = repository.getProject("COPY").orElseThrow();
+        assertThat(copy.getCreationTimestamp()).isNotNull();
+        assertThat(copy.getTailorings()).allSatisfy(tailoring -> assertThat(tailoring.getCatalog()).isNotNull());
+        assertThat(copy)
+            .usingRecursiveComparison()
+            .ignoringFields("identifier", "creationTimestamp", "tailorings.creationTimestamp")
+            .ignoringFieldsMatchingRegexes(".*chapterIndex", ".*requirementIndex", ".*deliveryMilestones")
+            .ignoringCollectionOrderInFieldsMatchingRegexes(".*drds", ".*signatures", ".*notes")
+            .isEqualTo(expected);
+        assertThat(projectRepository.findTailoringRevision("COPY", "master"))
+            .isNotEqualTo(projectRepository.findTailoringRevision("SAMPLE", "master"))
+            .endsWith("-0");
+    }
+
+    @Test
+    void copyProject_CopyDeleted_ProjectToCopyUnchanged() {
+        // arrange
+        saveProject("SAMPLE", 2, 2, 2);
+        entityManager.flush();
+        entityManager.clear();
+        Project expected = repository.getProject("SAMPLE").orElseThrow();
+        entityManager.clear();
+
+        repository.copyProject("SAMPLE", createScreeningSheet("COPY"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // act
+        boolean actual = repository.deleteProject("COPY");
+
+        // assert
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(actual).isTrue();
+        assertThat(repository.getProject("SAMPLE").orElseThrow())
+            .usingRecursiveComparison()
+            .ignoringFieldsMatchingRegexes(".*chapterIndex", ".*requirementIndex", ".*deliveryMilestones")
+            .ignoringCollectionOrderInFieldsMatchingRegexes(".*drds", ".*signatures", ".*notes")
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void copyProject_ProjectNotExists_EmptyReturned() {
+        // arrange
+
+        // act
+        Optional<ProjectInformation> actual = repository.copyProject("SAMPLE", createScreeningSheet("COPY"));
+
+        // assert
+        assertThat(actual).isEmpty();
+        assertThat(projectRepository.existsProjectByIdentifier("COPY")).isFalse();
+    }
+
+    @Test
+    void copyProject_SourceIdsWithGaps_OnlyIdsOfCopiedRowsReserved() {
+        // arrange
+        saveProject("SAMPLE", 4, 4, 4);
+        entityManager.flush();
+        entityManager.clear();
+
+        // deleted requirements leave gaps in the ids of the source rows
+        entityManager.createNativeQuery("delete from TAILORINGREQUIREMENT_DRD where mod(REQUIREMENT_ID, 2)=0").executeUpdate();
+        entityManager.createNativeQuery("delete from TAILORINGREQUIREMENT where mod(REQUIREMENT_ID, 2)=0").executeUpdate();
+        long requirements = countAllRequirements();
+        Long sequence = projectCopyRepository.findSequence("SEQ_TAILORINGREQUIREMENT");
+
+        // act
+        repository.copyProject("SAMPLE", createScreeningSheet("COPY"));
+
+        // assert
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(countAllRequirements()).isEqualTo(2 * requirements);
+        assertThat(countRequirements("COPY")).isEqualTo(countRequirements("SAMPLE"));
+        assertThat(projectCopyRepository.findSequence("SEQ_TAILORINGREQUIREMENT")).isEqualTo(sequence + requirements + 1 + 500);
+        assertThat(((Number) entityManager.createNativeQuery("select count(*) from PROJECTCOPYID").getSingleResult()).longValue())
+            .isZero();
+    }
+
+    @Test
+    void copyProject_LargeCatalogs_LessStatementsThanCopyOfLoadedProject() {
+        // arrange
+        saveProject("SAMPLE", 20, 10, 5);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        long start = System.nanoTime();
+        copyLoadedProject("SAMPLE", "EXPECTED");
+        entityManager.flush();
+        long copyLoadedProjectDuration = System.nanoTime() - start;
+        long copyLoadedProjectStatements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        statistics.clear();
+
+        // act
+        start = System.nanoTime();
+        repository.copyProject("SAMPLE", createScreeningSheet("COPY"));
+        entityManager.flush();
+        long copyProjectDuration = System.nanoTime() - start;
+        long copyProjectStatements = statistics.getPrepareStatementCount();
+
+        // assert
+        log.info("copy of loaded project: {} ms, {} statements", copyLoadedProjectDuration / 1_000_000, copyLoadedProjectStatements);
+        log.info("copy in database: {} ms, {} statements", copyProjectDuration / 1_000_000, copyProjectStatements);
+        // statements of database copy depend on depth of chapter tree only, not on the number of rows
+        assertThat(copyProjectStatements).isLessThan(copyLoadedProjectStatements);
+        assertThat(countRequirements("COPY")).isEqualTo(countRequirements("EXPECTED")).isEqualTo(2000L);
+    }
+
+    /**
+     * Copies a project the way it has been done before, loading the complete project and saving it as new one.
+     */
+    private Project copyLoadedProject(String project, String copy) {
+        ScreeningSheet screeningSheet = createScreeningSheet(copy);
+        Project result = repository.getProject(project).orElseThrow();
+        result.setIdentifier(copy);
+        result.setScreeningSheet(screeningSheet);
+        result.getTailorings().forEach(tailoring -> tailoring.setScreeningSheet(screeningSheet));
+        return repository.createProject(result);
+    }
+
+    private long countRequirements(String project) {
+        return entityManager.createQuery("Select count(r) from Project p inner join p.tailorings t inner join t.catalog c " +
+                "inner join c.toc toc inner join toc.chapters c1 inner join c1.chapters c2 inner join c2.requirements r where p.identifier=:project", Long.class)
+            .setParameter("project", project)
+            .getSingleResult();
+    }
+
+    private long countAllRequirements() {
+        return ((Number) entityManager.createNativeQuery("select count(*) from TAILORINGREQUIREMENT").getSingleResult()).longValue();
+    }
+
+    private ScreeningSheet createScreeningSheet(String project) {
+        return ScreeningSheet.builder()
+            .project(project)
+            .data("screeningsheet".getBytes(UTF_8))
+            .parameters(List.of(
+                ScreeningSheetParameter.builder().category("Phase").value("ZERO").build(),
+                ScreeningSheetParameter.builder().category("Kind").value("SAT").build()
+            ))
+            .selectionVector(SelectionVector.builder().levels(Map.of("G", 2, "E", 3)).build())
+            .build();
+    }
+
+    private void saveProject(String identifier, int chapterCount, int subChapterCount, int requirementCount) {
+        List<DRDEntity> drds = drdRepository.saveAll(List.of(
+            DRDEntity.builder().number("04.11").title("Common Cause Analysis").deliveryDate("PDR").build(),
+            DRDEntity.builder().number("10.1").title("Software Product Assurance Plan").deliveryDate("SRR;PDR").build()
+        ));
+
+        List<TailoringEntity> tailorings = new ArrayList<>();
+        for (String name : List.of("master", "master1")) {
+            tailorings.add(TailoringEntity.builder()
+                .identifier(String.valueOf(1000 + tailorings.size()))
+                .name(name)
+                .phase(ZERO)
+                .phase(tailorings.isEmpty() ? A : B)
+                .state(tailorings.isEmpty() ? AGREED : CREATED)
+                .screeningSheet(createScreeningSheetEntity())
+                .selectionVector(SelectionVectorEntity.builder().levels(new HashMap<>(Map.of("G", 1, "E", tailorings.size()))).build())
+                .signatures(new ArrayList<>(List.of(
+                    DocumentSignatureEntity.builder().faculty("Software").signee("Hans Dampf").state(PREPARED).applicable(true).position(1).build(),
+                    DocumentSignatureEntity.builder().faculty("Safety").signee("Peter Lustig").state(DocumentSignatureState.AGREED).applicable(false).position(2).build()
+                )))
+                .notes(new ArrayList<>(List.of(
+                    NoteEntity.builder().number(1).text("Note of " + name).creationTimestamp(ZonedDateTime.now()).build()
+                )))
+                .catalog(TailoringCatalogEntity.builder()
+                    .version("8.2.1")
+                    .toc(createChapters(drds, chapterCount, subChapterCount, requirementCount))
+                    .build())
+                .creationTimestamp(ZonedDateTime.now())
+                .build());
+        }
+
+        projectRepository.save(ProjectEntity.builder()
+            .identifier(identifier)
+            .state(ONGOING)
+            .screeningSheet(createScreeningSheetEntity())
+            .tailorings(tailorings)
+            .creationTimestamp(ZonedDateTime.now())
+            .build());
+    }
+
+    private ScreeningSheetEntity createScreeningSheetEntity() {
+        return ScreeningSheetEntity.builder()
+            .data("source screeningsheet".getBytes(UTF_8))
+            .parameters(new ArrayList<>(List.of(ScreeningSheetParameterEntity.builder().category("Phase").value("A").build())))
+            .selectionVector(SelectionVectorEntity.builder().levels(new HashMap<>(Map.of("G", 4))).build())
+            .build();
+    }
+
+    private TailoringCatalogChapterEntity createChapters(List<DRDEntity> drds, int chapterCount, int subChapterCount, int requirementCount) {
+        List<TailoringCatalogChapterEntity> chapters = new ArrayList<>();
+        for (int i = 1; i <= chapterCount; i++) {
+            List<TailoringCatalogChapterEntity> subChapters = new ArrayList<>();
+            for (int j = 1; j <= subChapterCount; j++) {
+                subChapters.add(TailoringCatalogChapterEntity.builder()
+                    .name("Chapter " + i + "." + j)
+                    .number(i + "." + j)
+                    .position(j)
+                    .chapters(new ArrayList<>())
+                    .requirements(createRequirements(i + "." + j, drds, requirementCount))
+                    .build());
+            }
+            chapters.add(TailoringCatalogChapterEntity.builder()
+                .name("Chapter " + i)
+                .number(String.valueOf(i))
+                .position(i)
+                .chapters(subChapters)
+                .requirements(createRequirements(String.valueOf(i), drds.subList(0, 1), 1))
+                .build());
+        }
+        return TailoringCatalogChapterEntity.builder()
+            .chapters(chapters)
+            .requirements(new ArrayList<>())
+            .build();
+    }
+
+    private List<TailoringRequirementEntity> createRequirements(String chapter, List<DRDEntity> drds, int requirementCount) {
+        List<TailoringRequirementEntity> result = new ArrayList<>();
+        for (int k = 0; k < requirementCount; k++) {
+            String position = String.valueOf((char) ('a' + k));
+            result.add(TailoringRequirementEntity.builder()
+                .position(position)
+                .number(chapter + "." + position)
+                .text("Requirement " + chapter + "." + position)
+                .reference(ReferenceEntity.builder().text("ECSS-Q-ST-80C").issue("Rev. 1").releaseDate("15.02.2017").changed(k % 2 == 0).build())
+                .selected(k % 2 == 0)
+                .selectionChanged(k % 3 == 0 ? ZonedDateTime.now() : null)
+                .drds(new HashSet<>(k % 2 == 0 ? drds : List.of()))
+                .build());
+        }
+        return result;
+    }
+}
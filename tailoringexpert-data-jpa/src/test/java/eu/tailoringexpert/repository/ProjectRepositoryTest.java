@@ -21,22 +21,45 @@
  */
 package eu.tailoringexpert.repository;
 
+import eu.tailoringexpert.domain.DRDEntity;
+import eu.tailoringexpert.domain.DocumentSignatureEntity;
+import eu.tailoringexpert.domain.NoteEntity;
 import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.ProjectInformationProjection;
+import eu.tailoringexpert.domain.ProjectState;
+import eu.tailoringexpert.domain.SelectionVectorEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringInformationProjection;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
 import eu.tailoringexpert.domain.TailoringState;
+import jakarta.persistence.EntityManager;
 import lombok.extern.log4j.Log4j2;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
 import static eu.tailoringexpert.domain.Phase.E;
 import static eu.tailoringexpert.domain.Phase.F;
 import static eu.tailoringexpert.domain.Phase.ZERO;
+import static eu.tailoringexpert.domain.ProjectState.COMPLETED;
 import static eu.tailoringexpert.domain.ProjectState.ONGOING;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @Log4j2
 @SpringJUnitConfig(classes = {DBConfiguration.class})
@@ -49,6 +72,15 @@ class ProjectRepositoryTest {
     @Autowired
     ProjectRepository repository;
 
+    @Autowired
+    DRDRepository drdRepository;
+
+    @Autowired
+    TailoringRepository tailoringRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
     @Test
     void save_ProjectEntityValid_ProjectSaved() {
         // arrange
@@ -112,6 +144,54 @@ class ProjectRepositoryTest {
         assertThat(actual).isNotNull();
     }
 
+    @Test
+    void findTailoringRevision_TailoringNotChanged_InitialRevisionReturned() {
+        // arrange
+        ProjectEntity project = repository.save(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(Arrays.asList(TailoringEntity.builder().name("master").build()))
+            .build());
+        Long tailoringId = project.getTailorings().get(0).getId();
+
+        // act
+        String actual = repository.findTailoringRevision("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isEqualTo(tailoringId + "-0");
+        assertThat(repository.findTailoringId("SAMPLE", "master")).isEqualTo(tailoringId);
+    }
+
+    @Test
+    void findTailoringRevision_TailoringChanged_IncrementedRevisionReturned() {
+        // arrange
+        ProjectEntity project = repository.save(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(Arrays.asList(TailoringEntity.builder().name("master").build()))
+            .build());
+        Long tailoringId = project.getTailorings().get(0).getId();
+        tailoringRepository.incrementRevision(tailoringId);
+
+        // act
+        String actual = repository.findTailoringRevision("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isEqualTo(tailoringId + "-1");
+    }
+
+    @Test
+    void findTailoringRevision_TailoringNotExists_NullReturned() {
+        // arrange
+        repository.save(ProjectEntity.builder().identifier("SAMPLE").state(ONGOING).build());
+
+        // act
+        String actual = repository.findTailoringRevision("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isNull();
+    }
+
     @Test
     void deleteByIdentifier_ProjectExists_ProjectDeleted() {
         // arrange
@@ -251,4 +331,369 @@ class ProjectRepositoryTest {
         assertThat(actual).isTrue();
     }
 
+    @Test
+    void findTailoringSelectionVector_TailoringExists_SelectionVectorReturned() {
+        // arrange
+        ProjectEntity project = ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(Arrays.asList(
+                TailoringEntity.builder()
+                    .name("master")
+                    .selectionVector(SelectionVectorEntity.builder().levels(Map.of("G", 5)).build())
+                    .build()
+            ))
+            .build();
+        repository.save(project);
+
+        // act
+        SelectionVectorEntity actual = repository.findTailoringSelectionVector("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isNotNull();
+        assertThat(actual.getLevels()).containsEntry("G", 5);
+    }
+
+    @Test
+    void findTailoringSignatures_TailoringExists_SignaturesReturned() {
+        // arrange
+        ProjectEntity project = ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(Arrays.asList(
+                TailoringEntity.builder()
+                    .name("master")
+                    .signatures(List.of(
+                        DocumentSignatureEntity.builder().faculty("Software").position(2).build(),
+                        DocumentSignatureEntity.builder().faculty("Safety").position(1).build()
+                    ))
+                    .build()
+            ))
+            .build();
+        repository.save(project);
+
+        // act
+        List<DocumentSignatureEntity> actual = repository.findTailoringSignatures("SAMPLE", "master");
+
+        // assert
+        assertThat(actual)
+            .extracting(DocumentSignatureEntity::getFaculty)
+            .containsExactly("Safety", "Software");
+    }
+
+    @Test
+    void findTailoringNotes_TailoringNotExists_EmptyListReturned() {
+        // arrange
+
+        // act
+        List<NoteEntity> actual = repository.findTailoringNotes("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void findTailoringNotes_TailoringExists_NotesReturned() {
+        // arrange
+        ProjectEntity project = ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(Arrays.asList(
+                TailoringEntity.builder()
+                    .name("master")
+                    .notes(new ArrayList<>(List.of(
+                        NoteEntity.builder().number(2).text("Note 2").build(),
+                        NoteEntity.builder().number(1).text("Note 1").build()
+                    )))
+                    .build()
+            ))
+            .build();
+        repository.save(project);
+
+        // act
+        List<NoteEntity> actual = repository.findTailoringNotes("SAMPLE", "master");
+
+        // assert
+        assertThat(actual)
+            .extracting(NoteEntity::getNumber)
+            .containsExactly(1, 2);
+    }
+
+    @Test
+    void findTailoringWithCatalog_CatalogWith200Chapters_QueryCountIndependentOfCatalogSize() {
+        // arrange
+        List<DRDEntity> drds = drdRepository.saveAll(List.of(
+            DRDEntity.builder().number("04.11").title("Common Cause Analysis").build(),
+            DRDEntity.builder().number("10.1").title("Software Product Assurance Plan").build()
+        ));
+
+        List<TailoringCatalogChapterEntity> chapters = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            List<TailoringCatalogChapterEntity> subChapters = new ArrayList<>();
+            for (int j = 1; j <= 10; j++) {
+                List<TailoringRequirementEntity> requirements = new ArrayList<>();
+                for (int k = 0; k < 5; k++) {
+                    requirements.add(TailoringRequirementEntity.builder()
+                        .position(String.valueOf((char) ('a' + k)))
+                        .text("Requirement " + k)
+                        .selected(Boolean.TRUE)
+                        .drds(new HashSet<>(drds))
+                        .build());
+                }
+                subChapters.add(TailoringCatalogChapterEntity.builder()
+                    .number(i + "." + j)
+                    .position(j)
+                    .chapters(new ArrayList<>())
+                    .requirements(requirements)
+                    .build());
+            }
+            chapters.add(TailoringCatalogChapterEntity.builder()
+                .number(String.valueOf(i))
+                .position(i)
+                .chapters(subChapters)
+                .requirements(new ArrayList<>())
+                .build());
+        }
+
+        repository.save(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(new ArrayList<>(List.of(TailoringEntity.builder()
+                .name("master")
+                .phase(ZERO)
+                .catalog(TailoringCatalogEntity.builder()
+                    .version("8.2.1")
+                    .toc(TailoringCatalogChapterEntity.builder()
+                        .chapters(chapters)
+                        .requirements(new ArrayList<>())
+                        .build())
+                    .build())
+                .build())))
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // act
+        TailoringEntity actual = repository.findTailoringWithCatalog("SAMPLE", "master");
+        int drdReferences = actual.getCatalog().getToc().allChapters()
+            .flatMap(chapter -> chapter.getRequirements().stream())
+            .mapToInt(requirement -> requirement.getDrds().size())
+            .sum();
+
+        // assert
+        assertThat(drdReferences).isEqualTo(2000);
+        // lazy loading would need one query per chapter and requirement; fetch plan needs a few per tree level
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(12);
+    }
+
+    @Test
+    void findTailoringHeader_TailoringExists_CatalogTreeNotLoaded() {
+        // arrange
+        repository.save(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(new ArrayList<>(List.of(TailoringEntity.builder()
+                .name("master")
+                .phase(ZERO)
+                .catalog(TailoringCatalogEntity.builder()
+                    .version("8.2.1")
+                    .toc(TailoringCatalogChapterEntity.builder()
+                        .chapters(new ArrayList<>(List.of(TailoringCatalogChapterEntity.builder()
+                            .number("1")
+                            .requirements(new ArrayList<>())
+                            .build())))
+                        .requirements(new ArrayList<>())
+                        .build())
+                    .build())
+                .build())))
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // act
+        TailoringEntity actual = repository.findTailoringHeader("SAMPLE", "master");
+
+        // assert
+        assertThat(actual.getName()).isEqualTo("master");
+        assertThat(actual.getCatalog().getVersion()).isEqualTo("8.2.1");
+        assertThat(Hibernate.isInitialized(actual.getPhases())).isTrue();
+        assertThat(Hibernate.isInitialized(actual.getCatalog().getToc())).isFalse();
+    }
+
+    @Test
+    void findTailoringWithChapters_TailoringExists_ChaptersButNoRequirementsLoaded() {
+        // arrange
+        repository.save(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(new ArrayList<>(List.of(TailoringEntity.builder()
+                .name("master")
+                .catalog(TailoringCatalogEntity.builder()
+                    .version("8.2.1")
+                    .toc(TailoringCatalogChapterEntity.builder()
+                        .chapters(new ArrayList<>(List.of(TailoringCatalogChapterEntity.builder()
+                            .number("1")
+                            .requirements(new ArrayList<>(List.of(TailoringRequirementEntity.builder()
+                                .position("a")
+                                .text("Requirement")
+                                .build())))
+                            .build())))
+                        .requirements(new ArrayList<>())
+                        .build())
+                    .build())
+                .build())))
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // act
+        TailoringEntity actual = repository.findTailoringWithChapters("SAMPLE", "master");
+
+        // assert
+        TailoringCatalogChapterEntity toc = actual.getCatalog().getToc();
+        assertThat(Hibernate.isInitialized(toc.getChapters())).isTrue();
+        assertThat(Hibernate.isInitialized(toc.getChapters().get(0).getRequirements())).isFalse();
+    }
+
+    @Test
+    void findProjectInformations_FilterByStatePrefixAndVersion_MatchingProjectsReturned() {
+        // arrange
+        saveProject("H3SAT", ONGOING, "8.2.1");
+        saveProject("H4SAT", COMPLETED, "8.2.1");
+        saveProject("H5SAT", ONGOING, "8.2.2");
+        saveProject("SAMPLE", ONGOING, "8.2.1");
+        entityManager.flush();
+        entityManager.clear();
+
+        // act
+        Slice<ProjectInformationProjection> actual = repository.findProjectInformations(ONGOING, "H", "8.2.1", null, null,
+            PageRequest.of(0, 10, Sort.by("identifier")));
+
+        // assert
+        assertThat(actual.getContent())
+            .extracting(ProjectInformationProjection::getIdentifier, ProjectInformationProjection::getState)
+            .containsExactly(tuple("H3SAT", ONGOING));
+        assertThat(actual.hasNext()).isFalse();
+    }
+
+    @Test
+    void findProjectInformations_EscapedPrefixWithWildcard_WildcardMatchedLiterally() {
+        // arrange
+        saveProject("H_SAT", ONGOING, "8.2.1");
+        saveProject("H3SAT", ONGOING, "8.2.1");
+        entityManager.flush();
+        entityManager.clear();
+
+        // act
+        Slice<ProjectInformationProjection> actual = repository.findProjectInformations(null, "H!_", null, null, null,
+            PageRequest.of(0, 10, Sort.by("identifier")));
+
+        // assert
+        assertThat(actual.getContent())
+            .extracting(ProjectInformationProjection::getIdentifier)
+            .containsExactly("H_SAT");
+    }
+
+    @Test
+    void findProjectInformations_NoFilterWithCursor_NextProjectsReturned() {
+        // arrange
+        saveProject("H3SAT", ONGOING, "8.2.1");
+        saveProject("H4SAT", COMPLETED, "8.2.1");
+        saveProject("H5SAT", ONGOING, "8.2.2");
+        saveProject("SAMPLE", ONGOING, "8.2.1");
+        entityManager.flush();
+        entityManager.clear();
+
+        // act
+        Slice<ProjectInformationProjection> actual = repository.findProjectInformations(null, null, null, "H3SAT", null,
+            PageRequest.of(0, 2, Sort.by("identifier")));
+
+        // assert
+        assertThat(actual.getContent())
+            .extracting(ProjectInformationProjection::getIdentifier)
+            .containsExactly("H4SAT", "H5SAT");
+        assertThat(actual.hasNext()).isTrue();
+    }
+
+    @Test
+    void findProjectInformations_CursorDescending_PreviousProjectsReturned() {
+        // arrange
+        saveProject("H3SAT", ONGOING, "8.2.1");
+        saveProject("H4SAT", COMPLETED, "8.2.1");
+        saveProject("H5SAT", ONGOING, "8.2.2");
+        entityManager.flush();
+        entityManager.clear();
+
+        // act
+        Slice<ProjectInformationProjection> actual = repository.findProjectInformations(null, null, null, null, "H5SAT",
+            PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "identifier")));
+
+        // assert
+        assertThat(actual.getContent())
+            .extracting(ProjectInformationProjection::getIdentifier)
+            .containsExactly("H4SAT", "H3SAT");
+        assertThat(actual.hasNext()).isFalse();
+    }
+
+    @Test
+    void findTailoringInformations_ProjectsWithTailorings_RowsPerPhaseInTailoringOrderReturned() {
+        // arrange
+        repository.save(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(new ArrayList<>(List.of(
+                TailoringEntity.builder()
+                    .name("master")
+                    .state(TailoringState.CREATED)
+                    .phase(E)
+                    .phase(F)
+                    .catalog(TailoringCatalogEntity.builder().version("8.2.1").build())
+                    .build(),
+                TailoringEntity.builder()
+                    .name("master1")
+                    .state(TailoringState.CREATED)
+                    .catalog(TailoringCatalogEntity.builder().version("8.2.2").build())
+                    .build())))
+            .build());
+        saveProject("H3SAT", ONGOING, "8.2.1");
+        saveProject("H4SAT", ONGOING, "8.2.1");
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // act
+        List<TailoringInformationProjection> actual = repository.findTailoringInformations(List.of("SAMPLE", "H3SAT"));
+
+        // assert
+        assertThat(actual)
+            .extracting(TailoringInformationProjection::getProject, TailoringInformationProjection::getName,
+                TailoringInformationProjection::getCatalogVersion, TailoringInformationProjection::getPhase)
+            .containsExactly(
+                tuple("H3SAT", "master", "8.2.1", ZERO),
+                tuple("SAMPLE", "master", "8.2.1", E),
+                tuple("SAMPLE", "master", "8.2.1", F),
+                tuple("SAMPLE", "master1", "8.2.2", null));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void saveProject(String identifier, ProjectState state, String catalogVersion) {
+        repository.save(ProjectEntity.builder()
+            .identifier(identifier)
+            .state(state)
+            .tailorings(new ArrayList<>(List.of(TailoringEntity.builder()
+                .name("master")
+                .phase(ZERO)
+                .catalog(TailoringCatalogEntity.builder()
+                    .version(catalogVersion)
+                    .build())
+                .build())))
+            .build());
+    }
 }
@@ -0,0 +1,226 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2024 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.ReferenceEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import jakarta.persistence.EntityManager;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Log4j2
+@SpringJUnitConfig({DBConfiguration.class})
+@Transactional
+class TailoringRequirementRepositoryTest {
+
+    @Autowired
+    TailoringRequirementRepository repository;
+
+    @Autowired
+    TailoringCatalogRepository catalogRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    TailoringCatalogChapterEntity chapter;
+
+    @BeforeEach
+    void setup() {
+        chapter = TailoringCatalogChapterEntity.builder()
+            .number("1")
+            .requirements(new ArrayList<>(List.of(
+                TailoringRequirementEntity.builder()
+                    .position("a")
+                    .text("Text a")
+                    .selected(TRUE)
+                    .build(),
+                TailoringRequirementEntity.builder()
+                    .position("b")
+                    .text("Text b")
+                    .selected(FALSE)
+                    .reference(ReferenceEntity.builder().text("Reference").changed(FALSE).build())
+                    .build()
+            )))
+            .build();
+        catalogRepository.save(TailoringCatalogEntity.builder()
+            .version("8.2.1")
+            .toc(TailoringCatalogChapterEntity.builder()
+                .chapters(new ArrayList<>(List.of(chapter)))
+                .build())
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findRequirementId_RequirementExists_IdReturned() {
+        // arrange
+
+        // act
+        Long actual = repository.findRequirementId(chapter.getId(), "b");
+
+        // assert
+        assertThat(actual).isEqualTo(chapter.getRequirements().get(1).getId());
+    }
+
+    @Test
+    void findRequirementId_RequirementNotExists_NullReturned() {
+        // arrange
+
+        // act
+        Long actual = repository.findRequirementId(chapter.getId(), "z");
+
+        // assert
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void updateSelected_StateChanged_SelectionChangedSet() {
+        // arrange
+        Long id = repository.findRequirementId(chapter.getId(), "a");
+        ZonedDateTime now = ZonedDateTime.now();
+
+        // act
+        int actual = repository.updateSelected(id, FALSE, now);
+
+        // assert
+        assertThat(actual).isOne();
+        TailoringRequirementEntity requirement = repository.findById(id).get();
+        assertThat(requirement.getSelected()).isFalse();
+        assertThat(requirement.getSelectionChanged()).isNotNull();
+    }
+
+    @Test
+    void updateSelected_StateChangedBack_SelectionChangedRemoved() {
+        // arrange
+        Long id = repository.findRequirementId(chapter.getId(), "a");
+        repository.updateSelected(id, FALSE, ZonedDateTime.now());
+
+        // act
+        int actual = repository.updateSelected(id, TRUE, ZonedDateTime.now());
+
+        // assert
+        assertThat(actual).isOne();
+        TailoringRequirementEntity requirement = repository.findById(id).get();
+        assertThat(requirement.getSelected()).isTrue();
+        assertThat(requirement.getSelectionChanged()).isNull();
+    }
+
+    @Test
+    void updateSelected_StateNotChanged_NothingUpdated() {
+        // arrange
+        Long id = repository.findRequirementId(chapter.getId(), "a");
+
+        // act
+        int actual = repository.updateSelected(id, TRUE, ZonedDateTime.now());
+
+        // assert
+        assertThat(actual).isZero();
+        TailoringRequirementEntity requirement = repository.findById(id).get();
+        assertThat(requirement.getSelected()).isTrue();
+        assertThat(requirement.getSelectionChanged()).isNull();
+    }
+
+    @Test
+    void updateText_NoReference_TextUpdatedReferenceNotCreated() {
+        // arrange
+        Long id = repository.findRequirementId(chapter.getId(), "a");
+
+        // act
+        int actual = repository.updateText(id, "Neuer Text", ZonedDateTime.now());
+
+        // assert
+        assertThat(actual).isOne();
+        TailoringRequirementEntity requirement = repository.findById(id).get();
+        assertThat(requirement.getText()).isEqualTo("Neuer Text");
+        assertThat(requirement.getTextChanged()).isNotNull();
+        assertThat(requirement.getReference()).isNull();
+    }
+
+    @Test
+    void updateText_Reference_TextUpdatedReferenceChanged() {
+        // arrange
+        Long id = repository.findRequirementId(chapter.getId(), "b");
+
+        // act
+        int actual = repository.updateText(id, "Neuer Text", ZonedDateTime.now());
+
+        // assert
+        assertThat(actual).isOne();
+        TailoringRequirementEntity requirement = repository.findById(id).get();
+        assertThat(requirement.getText()).isEqualTo("Neuer Text");
+        assertThat(requirement.getTextChanged()).isNotNull();
+        assertThat(requirement.getReference().getChanged()).isTrue();
+    }
+
+    @Test
+    void findText_RequirementExists_TextReturned() {
+        // arrange
+        Long id = repository.findRequirementId(chapter.getId(), "b");
+
+        // act
+        String actual = repository.findText(id);
+
+        // assert
+        assertThat(actual).isEqualTo("Text b");
+    }
+
+    @Test
+    void findText_RequirementNotExists_NullReturned() {
+        // arrange
+
+        // act
+        String actual = repository.findText(-1L);
+
+        // assert
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void updateText_OnlyCaseChanged_TextUpdated() {
+        // arrange
+        Long id = repository.findRequirementId(chapter.getId(), "b");
+
+        // act
+        int actual = repository.updateText(id, "TEXT B", ZonedDateTime.now());
+
+        // assert
+        assertThat(actual).isOne();
+        TailoringRequirementEntity requirement = repository.findById(id).get();
+        assertThat(requirement.getText()).isEqualTo("TEXT B");
+        assertThat(requirement.getTextChanged()).isNotNull();
+    }
+}
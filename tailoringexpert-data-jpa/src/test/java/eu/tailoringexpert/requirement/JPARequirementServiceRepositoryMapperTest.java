@@ -21,15 +21,25 @@
  */
 package eu.tailoringexpert.requirement;
 
+import eu.tailoringexpert.ReferenceLookup;
 import eu.tailoringexpert.domain.DRD;
 import eu.tailoringexpert.domain.DRDEntity;
 import eu.tailoringexpert.domain.Logo;
 import eu.tailoringexpert.domain.LogoEntity;
+import eu.tailoringexpert.domain.ReferenceEntity;
+import eu.tailoringexpert.domain.TailoringRequirement;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
 import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.LogoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.ZonedDateTime;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -59,13 +69,14 @@ class JPARequirementServiceRepositoryMapperTest {
     void resolve_LogoNull_NullReturned() {
         // arrange
         Logo logo = null;
+        ReferenceLookup lookup = ReferenceLookup.of(Stream.empty(), null, logoRepositoryMock);
 
         // act
-        LogoEntity actual = mapper.resolve(logo);
+        LogoEntity actual = mapper.resolve(logo, lookup);
 
         // assert
         assertThat(actual).isNull();
-        verify(logoRepositoryMock, times(0)).findByName(any());
+        verify(logoRepositoryMock, times(0)).findAllByNameIn(any());
     }
 
     @Test
@@ -74,28 +85,30 @@ class JPARequirementServiceRepositoryMapperTest {
         Logo logo = Logo.builder().name("ECSS").build();
 
         LogoEntity logoEntity = LogoEntity.builder().name("ECSS").build();
-        given(logoRepositoryMock.findByName("ECSS")).willReturn(logoEntity);
+        ReferenceLookup lookup = mock(ReferenceLookup.class);
+        given(lookup.getLogo(logo)).willReturn(logoEntity);
 
         // act
-        LogoEntity actual = mapper.resolve(logo);
+        LogoEntity actual = mapper.resolve(logo, lookup);
 
         // assert
         assertThat(actual).isNotNull();
         assertThat(actual.getName()).isEqualTo("ECSS");
-        verify(logoRepositoryMock, times(1)).findByName("ECSS");
+        verify(logoRepositoryMock, times(0)).findByName(any());
     }
 
     @Test
     void resolve_DRDNull_NullReturned() {
         // arrange
         DRD drd = null;
+        ReferenceLookup lookup = ReferenceLookup.of(Stream.empty(), drdRepositoryMock, null);
 
         // act
-        DRDEntity actual = mapper.resolve(drd);
+        DRDEntity actual = mapper.resolve(drd, lookup);
 
         // assert
         assertThat(actual).isNull();
-        verify(drdRepositoryMock, times(0)).findByNumber(any());
+        verify(drdRepositoryMock, times(0)).findAllByNumberIn(any());
     }
 
     @Test
@@ -104,14 +117,97 @@ class JPARequirementServiceRepositoryMapperTest {
         DRD drd = DRD.builder().number("01").build();
 
         DRDEntity drdEntity = DRDEntity.builder().number("01").build();
-        given(drdRepositoryMock.findByNumber("01")).willReturn(drdEntity);
+        ReferenceLookup lookup = mock(ReferenceLookup.class);
+        given(lookup.getDRD(drd)).willReturn(drdEntity);
 
         // act
-        DRDEntity actual = mapper.resolve(drd);
+        DRDEntity actual = mapper.resolve(drd, lookup);
 
         // assert
         assertThat(actual).isNotNull();
         assertThat(actual.getNumber()).isEqualTo("01");
-        verify(drdRepositoryMock, times(1)).findByNumber("01");
+        verify(drdRepositoryMock, times(0)).findByNumber(any());
+    }
+
+    @Test
+    void toImportDomain_RequirementWithReferenceAndDRDs_OnlyImportDataMapped() {
+        // arrange
+        ZonedDateTime now = ZonedDateTime.now();
+        TailoringRequirementEntity entity = TailoringRequirementEntity.builder()
+            .position("a")
+            .text("Text")
+            .selected(TRUE)
+            .selectionChanged(now)
+            .reference(ReferenceEntity.builder()
+                .text("Reference")
+                .changed(FALSE)
+                .logo(LogoEntity.builder().name("ECSS").build())
+                .build())
+            .drds(Set.of(DRDEntity.builder().number("01").build()))
+            .build();
+
+        // act
+        TailoringRequirement actual = mapper.toImportDomain(entity);
+
+        // assert
+        assertThat(actual.getPosition()).isEqualTo("a");
+        assertThat(actual.getText()).isEqualTo("Text");
+        assertThat(actual.getSelected()).isTrue();
+        assertThat(actual.getSelectionChanged()).isEqualTo(now);
+        assertThat(actual.getReference().getChanged()).isFalse();
+        assertThat(actual.getReference().getLogo()).isNull();
+        assertThat(actual.getDrds()).isNullOrEmpty();
+    }
+
+    @Test
+    void toImportDomain_RequirementWithoutReference_ReferenceNull() {
+        // arrange
+        TailoringRequirementEntity entity = TailoringRequirementEntity.builder()
+            .position("a")
+            .text("Text")
+            .selected(TRUE)
+            .build();
+
+        // act
+        TailoringRequirement actual = mapper.toImportDomain(entity);
+
+        // assert
+        assertThat(actual.getReference()).isNull();
+    }
+
+    @Test
+    void updateImportedRequirement_ImportDataChanged_EntityUpdatedInPlace() {
+        // arrange
+        ZonedDateTime now = ZonedDateTime.now();
+        LogoEntity logo = LogoEntity.builder().name("ECSS").build();
+        Set<DRDEntity> drds = Set.of(DRDEntity.builder().number("01").build());
+        TailoringRequirementEntity entity = TailoringRequirementEntity.builder()
+            .position("a")
+            .text("Text")
+            .selected(TRUE)
+            .selectionChanged(now)
+            .reference(ReferenceEntity.builder().text("Reference").changed(FALSE).logo(logo).build())
+            .drds(drds)
+            .build();
+        TailoringRequirement domain = mapper.toImportDomain(entity);
+        domain.setText("Neuer Text");
+        domain.setTextChanged(now);
+        domain.setSelected(FALSE);
+        domain.setSelectionChanged(null);
+        domain.getReference().setChanged(TRUE);
+
+        // act
+        mapper.updateImportedRequirement(domain, entity);
+
+        // assert
+        assertThat(entity.getPosition()).isEqualTo("a");
+        assertThat(entity.getText()).isEqualTo("Neuer Text");
+        assertThat(entity.getTextChanged()).isEqualTo(now);
+        assertThat(entity.getSelected()).isFalse();
+        assertThat(entity.getSelectionChanged()).isNull();
+        assertThat(entity.getReference().getChanged()).isTrue();
+        assertThat(entity.getReference().getText()).isEqualTo("Reference");
+        assertThat(entity.getReference().getLogo()).isSameAs(logo);
+        assertThat(entity.getDrds()).isSameAs(drds);
     }
 }
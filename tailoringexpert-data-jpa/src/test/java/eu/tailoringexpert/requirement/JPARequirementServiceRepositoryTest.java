@@ -21,6 +21,7 @@
  */
 package eu.tailoringexpert.requirement;
 
+import eu.tailoringexpert.ReferenceLookup;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.ProjectEntity;
 import eu.tailoringexpert.domain.TailoringRequirement;
@@ -29,11 +30,17 @@ import eu.tailoringexpert.domain.TailoringEntity;
 import eu.tailoringexpert.domain.TailoringCatalogEntity;
 import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
 import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.TailoringRepository;
+import eu.tailoringexpert.repository.TailoringRequirementRepository;
+import eu.tailoringexpert.tailoring.ImportRequirement;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static eu.tailoringexpert.domain.Phase.E;
@@ -42,6 +49,8 @@ import static eu.tailoringexpert.domain.Phase.ZERO;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
@@ -53,23 +62,29 @@ import static org.mockito.Mockito.when;
 class JPARequirementServiceRepositoryTest {
 
     ProjectRepository projectRepositoryMock;
+    TailoringRequirementRepository requirementRepositoryMock;
+    TailoringRepository tailoringRepositoryMock;
     JPARequirementServiceRepositoryMapper mapperMock;
     JPARequirementServiceRepository repository;
 
     @BeforeEach
     void setup() {
         this.projectRepositoryMock = mock(ProjectRepository.class);
+        this.requirementRepositoryMock = mock(TailoringRequirementRepository.class);
+        this.tailoringRepositoryMock = mock(TailoringRepository.class);
         this.mapperMock = mock(JPARequirementServiceRepositoryMapper.class);
         this.repository = new JPARequirementServiceRepository(
             this.mapperMock,
-            this.projectRepositoryMock
+            this.projectRepositoryMock,
+            this.requirementRepositoryMock,
+            this.tailoringRepositoryMock
         );
     }
 
     @Test
     void getRequirement_TailoringNotExists_EmptyReturned() {
         // arrange
-        when(projectRepositoryMock.findTailoring("SAMPLE", "master1")).thenReturn(null);
+        when(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master1")).thenReturn(null);
 
         // act
         Optional<TailoringRequirement> actual = repository.getRequirement("SAMPLE", "master1", "1.2.1", "b");
@@ -150,7 +165,7 @@ class JPARequirementServiceRepositoryTest {
                     .build())
                 .build())
             .build();
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(tailoring);
 
         // act
         Optional<TailoringRequirement> actual = repository.getRequirement("SAMPLE", "master", "1.1.2", "b");
@@ -191,7 +206,7 @@ class JPARequirementServiceRepositoryTest {
                     .build())
                 .build())
             .build();
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(tailoring);
 
         // act
         Optional<TailoringRequirement> actual = repository.getRequirement("SAMPLE", "master", "1.1", "b");
@@ -241,7 +256,7 @@ class JPARequirementServiceRepositoryTest {
                     .build())
                 .build())
             .build();
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master1")).willReturn(tailoring);
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master1")).willReturn(tailoring);
 
         // act
         Optional<TailoringRequirement> actual = repository.getRequirement("SAMPLE", "master1", "1.2.1", "b");
@@ -338,7 +353,7 @@ class JPARequirementServiceRepositoryTest {
                     .build())
                 .build())
             .build();
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(tailoring);
 
 
         TailoringRequirement requirement = TailoringRequirement.builder()
@@ -380,7 +395,7 @@ class JPARequirementServiceRepositoryTest {
                     .build())
                 .build())
             .build();
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(tailoring);
 
         TailoringRequirement requirement = TailoringRequirement.builder()
             .position("a")
@@ -396,6 +411,191 @@ class JPARequirementServiceRepositoryTest {
     }
 
 
+    @Test
+    void updateRequirementSelected_ProjectNull_NullPointerExceptionThrown() {
+        // arrange
+        ZonedDateTime now = ZonedDateTime.now();
+
+        // act
+        Throwable actual = catchThrowable(() -> repository.updateRequirementSelected(null, "master", "1.1", "a", Boolean.TRUE, now));
+
+        // assert
+        assertThat(actual).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void updateRequirementSelected_ChapterNotExists_EmptyReturned() {
+        // arrange
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(createTailoring());
+
+        // act
+        Optional<TailoringRequirement> actual = repository.updateRequirementSelected("SAMPLE", "master", "1.2", "a", Boolean.TRUE, ZonedDateTime.now());
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(requirementRepositoryMock, times(0)).updateSelected(any(), any(), any());
+    }
+
+    @Test
+    void updateRequirementSelected_RequirementNotExists_EmptyReturned() {
+        // arrange
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(createTailoring());
+        given(requirementRepositoryMock.findRequirementId(11L, "z")).willReturn(null);
+
+        // act
+        Optional<TailoringRequirement> actual = repository.updateRequirementSelected("SAMPLE", "master", "1.1", "z", Boolean.TRUE, ZonedDateTime.now());
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(requirementRepositoryMock, times(0)).updateSelected(any(), any(), any());
+    }
+
+    @Test
+    void updateRequirementSelected_RequirementExists_UpdatedRequirementReturned() {
+        // arrange
+        ZonedDateTime now = ZonedDateTime.now();
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(createTailoring());
+        given(requirementRepositoryMock.findRequirementId(11L, "a")).willReturn(111L);
+        given(requirementRepositoryMock.updateSelected(111L, Boolean.FALSE, now)).willReturn(1);
+        given(projectRepositoryMock.findTailoringId("SAMPLE", "master")).willReturn(2L);
+
+        TailoringRequirementEntity requirementUpdated = TailoringRequirementEntity.builder()
+            .id(111L)
+            .position("a")
+            .selected(Boolean.FALSE)
+            .build();
+        given(requirementRepositoryMock.findById(111L)).willReturn(Optional.of(requirementUpdated));
+
+        TailoringRequirement requirement = TailoringRequirement.builder()
+            .position("a")
+            .selected(Boolean.FALSE)
+            .build();
+        given(mapperMock.toDomain(requirementUpdated)).willReturn(requirement);
+
+        // act
+        Optional<TailoringRequirement> actual = repository.updateRequirementSelected("SAMPLE", "master", "1.1", "a", Boolean.FALSE, now);
+
+        // assert
+        assertThat(actual).contains(requirement);
+        verify(requirementRepositoryMock, times(1)).updateSelected(111L, Boolean.FALSE, now);
+        verify(mapperMock, times(0)).updateRequirement(any(), any());
+        verify(tailoringRepositoryMock, times(1)).incrementRevision(2L);
+    }
+
+    @Test
+    void updateRequirementText_TextNull_NullPointerExceptionThrown() {
+        // arrange
+        ZonedDateTime now = ZonedDateTime.now();
+
+        // act
+        Throwable actual = catchThrowable(() -> repository.updateRequirementText("SAMPLE", "master", "1.1", "a", null, now));
+
+        // assert
+        assertThat(actual).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void updateRequirementText_RequirementNotExists_EmptyReturned() {
+        // arrange
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(createTailoring());
+        given(requirementRepositoryMock.findRequirementId(11L, "z")).willReturn(null);
+
+        // act
+        Optional<TailoringRequirement> actual = repository.updateRequirementText("SAMPLE", "master", "1.1", "z", "Neuer Text", ZonedDateTime.now());
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(requirementRepositoryMock, times(0)).updateText(any(), any(), any());
+    }
+
+    @Test
+    void updateRequirementText_RequirementExists_UpdatedRequirementReturned() {
+        // arrange
+        ZonedDateTime now = ZonedDateTime.now();
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(createTailoring());
+        given(requirementRepositoryMock.findRequirementId(11L, "a")).willReturn(111L);
+        given(requirementRepositoryMock.findText(111L)).willReturn("Text");
+        given(projectRepositoryMock.findTailoringId("SAMPLE", "master")).willReturn(2L);
+
+        TailoringRequirementEntity requirementUpdated = TailoringRequirementEntity.builder()
+            .id(111L)
+            .position("a")
+            .text("Neuer Text")
+            .build();
+        given(requirementRepositoryMock.findById(111L)).willReturn(Optional.of(requirementUpdated));
+
+        TailoringRequirement requirement = TailoringRequirement.builder()
+            .position("a")
+            .text("Neuer Text")
+            .build();
+        given(mapperMock.toDomain(requirementUpdated)).willReturn(requirement);
+
+        // act
+        Optional<TailoringRequirement> actual = repository.updateRequirementText("SAMPLE", "master", "1.1", "a", "Neuer Text", now);
+
+        // assert
+        assertThat(actual).contains(requirement);
+        verify(requirementRepositoryMock, times(1)).updateText(111L, "Neuer Text", now);
+        verify(tailoringRepositoryMock, times(1)).incrementRevision(2L);
+    }
+
+    @Test
+    void updateRequirementText_OnlyCaseChanged_TextUpdatedAndRevisionIncremented() {
+        // arrange
+        ZonedDateTime now = ZonedDateTime.now();
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(createTailoring());
+        given(requirementRepositoryMock.findRequirementId(11L, "a")).willReturn(111L);
+        given(requirementRepositoryMock.findText(111L)).willReturn("neuer text");
+        given(projectRepositoryMock.findTailoringId("SAMPLE", "master")).willReturn(2L);
+
+        // act
+        repository.updateRequirementText("SAMPLE", "master", "1.1", "a", "Neuer Text", now);
+
+        // assert
+        verify(requirementRepositoryMock, times(1)).updateText(111L, "Neuer Text", now);
+        verify(tailoringRepositoryMock, times(1)).incrementRevision(2L);
+    }
+
+    @Test
+    void updateRequirementText_TextNotChanged_NothingUpdated() {
+        // arrange
+        ZonedDateTime now = ZonedDateTime.now();
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(createTailoring());
+        given(requirementRepositoryMock.findRequirementId(11L, "a")).willReturn(111L);
+        given(requirementRepositoryMock.findText(111L)).willReturn("Neuer Text");
+
+        // act
+        repository.updateRequirementText("SAMPLE", "master", "1.1", "a", "Neuer Text", now);
+
+        // assert
+        verify(requirementRepositoryMock, times(0)).updateText(any(), any(), any());
+        verify(tailoringRepositoryMock, times(0)).incrementRevision(any());
+    }
+
+    private TailoringEntity createTailoring() {
+        return TailoringEntity.builder()
+            .id(2L)
+            .name("master")
+            .phase(ZERO)
+            .catalog(TailoringCatalogEntity.builder()
+                .toc(TailoringCatalogChapterEntity.builder()
+                    .chapters(asList(
+                        TailoringCatalogChapterEntity.builder()
+                            .id(1L)
+                            .number("1")
+                            .chapters(asList(
+                                TailoringCatalogChapterEntity.builder()
+                                    .id(11L)
+                                    .number("1.1")
+                                    .build()
+                            ))
+                            .build())
+                    )
+                    .build())
+                .build())
+            .build();
+    }
+
     @Test
     void getChapter_ProjectNull_NullPointerExceptionThrown() {
         // arrange
@@ -453,7 +653,7 @@ class JPARequirementServiceRepositoryTest {
                     .build())
                 .build())
             .build();
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(tailoring);
 
         given(mapperMock.toDomain(chapter)).willReturn(Chapter.<TailoringRequirement>builder().build());
 
@@ -560,7 +760,7 @@ class JPARequirementServiceRepositoryTest {
                     .build())
                 .build())
             .build();
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(tailoring);
 
         Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
             .number("2")
@@ -597,7 +797,7 @@ class JPARequirementServiceRepositoryTest {
                     .build())
                 .build())
             .build();
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(tailoring);
 
         Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
             .number("1.1")
@@ -636,7 +836,7 @@ class JPARequirementServiceRepositoryTest {
                     .build())
                 .build())
             .build();
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(tailoring);
 
         Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
             .number("1")
@@ -772,7 +972,7 @@ class JPARequirementServiceRepositoryTest {
                     .build())
                 .build())
             .build();
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(tailoring);
 
         TailoringRequirement requirementA = TailoringRequirement.builder()
             .position("a")
@@ -791,13 +991,123 @@ class JPARequirementServiceRepositoryTest {
             .build();
         given(mapperMock.toDomain(projectChapter)).willReturn(chapter);
 
+        ReferenceLookup lookup = mock(ReferenceLookup.class);
+        given(mapperMock.createReferenceLookup(any())).willReturn(lookup);
+
         // act
         Optional<Chapter<TailoringRequirement>> actual = repository.updateSelected("SAMPLE", "master", chapter);
 
         // assert
         assertThat(actual).isNotEmpty();
-        verify(mapperMock, times(1)).updateRequirement(requirementA, requirementAToUpdate);
-        verify(mapperMock, times(1)).updateRequirement(requirementB, requirementBToUpdate);
+        verify(mapperMock, times(1)).createReferenceLookup(any());
+        verify(mapperMock, times(1)).updateRequirement(requirementA, requirementAToUpdate, lookup);
+        verify(mapperMock, times(1)).updateRequirement(requirementB, requirementBToUpdate, lookup);
+
+    }
+
+    @Test
+    void updateRequirements_TailoringNotExists_EmptyReturned() {
+        // arrange
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(null);
+
+        // act
+        Optional<RequirementImportResult> actual = repository.updateRequirements("SAMPLE", "master", Map.of(
+            "1.1", List.of(ImportRequirement.builder().position("a").build())
+        ), (requirement, importRequirement) -> true);
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(mapperMock, times(0)).updateImportedRequirement(any(), any());
+        verify(tailoringRepositoryMock, times(0)).incrementRevision(any());
+    }
+
+    @Test
+    void updateRequirements_ExistingAndUnknownRequirements_ModifiedRequirementsUpdated() {
+        // arrange
+        TailoringRequirementEntity requirementAToUpdate = TailoringRequirementEntity.builder()
+            .position("a")
+            .build();
+        TailoringRequirementEntity requirementBToUpdate = TailoringRequirementEntity.builder()
+            .position("b")
+            .build();
+        TailoringEntity tailoring = TailoringEntity.builder()
+            .id(42L)
+            .name("master")
+            .catalog(TailoringCatalogEntity.builder()
+                .toc(TailoringCatalogChapterEntity.builder()
+                    .chapters(asList(
+                        TailoringCatalogChapterEntity.builder()
+                            .number("1")
+                            .chapters(asList(
+                                TailoringCatalogChapterEntity.builder()
+                                    .number("1.1")
+                                    .requirements(asList(requirementAToUpdate, requirementBToUpdate))
+                                    .build()
+                            ))
+                            .build()))
+                    .build())
+                .build())
+            .build();
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(tailoring);
+
+        TailoringRequirement requirementA = TailoringRequirement.builder().position("a").build();
+        TailoringRequirement requirementB = TailoringRequirement.builder().position("b").build();
+        given(mapperMock.toImportDomain(requirementAToUpdate)).willReturn(requirementA);
+        given(mapperMock.toImportDomain(requirementBToUpdate)).willReturn(requirementB);
+
+        Map<String, Collection<ImportRequirement>> requirements = Map.of(
+            "1.1", List.of(
+                ImportRequirement.builder().position("a").applicable("YES").build(),
+                ImportRequirement.builder().position("b").applicable("NO").build(),
+                ImportRequirement.builder().position("x").applicable("YES").build()),
+            "2", List.of(ImportRequirement.builder().position("a").applicable("YES").build())
+        );
+
+        // act
+        Optional<RequirementImportResult> actual = repository.updateRequirements("SAMPLE", "master", requirements,
+            (requirement, importRequirement) -> "YES".equals(importRequirement.getApplicable()));
 
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getApplied()).isEqualTo(1);
+        assertThat(actual.get().getUnchanged()).isEqualTo(1);
+        assertThat(actual.get().getUnknown()).isEqualTo(2);
+        verify(projectRepositoryMock, times(1)).findTailoringWithChapters("SAMPLE", "master");
+        verify(mapperMock, times(0)).toDomain(any(TailoringRequirementEntity.class));
+        verify(mapperMock, times(0)).createReferenceLookup(any());
+        verify(mapperMock, times(1)).updateImportedRequirement(requirementA, requirementAToUpdate);
+        verify(mapperMock, times(0)).updateImportedRequirement(eq(requirementB), any());
+        verify(tailoringRepositoryMock, times(1)).incrementRevision(42L);
+    }
+
+    @Test
+    void updateRequirements_NoRequirementModified_NothingWritten() {
+        // arrange
+        TailoringRequirementEntity requirementEntity = TailoringRequirementEntity.builder()
+            .position("a")
+            .build();
+        given(projectRepositoryMock.findTailoringWithChapters("SAMPLE", "master")).willReturn(TailoringEntity.builder()
+            .name("master")
+            .catalog(TailoringCatalogEntity.builder()
+                .toc(TailoringCatalogChapterEntity.builder()
+                    .chapters(asList(TailoringCatalogChapterEntity.builder()
+                        .number("1")
+                        .requirements(asList(requirementEntity))
+                        .build()))
+                    .build())
+                .build())
+            .build());
+        given(mapperMock.toImportDomain(requirementEntity)).willReturn(TailoringRequirement.builder().position("a").build());
+
+        // act
+        Optional<RequirementImportResult> actual = repository.updateRequirements("SAMPLE", "master", Map.of(
+            "1", List.of(ImportRequirement.builder().position("a").build())
+        ), (requirement, importRequirement) -> false);
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getUnchanged()).isEqualTo(1);
+        verify(mapperMock, times(0)).updateImportedRequirement(any(), any());
+        verify(tailoringRepositoryMock, times(0)).incrementRevision(any());
     }
 }
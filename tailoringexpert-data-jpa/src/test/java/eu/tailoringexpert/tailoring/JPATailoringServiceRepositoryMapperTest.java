@@ -21,6 +21,7 @@
  */
 package eu.tailoringexpert.tailoring;
 
+import eu.tailoringexpert.ReferenceLookup;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.Logo;
@@ -40,6 +41,8 @@ import eu.tailoringexpert.repository.LogoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.Stream;
+
 import static eu.tailoringexpert.domain.Phase.F;
 import static eu.tailoringexpert.domain.Phase.ZERO;
 import static java.util.List.of;
@@ -163,13 +166,14 @@ class JPATailoringServiceRepositoryMapperTest {
     void resolve_LogoNull_NullReturned() {
         // arrange
         Logo logo = null;
+        ReferenceLookup lookup = ReferenceLookup.of(Stream.empty(), null, logoRepositoryMock);
 
         // act
-        LogoEntity actual = mapper.resolve(logo);
+        LogoEntity actual = mapper.resolve(logo, lookup);
 
         // assert
         assertThat(actual).isNull();
-        verify(logoRepositoryMock, times(0)).findByName(any());
+        verify(logoRepositoryMock, times(0)).findAllByNameIn(any());
     }
 
     @Test
@@ -178,15 +182,16 @@ class JPATailoringServiceRepositoryMapperTest {
         Logo logo = Logo.builder().name("ECSS").build();
 
         LogoEntity logoEntity = LogoEntity.builder().name("ECSS").build();
-        given(logoRepositoryMock.findByName("ECSS")).willReturn(logoEntity);
+        ReferenceLookup lookup = mock(ReferenceLookup.class);
+        given(lookup.getLogo(logo)).willReturn(logoEntity);
 
         // act
-        LogoEntity actual = mapper.resolve(logo);
+        LogoEntity actual = mapper.resolve(logo, lookup);
 
         // assert
         assertThat(actual).isNotNull();
         assertThat(actual.getName()).isEqualTo("ECSS");
-        verify(logoRepositoryMock, times(1)).findByName("ECSS");
+        verify(logoRepositoryMock, times(0)).findByName(any());
     }
 
     @Test
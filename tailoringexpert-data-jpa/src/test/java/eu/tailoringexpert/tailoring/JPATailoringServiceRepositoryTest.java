@@ -31,10 +31,13 @@ import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectEntity;
 import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.ScreeningSheetEntity;
+import eu.tailoringexpert.domain.SelectionVector;
+import eu.tailoringexpert.domain.SelectionVectorEntity;
 import eu.tailoringexpert.domain.SelectionVectorProfile;
 import eu.tailoringexpert.domain.SelectionVectorProfileEntity;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringInformation;
 import eu.tailoringexpert.domain.TailoringState;
 import eu.tailoringexpert.repository.DokumentSigneeRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
@@ -46,6 +49,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -179,7 +183,7 @@ class JPATailoringServiceRepositoryTest {
     @Test
     void updateName_NewNameNotUsedBefore_NameUpdated() {
         // arrange
-        TailoringEntity tailoring = new TailoringEntity();
+        TailoringEntity tailoring = TailoringEntity.builder().id(4L).build();
         given(projectRepositoryMock.findTailoring("DUMMY", "master")).willReturn(tailoring);
 
         given(mapperMock.toDomain(tailoring))
@@ -193,6 +197,7 @@ class JPATailoringServiceRepositoryTest {
         // assert
         assertThat(actual).isPresent();
         assertThat(actual.get().getName()).isEqualTo("test");
+        verify(tailoringRepositoryMock, times(1)).incrementRevision(4L);
     }
 
     @Test
@@ -438,7 +443,7 @@ class JPATailoringServiceRepositoryTest {
             .screeningSheet(ScreeningSheetEntity.builder()
                 .build())
             .build();
-        given(projectRepositoryMock.findTailoring("DUMMY", "master")).willReturn(tailoring);
+        given(projectRepositoryMock.findTailoringWithCatalog("DUMMY", "master")).willReturn(tailoring);
 
         given(mapperMock.toDomain(tailoring)).willReturn(Tailoring.builder().build());
 
@@ -485,7 +490,7 @@ class JPATailoringServiceRepositoryTest {
             .willReturn(null);
 
         // act
-        Optional<Tailoring> actual = repository.addNote("SAMPLE", "master", note);
+        Optional<Note> actual = repository.addNote("SAMPLE", "master", note);
 
         // assert
         assertThat(actual).isEmpty();
@@ -498,7 +503,7 @@ class JPATailoringServiceRepositoryTest {
         notes.add(NoteEntity.builder().number(1).text("Note1").build());
         Note note = Note.builder().number(2).text("Note 2").build();
 
-        TailoringEntity tailoring = TailoringEntity.builder().notes(notes).build();
+        TailoringEntity tailoring = TailoringEntity.builder().id(4L).notes(notes).build();
         given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
 
         given(mapperMock.toEntity(note)).willAnswer(invocation -> {
@@ -506,26 +511,31 @@ class JPATailoringServiceRepositoryTest {
             return NoteEntity.builder().number(toAdd.getNumber()).text(toAdd.getText()).build();
         });
 
-        given(mapperMock.toDomain(tailoring)).willReturn(Tailoring.builder().build());
+        given(mapperMock.toDomain(any(NoteEntity.class))).willAnswer(invocation -> {
+            NoteEntity added = invocation.getArgument(0);
+            return Note.builder().number(added.getNumber()).text(added.getText()).build();
+        });
 
         // act
-        Optional<Tailoring> actual = repository.addNote("SAMPLE", "master", note);
+        Optional<Note> actual = repository.addNote("SAMPLE", "master", note);
 
         // assert
         assertThat(actual).isNotEmpty();
+        assertThat(actual.get().getNumber()).isEqualTo(2);
         assertThat(tailoring.getNotes()).hasSize(2);
         assertThat(copyOf(tailoring.getNotes()).get(1).getNumber()).isEqualTo(2);
         assertThat(copyOf(tailoring.getNotes()).get(1).getText()).isEqualTo("Note 2");
+        verify(tailoringRepositoryMock, times(1)).incrementRevision(4L);
     }
 
     @Test
     void setState_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master"))
+        given(projectRepositoryMock.findTailoringHeader("SAMPLE", "master"))
             .willReturn(null);
 
         // act
-        Optional<Tailoring> actual = repository.setState("SAMPLE", "master", TailoringState.CREATED);
+        Optional<TailoringInformation> actual = repository.setState("SAMPLE", "master", TailoringState.CREATED);
 
         // assert
         assertThat(actual).isEmpty();
@@ -534,21 +544,189 @@ class JPATailoringServiceRepositoryTest {
     @Test
     void setState_TailoringExists_UpdatedTailoringReturned() {
         // arrange
-        TailoringEntity entity = TailoringEntity.builder().state(TailoringState.CREATED).build();
-        given(projectRepositoryMock.findTailoring("SAMPLE", "master"))
+        TailoringEntity entity = TailoringEntity.builder().id(4L).state(TailoringState.CREATED).build();
+        given(projectRepositoryMock.findTailoringHeader("SAMPLE", "master"))
             .willReturn(entity);
 
-        given(mapperMock.toDomain(entity)).willAnswer(invocation -> {
+        given(mapperMock.toTailoringInformation(entity)).willAnswer(invocation -> {
             TailoringEntity te = invocation.getArgument(0);
-            return Tailoring.builder().state(te.getState()).build();
+            return TailoringInformation.builder().state(te.getState()).build();
         });
 
         // act
-        Optional<Tailoring> actual = repository.setState("SAMPLE", "master", TailoringState.AGREED);
+        Optional<TailoringInformation> actual = repository.setState("SAMPLE", "master", TailoringState.AGREED);
 
         // assert
         assertThat(actual).isPresent();
         assertThat(actual.get().getState()).isEqualTo(TailoringState.AGREED);
+        verify(mapperMock, times(0)).toDomain(any(TailoringEntity.class));
+        verify(tailoringRepositoryMock, times(1)).incrementRevision(4L);
+    }
+
+    @Test
+    void getRevision_TailoringNotExists_EmptyReturned() {
+        // arrange
+        given(projectRepositoryMock.findTailoringRevision("SAMPLE", "master")).willReturn(null);
+
+        // act
+        Optional<String> actual = repository.getRevision("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getRevision_TailoringExists_RevisionReturned() {
+        // arrange
+        given(projectRepositoryMock.findTailoringRevision("SAMPLE", "master")).willReturn("4-2");
+
+        // act
+        Optional<String> actual = repository.getRevision("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).contains("4-2");
+        verify(projectRepositoryMock, times(0)).findTailoring(any(), any());
+    }
+
+    @Test
+    void getState_TailoringNotExists_EmptyReturned() {
+        // arrange
+        given(projectRepositoryMock.findTailoringState("SAMPLE", "master")).willReturn(null);
+
+        // act
+        Optional<TailoringState> actual = repository.getState("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getState_TailoringExists_StateReturned() {
+        // arrange
+        given(projectRepositoryMock.findTailoringState("SAMPLE", "master")).willReturn(TailoringState.AGREED);
+
+        // act
+        Optional<TailoringState> actual = repository.getState("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).contains(TailoringState.AGREED);
+        verify(projectRepositoryMock, times(0)).findTailoring(any(), any());
+    }
+
+    @Test
+    void getTailoringInformation_TailoringNotExists_EmptyReturned() {
+        // arrange
+        given(projectRepositoryMock.findTailoringHeader("SAMPLE", "master")).willReturn(null);
+
+        // act
+        Optional<TailoringInformation> actual = repository.getTailoringInformation("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getTailoringInformation_TailoringExists_InformationReturned() {
+        // arrange
+        TailoringEntity entity = TailoringEntity.builder().name("master").build();
+        given(projectRepositoryMock.findTailoringHeader("SAMPLE", "master")).willReturn(entity);
+        given(mapperMock.toTailoringInformation(entity)).willReturn(TailoringInformation.builder().name("master").build());
+
+        // act
+        Optional<TailoringInformation> actual = repository.getTailoringInformation("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getName()).isEqualTo("master");
+        verify(mapperMock, times(0)).toDomain(any(TailoringEntity.class));
+    }
+
+    @Test
+    void getSelectionVector_TailoringNotExists_EmptyReturned() {
+        // arrange
+        given(projectRepositoryMock.findTailoringSelectionVector("SAMPLE", "master")).willReturn(null);
+
+        // act
+        Optional<SelectionVector> actual = repository.getSelectionVector("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getSelectionVector_TailoringExists_SelectionVectorReturned() {
+        // arrange
+        SelectionVectorEntity selectionVector = SelectionVectorEntity.builder().levels(Map.of("G", 5)).build();
+        given(projectRepositoryMock.findTailoringSelectionVector("SAMPLE", "master")).willReturn(selectionVector);
+        given(mapperMock.toDomain(selectionVector)).willReturn(SelectionVector.builder().level("G", 5).build());
+
+        // act
+        Optional<SelectionVector> actual = repository.getSelectionVector("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getLevel("G")).isEqualTo(5);
+        verify(projectRepositoryMock, times(0)).findTailoring(any(), any());
+    }
+
+    @Test
+    void getDocumentSignatures_TailoringNotExists_EmptyReturned() {
+        // arrange
+        given(projectRepositoryMock.existsTailoring("SAMPLE", "master")).willReturn(false);
+
+        // act
+        Optional<Collection<DocumentSignature>> actual = repository.getDocumentSignatures("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(projectRepositoryMock, times(0)).findTailoringSignatures(any(), any());
+    }
+
+    @Test
+    void getDocumentSignatures_TailoringExists_SignaturesReturned() {
+        // arrange
+        given(projectRepositoryMock.existsTailoring("SAMPLE", "master")).willReturn(true);
+        DocumentSignatureEntity signature = DocumentSignatureEntity.builder().faculty("Software").build();
+        given(projectRepositoryMock.findTailoringSignatures("SAMPLE", "master")).willReturn(List.of(signature));
+        given(mapperMock.toDomain(signature)).willReturn(DocumentSignature.builder().faculty("Software").build());
+
+        // act
+        Optional<Collection<DocumentSignature>> actual = repository.getDocumentSignatures("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get()).hasSize(1);
+        verify(projectRepositoryMock, times(0)).findTailoring(any(), any());
+    }
+
+    @Test
+    void getNotes_TailoringNotExists_EmptyReturned() {
+        // arrange
+        given(projectRepositoryMock.existsTailoring("SAMPLE", "master")).willReturn(false);
+
+        // act
+        Optional<Collection<Note>> actual = repository.getNotes("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(projectRepositoryMock, times(0)).findTailoringNotes(any(), any());
+    }
+
+    @Test
+    void getNotes_TailoringExists_NotesReturned() {
+        // arrange
+        given(projectRepositoryMock.existsTailoring("SAMPLE", "master")).willReturn(true);
+        NoteEntity note = NoteEntity.builder().number(1).text("Note1").build();
+        given(projectRepositoryMock.findTailoringNotes("SAMPLE", "master")).willReturn(List.of(note));
+        given(mapperMock.toDomain(note)).willReturn(Note.builder().number(1).text("Note1").build());
+
+        // act
+        Optional<Collection<Note>> actual = repository.getNotes("SAMPLE", "master");
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get()).hasSize(1);
+        verify(projectRepositoryMock, times(0)).findTailoring(any(), any());
     }
 
     @Test
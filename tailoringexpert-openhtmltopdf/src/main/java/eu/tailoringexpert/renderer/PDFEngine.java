@@ -21,9 +21,13 @@
  */
 package eu.tailoringexpert.renderer;
 
+import com.openhtmltopdf.extend.FSCacheEx;
+import com.openhtmltopdf.extend.FSCacheValue;
 import com.openhtmltopdf.extend.FSDOMMutator;
+import com.openhtmltopdf.extend.impl.FSDefaultCacheStore;
 import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
 import eu.tailoringexpert.domain.File;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -33,15 +37,19 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static com.openhtmltopdf.outputdevice.helper.BaseRendererBuilder.CacheStore.PDF_FONT_METRICS;
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
 
 /**
  * Engine for creating PDF output of HTML input.
  *
  * @author Michael Bädorf
  */
-@RequiredArgsConstructor
 @Log4j2
 public class PDFEngine {
 
@@ -50,6 +58,41 @@ public class PDFEngine {
     @NonNull
     private RendererRequestConfigurationSupplier requestConfigurationSupplier;
 
+    /**
+     * Total size in bytes of the images, stylesheets and fonts cached for each tenant.
+     */
+    private final long resourceCacheSize;
+
+    /**
+     * Reusable rendering resources of each tenant.
+     */
+    private final Map<String, RendererResources> tenantResources = new ConcurrentHashMap<>();
+
+    /**
+     * Colorprofile loaded at first use.
+     */
+    private volatile byte[] colorProfile;
+
+    public PDFEngine(@NonNull FSDOMMutator domMutator,
+                     @NonNull RendererRequestConfigurationSupplier requestConfigurationSupplier) {
+        this(domMutator, requestConfigurationSupplier, PDFResourceCache.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates engine caching resources of each tenant up to the provided total size.
+     *
+     * @param domMutator                   mutator to apply to each document
+     * @param requestConfigurationSupplier supplier of the tenant configuration
+     * @param resourceCacheSize            total size in bytes of cached resources of each tenant
+     */
+    public PDFEngine(@NonNull FSDOMMutator domMutator,
+                     @NonNull RendererRequestConfigurationSupplier requestConfigurationSupplier,
+                     long resourceCacheSize) {
+        this.domMutator = domMutator;
+        this.requestConfigurationSupplier = requestConfigurationSupplier;
+        this.resourceCacheSize = resourceCacheSize;
+    }
+
     /**
      * Creates PDF using provided HTML String.
      *
@@ -68,6 +111,9 @@ public class PDFEngine {
             addColorProfile(builder);
 
             RendererRequestConfiguration configuration = requestConfigurationSupplier.get();
+            RendererResources resources = tenantResources.computeIfAbsent(
+                Objects.toString(configuration.getId(), ""),
+                id -> new RendererResources(new PDFResourceCache(resourceCacheSize)));
             String baseUri = new java.io.File(
                 format("%s/%s/%s",
                     configuration.getTemplateHome(),
@@ -79,6 +125,8 @@ public class PDFEngine {
                 .withUri(baseUri)
                 .withHtmlContent(html, baseUri)
                 .addDOMMutator(domMutator)
+                .useCacheStore(PDF_FONT_METRICS, resources.getFontMetrics())
+                .useProtocolsStreamImplementation(resources.getResourceCache(), "file")
                 .withProducer(configuration.getName())
                 .usePDDocument(document)
                 .toStream(os)
@@ -100,18 +148,57 @@ public class PDFEngine {
     }
 
     /**
-     * Add colorprofile to builder.
+     * Returns the number of images, stylesheets and fonts provided by the resource caches of all tenants.
+     *
+     * @return number of resource cache hits
+     */
+    public long getResourceCacheHits() {
+        return tenantResources.values()
+            .stream()
+            .mapToLong(resources -> resources.getResourceCache().getHits())
+            .sum();
+    }
+
+    /**
+     * Returns the number of images, stylesheets and fonts loaded from file system by the resource caches of all
+     * tenants.
+     *
+     * @return number of resource cache misses
+     */
+    public long getResourceCacheMisses() {
+        return tenantResources.values()
+            .stream()
+            .mapToLong(resources -> resources.getResourceCache().getMisses())
+            .sum();
+    }
+
+    /**
+     * Add colorprofile to builder. The colorprofile will only be read at first use.
      *
      * @param builder builder to add profile to
      * @return provided builder
      */
     @SneakyThrows
     private PdfRendererBuilder addColorProfile(PdfRendererBuilder builder) {
-        try (InputStream colorProfile = getClass().getResourceAsStream("/colorspaces/sRGB.icc")) {
-            byte[] colorProfileBytes = IOUtils.toByteArray(colorProfile);
-            builder.useColorProfile(colorProfileBytes);
-            return builder;
+        byte[] colorProfileBytes = colorProfile;
+        if (isNull(colorProfileBytes)) {
+            try (InputStream is = getClass().getResourceAsStream("/colorspaces/sRGB.icc")) {
+                colorProfileBytes = IOUtils.toByteArray(is);
+            }
+            colorProfile = colorProfileBytes;
         }
+        builder.useColorProfile(colorProfileBytes);
+        return builder;
+    }
+
+    /**
+     * Rendering resources to be reused by all documents of a tenant.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class RendererResources {
+        private final FSCacheEx<String, FSCacheValue> fontMetrics = new FSDefaultCacheStore();
+        private final PDFResourceCache resourceCache;
     }
 
 }
@@ -0,0 +1,195 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.renderer;
+
+import com.openhtmltopdf.extend.FSStream;
+import com.openhtmltopdf.extend.FSStreamFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.getLastModifiedTime;
+import static java.nio.file.Files.readAllBytes;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Cache of file resources like images, stylesheets and fonts referenced by documents to render.
+ * <p>
+ * A cached resource will be reloaded if the file has been modified since it has been cached.
+ * The cache is bounded by the total size of all cached resources. If the size is exceeded, the least recently used
+ * resources will be evicted.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+class PDFResourceCache implements FSStreamFactory {
+
+    /**
+     * Default total size in bytes of all cached resources.
+     */
+    static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+    private static final int MAX_CACHED_RESOURCES = 1_000;
+    private static final long MAX_CACHED_RESOURCE_SIZE = 8L * 1024 * 1024;
+
+    private final long maxSize;
+    private final long maxResourceSize;
+
+    /**
+     * Resources in access order, guarded by this.
+     */
+    private final Map<String, Resource> resources = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    PDFResourceCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache bounded by the provided total size.
+     *
+     * @param maxSize total size in bytes of all cached resources
+     */
+    PDFResourceCache(long maxSize) {
+        if (maxSize < 0) {
+            throw log.throwing(new IllegalArgumentException("maxSize must not be negative"));
+        }
+        this.maxSize = maxSize;
+        this.maxResourceSize = Math.min(maxSize, MAX_CACHED_RESOURCE_SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FSStream getUrl(String url) {
+        return new ResourceStream(load(url));
+    }
+
+    /**
+     * Returns the number of resources provided by cache.
+     *
+     * @return number of cache hits
+     */
+    long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of resources loaded from file system.
+     *
+     * @return number of cache misses
+     */
+    long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the total size of all cached resources.
+     *
+     * @return size in bytes
+     */
+    synchronized long getSize() {
+        return size;
+    }
+
+    private byte[] load(String url) {
+        try {
+            Path path = Path.of(URI.create(url));
+            FileTime lastModified = getLastModifiedTime(path);
+
+            Resource resource = cached(url);
+            if (nonNull(resource) && resource.getLastModified().equals(lastModified)) {
+                hits.increment();
+                return resource.getData();
+            }
+
+            misses.increment();
+            byte[] data = readAllBytes(path);
+            if (data.length <= maxResourceSize) {
+                cache(url, new Resource(lastModified, data));
+            }
+            return data;
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Could not load resource " + url, e);
+            return null;
+        }
+    }
+
+    private synchronized Resource cached(String url) {
+        return resources.get(url);
+    }
+
+    private synchronized void cache(String url, Resource resource) {
+        Resource replaced = resources.put(url, resource);
+        if (nonNull(replaced)) {
+            size -= replaced.getData().length;
+        }
+        size += resource.getData().length;
+
+        Iterator<Resource> eldest = resources.values().iterator();
+        while (size > maxSize || resources.size() > MAX_CACHED_RESOURCES) {
+            size -= eldest.next().getData().length;
+            eldest.remove();
+        }
+    }
+
+    @Value
+    private static class Resource {
+        FileTime lastModified;
+        byte[] data;
+    }
+
+    @RequiredArgsConstructor
+    private static class ResourceStream implements FSStream {
+
+        private final byte[] data;
+
+        @Override
+        public InputStream getStream() {
+            return isNull(data) ? null : new ByteArrayInputStream(data);
+        }
+
+        @Override
+        public Reader getReader() {
+            return isNull(data) ? null : new InputStreamReader(getStream(), UTF_8);
+        }
+    }
+}
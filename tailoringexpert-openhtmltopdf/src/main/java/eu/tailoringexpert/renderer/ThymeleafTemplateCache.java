@@ -0,0 +1,251 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.renderer;
+
+import eu.tailoringexpert.DocumentCache;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.ICacheManager;
+import org.thymeleaf.engine.TemplateModel;
+import org.thymeleaf.engine.TemplateCacheKey;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static java.nio.file.Files.isDirectory;
+import static java.nio.file.Files.walk;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Invalidation of cached Thymeleaf templates of tenants.
+ * <p>
+ * Templates of a tenant are located in a sub directory of the template home and are cached using the tenant prefix
+ * {@code /<tenant>/} produced by the tenant aware template engine. When watching is started, cached templates of a
+ * tenant will be evicted as soon as any file in the template directory of the tenant has been changed.
+ * <p>
+ * Documents created with evicted templates are outdated as well, so they are evicted of the document cache, if
+ * provided.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+public class ThymeleafTemplateCache implements AutoCloseable {
+
+    @NonNull
+    private final ITemplateEngine templateEngine;
+
+    @NonNull
+    private final Path templateHome;
+
+    /**
+     * Cache of created documents to evict together with templates. Might be null.
+     */
+    private final DocumentCache documentCache;
+
+    /**
+     * Watched directories identified by their watch key.
+     */
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+
+    private WatchService watchService;
+
+    public ThymeleafTemplateCache(@NonNull ITemplateEngine templateEngine, @NonNull String templateHome) {
+        this(templateEngine, templateHome, null);
+    }
+
+    public ThymeleafTemplateCache(@NonNull ITemplateEngine templateEngine,
+                                  @NonNull String templateHome,
+                                  DocumentCache documentCache) {
+        this.templateEngine = templateEngine;
+        this.templateHome = Path.of(templateHome).toAbsolutePath().normalize();
+        this.documentCache = documentCache;
+    }
+
+    /**
+     * Removes all cached templates and documents of a tenant.
+     *
+     * @param tenant tenant to remove templates of
+     * @return number of removed templates
+     */
+    public int evict(@NonNull String tenant) {
+        log.traceEntry(() -> tenant);
+        String prefix = "/" + tenant + "/";
+
+        int result = 0;
+        ICache<TemplateCacheKey, TemplateModel> cache = getTemplateCache();
+        if (nonNull(cache)) {
+            for (TemplateCacheKey key : new ArrayList<>(cache.keySet())) {
+                if (isTemplateOf(key.getTemplate(), prefix) || isTemplateOf(key.getOwnerTemplate(), prefix)) {
+                    cache.clearKey(key);
+                    result++;
+                }
+            }
+        }
+
+        if (nonNull(documentCache)) {
+            documentCache.evict(tenant);
+        }
+
+        log.info("Evicted {} cached templates of tenant {}", result, tenant);
+        return log.traceExit(result);
+    }
+
+    /**
+     * Removes all cached templates and documents of all tenants.
+     */
+    public void evictAll() {
+        log.traceEntry();
+        ICache<TemplateCacheKey, TemplateModel> cache = getTemplateCache();
+        if (nonNull(cache)) {
+            cache.clear();
+        }
+        if (nonNull(documentCache)) {
+            documentCache.evictAll();
+        }
+        log.traceExit();
+    }
+
+    /**
+     * Starts watching the template home including all sub directories for changes.<p>
+     * If watching is not possible, cached templates can only be refreshed by evicting them.
+     */
+    public synchronized void watch() {
+        log.traceEntry();
+        if (nonNull(watchService)) {
+            log.traceExit();
+            return;
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            register(watchService, templateHome);
+
+            Thread watcher = new Thread(this::process, "template-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        } catch (IOException e) {
+            log.warn("Could not watch template home " + templateHome + ". Changed templates have to be evicted manually", e);
+        }
+        log.traceExit();
+    }
+
+    /**
+     * Evicts cached templates affected by a changed file.<p>
+     * Changes of files in a tenant directory only evict the templates of the tenant. Any other change evicts all cached
+     * templates.
+     *
+     * @param path changed file
+     */
+    void changed(Path path) {
+        log.traceEntry(() -> path);
+        Path relative = templateHome.relativize(path.toAbsolutePath().normalize());
+        if (relative.getNameCount() > 1) {
+            evict(relative.getName(0).toString());
+        } else {
+            evictAll();
+        }
+        log.traceExit();
+    }
+
+    /**
+     * Stops watching the template home.
+     */
+    @Override
+    public synchronized void close() {
+        log.traceEntry();
+        if (nonNull(watchService)) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.warn("Could not stop watching template home " + templateHome, e);
+            }
+            watchService = null;
+            directories.clear();
+        }
+        log.traceExit();
+    }
+
+    private void process() {
+        WatchService service = watchService;
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path directory = directories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW || isNull(directory)) {
+                        evictAll();
+                        continue;
+                    }
+
+                    Path path = directory.resolve((Path) event.context());
+                    if (event.kind() == ENTRY_CREATE && isDirectory(path)) {
+                        register(service, path);
+                    }
+                    changed(path);
+                }
+
+                if (!key.reset()) {
+                    directories.remove(key);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Stopped watching template home {}", templateHome);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Stopped watching template home " + templateHome, e);
+        }
+    }
+
+    private void register(WatchService service, Path directory) throws IOException {
+        try (Stream<Path> paths = walk(directory)) {
+            for (Path path : paths.filter(candidate -> isDirectory(candidate)).toList()) {
+                directories.put(path.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), path);
+            }
+        }
+    }
+
+    private ICache<TemplateCacheKey, TemplateModel> getTemplateCache() {
+        ICacheManager cacheManager = templateEngine.getConfiguration().getCacheManager();
+        return isNull(cacheManager) ? null : cacheManager.getTemplateCache();
+    }
+
+    private static boolean isTemplateOf(String template, String prefix) {
+        return nonNull(template) && template.startsWith(prefix);
+    }
+}
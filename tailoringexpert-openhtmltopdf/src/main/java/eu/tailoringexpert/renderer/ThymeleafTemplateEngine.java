@@ -30,10 +30,13 @@ import org.jsoup.nodes.Entities;
 import org.thymeleaf.ITemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
 
+import static java.lang.Character.isSurrogate;
+import static java.util.Collections.synchronizedMap;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 /**
@@ -45,6 +48,9 @@ import static java.util.Objects.nonNull;
 @RequiredArgsConstructor
 public class ThymeleafTemplateEngine implements HTMLTemplateEngine {
 
+    private static final int MAX_CACHED_FRAGMENTS = 10_000;
+    private static final char NBSP = '\u00a0';
+
     @NonNull
     private ITemplateEngine templateEngine;
 
@@ -52,6 +58,18 @@ public class ThymeleafTemplateEngine implements HTMLTemplateEngine {
     @NonNull
     private RendererRequestConfigurationSupplier requestConfigurationSupplier;
 
+    /**
+     * Bounded cache of already converted XHTML fragments.
+     */
+    private final Map<String, String> fragments = synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_CACHED_FRAGMENTS;
+        }
+    });
+
     /**
      * {@inheritDoc}
      */
@@ -69,13 +87,61 @@ public class ThymeleafTemplateEngine implements HTMLTemplateEngine {
      */
     @Override
     public String toXHTML(String text, Map<String, Object> placeholders) {
-        AtomicReference<String> updatedText = new AtomicReference<>(text);
-        placeholders.entrySet()
-            .forEach(entry -> updatedText.set(updatedText.get().replace(
-                entry.getKey(),
-                nonNull(entry.getValue()) ? entry.getValue().toString() : entry.getKey())
-            ));
-        Document document = Jsoup.parseBodyFragment(updatedText.get());
+        String updatedText = replacePlaceholders(text, placeholders);
+        if (isPlainText(updatedText)) {
+            return updatedText;
+        }
+
+        // parse outside of the cache lock, so concurrent document creations do not wait for each other
+        String result = fragments.get(updatedText);
+        if (isNull(result)) {
+            result = parseXHTML(updatedText);
+            fragments.put(updatedText, result);
+        }
+        return result;
+    }
+
+    /**
+     * Replace placeholders one after another in iteration order of the map, so placeholders contained in an already
+     * replaced value are resolved by subsequent placeholders.
+     * Placeholders with a {@code null} value will be kept.
+     *
+     * @param text         text containing placeholders
+     * @param placeholders placeholders to replace
+     * @return text with replaced placeholders
+     */
+    static String replacePlaceholders(String text, Map<String, Object> placeholders) {
+        String result = text;
+        for (Map.Entry<String, Object> entry : placeholders.entrySet()) {
+            // skip String#replace for absent placeholders, most placeholders are not part of a single text
+            if (nonNull(entry.getValue()) && result.contains(entry.getKey())) {
+                result = result.replace(entry.getKey(), entry.getValue().toString());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if Jsoup would return text unchanged, because there is no markup, no entity and no whitespace to
+     * normalize.
+     *
+     * @param text text to check
+     * @return {@code true}, if text does not need to be parsed
+     */
+    static boolean isPlainText(String text) {
+        char previous = ' ';
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < ' ' || isSurrogate(c) || c == '<' || c == '>' || c == '&' || c == NBSP || (c == ' ' && previous == ' ')) {
+                return false;
+            }
+            previous = c;
+        }
+        return previous != ' ' || text.isEmpty();
+    }
+
+    private static String parseXHTML(String text) {
+        Document document = Jsoup.parseBodyFragment(text);
         document.outputSettings().escapeMode(Entities.EscapeMode.xhtml);
         document.outputSettings().syntax(Document.OutputSettings.Syntax.xml);
         return document.body().html();
@@ -30,10 +30,12 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mockStatic;
 
 class PDFEngineTest {
@@ -100,4 +102,27 @@ class PDFEngineTest {
         // assert
         assertThat(actual).isNull();
     }
+
+    @Test
+    void process_MultipleDocuments_ColorProfileLoadedOnce() {
+        // arrange
+        AtomicInteger reads = new AtomicInteger();
+        int readsOfFirstDocument;
+
+        // act
+        File actual;
+        try (MockedStatic<IOUtils> io = mockStatic(IOUtils.class, CALLS_REAL_METHODS)) {
+            io.when(() -> IOUtils.toByteArray(any())).thenAnswer(invocation -> {
+                reads.incrementAndGet();
+                return invocation.callRealMethod();
+            });
+            engine.process("4711", "<html><body>tailoring</body></html>", "parameter");
+            readsOfFirstDocument = reads.getAndSet(0);
+            actual = engine.process("4712", "<html><body>tailoring</body></html>", "parameter");
+        }
+
+        // assert
+        assertThat(actual).isNotNull();
+        assertThat(reads.get()).isEqualTo(readsOfFirstDocument - 1);
+    }
 }
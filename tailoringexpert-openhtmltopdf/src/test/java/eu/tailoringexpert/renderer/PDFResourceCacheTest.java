@@ -0,0 +1,168 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.renderer;
+
+import com.openhtmltopdf.extend.FSStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.setLastModifiedTime;
+import static java.nio.file.Files.writeString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PDFResourceCacheTest {
+
+    @TempDir
+    Path templateHome;
+
+    PDFResourceCache cache;
+
+    @BeforeEach
+    void beforeEach() {
+        this.cache = new PDFResourceCache();
+    }
+
+    @Test
+    void getUrl_ResourceNotCached_ResourceLoadedFromFile() throws IOException {
+        // arrange
+        Path css = writeString(templateHome.resolve("style.css"), "body { color: black; }");
+
+        // act
+        FSStream actual = cache.getUrl(css.toUri().toString());
+
+        // assert
+        assertThat(read(actual)).isEqualTo("body { color: black; }");
+        assertThat(cache.getHits()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void getUrl_ResourceCached_ResourceProvidedByCache() throws IOException {
+        // arrange
+        Path css = writeString(templateHome.resolve("style.css"), "body { color: black; }");
+        cache.getUrl(css.toUri().toString());
+
+        // act
+        FSStream actual = cache.getUrl(css.toUri().toString());
+
+        // assert
+        assertThat(read(actual)).isEqualTo("body { color: black; }");
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void getUrl_ResourceModified_ResourceReloaded() throws IOException {
+        // arrange
+        Path css = writeString(templateHome.resolve("style.css"), "body { color: black; }");
+        setLastModifiedTime(css, FileTime.from(Instant.parse("2024-01-01T00:00:00Z")));
+        cache.getUrl(css.toUri().toString());
+
+        writeString(css, "body { color: red; }");
+        setLastModifiedTime(css, FileTime.from(Instant.parse("2024-01-02T00:00:00Z")));
+
+        // act
+        FSStream actual = cache.getUrl(css.toUri().toString());
+
+        // assert
+        assertThat(read(actual)).isEqualTo("body { color: red; }");
+        assertThat(cache.getHits()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void getUrl_ResourceNotExisting_NoStream() {
+        // arrange
+        String url = templateHome.resolve("logo.png").toUri().toString();
+
+        // act
+        FSStream actual = cache.getUrl(url);
+
+        // assert
+        assertThat(actual.getStream()).isNull();
+        assertThat(actual.getReader()).isNull();
+    }
+
+    @Test
+    void getUrl_MaxSizeExceeded_LeastRecentlyUsedResourceEvicted() throws IOException {
+        // arrange
+        cache = new PDFResourceCache(10);
+        String first = writeString(templateHome.resolve("first.css"), "first").toUri().toString();
+        String second = writeString(templateHome.resolve("second.css"), "second").toUri().toString();
+        cache.getUrl(first);
+
+        // act
+        cache.getUrl(second);
+
+        // assert
+        assertThat(cache.getSize()).isEqualTo(6);
+        cache.getUrl(second);
+        assertThat(cache.getHits()).isEqualTo(1);
+        cache.getUrl(first);
+        assertThat(cache.getMisses()).isEqualTo(3);
+    }
+
+    @Test
+    void getUrl_ResourceLargerThanMaxSize_ResourceNotCached() throws IOException {
+        // arrange
+        cache = new PDFResourceCache(4);
+        String url = writeString(templateHome.resolve("style.css"), "body { color: black; }").toUri().toString();
+
+        // act
+        FSStream actual = cache.getUrl(url);
+
+        // assert
+        assertThat(read(actual)).isEqualTo("body { color: black; }");
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    void getUrl_ResourceModified_SizeOfReplacedResourceReleased() throws IOException {
+        // arrange
+        Path css = writeString(templateHome.resolve("style.css"), "body { color: black; }");
+        setLastModifiedTime(css, FileTime.from(Instant.parse("2024-01-01T00:00:00Z")));
+        cache.getUrl(css.toUri().toString());
+
+        writeString(css, "body { }");
+        setLastModifiedTime(css, FileTime.from(Instant.parse("2024-01-02T00:00:00Z")));
+
+        // act
+        cache.getUrl(css.toUri().toString());
+
+        // assert
+        assertThat(cache.getSize()).isEqualTo(8);
+    }
+
+    private static String read(FSStream stream) throws IOException {
+        try (InputStream is = stream.getStream()) {
+            return new String(is.readAllBytes(), UTF_8);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.renderer;
+
+import eu.tailoringexpert.DocumentCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templateresolver.FileTemplateResolver;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.writeString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.thymeleaf.templatemode.TemplateMode.HTML;
+
+class ThymeleafTemplateCacheTest {
+
+    @TempDir
+    Path templateHome;
+
+    TemplateEngine templateEngine;
+    DocumentCache documentCacheMock;
+    ThymeleafTemplateCache cache;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        createDirectories(templateHome.resolve("tenant1"));
+        createDirectories(templateHome.resolve("tenant2"));
+
+        FileTemplateResolver resolver = new FileTemplateResolver();
+        resolver.setPrefix(templateHome.toString());
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(HTML);
+        resolver.setCacheable(true);
+
+        this.templateEngine = new TemplateEngine();
+        this.templateEngine.setTemplateResolver(resolver);
+        this.documentCacheMock = mock(DocumentCache.class);
+        this.cache = new ThymeleafTemplateCache(templateEngine, templateHome.toString(), documentCacheMock);
+    }
+
+    @AfterEach
+    void afterEach() {
+        cache.close();
+    }
+
+    @Test
+    void process_TemplateChangedNotEvicted_CachedTemplateUsed() throws IOException {
+        // arrange
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>original</p>");
+        process("/tenant1/document");
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>changed</p>");
+
+        // act
+        String actual = process("/tenant1/document");
+
+        // assert
+        assertThat(actual).isEqualTo("<p>original</p>");
+    }
+
+    @Test
+    void evict_CachedTemplatesOfTenants_OnlyTemplatesOfTenantEvicted() throws IOException {
+        // arrange
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>tenant1</p>");
+        writeString(templateHome.resolve("tenant2/document.html"), "<p>tenant2</p>");
+        process("/tenant1/document");
+        process("/tenant2/document");
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>tenant1 changed</p>");
+        writeString(templateHome.resolve("tenant2/document.html"), "<p>tenant2 changed</p>");
+
+        // act
+        int actual = cache.evict("tenant1");
+
+        // assert
+        assertThat(actual).isEqualTo(1);
+        assertThat(process("/tenant1/document")).isEqualTo("<p>tenant1 changed</p>");
+        assertThat(process("/tenant2/document")).isEqualTo("<p>tenant2</p>");
+    }
+
+    @Test
+    void evict_Tenant_CachedDocumentsOfTenantEvicted() {
+        // arrange
+
+        // act
+        cache.evict("tenant1");
+
+        // assert
+        verify(documentCacheMock).evict("tenant1");
+    }
+
+    @Test
+    void evictAll_NoDocumentCache_TemplatesEvicted() throws IOException {
+        // arrange
+        ThymeleafTemplateCache templateCache = new ThymeleafTemplateCache(templateEngine, templateHome.toString());
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>original</p>");
+        process("/tenant1/document");
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>changed</p>");
+
+        // act
+        templateCache.evictAll();
+
+        // assert
+        assertThat(process("/tenant1/document")).isEqualTo("<p>changed</p>");
+    }
+
+    @Test
+    void evict_NoCachedTemplatesOfTenant_NothingEvicted() throws IOException {
+        // arrange
+        writeString(templateHome.resolve("tenant2/document.html"), "<p>tenant2</p>");
+        process("/tenant2/document");
+
+        // act
+        int actual = cache.evict("tenant1");
+
+        // assert
+        assertThat(actual).isZero();
+    }
+
+    @Test
+    void changed_FileOfTenantDirectory_TemplatesOfTenantEvicted() throws IOException {
+        // arrange
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>tenant1</p>");
+        writeString(templateHome.resolve("tenant2/document.html"), "<p>tenant2</p>");
+        process("/tenant1/document");
+        process("/tenant2/document");
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>tenant1 changed</p>");
+        writeString(templateHome.resolve("tenant2/document.html"), "<p>tenant2 changed</p>");
+
+        // act
+        cache.changed(templateHome.resolve("tenant1/drd/fragment.html"));
+
+        // assert
+        assertThat(process("/tenant1/document")).isEqualTo("<p>tenant1 changed</p>");
+        assertThat(process("/tenant2/document")).isEqualTo("<p>tenant2</p>");
+    }
+
+    @Test
+    void changed_FileOfTemplateHome_AllTemplatesEvicted() throws IOException {
+        // arrange
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>tenant1</p>");
+        writeString(templateHome.resolve("tenant2/document.html"), "<p>tenant2</p>");
+        process("/tenant1/document");
+        process("/tenant2/document");
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>tenant1 changed</p>");
+        writeString(templateHome.resolve("tenant2/document.html"), "<p>tenant2 changed</p>");
+
+        // act
+        cache.changed(templateHome.resolve("tenant3"));
+
+        // assert
+        assertThat(process("/tenant1/document")).isEqualTo("<p>tenant1 changed</p>");
+        assertThat(process("/tenant2/document")).isEqualTo("<p>tenant2 changed</p>");
+        verify(documentCacheMock).evictAll();
+    }
+
+    @Test
+    void watch_TemplateOfTenantChanged_ChangedTemplateUsed() throws Exception {
+        // arrange
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>original</p>");
+        process("/tenant1/document");
+        cache.watch();
+
+        // act
+        writeString(templateHome.resolve("tenant1/document.html"), "<p>changed</p>");
+
+        // assert
+        String actual = process("/tenant1/document");
+        for (int i = 0; i < 100 && !"<p>changed</p>".equals(actual); i++) {
+            Thread.sleep(100);
+            actual = process("/tenant1/document");
+        }
+        assertThat(actual).isEqualTo("<p>changed</p>");
+    }
+
+    private String process(String template) {
+        return templateEngine.process(template, new Context());
+    }
+}
@@ -22,12 +22,19 @@
 package eu.tailoringexpert.renderer;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Entities;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.thymeleaf.ITemplateEngine;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -68,5 +75,98 @@ class ThymeleafTemplateEngineTest {
         assertThat(actual).isEqualTo("Some really important requirement with placeholder ${PLACEHOLDER}");
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "1.2.3",
+        "Plain requirement text without markup",
+        "Text with 'quotes' and \"double quotes\" and ümlauts",
+        "Text with  double space",
+        " Leading space",
+        "Trailing space ",
+        "Line\nbreak",
+        "Text with &auml; entity",
+        "Text with <b>markup</b>",
+        "a < b",
+        "Non\u00a0breaking space"
+    })
+    void toXHTML_Text_SameResultAsJsoup(String text) {
+        // arrange
+        Document document = Jsoup.parseBodyFragment(text);
+        document.outputSettings().escapeMode(Entities.EscapeMode.xhtml);
+        document.outputSettings().syntax(Document.OutputSettings.Syntax.xml);
+        String expected = document.body().html();
+
+        // act
+        String actual = engine.toXHTML(text, emptyMap());
+
+        // assert
+        assertThat(actual).isEqualTo(expected);
+    }
 
+    @Test
+    void toXHTML_PlainText_TextReturned() {
+        // arrange
+        String text = "Plain requirement text";
+
+        // act
+        String actual = engine.toXHTML(text, emptyMap());
+
+        // assert
+        assertThat(actual).isSameAs(text);
+    }
+
+    @Test
+    void toXHTML_SameMarkupTwice_CachedResultReturned() {
+        // arrange
+        String first = engine.toXHTML("Requirement with <br> markup", emptyMap());
+
+        // act
+        String actual = engine.toXHTML("Requirement with <br> markup", emptyMap());
+
+        // assert
+        assertThat(actual)
+            .isEqualTo("Requirement with <br /> markup")
+            .isSameAs(first);
+    }
+
+    @Test
+    void replacePlaceholders_ReplacedValueContainsPlaceholder_NestedPlaceholderReplaced() {
+        // arrange
+        Map<String, Object> placeholder = new LinkedHashMap<>();
+        placeholder.put("${A}", "${B}");
+        placeholder.put("${B}", "b");
+
+        // act
+        String actual = ThymeleafTemplateEngine.replacePlaceholders("${A} and ${B}", placeholder);
+
+        // assert
+        assertThat(actual).isEqualTo("b and b");
+    }
+
+    @Test
+    void replacePlaceholders_NullValue_PlaceholderKept() {
+        // arrange
+        Map<String, Object> placeholder = new LinkedHashMap<>();
+        placeholder.put("${A}", null);
+        placeholder.put("${B}", "b");
+
+        // act
+        String actual = ThymeleafTemplateEngine.replacePlaceholders("${A} and ${B}", placeholder);
+
+        // assert
+        assertThat(actual).isEqualTo("${A} and b");
+    }
+
+    @Test
+    void replacePlaceholders_NoPlaceholderInText_TextReturned() {
+        // arrange
+        String text = "Text without placeholder";
+
+        // act
+        String actual = ThymeleafTemplateEngine.replacePlaceholders(text, Map.of("${PLACEHOLDER}", "DUMMY"));
+
+        // assert
+        assertThat(actual).isSameAs(text);
+    }
 }
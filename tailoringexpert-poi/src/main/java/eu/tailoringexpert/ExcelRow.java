@@ -0,0 +1,59 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Values of a row of an Excel sheet formatted as displayed in Excel.
+ *
+ * @author Michael Bädorf
+ */
+@RequiredArgsConstructor
+@ToString
+public class ExcelRow {
+
+    /**
+     * (0 based) number of row in sheet.
+     */
+    @Getter
+    private final int rowNum;
+
+    /**
+     * Cell values. Missing cells are contained as empty strings.
+     */
+    private final List<String> cells;
+
+    /**
+     * Gets value of a cell.
+     *
+     * @param column (0 based) column of cell
+     * @return value of cell, empty string if cell does not exist
+     */
+    public String getCell(int column) {
+        return column < cells.size() ? cells.get(column) : "";
+    }
+}
@@ -0,0 +1,67 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Consumer;
+
+/**
+ * Sheet of an {@link ExcelWorkbook}. Rows are not kept in memory but read each time the sheet is processed.
+ *
+ * @author Michael Bädorf
+ */
+@RequiredArgsConstructor
+public class ExcelSheet {
+
+    /**
+     * Workbook containing sheet.
+     */
+    @Getter
+    @NonNull
+    private final ExcelWorkbook workbook;
+
+    /**
+     * (0 based) index of sheet in workbook.
+     */
+    @Getter
+    private final int index;
+
+    /**
+     * Name of sheet.
+     */
+    @Getter
+    @NonNull
+    private final String sheetName;
+
+    /**
+     * Reads all rows of sheet in order and passes them to the consumer.<p>
+     * Only physically existing rows are passed.
+     *
+     * @param consumer consumer of rows
+     */
+    public void forEachRow(Consumer<ExcelRow> consumer) {
+        workbook.readRows(index, consumer);
+    }
+}
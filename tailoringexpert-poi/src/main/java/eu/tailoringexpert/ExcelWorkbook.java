@@ -0,0 +1,249 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFReader.SheetIterator;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.poi.ss.usermodel.Row.MissingCellPolicy.CREATE_NULL_AS_BLANK;
+
+/**
+ * Read only access to the rows of an Excel workbook.<p>
+ * Sheets of OOXML (xlsx) workbooks are parsed as event stream, so only the row currently processed is kept in memory
+ * instead of the complete workbook object model. The package is read from a temporary file, which is deleted on
+ * {@link #close()}. Other formats are loaded with {@link WorkbookFactory}.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+public class ExcelWorkbook implements AutoCloseable {
+
+    private final DataFormatter formatter = new DataFormatter();
+
+    private final List<String> sheetNames = new ArrayList<>();
+
+    private Path file;
+    private OPCPackage pkg;
+    private XSSFReader reader;
+    private ReadOnlySharedStringsTable strings;
+    private StylesTable styles;
+
+    private Workbook workbook;
+
+    private ExcelWorkbook(byte[] data) throws Exception {
+        try (InputStream is = FileMagic.prepareToCheckMagic(new ByteArrayInputStream(data))) {
+            if (FileMagic.OOXML == FileMagic.valueOf(is)) {
+                // package opened by stream is completely kept in memory, package opened by file is read on demand
+                this.file = Files.createTempFile("workbook", ".xlsx");
+                Files.write(file, data);
+                this.pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+                this.reader = new XSSFReader(pkg);
+                this.strings = new ReadOnlySharedStringsTable(pkg, false);
+                this.styles = reader.getStylesTable();
+
+                SheetIterator sheets = (SheetIterator) reader.getSheetsData();
+                while (sheets.hasNext()) {
+                    try (InputStream sheet = sheets.next()) {
+                        sheetNames.add(sheets.getSheetName());
+                    }
+                }
+            } else {
+                this.workbook = WorkbookFactory.create(is);
+                workbook.forEach(sheet -> sheetNames.add(sheet.getSheetName()));
+            }
+        } catch (Exception e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a workbook.
+     *
+     * @param data raw data of workbook
+     * @return opened workbook
+     * @throws Exception data could not be read as workbook
+     */
+    public static ExcelWorkbook open(byte[] data) throws Exception {
+        return new ExcelWorkbook(data);
+    }
+
+    /**
+     * Number of sheets in workbook.
+     *
+     * @return number of sheets
+     */
+    public int getNumberOfSheets() {
+        return sheetNames.size();
+    }
+
+    /**
+     * Gets sheet at provided index.
+     *
+     * @param index (0 based) index of sheet
+     * @return sheet at index
+     */
+    public ExcelSheet getSheetAt(int index) {
+        return new ExcelSheet(this, index, sheetNames.get(index));
+    }
+
+    /**
+     * Gets sheet with provided name.
+     *
+     * @param name name of sheet
+     * @return sheet with name, null if workbook does not contain a sheet with provided name
+     */
+    public ExcelSheet getSheet(String name) {
+        int index = sheetNames.indexOf(name);
+        return index < 0 ? null : getSheetAt(index);
+    }
+
+    /**
+     * Reads all rows of sheet at provided index.
+     *
+     * @param index    index of sheet to read
+     * @param consumer consumer of read rows
+     */
+    void readRows(int index, Consumer<ExcelRow> consumer) {
+        try {
+            if (nonNull(workbook)) {
+                readWorkbookRows(index, consumer);
+            } else {
+                readPackageRows(index, consumer);
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw log.throwing(new RuntimeException(e));
+        }
+    }
+
+    private void readPackageRows(int index, Consumer<ExcelRow> consumer) throws Exception {
+        SheetIterator sheets = (SheetIterator) reader.getSheetsData();
+        int current = 0;
+        while (sheets.hasNext()) {
+            try (InputStream is = sheets.next()) {
+                if (current++ == index) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(styles, strings, new RowHandler(consumer), formatter, false));
+                    parser.parse(new InputSource(is));
+                    return;
+                }
+            }
+        }
+    }
+
+    private void readWorkbookRows(int index, Consumer<ExcelRow> consumer) {
+        for (Row row : workbook.getSheetAt(index)) {
+            List<String> cells = new ArrayList<>();
+            for (int column = 0; column < row.getLastCellNum(); column++) {
+                Cell cell = row.getCell(column, CREATE_NULL_AS_BLANK);
+                cells.add(formatter.formatCellValue(cell));
+            }
+            consumer.accept(new ExcelRow(row.getRowNum(), cells));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (nonNull(pkg)) {
+                pkg.revert();
+            }
+            if (nonNull(workbook)) {
+                workbook.close();
+            }
+        } finally {
+            if (nonNull(file)) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Collects cell values of a row parsed from sheet xml and passes the complete row to consumer.
+     */
+    private static class RowHandler implements SheetContentsHandler {
+        private final Consumer<ExcelRow> consumer;
+        private List<String> cells;
+
+        RowHandler(Consumer<ExcelRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            this.cells = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            consumer.accept(new ExcelRow(rowNum, cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = isNull(cellReference) ? cells.size() : new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(isNull(formattedValue) ? "" : formattedValue);
+        }
+
+        @Override
+        public void headerFooter(String text, boolean isHeader, String tagName) {
+            // header and footer not part of row data
+        }
+    }
+}
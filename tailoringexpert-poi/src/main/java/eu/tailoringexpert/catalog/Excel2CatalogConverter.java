@@ -21,17 +21,15 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.ExcelSheet;
+import eu.tailoringexpert.ExcelWorkbook;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.Chapter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 
-import java.io.ByteArrayInputStream;
 import java.util.function.Function;
 
 /**
@@ -44,7 +42,7 @@ import java.util.function.Function;
 public class Excel2CatalogConverter implements Function<byte[], Catalog<BaseRequirement>> {
 
     @NonNull
-    Function<Sheet, Chapter<BaseRequirement>> toChapter;
+    Function<ExcelSheet, Chapter<BaseRequirement>> toChapter;
 
     /**
      * {@inheritDoc}
@@ -53,9 +51,8 @@ public class Excel2CatalogConverter implements Function<byte[], Catalog<BaseRequ
     public Catalog<BaseRequirement> apply(byte[] data) {
         log.traceEntry();
 
-        try (ByteArrayInputStream is = new ByteArrayInputStream(data);
-             Workbook workbook = WorkbookFactory.create(is)) {
-            Sheet sheet = workbook.getSheetAt(0);
+        try (ExcelWorkbook workbook = ExcelWorkbook.open(data)) {
+            ExcelSheet sheet = workbook.getSheetAt(0);
 
             Chapter<BaseRequirement> root = toChapter.apply(sheet);
             Catalog.CatalogBuilder<BaseRequirement> result = Catalog.<BaseRequirement>builder()
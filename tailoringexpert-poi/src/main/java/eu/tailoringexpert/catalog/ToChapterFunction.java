@@ -21,6 +21,8 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.ExcelRow;
+import eu.tailoringexpert.ExcelSheet;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.DRD;
@@ -30,14 +32,12 @@ import eu.tailoringexpert.domain.Phase;
 import eu.tailoringexpert.domain.Reference;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
 
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -47,7 +47,6 @@ import static java.util.Arrays.stream;
 import static java.util.Collections.list;
 import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toCollection;
-import static org.apache.poi.ss.usermodel.Row.MissingCellPolicy.CREATE_NULL_AS_BLANK;
 
 /**
  * Class for creating a root chapter of a base catalogue.
@@ -55,12 +54,12 @@ import static org.apache.poi.ss.usermodel.Row.MissingCellPolicy.CREATE_NULL_AS_B
  * @author Michael Bädorf
  */
 @RequiredArgsConstructor
-public class ToChapterFunction implements Function<Sheet, Chapter<BaseRequirement>> {
+public class ToChapterFunction implements Function<ExcelSheet, Chapter<BaseRequirement>> {
 
     @NonNull
-    Function<Sheet, Map<String, DRD>> toDRDMapping;
+    Function<ExcelSheet, Map<String, DRD>> toDRDMapping;
     @NonNull
-    Function<Sheet, Map<String, Logo>> toLogoMapping;
+    Function<ExcelSheet, Map<String, Logo>> toLogoMapping;
 
     @NonNull
     Function<String, Identifier> toIdentifier;
@@ -79,26 +78,21 @@ public class ToChapterFunction implements Function<Sheet, Chapter<BaseRequiremen
      * @return root chapter with full hierarchy
      */
     @Override
-    public Chapter<BaseRequirement> apply(Sheet sheet) {
+    public Chapter<BaseRequirement> apply(ExcelSheet sheet) {
         Map<String, Logo> logos = toLogoMapping.apply(sheet.getWorkbook().getSheet("LOGO"));
         Map<String, DRD> drds = toDRDMapping.apply(sheet.getWorkbook().getSheet("DRD"));
 
         Map<String, Chapter<BaseRequirement>> chapters = new TreeMap<>();
-        Chapter<BaseRequirement> current = new Chapter<>();
-
-        Iterator<Row> rowIterator = sheet.iterator();
-        while (rowIterator.hasNext()) {
-            Row row = rowIterator.next();
-
-            while (isHeader(row)) {
-                String number = row.getCell(0, CREATE_NULL_AS_BLANK).getStringCellValue();
-                current = createChapter(row);
-                chapters.put(number, current);
-                row = rowIterator.next();
+        AtomicReference<Chapter<BaseRequirement>> current = new AtomicReference<>(new Chapter<>());
+
+        sheet.forEachRow(row -> {
+            if (isHeader(row)) {
+                current.set(createChapter(row));
+                chapters.put(row.getCell(0), current.get());
+            } else {
+                current.get().getRequirements().add(createRequirement(row, logos, drds));
             }
-
-            current.getRequirements().add(createRequirement(row, logos, drds));
-        }
+        });
 
         Chapter<BaseRequirement> result = new Chapter<>();
         result.setName("/");
@@ -110,8 +104,8 @@ public class ToChapterFunction implements Function<Sheet, Chapter<BaseRequiremen
         return result;
     }
 
-    private boolean isHeader(Row row) {
-        return row.getCell(2, CREATE_NULL_AS_BLANK).getStringCellValue().isBlank();
+    private boolean isHeader(ExcelRow row) {
+        return row.getCell(2).isBlank();
     }
 
     private int getPosition(String number) {
@@ -122,10 +116,10 @@ public class ToChapterFunction implements Function<Sheet, Chapter<BaseRequiremen
     }
 
 
-    private Chapter<BaseRequirement> createChapter(Row row) {
+    private Chapter<BaseRequirement> createChapter(ExcelRow row) {
         Chapter<BaseRequirement> result = new Chapter<>();
-        String number = row.getCell(0, CREATE_NULL_AS_BLANK).getStringCellValue();
-        result.setName(row.getCell(1, CREATE_NULL_AS_BLANK).getStringCellValue());
+        String number = row.getCell(0);
+        result.setName(row.getCell(1));
         result.setNumber(number);
         result.setPosition(getPosition(number));
         result.setRequirements(new LinkedList<>());
@@ -133,22 +127,22 @@ public class ToChapterFunction implements Function<Sheet, Chapter<BaseRequiremen
         return result;
     }
 
-    private BaseRequirement createRequirement(Row row, Map<String, Logo> logos, Map<String, DRD> drds) {
-        Logo logo = toLogo.apply(row.getCell(5, CREATE_NULL_AS_BLANK).getStringCellValue(), logos);
-        Reference reference = toReference.apply(row.getCell(4, CREATE_NULL_AS_BLANK).getStringCellValue(), logo);
+    private BaseRequirement createRequirement(ExcelRow row, Map<String, Logo> logos, Map<String, DRD> drds) {
+        Logo logo = toLogo.apply(row.getCell(5), logos);
+        Reference reference = toReference.apply(row.getCell(4), logo);
 
         return BaseRequirement.builder()
-            .text(row.getCell(1, CREATE_NULL_AS_BLANK).getStringCellValue())
-            .position(row.getCell(0, CREATE_NULL_AS_BLANK).getStringCellValue())
-            .phases(stream(row.getCell(2, CREATE_NULL_AS_BLANK).getStringCellValue().split("\n"))
+            .text(row.getCell(1))
+            .position(row.getCell(0))
+            .phases(stream(row.getCell(2).split("\n"))
                 .map(Phase::fromString)
                 .collect(toCollection(LinkedList::new)))
-            .identifiers(list(new StringTokenizer(row.getCell(3, CREATE_NULL_AS_BLANK).getStringCellValue().trim(), "\n"))
+            .identifiers(list(new StringTokenizer(row.getCell(3).trim(), "\n"))
                 .stream()
                 .map(String.class::cast)
                 .map(token -> toIdentifier.apply(token))
                 .collect(toCollection(LinkedList::new)))
-            .drds(list(new StringTokenizer(row.getCell(6, CREATE_NULL_AS_BLANK).getStringCellValue().trim(), "\n"))
+            .drds(list(new StringTokenizer(row.getCell(6).trim(), "\n"))
                 .stream()
                 .map(String.class::cast)
                 .map(drds::get)
@@ -21,23 +21,20 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.ExcelSheet;
 import eu.tailoringexpert.domain.DRD;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
-import static org.apache.poi.ss.usermodel.Row.MissingCellPolicy.CREATE_NULL_AS_BLANK;
-
 /**
  * Class for creating a map containing number to corresponding DRD.
  *
  * @author Michael Bädorf
  */
-public class ToDRDMappingFunction implements Function<Sheet, Map<String, DRD>> {
+public class ToDRDMappingFunction implements Function<ExcelSheet, Map<String, DRD>> {
 
     /**
      * Reads DRD sheet data and creates a map with its values.
@@ -46,21 +43,22 @@ public class ToDRDMappingFunction implements Function<Sheet, Map<String, DRD>> {
      * @return Map containing number -> DRD mapping
      */
     @Override
-    public Map<String, DRD> apply(Sheet sheet) {
+    public Map<String, DRD> apply(ExcelSheet sheet) {
         Map<String, DRD> result = new HashMap<>();
-        Iterator<Row> rowIterator = sheet.iterator();
-        rowIterator.next();
-        while (rowIterator.hasNext()) {
-            Row row = rowIterator.next();
-            String number = row.getCell(0, CREATE_NULL_AS_BLANK).getStringCellValue().trim();
+        AtomicBoolean header = new AtomicBoolean(true);
+        sheet.forEachRow(row -> {
+            if (header.getAndSet(false)) {
+                return;
+            }
+            String number = row.getCell(0).trim();
             result.put(number, DRD.builder()
                 .number(number)
-                .title(row.getCell(1, CREATE_NULL_AS_BLANK).getStringCellValue().trim())
-                .deliveryDate(row.getCell(2, CREATE_NULL_AS_BLANK).getStringCellValue().trim())
-                .action(row.getCell(3, CREATE_NULL_AS_BLANK).getStringCellValue().trim())
+                .title(row.getCell(1).trim())
+                .deliveryDate(row.getCell(2).trim())
+                .action(row.getCell(3).trim())
                 .build()
             );
-        }
+        });
         return result;
     }
 }
@@ -21,33 +21,31 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.ExcelSheet;
 import eu.tailoringexpert.domain.Logo;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
-import static org.apache.poi.ss.usermodel.Row.MissingCellPolicy.CREATE_NULL_AS_BLANK;
-
-public class ToLogoMappingFunction implements Function<Sheet, Map<String, Logo>> {
+public class ToLogoMappingFunction implements Function<ExcelSheet, Map<String, Logo>> {
 
     @Override
-    public Map<String, Logo> apply(Sheet sheet) {
+    public Map<String, Logo> apply(ExcelSheet sheet) {
         Map<String, Logo> result = new HashMap<>();
-        Iterator<Row> logoRowIterator = sheet.iterator();
-        logoRowIterator.next();
-        while (logoRowIterator.hasNext()) {
-            Row row = logoRowIterator.next();
-            String name = row.getCell(0, CREATE_NULL_AS_BLANK).getStringCellValue().trim();
+        AtomicBoolean header = new AtomicBoolean(true);
+        sheet.forEachRow(row -> {
+            if (header.getAndSet(false)) {
+                return;
+            }
+            String name = row.getCell(0).trim();
             result.put(name, Logo.builder()
                 .name(name)
-                .url(row.getCell(1, CREATE_NULL_AS_BLANK).getStringCellValue().trim())
+                .url(row.getCell(1).trim())
                 .build()
             );
-        }
+        });
         return result;
     }
 }
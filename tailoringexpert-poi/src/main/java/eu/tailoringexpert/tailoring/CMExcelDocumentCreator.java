@@ -36,10 +36,10 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -60,7 +60,6 @@ import static eu.tailoringexpert.domain.File.builder;
 import static java.nio.file.Files.newInputStream;
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.IntStream.range;
 import static org.apache.poi.ss.usermodel.FillPatternType.SOLID_FOREGROUND;
 import static org.apache.poi.ss.usermodel.IndexedColors.GREY_25_PERCENT;
 
@@ -82,6 +81,16 @@ public class CMExcelDocumentCreator implements DocumentCreator {
     private static final int MAIN_CHAPTER = 1;
     private static final int SUB_CHAPTER = 2;
 
+    /**
+     * Number of rows kept in memory before rows are flushed to disk.
+     */
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    /**
+     * Columns of CM and DRD sheet.
+     */
+    private static final int[] COLUMNS = {0, 1, 2, 3, 4};
+
     /**
      * {@inheritDoc}
      */
@@ -95,26 +104,28 @@ public class CMExcelDocumentCreator implements DocumentCreator {
             FileBuilder builder = builder().name(docId + ".xlsx");
             RendererRequestConfiguration configuration = requestConfigurationSupplier.get();
             java.io.File template = Paths.get(configuration.getTemplateHome() + "/" + tailoring.getCatalog().getVersion() + "/cm.xlsx").toFile();
-            try (Workbook wb = new XSSFWorkbook(newInputStream(template.toPath()))) {
-                Sheet cmSheet = createCMSheet(wb);
-
-                Catalog<TailoringRequirement> catalog = tailoring.getCatalog();
-                catalog.getToc().getChapters()
-                    .forEach(chapter -> addChapter(chapter, 1, cmSheet, placeholders));
-
-                Collection<DRDElement> drds = new LinkedList<>();
-                addDRD(catalog.getToc(), drds, tailoring.getPhases());
-
-                range(0, cmSheet.getRow(0).getPhysicalNumberOfCells())
-                    .forEach(cmSheet::autoSizeColumn);
-
-                Sheet drdSheet = createDRDSheet(wb, drds);
-                range(0, drdSheet.getRow(0).getPhysicalNumberOfCells())
-                    .forEach(drdSheet::autoSizeColumn);
-
-                try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
-                    wb.write(os);
-                    builder.data(os.toByteArray());
+            try (XSSFWorkbook templateWorkbook = new XSSFWorkbook(newInputStream(template.toPath()))) {
+                SXSSFWorkbook wb = new SXSSFWorkbook(templateWorkbook, ROW_ACCESS_WINDOW_SIZE);
+                try {
+                    ExcelSheetWriter cmSheet = createCMSheet(wb);
+
+                    Catalog<TailoringRequirement> catalog = tailoring.getCatalog();
+                    catalog.getToc().getChapters()
+                        .forEach(chapter -> addChapter(chapter, 1, cmSheet, placeholders));
+                    cmSheet.autoSizeColumns(COLUMNS);
+
+                    Collection<DRDElement> drds = new LinkedList<>();
+                    addDRD(catalog.getToc(), drds, tailoring.getPhases());
+
+                    ExcelSheetWriter drdSheet = createDRDSheet(wb, drds);
+                    drdSheet.autoSizeColumns(COLUMNS);
+
+                    try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+                        wb.write(os);
+                        builder.data(os.toByteArray());
+                    }
+                } finally {
+                    wb.dispose();
                 }
             }
 
@@ -154,31 +165,26 @@ public class CMExcelDocumentCreator implements DocumentCreator {
      * @param drds DRD to add to worksheet
      * @return created worksheet
      */
-    private Sheet createDRDSheet(Workbook wb, Collection<DRDElement> drds) {
-        Sheet result = wb.createSheet("DRD");
-
-        CellStyle cellStyle = wb.createCellStyle();
-        cellStyle.setFillForegroundColor(GREY_25_PERCENT.index);
-        cellStyle.setFillPattern(SOLID_FOREGROUND);
-        cellStyle.setWrapText(true);
-
-        Row row = result.createRow((short) 0);
-        row.createCell(0).setCellValue("Title");
-        row.getCell(0).setCellStyle(cellStyle);
-        row.createCell(1).setCellValue("Due Date");
-        row.getCell(1).setCellStyle(cellStyle);
-        row.createCell(2).setCellValue("A-Req't.");
-        row.getCell(2).setCellStyle(cellStyle);
-        row.createCell(3).setCellValue("DRD No");
-        row.getCell(3).setCellStyle(cellStyle);
-        row.createCell(4).setCellValue("DLR Action");
-        row.getCell(4).setCellStyle(cellStyle);
-
-        result.getColumnStyle(2).setWrapText(true);
-        result.setColumnWidth(2, 20);
+    private ExcelSheetWriter createDRDSheet(Workbook wb, Collection<DRDElement> drds) {
+        ExcelSheetWriter result = new ExcelSheetWriter(wb.createSheet("DRD"));
+
+        CellStyle cellStyle = result.cellStyle("header", style -> {
+            style.setFillForegroundColor(GREY_25_PERCENT.index);
+            style.setFillPattern(SOLID_FOREGROUND);
+            style.setWrapText(true);
+        });
+
+        Row row = result.createRow();
+        result.createCell(row, 0, "Title", cellStyle);
+        result.createCell(row, 1, "Due Date", cellStyle);
+        result.createCell(row, 2, "A-Req't.", cellStyle);
+        result.createCell(row, 3, "DRD No", cellStyle);
+        result.createCell(row, 4, "DLR Action", cellStyle);
+
+        result.getSheet().getColumnStyle(2).setWrapText(true);
         drds.forEach(drd -> addRow(result, drd));
 
-        result.setAutoFilter(new CellRangeAddress(0, 0, 0, 4));
+        result.getSheet().setAutoFilter(new CellRangeAddress(0, 0, 0, 4));
 
         return result;
     }
@@ -189,27 +195,19 @@ public class CMExcelDocumentCreator implements DocumentCreator {
      * @param sheet sheet to add to
      * @param drd   drd to add to sheet
      */
-    private void addRow(Sheet sheet, DRDElement drd) {
-        Row row = sheet.createRow((short) sheet.getLastRowNum() + 1);
-
-        CellStyle cellStyle = sheet.getWorkbook().createCellStyle();
-        cellStyle.setVerticalAlignment(VerticalAlignment.TOP);
-        cellStyle.setWrapText(true);
-
-        row.createCell(0).setCellValue(drd.getTitle());
-        row.getCell(0).setCellStyle(cellStyle);
-
-        row.createCell(1).setCellValue(drd.getDeliveryDate());
-        row.getCell(1).setCellStyle(cellStyle);
-
-        row.createCell(2).setCellValue(drd.getRequirements().stream().collect(joining(", \n")));
-        row.getCell(2).setCellStyle(cellStyle);
-
-        row.createCell(3).setCellValue(drd.getNumber());
-        row.getCell(3).setCellStyle(cellStyle);
-
-        row.createCell(4).setCellValue(drd.getAction());
-        row.getCell(4).setCellStyle(cellStyle);
+    private void addRow(ExcelSheetWriter sheet, DRDElement drd) {
+        Row row = sheet.createRow();
+
+        CellStyle cellStyle = sheet.cellStyle("drd", style -> {
+            style.setVerticalAlignment(VerticalAlignment.TOP);
+            style.setWrapText(true);
+        });
+
+        sheet.createCell(row, 0, drd.getTitle(), cellStyle);
+        sheet.createCell(row, 1, drd.getDeliveryDate(), cellStyle);
+        sheet.createCell(row, 2, drd.getRequirements().stream().collect(joining(", \n")), cellStyle);
+        sheet.createCell(row, 3, drd.getNumber(), cellStyle);
+        sheet.createCell(row, 4, drd.getAction(), cellStyle);
     }
 
     /**
@@ -222,7 +220,7 @@ public class CMExcelDocumentCreator implements DocumentCreator {
      */
     private void addChapter(Chapter<TailoringRequirement> chapter,
                             int level,
-                            Sheet sheet,
+                            ExcelSheetWriter sheet,
                             Map<String, Object> placeholders) {
         addRow(sheet, level, chapter.getNumber(), chapter.getName(), placeholders);
         AtomicInteger nextLevel = new AtomicInteger(level + 1);
@@ -242,7 +240,7 @@ public class CMExcelDocumentCreator implements DocumentCreator {
      */
     protected void addRequirements(Collection<TailoringRequirement> requirements,
                                    int level,
-                                   Sheet sheet,
+                                   ExcelSheetWriter sheet,
                                    Map<String, Object> placeholders) {
         // hook for adding also requirements to cm instead of "only" chapters
     }
@@ -253,26 +251,22 @@ public class CMExcelDocumentCreator implements DocumentCreator {
      * @param wb workbook to add worksheet "CM"
      * @return created worksheet
      */
-    private Sheet createCMSheet(Workbook wb) {
-        Sheet result = wb.createSheet("CM");
-
-        CellStyle headerCellStyle = wb.createCellStyle();
-        headerCellStyle.setFillForegroundColor(GREY_25_PERCENT.index);
-        headerCellStyle.setFillPattern(SOLID_FOREGROUND);
-
-        Row row = result.createRow((short) 0);
-        row.createCell(0).setCellValue("DLR  Requirem. para.");
-        row.getCell(0).setCellStyle(headerCellStyle);
-        row.createCell(1).setCellValue("Title");
-        row.getCell(1).setCellStyle(headerCellStyle);
-        row.createCell(2).setCellValue("Compliance  Status");
-        row.getCell(2).setCellStyle(headerCellStyle);
-        row.createCell(3).setCellValue("Cross Reference");
-        row.getCell(3).setCellStyle(headerCellStyle);
-        row.createCell(4).setCellValue("Remarks");
-        row.getCell(4).setCellStyle(headerCellStyle);
-
-        result.setAutoFilter(new CellRangeAddress(0, 0, 0, 4));
+    private ExcelSheetWriter createCMSheet(Workbook wb) {
+        ExcelSheetWriter result = new ExcelSheetWriter(wb.createSheet("CM"));
+
+        CellStyle headerCellStyle = result.cellStyle("header", style -> {
+            style.setFillForegroundColor(GREY_25_PERCENT.index);
+            style.setFillPattern(SOLID_FOREGROUND);
+        });
+
+        Row row = result.createRow();
+        result.createCell(row, 0, "DLR  Requirem. para.", headerCellStyle);
+        result.createCell(row, 1, "Title", headerCellStyle);
+        result.createCell(row, 2, "Compliance  Status", headerCellStyle);
+        result.createCell(row, 3, "Cross Reference", headerCellStyle);
+        result.createCell(row, 4, "Remarks", headerCellStyle);
+
+        result.getSheet().setAutoFilter(new CellRangeAddress(0, 0, 0, 4));
 
         return result;
     }
@@ -285,46 +279,39 @@ public class CMExcelDocumentCreator implements DocumentCreator {
      * @param chapter number of chapter
      * @param title   title of chapter
      */
-    protected void addRow(Sheet sheet,
+    protected void addRow(ExcelSheetWriter sheet,
                           int level,
                           String chapter,
                           String title,
                           Map<String, Object> placeholders) {
-        Row row = sheet.createRow((short) sheet.getLastRowNum() + 1);
+        Row row = sheet.createRow();
 
         CellStyle cellStyle;
         if (MAIN_CHAPTER == level) {
-            cellStyle = createCellStyle(sheet, IndexedColors.LIGHT_BLUE);
+            cellStyle = sheet.cellStyle("mainChapter", style -> fill(style, IndexedColors.LIGHT_BLUE));
         } else if (SUB_CHAPTER == level) {
-            cellStyle = createCellStyle(sheet, IndexedColors.LIGHT_GREEN);
+            cellStyle = sheet.cellStyle("subChapter", style -> fill(style, IndexedColors.LIGHT_GREEN));
         } else {
-            cellStyle = sheet.getWorkbook().createCellStyle();
+            cellStyle = sheet.cellStyle("chapter", style -> {
+            });
         }
 
-        row.createCell(0).setCellValue(text(chapter, placeholders));
-        row.getCell(0).setCellStyle(cellStyle);
-
-        row.createCell(1).setCellValue(text(title, placeholders));
-        row.getCell(1).setCellStyle(cellStyle);
-
-        row.createCell(2).setCellStyle(cellStyle);
-        row.createCell(3).setCellStyle(cellStyle);
-        row.createCell(4).setCellStyle(cellStyle);
-
+        sheet.createCell(row, 0, text(chapter, placeholders), cellStyle);
+        sheet.createCell(row, 1, text(title, placeholders), cellStyle);
+        sheet.createCell(row, 2, null, cellStyle);
+        sheet.createCell(row, 3, null, cellStyle);
+        sheet.createCell(row, 4, null, cellStyle);
     }
 
     /**
-     * Create cell in sheet with given color as fill foreground.
+     * Use given color as solid fill foreground of style.
      *
-     * @param sheet sheet to create cell in
+     * @param style style to update
      * @param color color to use as fill foreground color
-     * @return created cell
      */
-    private CellStyle createCellStyle(Sheet sheet, IndexedColors color) {
-        CellStyle result = sheet.getWorkbook().createCellStyle();
-        result.setFillForegroundColor(color.index);
-        result.setFillPattern(SOLID_FOREGROUND);
-        return result;
+    private void fill(CellStyle style, IndexedColors color) {
+        style.setFillForegroundColor(color.index);
+        style.setFillPattern(SOLID_FOREGROUND);
     }
 
     /**
@@ -27,7 +27,6 @@ import eu.tailoringexpert.domain.Phase;
 import eu.tailoringexpert.domain.TailoringRequirement;
 import eu.tailoringexpert.renderer.RendererRequestConfigurationSupplier;
 import lombok.extern.log4j.Log4j2;
-import org.apache.poi.ss.usermodel.Sheet;
 
 import java.util.Collection;
 import java.util.Map;
@@ -58,7 +57,7 @@ public class CMRequirementsExcelDocumentCreator extends CMExcelDocumentCreator {
     @Override
     protected void addRequirements(Collection<TailoringRequirement> requirements,
                                    int level,
-                                   Sheet sheet,
+                                   ExcelSheetWriter sheet,
                                    Map<String, Object> placeholders) {
         requirements.forEach(requirement ->
             addRow(sheet, 10000, requirement.getPosition(), requirement.getText(), placeholders));
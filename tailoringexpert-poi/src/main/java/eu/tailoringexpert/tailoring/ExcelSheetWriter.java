@@ -0,0 +1,148 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.nonNull;
+
+/**
+ * Appends rows to a (streaming) worksheet.<p>
+ * Rows are only appended, so already written rows may be flushed by the workbook. Cell styles are created once per
+ * sheet and shared by all rows. Column widths are estimated from the written values instead of measuring all cells
+ * after the sheet has been filled.
+ *
+ * @author Michael Bädorf
+ */
+public class ExcelSheetWriter {
+
+    /**
+     * Maximum column width supported by Excel in characters.
+     */
+    private static final int MAX_COLUMN_WIDTH = 255;
+
+    @Getter
+    private final Sheet sheet;
+
+    private final Map<String, CellStyle> cellStyles = new HashMap<>();
+
+    private final Map<Integer, Integer> columnLengths = new HashMap<>();
+
+    private int nextRow;
+
+    public ExcelSheetWriter(@NonNull Sheet sheet) {
+        this.sheet = sheet;
+        this.nextRow = sheet.getPhysicalNumberOfRows() == 0 ? 0 : sheet.getLastRowNum() + 1;
+    }
+
+    /**
+     * Appends a new row to the sheet.
+     *
+     * @return created row
+     */
+    public Row createRow() {
+        return sheet.createRow(nextRow++);
+    }
+
+    /**
+     * Creates a cell in row and updates the estimated width of the column.
+     *
+     * @param row    row to create cell in
+     * @param column column of cell
+     * @param value  value of cell
+     * @param style  style of cell. If null, default style will be used
+     * @return created cell
+     */
+    public Cell createCell(Row row, int column, String value, CellStyle style) {
+        Cell result = row.createCell(column);
+        result.setCellValue(value);
+        if (nonNull(style)) {
+            result.setCellStyle(style);
+        }
+        if (nonNull(value)) {
+            columnLengths.merge(column, maxLineLength(value), Math::max);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the cell style with the provided name. The style is created and initialized on first request only.
+     *
+     * @param name        name of style
+     * @param initializer initializer of created style
+     * @return shared cell style
+     */
+    public CellStyle cellStyle(String name, Consumer<CellStyle> initializer) {
+        return cellStyles.computeIfAbsent(name, key -> {
+            CellStyle result = sheet.getWorkbook().createCellStyle();
+            initializer.accept(result);
+            return result;
+        });
+    }
+
+    /**
+     * Index of last written row.
+     *
+     * @return index of last written row, -1 if no row has been written
+     */
+    public int getLastRowNum() {
+        return nextRow - 1;
+    }
+
+    /**
+     * Sets column width based on the longest values written to the columns.<p>
+     * Columns without any value keep their width.
+     *
+     * @param columns columns to set width of
+     */
+    public void autoSizeColumns(int... columns) {
+        for (int column : columns) {
+            Integer length = columnLengths.get(column);
+            if (nonNull(length)) {
+                sheet.setColumnWidth(column, min(length + 2, MAX_COLUMN_WIDTH) * 256);
+            }
+        }
+    }
+
+    private static int maxLineLength(String value) {
+        int result = 0;
+        int start = 0;
+        int end = value.indexOf('\n');
+        while (end >= 0) {
+            result = max(result, end - start);
+            start = end + 1;
+            end = value.indexOf('\n', start);
+        }
+        return max(result, value.length() - start);
+    }
+}
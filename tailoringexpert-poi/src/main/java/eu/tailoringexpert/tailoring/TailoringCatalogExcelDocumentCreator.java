@@ -38,24 +38,29 @@ import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressList;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 import java.util.Map;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.nonNull;
-import static java.util.stream.IntStream.of;
 
 /**
- * Create Excel requirement catalog file.
+ * Create Excel requirement catalog file.<p>
+ * The workbook contains an import sheet with the columns used for importing requirement selections and an export sheet
+ * with all columns. Both sheets are written row by row in a single pass.
  *
  * @author Michael Bädorf
  */
 @Log4j2
 public class TailoringCatalogExcelDocumentCreator implements DocumentCreator {
 
+    /**
+     * Number of rows kept in memory before rows are flushed to disk.
+     */
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
     /**
      * {@inheritDoc}
      */
@@ -63,18 +68,18 @@ public class TailoringCatalogExcelDocumentCreator implements DocumentCreator {
     public File createDocument(String docId, Tailoring tailoring, Map<String, Object> placeholders) {
         log.traceEntry(() -> docId);
 
-        try (Workbook wb = new XSSFWorkbook()) {
-            Sheet sheet = createSheet(wb, tailoring);
+        SXSSFWorkbook wb = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        try {
+            String baseName = tailoring.getName() + "-" + tailoring.getCatalog().getVersion();
+            ExcelSheetWriter importSheet = createSheet(wb, baseName + "-IMPORT", false);
+            ExcelSheetWriter exportSheet = createSheet(wb, baseName + "-EXPORT", true);
 
-            tailoring.getCatalog().getToc().getChapters().forEach(gruppe -> addChapter(gruppe, sheet));
+            tailoring.getCatalog().getToc().getChapters().forEach(gruppe -> addChapter(gruppe, importSheet, exportSheet));
 
-            applyTextStyle(sheet);
-            applyValidationToColumn(sheet, 2);
-            Arrays.stream(new int[]{2, 4, 5}).forEach(column -> applyValidationToColumn(sheet, column));
-            Arrays.stream(new int[]{1, 2, 4, 5}).forEach(sheet::autoSizeColumn);
-
-            copySheet(wb, 0);
-            deleteColumnsNotUsedForImportSheet(wb.getSheetAt(0));
+            applyValidationToColumn(importSheet.getSheet(), 2);
+            Arrays.stream(new int[]{2, 4, 5}).forEach(column -> applyValidationToColumn(exportSheet.getSheet(), column));
+            importSheet.autoSizeColumns(1, 2);
+            exportSheet.autoSizeColumns(1, 2, 4, 5);
 
             byte[] content;
             try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
@@ -87,58 +92,62 @@ public class TailoringCatalogExcelDocumentCreator implements DocumentCreator {
             return result;
         } catch (Exception e) {
             log.catching(e);
+        } finally {
+            wb.dispose();
         }
         log.traceExit();
         return null;
     }
 
     /**
-     * Add chapter to sheet object.
+     * Add chapter to sheet objects.
      * All subchapter will be evaluated as well.
      *
-     * @param chapter chapter evaluate
-     * @param sheet   sheet to add elements to
+     * @param chapter     chapter evaluate
+     * @param importSheet sheet with import columns to add elements to
+     * @param exportSheet sheet with all columns to add elements to
      */
-    private void addChapter(Chapter<TailoringRequirement> chapter, Sheet sheet) {
-        addRow(sheet, chapter.getName(), chapter.getNumber());
-        chapter.getRequirements().forEach(requirement -> addRow(sheet, requirement));
-
-        chapter.getChapters().forEach(subChapter -> addChapter(subChapter, sheet));
+    private void addChapter(Chapter<TailoringRequirement> chapter, ExcelSheetWriter importSheet, ExcelSheetWriter exportSheet) {
+        addRow(importSheet, chapter.getName(), chapter.getNumber());
+        addRow(exportSheet, chapter.getName(), chapter.getNumber());
+        chapter.getRequirements().forEach(requirement -> {
+            addRow(importSheet, requirement, false);
+            addRow(exportSheet, requirement, true);
+        });
+
+        chapter.getChapters().forEach(subChapter -> addChapter(subChapter, importSheet, exportSheet));
     }
 
     /**
      * Create sheet in workbook.
      *
-     * @param wb workbook to add worksheet
+     * @param wb      workbook to add worksheet
+     * @param name    name of worksheet
+     * @param details state if text and change columns shall be part of sheet
      * @return created worksheet
      */
-    private Sheet createSheet(Workbook wb, Tailoring tailoring) {
-        Sheet result = wb.createSheet(tailoring.getName() + "-" + tailoring.getCatalog().getVersion() + "-IMPORT");
-
-        CellStyle headerCellStyle = wb.createCellStyle();
-        headerCellStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.index);
-        headerCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        headerCellStyle.setVerticalAlignment(VerticalAlignment.TOP);
-
-        Row row = result.createRow((short) 0);
-        row.createCell(0).setCellValue("Label");
-        row.getCell(0).setCellStyle(headerCellStyle);
-
-        row.createCell(1).setCellValue("Chapter");
-        row.getCell(1).setCellStyle(headerCellStyle);
-        row.createCell(2).setCellValue("Applicable");
-        row.getCell(2).setCellStyle(headerCellStyle);
-        row.createCell(3).setCellValue("Text");
-        row.getCell(3).setCellStyle(headerCellStyle);
-
-        row.createCell(4).setCellValue("Selection changed");
-        row.getCell(4).setCellStyle(headerCellStyle);
-        row.createCell(5).setCellValue("Text changed");
-        row.getCell(5).setCellStyle(headerCellStyle);
-
-        result.setColumnWidth(0, 40 * 256);
-        result.setColumnWidth(3, 60 * 256);
-        result.setAutoFilter(new CellRangeAddress(0, 0, 0, 5));
+    private ExcelSheetWriter createSheet(Workbook wb, String name, boolean details) {
+        ExcelSheetWriter result = new ExcelSheetWriter(wb.createSheet(name));
+
+        CellStyle headerCellStyle = result.cellStyle("header", style -> {
+            style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.index);
+            style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            style.setVerticalAlignment(VerticalAlignment.TOP);
+        });
+
+        Row row = result.createRow();
+        result.createCell(row, 0, "Label", headerCellStyle);
+        result.createCell(row, 1, "Chapter", headerCellStyle);
+        result.createCell(row, 2, "Applicable", headerCellStyle);
+        result.createCell(row, 3, "Text", headerCellStyle);
+        if (details) {
+            result.createCell(row, 4, "Selection changed", headerCellStyle);
+            result.createCell(row, 5, "Text changed", headerCellStyle);
+        }
+
+        result.getSheet().setColumnWidth(0, 40 * 256);
+        result.getSheet().setColumnWidth(3, 60 * 256);
+        result.getSheet().setAutoFilter(new CellRangeAddress(0, 0, 0, details ? 5 : 3));
 
         return result;
     }
@@ -150,10 +159,10 @@ public class TailoringCatalogExcelDocumentCreator implements DocumentCreator {
      * @param label    value of cell 0
      * @param position value of cell 1
      */
-    private void addRow(Sheet sheet, String label, String position) {
-        Row row = sheet.createRow((short) sheet.getLastRowNum() + 1);
-        row.createCell(0).setCellValue(label);
-        row.createCell(1).setCellValue(position);
+    private void addRow(ExcelSheetWriter sheet, String label, String position) {
+        Row row = sheet.createRow();
+        sheet.createCell(row, 0, label, null);
+        sheet.createCell(row, 1, position, null);
     }
 
     /**
@@ -161,55 +170,22 @@ public class TailoringCatalogExcelDocumentCreator implements DocumentCreator {
      *
      * @param sheet       sheet to add row to
      * @param requirement tailoring requirement to be displayed in row
+     * @param details     state if text and change columns shall be added
      */
-    private void addRow(Sheet sheet, TailoringRequirement requirement) {
-        Row row = sheet.createRow((short) sheet.getLastRowNum() + 1);
-        row.createCell(0).setCellValue("");
-        row.createCell(1).setCellValue(requirement.getPosition());
-        row.createCell(2).setCellValue(requirement.getSelected().booleanValue() ? "YES" : "NO");
-        row.createCell(3).setCellValue(requirement.getText());
-        row.createCell(4).setCellValue(nonNull(requirement.getSelectionChanged()) ? "YES" : "NO");
-        row.createCell(5).setCellValue(nonNull(requirement.getTextChanged()) ? "YES" : "NO");
-    }
-
-
-    /**
-     * Copies the sheet with the provided index.
-     *
-     * @param wb    workbook containg sheet to clone
-     * @param index index of sheet to clone
-     */
-    private void copySheet(Workbook wb, int index) {
-        wb.cloneSheet(index);
-        String baseName = wb.getSheetName(index);
-        String name = baseName.substring(0, baseName.lastIndexOf('-')) + "-EXPORT";
-        wb.setSheetName(wb.getNumberOfSheets() - 1, name);
-    }
-
-    /**
-     * Deletes columns in sheet which are not used as input for import.
-     *
-     * @param sheet sheet to delete text
-     */
-    private void deleteColumnsNotUsedForImportSheet(Sheet sheet) {
-        Row header = sheet.getRow(0);
-        of(4, 5).forEach(index -> header.removeCell(header.getCell(index)));
-
-        StreamSupport.stream(sheet.spliterator(), false)
-            .skip(1)
-            .filter(row -> nonNull(row.getCell(3)))
-            .forEach(row -> of(3, 4, 5).forEach(index -> row.removeCell(row.getCell(index))));
-        sheet.setAutoFilter(new CellRangeAddress(0, 0, 0, 3));
-    }
-
-    void applyTextStyle(Sheet sheet) {
-        CellStyle wrapStyle = sheet.getWorkbook().createCellStyle();
-        wrapStyle.setWrapText(true);
-        wrapStyle.setVerticalAlignment(VerticalAlignment.TOP);
-        StreamSupport.stream(sheet.spliterator(), false)
-            .skip(1)
-            .filter(row -> nonNull(row.getCell(3)))
-            .forEach(row -> row.getCell(3).setCellStyle(wrapStyle));
+    private void addRow(ExcelSheetWriter sheet, TailoringRequirement requirement, boolean details) {
+        Row row = sheet.createRow();
+        sheet.createCell(row, 0, "", null);
+        sheet.createCell(row, 1, requirement.getPosition(), null);
+        sheet.createCell(row, 2, requirement.getSelected().booleanValue() ? "YES" : "NO", null);
+        if (details) {
+            CellStyle wrapStyle = sheet.cellStyle("text", style -> {
+                style.setWrapText(true);
+                style.setVerticalAlignment(VerticalAlignment.TOP);
+            });
+            sheet.createCell(row, 3, requirement.getText(), wrapStyle);
+            sheet.createCell(row, 4, nonNull(requirement.getSelectionChanged()) ? "YES" : "NO", null);
+            sheet.createCell(row, 5, nonNull(requirement.getTextChanged()) ? "YES" : "NO", null);
+        }
     }
 
     void applyValidationToColumn(Sheet sheet, int column) {
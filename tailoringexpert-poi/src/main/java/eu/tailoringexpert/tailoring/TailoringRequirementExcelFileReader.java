@@ -21,23 +21,18 @@
  */
 package eu.tailoringexpert.tailoring;
 
+import eu.tailoringexpert.ExcelWorkbook;
 import lombok.extern.log4j.Log4j2;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 
-import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyMap;
-import static org.apache.poi.ss.usermodel.Row.MissingCellPolicy.CREATE_NULL_AS_BLANK;
 
 @Log4j2
 public class TailoringRequirementExcelFileReader implements Function<byte[], Map<String, Collection<ImportRequirement>>> {
@@ -51,32 +46,24 @@ public class TailoringRequirementExcelFileReader implements Function<byte[], Map
 
         Map<String, Collection<ImportRequirement>> result = new HashMap<>();
 
-        try (ByteArrayInputStream is = new ByteArrayInputStream(data);
-             Workbook workbook = WorkbookFactory.create(is)) {
-            Sheet sheet = workbook.getSheetAt(0);
-
-            if (sheet.getPhysicalNumberOfRows() == 0) {
-                return emptyMap();
-            }
-
-            Iterator<Row> rowIterator = sheet.iterator();
+        try (ExcelWorkbook workbook = ExcelWorkbook.open(data)) {
             // header überlesen
-            rowIterator.next();
-
+            AtomicBoolean header = new AtomicBoolean(true);
             AtomicReference<String> chapter = new AtomicReference<>();
 
-            while (rowIterator.hasNext()) {
-                Row requirement = rowIterator.next();
-                String label = requirement.getCell(0, CREATE_NULL_AS_BLANK).getStringCellValue();
-                String position = requirement.getCell(1, CREATE_NULL_AS_BLANK).getStringCellValue();
-                String applicable = requirement.getCell(2, CREATE_NULL_AS_BLANK).getStringCellValue();
-                String text = requirement.getCell(3, CREATE_NULL_AS_BLANK).getStringCellValue();
+            workbook.getSheetAt(0).forEachRow(requirement -> {
+                if (header.getAndSet(false)) {
+                    return;
+                }
 
+                String label = requirement.getCell(0);
+                String position = requirement.getCell(1);
+                String applicable = requirement.getCell(2);
+                String text = requirement.getCell(3);
 
                 if (!label.isEmpty()) {
                     chapter.set(position);
-                    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops") final Collection<ImportRequirement> chapterRequirements = new ArrayList<>();
-                    result.put(chapter.get(), chapterRequirements);
+                    result.put(chapter.get(), new ArrayList<>());
                 } else {
                     result.get(chapter.get()).add(ImportRequirement.builder()
                         .label(label)
@@ -85,7 +72,7 @@ public class TailoringRequirementExcelFileReader implements Function<byte[], Map
                         .text(text)
                         .build());
                 }
-            }
+            });
             log.traceExit();
             return result;
         } catch (Exception e) {
@@ -0,0 +1,188 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@Log4j2
+class ExcelWorkbookTest {
+
+    @Test
+    void open_XSSFWorkbook_SheetsAvailable() throws Exception {
+        // arrange
+        byte[] data = createWorkbook(new XSSFWorkbook());
+
+        // act
+        try (ExcelWorkbook actual = ExcelWorkbook.open(data)) {
+
+            // assert
+            assertThat(actual.getNumberOfSheets()).isEqualTo(2);
+            assertThat(actual.getSheetAt(0).getSheetName()).isEqualTo("8.2.1");
+            assertThat(actual.getSheet("LOGO").getIndex()).isEqualTo(1);
+            assertThat(actual.getSheet("DRD")).isNull();
+        }
+    }
+
+    @Test
+    void forEachRow_XSSFWorkbook_RowsWithMissingCellsAsEmptyString() throws Exception {
+        // arrange
+        byte[] data = createWorkbook(new XSSFWorkbook());
+
+        // act
+        List<ExcelRow> actual = new ArrayList<>();
+        try (ExcelWorkbook workbook = ExcelWorkbook.open(data)) {
+            workbook.getSheetAt(0).forEachRow(actual::add);
+        }
+
+        // assert
+        assertRows(actual);
+    }
+
+    @Test
+    void forEachRow_HSSFWorkbook_RowsWithMissingCellsAsEmptyString() throws Exception {
+        // arrange
+        byte[] data = createWorkbook(new HSSFWorkbook());
+
+        // act
+        List<ExcelRow> actual = new ArrayList<>();
+        try (ExcelWorkbook workbook = ExcelWorkbook.open(data)) {
+            workbook.getSheetAt(0).forEachRow(actual::add);
+        }
+
+        // assert
+        assertRows(actual);
+    }
+
+    @Test
+    void forEachRow_ConsumerThrowsException_ExceptionPropagated() throws Exception {
+        // arrange
+        byte[] data = createWorkbook(new XSSFWorkbook());
+
+        // act
+        Throwable actual;
+        try (ExcelWorkbook workbook = ExcelWorkbook.open(data)) {
+            actual = catchThrowable(() -> workbook.getSheetAt(0).forEachRow(row -> {
+                throw new IllegalArgumentException("consumer failed");
+            }));
+        }
+
+        // assert
+        assertThat(actual)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("consumer failed");
+    }
+
+    @Test
+    void open_NoWorkbookData_ExceptionThrown() {
+        // arrange
+        byte[] data = "no workbook".getBytes();
+
+        // act
+        Throwable actual = catchThrowable(() -> ExcelWorkbook.open(data));
+
+        // assert
+        assertThat(actual).isNotNull();
+    }
+
+    @Test
+    void forEachRow_20000Rows_AllRowsRead() throws Exception {
+        // arrange
+        byte[] data;
+        try (SXSSFWorkbook wb = new SXSSFWorkbook(100);
+             ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("8.2.1");
+            for (int i = 0; i < 20000; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue(String.valueOf(i));
+                row.createCell(1).setCellValue("Requirement text of row " + i);
+                row.createCell(2).setCellValue("A\nB\nC");
+            }
+            wb.write(os);
+            wb.dispose();
+            data = os.toByteArray();
+        }
+
+        // act
+        AtomicInteger actual = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExcelWorkbook workbook = ExcelWorkbook.open(data)) {
+            workbook.getSheetAt(0).forEachRow(row -> {
+                assertThat(row.getCell(0)).isEqualTo(String.valueOf(row.getRowNum()));
+                actual.incrementAndGet();
+            });
+        }
+        log.info("Read {} rows of {} bytes in {} ms", actual.get(), data.length, (System.nanoTime() - start) / 1_000_000);
+
+        // assert
+        assertThat(actual.get()).isEqualTo(20000);
+    }
+
+    private void assertRows(List<ExcelRow> rows) {
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).getRowNum()).isZero();
+        assertThat(rows.get(0).getCell(0)).isEqualTo("1");
+        assertThat(rows.get(0).getCell(1)).isEqualTo("Chapter");
+        assertThat(rows.get(0).getCell(2)).isEmpty();
+        assertThat(rows.get(1).getCell(0)).isEqualTo("a");
+        assertThat(rows.get(1).getCell(1)).isEmpty();
+        assertThat(rows.get(1).getCell(2)).isEqualTo("A\nB");
+        assertThat(rows.get(1).getCell(10)).isEmpty();
+        assertThat(rows.get(2).getRowNum()).isEqualTo(3);
+        assertThat(rows.get(2).getCell(0)).isEqualTo("b");
+    }
+
+    private byte[] createWorkbook(Workbook wb) throws IOException {
+        try (wb; ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("8.2.1");
+            Row row = sheet.createRow(0);
+            row.createCell(0).setCellValue("1");
+            row.createCell(1).setCellValue("Chapter");
+
+            row = sheet.createRow(1);
+            row.createCell(0).setCellValue("a");
+            row.createCell(2).setCellValue("A\nB");
+
+            row = sheet.createRow(3);
+            row.createCell(0).setCellValue("b");
+
+            wb.createSheet("LOGO");
+            wb.write(os);
+            return os.toByteArray();
+        }
+    }
+}
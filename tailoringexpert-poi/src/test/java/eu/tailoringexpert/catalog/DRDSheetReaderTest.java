@@ -21,14 +21,12 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.ExcelSheet;
+import eu.tailoringexpert.ExcelWorkbook;
 import eu.tailoringexpert.domain.DRD;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 
@@ -46,20 +44,22 @@ class DRDSheetReaderTest {
     }
 
     @Test
-    void apply_SheetEntries_MapReturned() throws IOException {
+    void apply_SheetEntries_MapReturned() throws Exception {
         // arrange
 
-        Sheet sheet;
+        byte[] data;
         try (InputStream is = newInputStream(get("src/test/resources/basecatalog.xlsx"))) {
             assert nonNull(is);
-            Workbook wb = WorkbookFactory.create(is);
-            sheet = wb.getSheet("DRD");
-            assert nonNull(sheet);
-            wb.close();
+            data = is.readAllBytes();
         }
 
         // act
-        Map<String, DRD> actual = reader.apply(sheet);
+        Map<String, DRD> actual;
+        try (ExcelWorkbook wb = ExcelWorkbook.open(data)) {
+            ExcelSheet sheet = wb.getSheet("DRD");
+            assert nonNull(sheet);
+            actual = reader.apply(sheet);
+        }
 
         // assert
         assertThat(actual)
@@ -27,12 +27,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import eu.tailoringexpert.ExcelSheet;
 import eu.tailoringexpert.FileSaver;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.Chapter;
 import lombok.extern.log4j.Log4j2;
-import org.apache.poi.ss.usermodel.Sheet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -52,7 +52,7 @@ class Excel2CatalogConverterTest {
     private ObjectMapper objectMapper;
     private FileSaver fileSaver;
 
-    Function<Sheet, Chapter<BaseRequirement>> toChapterMock;
+    Function<ExcelSheet, Chapter<BaseRequirement>> toChapterMock;
     Excel2CatalogConverter toFunction;
 
     @BeforeEach
@@ -86,7 +86,7 @@ class Excel2CatalogConverterTest {
 
         // assert
         assertThat(actual).isNull();
-        verify(toChapterMock).apply(any(Sheet.class));
+        verify(toChapterMock).apply(any(ExcelSheet.class));
     }
 
     @Test
@@ -105,7 +105,7 @@ class Excel2CatalogConverterTest {
 
         // assert
         assertThat(actual).isNotNull();
-        verify(toChapterMock).apply(any(Sheet.class));
+        verify(toChapterMock).apply(any(ExcelSheet.class));
     }
 
     @Test
@@ -21,14 +21,12 @@
  */
 package eu.tailoringexpert.catalog;
 
+import eu.tailoringexpert.ExcelSheet;
+import eu.tailoringexpert.ExcelWorkbook;
 import eu.tailoringexpert.domain.Logo;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 
@@ -46,20 +44,21 @@ class LogoSheetReaderTest {
     }
 
     @Test
-    void apply_SheetWithOneEntry_MapReturned() throws IOException {
+    void apply_SheetWithOneEntry_MapReturned() throws Exception {
         // arrange
-        Sheet sheet;
+        byte[] data;
         try (InputStream is = newInputStream(get("src/test/resources/basecatalog.xlsx"))) {
             assert nonNull(is);
-            Workbook wb = WorkbookFactory.create(is);
-            sheet = wb.getSheet("LOGO");
-            assert nonNull(sheet);
-            wb.close();
+            data = is.readAllBytes();
         }
 
-
         // act
-        Map<String, Logo> actual = reader.apply(sheet);
+        Map<String, Logo> actual;
+        try (ExcelWorkbook wb = ExcelWorkbook.open(data)) {
+            ExcelSheet sheet = wb.getSheet("LOGO");
+            assert nonNull(sheet);
+            actual = reader.apply(sheet);
+        }
 
         // assert
         assertThat(actual)
@@ -22,6 +22,8 @@
 package eu.tailoringexpert.catalog;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import eu.tailoringexpert.ExcelSheet;
+import eu.tailoringexpert.ExcelWorkbook;
 import eu.tailoringexpert.FileSaver;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Chapter;
@@ -30,9 +32,6 @@ import eu.tailoringexpert.domain.Identifier;
 import eu.tailoringexpert.domain.Logo;
 import eu.tailoringexpert.domain.Reference;
 import lombok.extern.log4j.Log4j2;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -52,8 +51,8 @@ class ToChapterFunctionTest {
     ObjectMapper objectMapper;
     FileSaver fileSaver;
 
-    Function<Sheet, Map<String, DRD>> toDRDMappingMock;
-    Function<Sheet, Map<String, Logo>> toLogoMappingMock;
+    Function<ExcelSheet, Map<String, DRD>> toDRDMappingMock;
+    Function<ExcelSheet, Map<String, Logo>> toLogoMappingMock;
 
 
     Function<String, Identifier> toIdentifierFunctionMock;
@@ -87,10 +86,10 @@ class ToChapterFunctionTest {
     @Test
     void apply_NoMocks_ChapterCreated() throws Exception {
         // arrange
-        Workbook wb = null;
+        byte[] data;
         try (InputStream is = this.getClass().getResourceAsStream("/basecatalog.xlsx")) {
             assert nonNull(is);
-            wb = WorkbookFactory.create(is);
+            data = is.readAllBytes();
         }
 
         ToChapterFunction noMocksToFunction = new ToChapterFunction(
@@ -103,7 +102,10 @@ class ToChapterFunctionTest {
         );
 
         // act
-        Chapter<BaseRequirement> actual = noMocksToFunction.apply(wb.getSheetAt(0));
+        Chapter<BaseRequirement> actual;
+        try (ExcelWorkbook wb = ExcelWorkbook.open(data)) {
+            actual = noMocksToFunction.apply(wb.getSheetAt(0));
+        }
 
         // assert
         log.debug(actual);
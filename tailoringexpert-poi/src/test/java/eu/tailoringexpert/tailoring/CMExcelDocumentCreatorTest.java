@@ -39,11 +39,14 @@ import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringRequirement;
 import eu.tailoringexpert.renderer.RendererRequestConfiguration;
 import lombok.extern.log4j.Log4j2;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -148,6 +151,14 @@ class CMExcelDocumentCreatorTest {
         // assert
         assertThat(actual).isNotNull();
         fileSaver.accept("cm.xlsx", actual.getData());
+        try (ByteArrayInputStream is = new ByteArrayInputStream(actual.getData());
+             Workbook workbook = WorkbookFactory.create(is)) {
+            assertThat(workbook.getSheet("CM").getLastRowNum()).isPositive();
+            assertThat(workbook.getSheet("DRD").getLastRowNum()).isPositive();
+            assertThat(workbook.getSheet("DRD").getRow(1).getCell(0).getCellStyle().getWrapText()).isTrue();
+            assertThat(workbook.getSheet("DRD").getRow(1).getCell(0).getCellStyle())
+                .isEqualTo(workbook.getSheet("DRD").getRow(workbook.getSheet("DRD").getLastRowNum()).getCell(0).getCellStyle());
+        }
     }
 
     @Test
@@ -0,0 +1,128 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExcelSheetWriterTest {
+
+    SXSSFWorkbook workbook;
+    ExcelSheetWriter writer;
+
+    @BeforeEach
+    void setup() {
+        this.workbook = new SXSSFWorkbook(2);
+        this.writer = new ExcelSheetWriter(workbook.createSheet("UT"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        workbook.dispose();
+    }
+
+    @Test
+    void createRow_RowsAppended_LastRowNumUpdated() {
+        // arrange
+
+        // act
+        Row first = writer.createRow();
+        Row second = writer.createRow();
+
+        // assert
+        assertThat(first.getRowNum()).isZero();
+        assertThat(second.getRowNum()).isEqualTo(1);
+        assertThat(writer.getLastRowNum()).isEqualTo(1);
+    }
+
+    @Test
+    void cellStyle_SameNameRequestedTwice_StyleCreatedOnce() {
+        // arrange
+        AtomicInteger initialized = new AtomicInteger();
+        int styles = workbook.getNumCellStyles();
+
+        // act
+        CellStyle first = writer.cellStyle("wrap", style -> {
+            initialized.incrementAndGet();
+            style.setWrapText(true);
+        });
+        CellStyle second = writer.cellStyle("wrap", style -> initialized.incrementAndGet());
+
+        // assert
+        assertThat(second).isSameAs(first);
+        assertThat(second.getWrapText()).isTrue();
+        assertThat(initialized.get()).isEqualTo(1);
+        assertThat(workbook.getNumCellStyles()).isEqualTo(styles + 1);
+    }
+
+    @Test
+    void autoSizeColumns_MultilineValue_LongestLineUsed() {
+        // arrange
+        Row row = writer.createRow();
+        writer.createCell(row, 0, "1234", null);
+        writer.createCell(row, 1, "12345678\n12", null);
+        row = writer.createRow();
+        writer.createCell(row, 0, "123456", null);
+
+        // act
+        writer.autoSizeColumns(0, 1);
+
+        // assert
+        assertThat(writer.getSheet().getColumnWidth(0)).isEqualTo((6 + 2) * 256);
+        assertThat(writer.getSheet().getColumnWidth(1)).isEqualTo((8 + 2) * 256);
+    }
+
+    @Test
+    void autoSizeColumns_ColumnWithoutValue_WidthNotChanged() {
+        // arrange
+        writer.getSheet().setColumnWidth(2, 20 * 256);
+        Row row = writer.createRow();
+        writer.createCell(row, 2, null, null);
+
+        // act
+        writer.autoSizeColumns(2);
+
+        // assert
+        assertThat(writer.getSheet().getColumnWidth(2)).isEqualTo(20 * 256);
+    }
+
+    @Test
+    void autoSizeColumns_ValueExceedsMaxWidth_MaxWidthUsed() {
+        // arrange
+        Row row = writer.createRow();
+        writer.createCell(row, 0, "x".repeat(1000), null);
+
+        // act
+        writer.autoSizeColumns(0);
+
+        // assert
+        assertThat(writer.getSheet().getColumnWidth(0)).isEqualTo(255 * 256);
+    }
+}
@@ -28,6 +28,7 @@ import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.File;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringRequirement;
@@ -47,7 +48,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
 
 import static eu.tailoringexpert.domain.Phase.A;
 import static eu.tailoringexpert.domain.Phase.B;
@@ -59,6 +62,7 @@ import static eu.tailoringexpert.domain.Phase.ZERO;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Log4j2
@@ -155,6 +159,64 @@ class TailoringCatalogExcelDocumentCreatorTest {
         }
     }
 
+    @Test
+    void createDocument_ValidTailoringCatalog_ImportSheetWithoutTextAndChangeColumns() throws Exception {
+        // arrange
+        Tailoring tailoring = Tailoring.builder()
+            .name("ut")
+            .catalog(createCatalog(2, 3))
+            .signatures(emptyList())
+            .phases(Arrays.asList(ZERO, A, B, C, D, E, F))
+            .build();
+
+        // act
+        File actual = creator.createDocument("42", tailoring, emptyMap());
+
+        // assert
+        try (ByteArrayInputStream is = new ByteArrayInputStream(actual.getData());
+             Workbook workbook = WorkbookFactory.create(is)) {
+            Sheet importSheet = workbook.getSheetAt(0);
+            assertThat(importSheet.getLastRowNum()).isEqualTo(8);
+            assertThat(importSheet.getRow(0).getPhysicalNumberOfCells()).isEqualTo(4);
+            assertThat(importSheet.getRow(2).getPhysicalNumberOfCells()).isEqualTo(3);
+            assertThat(importSheet.getRow(2).getCell(2).getStringCellValue()).isEqualTo("YES");
+            assertThat(importSheet.getDataValidations()).hasSize(1);
+
+            Sheet exportSheet = workbook.getSheetAt(1);
+            assertThat(exportSheet.getLastRowNum()).isEqualTo(8);
+            assertThat(exportSheet.getRow(0).getPhysicalNumberOfCells()).isEqualTo(6);
+            assertThat(exportSheet.getRow(2).getPhysicalNumberOfCells()).isEqualTo(6);
+            assertThat(exportSheet.getRow(2).getCell(3).getStringCellValue()).isEqualTo("Requirement 1.0");
+            assertThat(exportSheet.getRow(2).getCell(3).getCellStyle().getWrapText()).isTrue();
+            assertThat(exportSheet.getDataValidations()).hasSize(3);
+            assertThat(exportSheet.getColumnWidth(3)).isEqualTo(60 * 256);
+        }
+    }
+
+    @Test
+    void createDocument_10000Requirements_AllRowsWritten() throws Exception {
+        // arrange
+        Tailoring tailoring = Tailoring.builder()
+            .name("ut")
+            .catalog(createCatalog(100, 100))
+            .signatures(emptyList())
+            .phases(Arrays.asList(ZERO, A, B, C, D, E, F))
+            .build();
+
+        // act
+        long start = System.nanoTime();
+        File actual = creator.createDocument("42", tailoring, emptyMap());
+        log.info("Created {} bytes in {} ms", actual.getData().length, (System.nanoTime() - start) / 1_000_000);
+
+        // assert
+        try (ByteArrayInputStream is = new ByteArrayInputStream(actual.getData());
+             Workbook workbook = WorkbookFactory.create(is)) {
+            assertThat(workbook.getSheetAt(0).getLastRowNum()).isEqualTo(10100);
+            assertThat(workbook.getSheetAt(1).getLastRowNum()).isEqualTo(10100);
+            assertThat(workbook.getNumCellStyles()).isLessThan(10);
+        }
+    }
+
     @Test
     void applyValidationToColumn_XSSFDataValidation_ValidationAddedToSheet() {
         // arrange
@@ -172,4 +234,29 @@ class TailoringCatalogExcelDocumentCreatorTest {
         assertThat(sheet.getDataValidations().get(0).getShowErrorBox()).isTrue();
         assertThat(sheet.getDataValidations().get(0).getSuppressDropDownArrow()).isFalse();
     }
+
+    private Catalog<TailoringRequirement> createCatalog(int chapterCount, int requirementCount) {
+        List<Chapter<TailoringRequirement>> chapters = IntStream.rangeClosed(1, chapterCount)
+            .mapToObj(chapter -> Chapter.<TailoringRequirement>builder()
+                .name("Chapter " + chapter)
+                .number("1." + chapter)
+                .requirements(IntStream.range(0, requirementCount)
+                    .mapToObj(requirement -> TailoringRequirement.builder()
+                        .position(String.valueOf(requirement))
+                        .text("Requirement " + chapter + "." + requirement)
+                        .selected(requirement % 2 == 0)
+                        .build())
+                    .collect(toList()))
+                .chapters(emptyList())
+                .build())
+            .collect(toList());
+
+        return Catalog.<TailoringRequirement>builder()
+            .version("8.2.1")
+            .toc(Chapter.<TailoringRequirement>builder()
+                .requirements(emptyList())
+                .chapters(chapters)
+                .build())
+            .build();
+    }
 }
@@ -21,14 +21,13 @@
  */
 package eu.tailoringexpert.tailoring;
 
+import eu.tailoringexpert.ExcelWorkbook;
 import lombok.extern.log4j.Log4j2;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
@@ -64,8 +63,8 @@ class TailoringRequirementExcelFileReaderTest {
 
         // act
         Map<String, Collection<ImportRequirement>> actual = null;
-        try (MockedStatic<WorkbookFactory> factory = mockStatic(WorkbookFactory.class)) {
-            factory.when(() -> WorkbookFactory.create(any(ByteArrayInputStream.class)))
+        try (MockedStatic<ExcelWorkbook> factory = mockStatic(ExcelWorkbook.class)) {
+            factory.when(() -> ExcelWorkbook.open(any(byte[].class)))
                 .thenThrow(new IOException("Mocked create Exception"));
             actual = excel.apply(data);
         }
@@ -108,7 +107,7 @@ class TailoringRequirementExcelFileReaderTest {
     }
 
     @Test
-    void apply_WorkbookFactoryException_EmptyReturned() throws Exception {
+    void apply_OpenWorkbookException_EmptyReturned() throws Exception {
         // arrange
         byte[] data;
         try (InputStream is = newInputStream(get("src/test/resources/TailoringImport.xlsx"))) {
@@ -118,8 +117,8 @@ class TailoringRequirementExcelFileReaderTest {
 
         // act
         Map<String, Collection<ImportRequirement>> actual;
-        try (MockedStatic<WorkbookFactory> wf = Mockito.mockStatic(WorkbookFactory.class)) {
-            wf.when(() -> WorkbookFactory.create(any(InputStream.class))).thenThrow(new RuntimeException());
+        try (MockedStatic<ExcelWorkbook> wf = Mockito.mockStatic(ExcelWorkbook.class)) {
+            wf.when(() -> ExcelWorkbook.open(any(byte[].class))).thenThrow(new RuntimeException());
             actual = excel.apply(data);
         }
 
@@ -0,0 +1,88 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.MediaTypeProvider;
+import lombok.NoArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.ResponseEntity.BodyBuilder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.Function;
+
+import static java.util.Objects.nonNull;
+import static lombok.AccessLevel.PRIVATE;
+import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * Creates download responses of document bundles.
+ * <p>
+ * The temporary file of a bundle is deleted when its stream has been written. The bundle is additionally closed on
+ * completion of the request, so the file is also deleted if the response body is never written, e.g. on client abort
+ * or an exception after the controller returned.
+ *
+ * @author Michael Bädorf
+ */
+@NoArgsConstructor(access = PRIVATE)
+public class DocumentBundleResponse {
+
+    /**
+     * Create response streaming the bundle as attachment.
+     *
+     * @param response          response to add bundle to
+     * @param bundle            bundle to stream
+     * @param mediaTypeProvider provider of media type of bundle
+     * @return response streaming bundle
+     */
+    public static ResponseEntity<Resource> of(BodyBuilder response, DocumentBundle bundle, Function<String, MediaType> mediaTypeProvider) {
+        closeOnRequestCompletion(bundle);
+        try {
+            return response
+                .header(CONTENT_DISPOSITION, ContentDisposition.builder(MediaTypeProvider.FORM_DATA).name(MediaTypeProvider.ATTACHMENT).filename(bundle.getName()).build().toString())
+                .header(ACCESS_CONTROL_EXPOSE_HEADERS, CONTENT_DISPOSITION)
+                .contentType(mediaTypeProvider.apply(bundle.getType()))
+                .contentLength(bundle.getLength())
+                .body(new InputStreamResource(bundle.getInputStream()));
+        } catch (RuntimeException e) {
+            bundle.close();
+            throw e;
+        }
+    }
+
+    private static void closeOnRequestCompletion(DocumentBundle bundle) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (nonNull(attributes)) {
+            attributes.registerDestructionCallback(
+                DocumentBundle.class.getName() + "#" + bundle.getPath(),
+                bundle::close,
+                SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.DocumentJobResource;
+import eu.tailoringexpert.domain.PathContext;
+import eu.tailoringexpert.domain.ResourceMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.Resource;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.function.Function;
+
+import static eu.tailoringexpert.domain.ResourceMapper.DOCUMENT_JOB;
+import static eu.tailoringexpert.domain.ResourceMapper.DOCUMENT_JOB_RESULT;
+import static org.springframework.hateoas.EntityModel.of;
+import static org.springframework.http.ResponseEntity.notFound;
+import static org.springframework.http.ResponseEntity.ok;
+
+/**
+ * REST-Controller for retrieving state and result of asynchronous document creation jobs.
+ *
+ * @author Michael Bädorf
+ */
+@Tag(name = "Document Job Controller", description = "State and result of asynchronous document creations")
+@Log4j2
+@RequiredArgsConstructor
+@RestController
+public class DocumentJobController {
+
+    @NonNull
+    private ResourceMapper mapper;
+
+    @NonNull
+    private DocumentJobExecutor documentJobExecutor;
+
+    @NonNull
+    private Function<String, MediaType> mediaTypeProvider;
+
+    @Operation(summary = "Load state and progress of a document job")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", description = "Document job loaded",
+            content = @Content(mediaType = "application/json+hal", schema = @Schema(implementation = DocumentJobResource.class))),
+        @ApiResponse(
+            responseCode = "404", description = "Document job does not exist or is expired",
+            content = @Content)
+    })
+    @GetMapping(value = DOCUMENT_JOB, produces = {"application/hal+json"})
+    public ResponseEntity<EntityModel<DocumentJobResource>> getDocumentJob(
+        @Parameter(description = "Document job identifier") @PathVariable String job) {
+        log.traceEntry(() -> job);
+
+        ResponseEntity<EntityModel<DocumentJobResource>> result = documentJobExecutor.getJob(job)
+            .map(loaded -> ok()
+                .body(of(mapper.toResource(PathContext.builder(), loaded))))
+            .orElseGet(() -> notFound().build());
+
+        log.traceExit();
+        return result;
+    }
+
+    @Operation(summary = "Download documents created by a finished document job")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", description = "Documents loaded",
+            content = @Content(mediaType = "application/octet-stream", schema = @Schema(implementation = byte[].class))),
+        @ApiResponse(
+            responseCode = "404", description = "Document job does not exist, is not finished or is expired",
+            content = @Content)
+    })
+    @GetMapping(DOCUMENT_JOB_RESULT)
+    public ResponseEntity<Resource> getDocumentJobResult(
+        @Parameter(description = "Document job identifier") @PathVariable String job) {
+        log.traceEntry(() -> job);
+
+        ResponseEntity<Resource> result = documentJobExecutor.getResult(job)
+            .map(bundle -> DocumentBundleResponse.of(ok(), bundle, mediaTypeProvider))
+            .orElseGet(() -> notFound().build());
+
+        log.traceExit();
+        return result;
+    }
+}
@@ -24,9 +24,11 @@ package eu.tailoringexpert.catalog;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import eu.tailoringexpert.DocumentBundleResponse;
 import eu.tailoringexpert.domain.BaseCatalogVersionResource;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.domain.DocumentJobResource;
 import eu.tailoringexpert.domain.MediaTypeProvider;
 import eu.tailoringexpert.domain.PathContext;
 import eu.tailoringexpert.domain.PathContext.PathContextBuilder;
@@ -41,6 +43,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
@@ -70,10 +73,12 @@ import static eu.tailoringexpert.domain.ResourceMapper.BASECATALOG_PREVIEW_PDF;
 import static eu.tailoringexpert.domain.ResourceMapper.BASECATALOG_VALIDUNTIL;
 import static eu.tailoringexpert.domain.ResourceMapper.BASECATALOG_VERSION;
 import static eu.tailoringexpert.domain.ResourceMapper.BASECATALOG_VERSION_DOCUMENT;
+import static eu.tailoringexpert.domain.ResourceMapper.BASECATALOG_VERSION_DOCUMENT_JOB;
 import static eu.tailoringexpert.domain.ResourceMapper.BASECATALOG_VERSION_EXCEL;
 import static eu.tailoringexpert.domain.ResourceMapper.BASECATALOG_VERSION_JSON;
 import static eu.tailoringexpert.domain.ResourceMapper.BASECATALOG_VERSION_PDF;
 import static eu.tailoringexpert.domain.ResourceMapper.REL_CONVERT;
+import static eu.tailoringexpert.domain.ResourceMapper.REL_SELF;
 import static java.time.LocalTime.MIDNIGHT;
 import static java.time.ZoneId.systemDefault;
 import static java.util.Collections.emptyMap;
@@ -289,18 +294,44 @@ public class CatalogController {
             responseCode = "404", description = "Base catalog does not exist")
     })
     @GetMapping(value = BASECATALOG_VERSION_DOCUMENT, produces = "application/octet-stream")
-    public ResponseEntity<byte[]> getDocuments(
+    public ResponseEntity<Resource> getDocuments(
         @Parameter(description = "Requested all base catalog related documents") @PathVariable String version) {
         log.traceEntry();
 
-        ResponseEntity<byte[]> result = catalogService.createDocuments(version)
-            .map(dokument -> ok()
-                .header(CONTENT_DISPOSITION, ContentDisposition.builder(MediaTypeProvider.FORM_DATA).name(MediaTypeProvider.ATTACHMENT).filename(dokument.getName()).build().toString())
-                .header(ACCESS_CONTROL_EXPOSE_HEADERS, CONTENT_DISPOSITION)
-                .contentType(mediaTypeProvider.apply(dokument.getType()))
-                .contentLength(dokument.getLength())
-                .body(dokument.getData()))
+        ResponseEntity<Resource> result = catalogService.createDocuments(version)
+            .map(dokument -> DocumentBundleResponse.of(ok(), dokument, mediaTypeProvider))
+            .orElseGet(() -> notFound().build());
+        log.traceExit();
+        return result;
+    }
+
+    @Operation(summary = "Submit asynchronous creation of all base catalog related documents")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202", description = "Document job submitted",
+            content = @Content(mediaType = "application/json+hal", schema = @Schema(implementation = DocumentJobResource.class))),
+        @ApiResponse(
+            responseCode = "404", description = "Base catalog does not exist",
+            content = @Content),
+        @ApiResponse(
+            responseCode = "503", description = "Document job queue is full",
+            content = @Content)
+    })
+    @PostMapping(value = BASECATALOG_VERSION_DOCUMENT_JOB, produces = {"application/hal+json"})
+    public ResponseEntity<EntityModel<DocumentJobResource>> postDocumentJob(
+        @Parameter(description = "Version of catalog") @PathVariable String version) {
+        log.traceEntry();
+
+        PathContextBuilder pathContext = PathContext.builder()
+            .catalog(version);
+
+        ResponseEntity<EntityModel<DocumentJobResource>> result = catalogService.createDocumentJob(version)
+            .map(job -> mapper.toResource(pathContext, job))
+            .map(resource -> ResponseEntity.accepted()
+                .location(resource.getRequiredLink(REL_SELF).toUri())
+                .body(EntityModel.of(resource)))
             .orElseGet(() -> notFound().build());
+
         log.traceExit();
         return result;
     }
@@ -337,17 +368,12 @@ public class CatalogController {
             responseCode = "200", description = "Base catalog converted")
     })
     @PostMapping(value = BASECATALOG_PREVIEW_PDF, produces = "application/octet-stream")
-    public ResponseEntity<byte[]> postBaseCatalogPreview(
+    public ResponseEntity<Resource> postBaseCatalogPreview(
         @Parameter(description = "Base catalog to preview") @RequestBody Catalog<BaseRequirement> catalog) {
         log.traceEntry();
 
-        ResponseEntity<byte[]> result = catalogService.createDocuments(catalog)
-            .map(dokument -> ok()
-                .header(CONTENT_DISPOSITION, ContentDisposition.builder(MediaTypeProvider.FORM_DATA).name(MediaTypeProvider.ATTACHMENT).filename(dokument.getName()).build().toString())
-                .header(ACCESS_CONTROL_EXPOSE_HEADERS, CONTENT_DISPOSITION)
-                .contentType(mediaTypeProvider.apply(dokument.getType()))
-                .contentLength(dokument.getLength())
-                .body(dokument.getData()))
+        ResponseEntity<Resource> result = catalogService.createDocuments(catalog)
+            .map(dokument -> DocumentBundleResponse.of(ok(), dokument, mediaTypeProvider))
             .orElseGet(() -> notFound().build());
 
         log.traceExit();
@@ -0,0 +1,101 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+@Value
+@Getter
+@EqualsAndHashCode(callSuper = false)
+@Relation(itemRelation = "job", collectionRelation = "jobs")
+public class DocumentJobResource extends RepresentationModel<DocumentJobResource> {
+
+    /**
+     * Identifier of job.
+     */
+    String id;
+
+    /**
+     * Current state of job.
+     */
+    DocumentJobState state;
+
+    /**
+     * Names of documents already created by job.
+     */
+    List<String> documents;
+
+    /**
+     * Name of created document bundle.
+     */
+    String name;
+
+    /**
+     * Length of created document bundle.
+     */
+    Long length;
+
+    /**
+     * Reason of failed job.
+     */
+    String message;
+
+    /**
+     * Creation timestamp of job.
+     */
+    String creationTimestamp;
+
+    /**
+     * Timestamp, after which job will be deleted.
+     */
+    String expirationTimestamp;
+
+    @Builder
+    public DocumentJobResource(String id, DocumentJobState state, List<String> documents, String name, Long length,
+                               String message, String creationTimestamp, String expirationTimestamp, List<Link> links) {
+        super();
+
+        this.id = id;
+        this.state = state;
+        this.documents = documents;
+        this.name = name;
+        this.length = length;
+        this.message = message;
+        this.creationTimestamp = creationTimestamp;
+        this.expirationTimestamp = expirationTimestamp;
+
+        if (nonNull(links)) {
+            add(links);
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Path template of a resource link split once into literal segments and parameter names.
+ * <p>
+ * Expanding a template only appends segments and parameter values, so creating links does not need any regular
+ * expressions. Parameters without value remain as <code>{name}</code> in the expanded path.
+ *
+ * @author Michael Bädorf
+ */
+final class LinkTemplate {
+
+    private static final Map<String, LinkTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * Literal path segments. Parameter <code>i</code> is located between literal <code>i</code> and <code>i+1</code>.
+     */
+    private final String[] literals;
+
+    /**
+     * Names of path parameters.
+     */
+    private final String[] parameters;
+
+    private LinkTemplate(String path) {
+        List<String> pathLiterals = new ArrayList<>();
+        List<String> pathParameters = new ArrayList<>();
+
+        int position = 0;
+        int start = path.indexOf('{');
+        while (start >= 0) {
+            int end = path.indexOf('}', start);
+            if (end < 0) {
+                break;
+            }
+            pathLiterals.add(path.substring(position, start));
+            pathParameters.add(path.substring(start + 1, end));
+            position = end + 1;
+            start = path.indexOf('{', position);
+        }
+        pathLiterals.add(path.substring(position));
+
+        this.literals = pathLiterals.toArray(String[]::new);
+        this.parameters = pathParameters.toArray(String[]::new);
+    }
+
+    /**
+     * Gets the precompiled template of a path.
+     *
+     * @param path path with parameters in curly braces
+     * @return precompiled template
+     */
+    static LinkTemplate of(String path) {
+        return TEMPLATES.computeIfAbsent(path, LinkTemplate::new);
+    }
+
+    /**
+     * Expands template with provided parameter values.
+     *
+     * @param prefix    string to prepend to expanded path
+     * @param parameter values of path parameters
+     * @return prefix followed by expanded path
+     */
+    String expand(String prefix, Map<String, String> parameter) {
+        StringBuilder result = new StringBuilder(prefix);
+        for (int i = 0; i < parameters.length; i++) {
+            result.append(literals[i]);
+            String value = parameter.get(parameters[i]);
+            if (isNull(value)) {
+                result.append('{').append(parameters[i]).append('}');
+            } else {
+                result.append(value);
+            }
+        }
+        result.append(literals[parameters.length]);
+        return result.toString();
+    }
+}
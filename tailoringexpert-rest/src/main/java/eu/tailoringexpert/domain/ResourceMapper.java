@@ -23,6 +23,7 @@ package eu.tailoringexpert.domain;
 
 import eu.tailoringexpert.TailoringexpertMapperConfig;
 import eu.tailoringexpert.domain.BaseCatalogVersionResource.BaseCatalogVersionResourceBuilder;
+import eu.tailoringexpert.domain.DocumentJobResource.DocumentJobResourceBuilder;
 import eu.tailoringexpert.domain.DocumentSignatureResource.DocumentSignatureResourceBuilder;
 import eu.tailoringexpert.domain.FileResource.FileResourceBuilder;
 import eu.tailoringexpert.domain.NoteResource.NoteResourceBuilder;
@@ -85,6 +86,7 @@ public abstract class ResourceMapper {
     public static final String TAILORING_SIGNATURE_FACULTY = "project/{project}/tailoring/{tailoring}/signature/{faculty}";
     public static final String TAILORING_DOCUMENT = "project/{project}/tailoring/{tailoring}/document";
     public static final String TAILORING_DOCUMENT_CATALOG = "project/{project}/tailoring/{tailoring}/document/catalog";
+    public static final String TAILORING_DOCUMENT_JOB = "project/{project}/tailoring/{tailoring}/document/job";
     public static final String TAILORING_COMPARE = "project/{project}/tailoring/{tailoring}/compare";
     public static final String TAILORING_CATALOG = "project/{project}/tailoring/{tailoring}/catalog";
     public static final String TAILORING_CATALOG_CHAPTER = "project/{project}/tailoring/{tailoring}/catalog/{chapter}";
@@ -103,9 +105,12 @@ public abstract class ResourceMapper {
     public static final String BASECATALOG_PREVIEW_PDF = "catalog/preview";
     public static final String BASECATALOG_VALIDUNTIL = "catalog/{version}/validuntil/{validuntil}";
     public static final String BASECATALOG_VERSION_DOCUMENT = "catalog/{version}/document";
+    public static final String BASECATALOG_VERSION_DOCUMENT_JOB = "catalog/{version}/document/job";
 
     public static final String SCREENINGSHEET = "screeningsheet";
     public static final String SELECTIONVECTOR_PROFILE = "selectionvector";
+    public static final String DOCUMENT_JOB = "document/job/{job}";
+    public static final String DOCUMENT_JOB_RESULT = "document/job/{job}/result";
 
     // RELs
     public static final String REL_SELF = "self";
@@ -125,6 +130,7 @@ public abstract class ResourceMapper {
     public static final String REL_SELECTED = "selected";
     public static final String REL_DOCUMENT = "document";
     public static final String REL_COMPARE = "compare";
+    public static final String REL_RESULT = "result";
     private static final String REL_NAME = "name";
     private static final String REL_IMPORT = "import";
     private static final String REL_ATTACHMENT = "attachment";
@@ -151,7 +157,7 @@ public abstract class ResourceMapper {
         PathContext context = pathContext.build();
         Map<String, String> parameter = context.parameter();
         resource.links(asList(
-            createLink(PROJECTS, resolveParameter(PROJECT_NEW, context.parameter()), parameter),
+            createLink(PROJECTS, PROJECT_NEW, parameter),
             createLink(REL_SELF, BASECATALOG_VERSION, parameter),
             createLink(REL_PDF, BASECATALOG_VERSION_PDF, parameter),
             createLink(REL_EXCEL, BASECATALOG_VERSION_EXCEL, parameter),
@@ -428,19 +434,34 @@ public abstract class ResourceMapper {
         );
     }
 
-    private String resolveParameter(String path, Map<String, String> parameter) {
-        String result = path;
-        for (Map.Entry<String, String> entry : parameter.entrySet()) {
-            String value = entry.getValue();
-            if (nonNull(value)) {
-                result = result.replaceAll("\\{" + entry.getKey() + "\\}", value);
-            }
-        }
-        return result;
+    // DocumentJob
+    @BeforeMapping
+    protected void updatePathContext(@Context PathContextBuilder pathContext, DocumentJob domain) {
+        pathContext.job(domain.getId());
+    }
+
+    @Mapping(target = "creationTimestamp", source = "creationTimestamp", dateFormat = "dd.MM.yyyy HH:mm")
+    @Mapping(target = "expirationTimestamp", source = "expirationTimestamp", dateFormat = "dd.MM.yyyy HH:mm")
+    public abstract DocumentJobResource toResource(@Context PathContextBuilder pathContext, DocumentJob domain);
+
+    @AfterMapping
+    protected void addLinks(@Context PathContextBuilder pathContext, DocumentJob domain, @MappingTarget DocumentJobResourceBuilder resource) {
+        PathContext context = pathContext.build();
+        Map<String, String> parameter = context.parameter();
 
+        if (DocumentJobState.FINISHED == domain.getState()) {
+            resource.links(asList(
+                createLink(REL_SELF, DOCUMENT_JOB, parameter),
+                createLink(REL_RESULT, DOCUMENT_JOB_RESULT, parameter))
+            );
+        } else {
+            resource.links(asList(
+                createLink(REL_SELF, DOCUMENT_JOB, parameter))
+            );
+        }
     }
 
     public Link createLink(String rel, String path, Map<String, String> parameter) {
-        return Link.of(UriTemplate.of(this.contextPath + "/" + resolveParameter(path, parameter)), rel);
+        return Link.of(UriTemplate.of(LinkTemplate.of(path).expand(this.contextPath + "/", parameter)), rel);
     }
 }
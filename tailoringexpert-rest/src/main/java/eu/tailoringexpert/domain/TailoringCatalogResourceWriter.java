@@ -0,0 +1,175 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import eu.tailoringexpert.domain.PathContext.PathContextBuilder;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.FLUSH_AFTER_WRITE_VALUE;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+
+/**
+ * Writes the HAL representation of a tailoring catalog incrementally to an output stream.
+ * <p>
+ * Output is the same as serializing the {@link TailoringCatalogResource} created by the {@link ResourceMapper}, but
+ * chapter and requirement resources are mapped and written one after another instead of building the complete
+ * resource tree before serialization.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+public class TailoringCatalogResourceWriter {
+
+    private final ResourceMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final String tocProperty;
+    private final String requirementsProperty;
+    private final String chaptersProperty;
+
+    public TailoringCatalogResourceWriter(@NonNull ResourceMapper mapper, @NonNull ObjectMapper objectMapper) {
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(FLUSH_AFTER_WRITE_VALUE);
+        this.tocProperty = propertyName(objectMapper, TailoringCatalogResource.class, "toc");
+        this.requirementsProperty = propertyName(objectMapper, TailoringCatalogChapterResource.class, "requirements");
+        this.chaptersProperty = propertyName(objectMapper, TailoringCatalogChapterResource.class, "chapters");
+    }
+
+    /**
+     * Writes HAL representation of catalog to output stream.
+     *
+     * @param os          stream to write catalog to
+     * @param pathContext context to use for link creation
+     * @param catalog     catalog to write
+     * @throws IOException on write error
+     */
+    public void write(OutputStream os, PathContextBuilder pathContext, Catalog<TailoringRequirement> catalog) throws IOException {
+        log.traceEntry();
+
+        try (JsonGenerator generator = writer.createGenerator(os, JsonEncoding.UTF8)) {
+            TailoringCatalogResource resource = mapper.toResource(pathContext, Catalog.<TailoringRequirement>builder()
+                .version(catalog.getVersion())
+                .build());
+
+            Iterator<Entry<String, JsonNode>> fields = objectMapper.<JsonNode>valueToTree(resource).fields();
+            generator.writeStartObject();
+            while (fields.hasNext()) {
+                Entry<String, JsonNode> field = fields.next();
+                generator.writeFieldName(field.getKey());
+                if (tocProperty.equals(field.getKey())) {
+                    writeChapter(generator, pathContext, catalog.getToc());
+                } else {
+                    writer.writeValue(generator, field.getValue());
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        log.traceExit();
+    }
+
+    private void writeChapter(JsonGenerator generator, PathContextBuilder pathContext, Chapter<TailoringRequirement> chapter) throws IOException {
+        if (isNull(chapter)) {
+            generator.writeNull();
+            return;
+        }
+
+        TailoringCatalogChapterResource resource = mapper.toResource(pathContext, Chapter.<TailoringRequirement>builder()
+            .name(chapter.getName())
+            .position(chapter.getPosition())
+            .number(chapter.getNumber())
+            .requirements(emptyList())
+            .chapters(emptyList())
+            .build());
+
+        Iterator<Entry<String, JsonNode>> fields = objectMapper.<JsonNode>valueToTree(resource).fields();
+        generator.writeStartObject();
+        while (fields.hasNext()) {
+            Entry<String, JsonNode> field = fields.next();
+            generator.writeFieldName(field.getKey());
+            if (requirementsProperty.equals(field.getKey())) {
+                pathContext.chapter(chapter.getNumber());
+                writeRequirements(generator, pathContext, chapter.getRequirements());
+            } else if (chaptersProperty.equals(field.getKey())) {
+                writeChapters(generator, pathContext, chapter.getChapters());
+            } else {
+                writer.writeValue(generator, field.getValue());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeRequirements(JsonGenerator generator, PathContextBuilder pathContext, Collection<TailoringRequirement> requirements) throws IOException {
+        if (isNull(requirements)) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartArray();
+        for (TailoringRequirement requirement : requirements) {
+            writer.writeValue(generator, mapper.toResource(pathContext, requirement));
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeChapters(JsonGenerator generator, PathContextBuilder pathContext, Collection<Chapter<TailoringRequirement>> chapters) throws IOException {
+        if (isNull(chapters)) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartArray();
+        for (Chapter<TailoringRequirement> chapter : chapters) {
+            writeChapter(generator, pathContext, chapter);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Determines the JSON property name of a resource attribute honoring registered mixins.
+     */
+    private static String propertyName(ObjectMapper objectMapper, Class<?> clz, String attribute) {
+        return objectMapper.getSerializationConfig()
+            .introspect(objectMapper.constructType(clz))
+            .findProperties()
+            .stream()
+            .filter(property -> attribute.equals(property.getInternalName()))
+            .map(BeanPropertyDefinition::getName)
+            .findFirst()
+            .orElse(attribute);
+    }
+}
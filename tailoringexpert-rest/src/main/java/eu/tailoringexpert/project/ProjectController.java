@@ -24,6 +24,8 @@ package eu.tailoringexpert.project;
 import eu.tailoringexpert.domain.PathContext;
 import eu.tailoringexpert.domain.PathContext.PathContextBuilder;
 import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ProjectInformationPage;
+import eu.tailoringexpert.domain.ProjectInformationQuery;
 import eu.tailoringexpert.domain.ProjectResource;
 import eu.tailoringexpert.domain.ProjectState;
 import eu.tailoringexpert.domain.ResourceMapper;
@@ -43,6 +45,8 @@ import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.UriTemplate;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -52,15 +56,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static eu.tailoringexpert.domain.ProjectInformationQuery.Sort.IDENTIFIER;
 import static eu.tailoringexpert.domain.ResourceMapper.PROJECT;
 import static eu.tailoringexpert.domain.ResourceMapper.PROJECTS;
 import static eu.tailoringexpert.domain.ResourceMapper.PROJECT_NEW;
@@ -70,13 +78,18 @@ import static eu.tailoringexpert.domain.ResourceMapper.PROJECT_SELECTIONVECTOR;
 import static eu.tailoringexpert.domain.ResourceMapper.PROJECT_STATE;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORINGS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.springframework.hateoas.EntityModel.of;
+import static org.springframework.hateoas.IanaLinkRelations.NEXT;
 import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.ResponseEntity.notFound;
 import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.web.util.UriUtils.encodeQueryParam;
 
 /**
  * REST-Controller for management of projects.
@@ -98,28 +111,85 @@ public class ProjectController {
     @NonNull
     private ProjectServiceRepository projectServiceRepository;
 
-    @Operation(summary = "Load all projects base data")
+    @Operation(summary = "Load projects base data. All projects are loaded, if neither page, size nor cursor is requested")
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200", description = "Project list created",
-            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProjectResource.class))))
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProjectResource.class)))),
+        @ApiResponse(
+            responseCode = "400", description = "Invalid page, sort or cursor requested",
+            content = @Content)
     })
     @GetMapping(value = PROJECTS, produces = {"application/hal+json"})
-    public ResponseEntity<CollectionModel<EntityModel<ProjectResource>>> getProjects() {
-        log.traceEntry();
+    public ResponseEntity<CollectionModel<EntityModel<ProjectResource>>> getProjects(
+        @Parameter(description = "Number of page to load, starting with 0") @RequestParam(required = false) Integer page,
+        @Parameter(description = "Number of projects per page, " + ProjectInformationQuery.DEFAULT_SIZE + " if only page or cursor is requested") @RequestParam(required = false) Integer size,
+        @Parameter(description = "Identifier of last project of previous page. Only supported for projects sorted by identifier") @RequestParam(required = false) String cursor,
+        @Parameter(description = "Attribute to sort projects by: identifier, creationTimestamp or state") @RequestParam(defaultValue = "identifier") String sort,
+        @Parameter(description = "Sort direction: asc or desc") @RequestParam(defaultValue = "asc") String direction,
+        @Parameter(description = "Only projects in this state") @RequestParam(required = false) ProjectState state,
+        @Parameter(description = "Only projects with a tailoring of this catalog version") @RequestParam(required = false) String catalogVersion,
+        @Parameter(description = "Only projects with an identifier starting with this prefix") @RequestParam(required = false) String prefix) {
+        log.traceEntry(() -> page, () -> size, () -> cursor, () -> sort, () -> direction);
+
+        // clients not aware of paging still get all projects
+        boolean paged = nonNull(page) || nonNull(size) || nonNull(cursor);
+        int pageNumber = nonNull(page) ? page : 0;
+        int pageSize = nonNull(size) ? size : ProjectInformationQuery.DEFAULT_SIZE;
+
+        ProjectInformationQuery.Sort projectSort = ProjectInformationQuery.Sort.fromString(sort);
+        boolean ascending = "asc".equalsIgnoreCase(direction);
+        if (isNull(projectSort) ||
+            !(ascending || "desc".equalsIgnoreCase(direction)) ||
+            pageNumber < 0 || pageSize < 1 || pageSize > ProjectInformationQuery.MAX_SIZE ||
+            (nonNull(cursor) && IDENTIFIER != projectSort)) {
+            log.traceExit();
+            return ResponseEntity.badRequest().build();
+        }
 
-        List<EntityModel<ProjectResource>> projekte = projectServiceRepository.getProjectInformations()
+        ProjectInformationPage projects = projectServiceRepository.getProjectInformations(ProjectInformationQuery.builder()
+            .state(state)
+            .catalogVersion(catalogVersion)
+            .identifierPrefix(prefix)
+            .sort(projectSort)
+            .ascending(ascending)
+            .paged(paged)
+            .page(pageNumber)
+            .size(pageSize)
+            .cursor(cursor)
+            .build());
+
+        List<EntityModel<ProjectResource>> projekte = projects.getProjects()
             .stream()
             .map(domain -> of(mapper.toResource(PathContext.builder(), domain)))
             .toList();
+        CollectionModel<EntityModel<ProjectResource>> body = CollectionModel.of(projekte);
+        if (projects.isHasNext()) {
+            body.add(createNextLink(projects));
+        }
         ResponseEntity<CollectionModel<EntityModel<ProjectResource>>> result = ok()
-            .body(CollectionModel.of(projekte));
+            .body(body);
 
         log.traceExit();
         return result;
 
     }
 
+    /**
+     * Creates a link to the next page of the current project list request, keeping all filter and sort parameters.
+     *
+     * @param projects current page of projects
+     * @return link to next page
+     */
+    private Link createNextLink(ProjectInformationPage projects) {
+        UriComponentsBuilder builder = ServletUriComponentsBuilder.fromCurrentRequest()
+            .replaceQueryParam("page", projects.getPage() + 1);
+        if (nonNull(projects.getNextCursor())) {
+            builder.replaceQueryParam("cursor", encodeQueryParam(projects.getNextCursor(), UTF_8));
+        }
+        return Link.of(UriTemplate.of(builder.build(true).toUriString()), NEXT);
+    }
+
     @Operation(summary = "Create new project")
     @ApiResponses(value = {
         @ApiResponse(
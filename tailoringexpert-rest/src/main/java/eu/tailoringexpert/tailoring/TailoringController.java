@@ -21,7 +21,9 @@
  */
 package eu.tailoringexpert.tailoring;
 
+import eu.tailoringexpert.DocumentBundleResponse;
 import eu.tailoringexpert.ResourceException;
+import eu.tailoringexpert.domain.DocumentJobResource;
 import eu.tailoringexpert.domain.DocumentSignature;
 import eu.tailoringexpert.domain.DocumentSignatureResource;
 import eu.tailoringexpert.domain.File;
@@ -37,6 +39,7 @@ import eu.tailoringexpert.domain.SelectionVectorProfileResource;
 import eu.tailoringexpert.domain.SelectionVectorResource;
 import eu.tailoringexpert.domain.TailoringCatalogChapterResource;
 import eu.tailoringexpert.domain.TailoringCatalogResource;
+import eu.tailoringexpert.domain.TailoringCatalogResourceWriter;
 import eu.tailoringexpert.domain.TailoringRequirementResource;
 import eu.tailoringexpert.domain.TailoringResource;
 import eu.tailoringexpert.domain.TailoringState;
@@ -50,6 +53,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.Resource;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.UriTemplate;
@@ -57,23 +61,28 @@ import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.ResponseEntity.BodyBuilder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
+import static eu.tailoringexpert.domain.ResourceMapper.REL_SELF;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_ATTACHMENT;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_ATTACHMENTS;
@@ -83,6 +92,7 @@ import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_CATALOG_CHAPTER
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_COMPARE;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_DOCUMENT;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_DOCUMENT_CATALOG;
+import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_DOCUMENT_JOB;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_NAME;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_NOTE;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_NOTES;
@@ -93,10 +103,16 @@ import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_SELECTIONVECTOR
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_SIGNATURE;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_SIGNATURE_FACULTY;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_STATE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.springframework.hateoas.EntityModel.of;
+import static org.springframework.hateoas.MediaTypes.HAL_JSON;
+import static org.springframework.http.CacheControl.noCache;
 import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 import static org.springframework.http.ResponseEntity.created;
@@ -130,6 +146,9 @@ public class TailoringController {
     @NonNull
     private Function<String, MediaType> mediaTypeProvider;
 
+    @NonNull
+    private TailoringCatalogResourceWriter catalogWriter;
+
     @Operation(summary = "Load tailoring requirements catalog")
     @ApiResponses(value = {
         @ApiResponse(
@@ -140,7 +159,7 @@ public class TailoringController {
             content = @Content)
     })
     @GetMapping(value = TAILORING_CATALOG, produces = {"application/hal+json"})
-    public ResponseEntity<EntityModel<TailoringCatalogResource>> getCatalog(
+    public ResponseEntity<StreamingResponseBody> getCatalog(
         @Parameter(description = "Project identifier") @PathVariable String project,
         @Parameter(description = "Tailoring name") @PathVariable String tailoring) {
         log.traceEntry();
@@ -149,9 +168,10 @@ public class TailoringController {
             .project(project)
             .tailoring(tailoring);
 
-        ResponseEntity<EntityModel<TailoringCatalogResource>> result = tailoringService.getCatalog(project, tailoring)
-            .map(serviceResult -> ok()
-                .body(of(mapper.toResource(pathContext, serviceResult))))
+        ResponseEntity<StreamingResponseBody> result = tailoringService.getCatalog(project, tailoring)
+            .<ResponseEntity<StreamingResponseBody>>map(serviceResult -> ok()
+                .contentType(HAL_JSON)
+                .body(os -> catalogWriter.write(os, pathContext, serviceResult)))
             .orElseGet(() -> notFound().build());
 
         log.traceExit();
@@ -346,18 +366,53 @@ public class TailoringController {
             content = @Content)
     })
     @GetMapping(TAILORING_DOCUMENT)
-    public ResponseEntity<byte[]> getDocuments(
+    public ResponseEntity<Resource> getDocuments(
+        @Parameter(description = "Project identifier") @PathVariable String project,
+        @Parameter(description = "Tailoring name") @PathVariable String tailoring,
+        @Parameter(description = "ETag of already loaded documents") @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.traceEntry();
+
+        String revision = tailoringService.getRevision(project, tailoring).orElse(null);
+        if (isNotModified(ifNoneMatch, revision)) {
+            log.traceExit();
+            return ResponseEntity.status(NOT_MODIFIED).eTag(revision).build();
+        }
+
+        ResponseEntity<Resource> result = tailoringService.createDocuments(project, tailoring)
+            .map(dokument -> DocumentBundleResponse.of(documentResponse(revision), dokument, mediaTypeProvider))
+            .orElseGet(() -> notFound().build());
+
+        log.traceExit();
+        return result;
+    }
+
+    @Operation(summary = "Submit asynchronous generation of all (tenant) documents of a specified tailoring.")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202", description = "Document job submitted",
+            content = @Content(mediaType = "application/json+hal", schema = @Schema(implementation = DocumentJobResource.class))),
+        @ApiResponse(
+            responseCode = "404", description = "Tailoring does not exist",
+            content = @Content),
+        @ApiResponse(
+            responseCode = "503", description = "Document job queue is full",
+            content = @Content)
+    })
+    @PostMapping(value = TAILORING_DOCUMENT_JOB, produces = {"application/hal+json"})
+    public ResponseEntity<EntityModel<DocumentJobResource>> postDocumentJob(
         @Parameter(description = "Project identifier") @PathVariable String project,
         @Parameter(description = "Tailoring name") @PathVariable String tailoring) {
         log.traceEntry();
 
-        ResponseEntity<byte[]> result = tailoringService.createDocuments(project, tailoring)
-            .map(dokument -> ok()
-                .header(CONTENT_DISPOSITION, ContentDisposition.builder(MediaTypeProvider.FORM_DATA).name(MediaTypeProvider.ATTACHMENT).filename(dokument.getName()).build().toString())
-                .header(ACCESS_CONTROL_EXPOSE_HEADERS, CONTENT_DISPOSITION)
-                .contentType(mediaTypeProvider.apply(dokument.getType()))
-                .contentLength(dokument.getLength())
-                .body(dokument.getData()))
+        PathContextBuilder pathContext = PathContext.builder()
+            .project(project)
+            .tailoring(tailoring);
+
+        ResponseEntity<EntityModel<DocumentJobResource>> result = tailoringService.createDocumentJob(project, tailoring)
+            .map(job -> mapper.toResource(pathContext, job))
+            .map(resource -> ResponseEntity.accepted()
+                .location(resource.getRequiredLink(REL_SELF).toUri())
+                .body(of(resource)))
             .orElseGet(() -> notFound().build());
 
         log.traceExit();
@@ -376,11 +431,18 @@ public class TailoringController {
     @GetMapping(TAILORING_DOCUMENT_CATALOG)
     public ResponseEntity<byte[]> getRequirementFile(
         @Parameter(description = "Project identifier") @PathVariable String project,
-        @Parameter(description = "Tailoring name") @PathVariable String tailoring) {
+        @Parameter(description = "Tailoring name") @PathVariable String tailoring,
+        @Parameter(description = "ETag of already loaded document") @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.traceEntry();
 
+        String revision = tailoringService.getRevision(project, tailoring).orElse(null);
+        if (isNotModified(ifNoneMatch, revision)) {
+            log.traceExit();
+            return ResponseEntity.status(NOT_MODIFIED).eTag(revision).build();
+        }
+
         ResponseEntity<byte[]> result = tailoringService.createRequirementDocument(project, tailoring)
-            .map(dokument -> ok()
+            .map(dokument -> documentResponse(revision)
                 .header(CONTENT_DISPOSITION, ContentDisposition.builder(MediaTypeProvider.FORM_DATA).name(MediaTypeProvider.ATTACHMENT).filename(dokument.getName()).build().toString())
                 .header(ACCESS_CONTROL_EXPOSE_HEADERS, CONTENT_DISPOSITION)
                 .contentType(mediaTypeProvider.apply(dokument.getType()))
@@ -601,11 +663,18 @@ public class TailoringController {
     @GetMapping(TAILORING_COMPARE)
     public ResponseEntity<byte[]> getComparisonDocument(
         @Parameter(description = "Project identifier") @PathVariable String project,
-        @Parameter(description = "Tailoring name") @PathVariable String tailoring) {
+        @Parameter(description = "Tailoring name") @PathVariable String tailoring,
+        @Parameter(description = "ETag of already loaded document") @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.traceEntry();
 
+        String revision = tailoringService.getRevision(project, tailoring).orElse(null);
+        if (isNotModified(ifNoneMatch, revision)) {
+            log.traceExit();
+            return ResponseEntity.status(NOT_MODIFIED).eTag(revision).build();
+        }
+
         ResponseEntity<byte[]> result = tailoringService.createComparisonDocument(project, tailoring)
-            .map(dokument -> ok()
+            .map(dokument -> documentResponse(revision)
                 .header(CONTENT_DISPOSITION, ContentDisposition.builder(MediaTypeProvider.FORM_DATA).name(MediaTypeProvider.ATTACHMENT).filename(dokument.getName()).build().toString())
                 .header(ACCESS_CONTROL_EXPOSE_HEADERS, CONTENT_DISPOSITION)
                 .contentType(mediaTypeProvider.apply(dokument.getType()))
@@ -812,4 +881,38 @@ public class TailoringController {
         log.traceExit();
         return result;
     }
+
+    /**
+     * Creates builder of a document response. Clients have to revalidate the document using the tailoring revision
+     * provided as ETag.
+     *
+     * @param revision revision of tailoring document is created of
+     * @return builder of document response
+     */
+    private BodyBuilder documentResponse(String revision) {
+        BodyBuilder result = ok().cacheControl(noCache());
+        if (nonNull(revision)) {
+            result.eTag(revision);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if a client already has loaded the document of the current tailoring revision.
+     *
+     * @param ifNoneMatch ETags provided by client
+     * @param revision    current revision of tailoring
+     * @return true, if a provided ETag matches the revision
+     */
+    private boolean isNotModified(String ifNoneMatch, String revision) {
+        if (isNull(ifNoneMatch) || isNull(revision)) {
+            return false;
+        }
+
+        String eTag = "\"" + revision + "\"";
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+            .anyMatch(tag -> "*".equals(tag) || eTag.equals(tag));
+    }
 }
@@ -0,0 +1,116 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.DocumentBundle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.write;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.ResponseEntity.ok;
+
+class DocumentBundleResponseTest {
+
+    Function<String, MediaType> mediaTypeProviderMock;
+    Path path;
+    DocumentBundle bundle;
+
+    @BeforeEach
+    void setup() throws Exception {
+        this.mediaTypeProviderMock = mock(Function.class);
+        this.path = createTempFile("SAMPLE-master", ".zip");
+        write(path, "zip content".getBytes(UTF_8));
+        this.bundle = DocumentBundle.builder()
+            .name("SAMPLE-master.zip")
+            .path(path)
+            .build();
+    }
+
+    @AfterEach
+    void teardown() {
+        RequestContextHolder.resetRequestAttributes();
+        bundle.close();
+    }
+
+    @Test
+    void of_BundleProvided_BundleStreamedAsAttachment() throws Exception {
+        // arrange
+        given(mediaTypeProviderMock.apply("zip")).willReturn(MediaType.parseMediaType("application/zip"));
+
+        // act
+        ResponseEntity<Resource> actual = DocumentBundleResponse.of(ok(), bundle, mediaTypeProviderMock);
+
+        // assert
+        assertThat(actual.getHeaders().getFirst(CONTENT_DISPOSITION)).contains("SAMPLE-master.zip");
+        assertThat(actual.getHeaders().getContentLength()).isEqualTo(11);
+        try (InputStream is = actual.getBody().getInputStream()) {
+            assertThat(is.readAllBytes()).isEqualTo("zip content".getBytes(UTF_8));
+        }
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    void of_MediaTypeProviderException_BundleClosed() {
+        // arrange
+        given(mediaTypeProviderMock.apply("zip")).willThrow(new IllegalStateException());
+
+        // act
+        Throwable actual = catchThrowable(() -> DocumentBundleResponse.of(ok(), bundle, mediaTypeProviderMock));
+
+        // assert
+        assertThat(actual).isInstanceOf(IllegalStateException.class);
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    void of_RequestCompletedWithoutWritingBody_BundleClosed() {
+        // arrange
+        ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        given(mediaTypeProviderMock.apply("zip")).willReturn(MediaType.parseMediaType("application/zip"));
+        DocumentBundleResponse.of(ok(), bundle, mediaTypeProviderMock);
+
+        // act
+        attributes.requestCompleted();
+
+        // assert
+        assertThat(path).doesNotExist();
+    }
+}
@@ -0,0 +1,207 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.DocumentJob;
+import eu.tailoringexpert.domain.DocumentJobResource;
+import eu.tailoringexpert.domain.PathContext.PathContextBuilder;
+import eu.tailoringexpert.domain.ResourceMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY;
+import static com.fasterxml.jackson.annotation.PropertyAccessor.FIELD;
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static com.fasterxml.jackson.databind.SerializationFeature.FAIL_ON_EMPTY_BEANS;
+import static eu.tailoringexpert.domain.DocumentJobState.FINISHED;
+import static eu.tailoringexpert.domain.MediaTypeProvider.ATTACHMENT;
+import static eu.tailoringexpert.domain.MediaTypeProvider.FORM_DATA;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.write;
+import static java.util.Locale.GERMANY;
+import static java.util.Optional.empty;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
+import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+class DocumentJobControllerTest {
+
+    ResourceMapper mapperMock;
+    DocumentJobExecutor documentJobExecutorMock;
+    Function<String, MediaType> mediaTypeProviderMock;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        this.mapperMock = mock(ResourceMapper.class);
+        this.documentJobExecutorMock = mock(DocumentJobExecutor.class);
+        this.mediaTypeProviderMock = mock(Function.class);
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modules(new Jackson2HalModule(), new JavaTimeModule(), new ParameterNamesModule(), new Jdk8Module())
+            .featuresToEnable(FAIL_ON_UNKNOWN_PROPERTIES)
+            .featuresToDisable(FAIL_ON_EMPTY_BEANS)
+            .visibility(FIELD, ANY)
+            .dateFormat(new SimpleDateFormat("yyyy-MM-dd", GERMANY))
+            .handlerInstantiator(
+                new Jackson2HalModule.HalHandlerInstantiator(new EvoInflectorLinkRelationProvider(),
+                    CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY))
+            .build();
+
+        this.mockMvc = standaloneSetup(new DocumentJobController(
+            mapperMock,
+            documentJobExecutorMock,
+            mediaTypeProviderMock))
+            .setControllerAdvice(new ExceptionHandlerAdvice())
+            .setMessageConverters(
+                new MappingJackson2HttpMessageConverter(objectMapper),
+                new ByteArrayHttpMessageConverter(),
+                new ResourceHttpMessageConverter(),
+                new StringHttpMessageConverter())
+            .build();
+    }
+
+    @Test
+    void getDocumentJob_JobNotExists_StateNotFound() throws Exception {
+        // arrange
+        given(documentJobExecutorMock.getJob("4711")).willReturn(empty());
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/document/job/{job}", "4711")
+            .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isNotFound());
+        verify(mapperMock, times(0)).toResource(any(PathContextBuilder.class), any(DocumentJob.class));
+    }
+
+    @Test
+    void getDocumentJob_JobExists_StateOk() throws Exception {
+        // arrange
+        DocumentJob job = DocumentJob.builder()
+            .id("4711")
+            .state(FINISHED)
+            .documents(List.of("DOC-CAT-001.pdf"))
+            .name("SAMPLE-master-1-0.zip")
+            .length(42L)
+            .build();
+        given(documentJobExecutorMock.getJob("4711")).willReturn(Optional.of(job));
+
+        given(mapperMock.toResource(any(PathContextBuilder.class), any(DocumentJob.class)))
+            .willReturn(DocumentJobResource.builder()
+                .id("4711")
+                .state(FINISHED)
+                .documents(List.of("DOC-CAT-001.pdf"))
+                .name("SAMPLE-master-1-0.zip")
+                .length(42L)
+                .links(List.of(Link.of("http://localhost/document/job/4711/result", "result")))
+                .build());
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/document/job/{job}", "4711")
+            .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value("4711"))
+            .andExpect(jsonPath("$.state").value("FINISHED"))
+            .andExpect(jsonPath("$.documents[0]").value("DOC-CAT-001.pdf"))
+            .andExpect(jsonPath("$._links.result.href").value("http://localhost/document/job/4711/result"));
+        verify(mapperMock, times(1)).toResource(any(PathContextBuilder.class), any(DocumentJob.class));
+    }
+
+    @Test
+    void getDocumentJobResult_ResultNotAvailable_StateNotFound() throws Exception {
+        // arrange
+        given(documentJobExecutorMock.getResult("4711")).willReturn(empty());
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/document/job/{job}/result", "4711"));
+
+        // assert
+        actual.andExpect(status().isNotFound());
+        verify(mediaTypeProviderMock, times(0)).apply(any());
+    }
+
+    @Test
+    void getDocumentJobResult_ResultAvailable_StateOk() throws Exception {
+        // arrange
+        byte[] data = "zip content".getBytes(UTF_8);
+        Path path = createTempFile("SAMPLE-master-1-0", ".zip");
+        write(path, data);
+
+        given(documentJobExecutorMock.getResult("4711"))
+            .willReturn(Optional.of(DocumentBundle.builder()
+                .name("SAMPLE-master-1-0.zip")
+                .path(path)
+                .build()));
+        given(mediaTypeProviderMock.apply("zip")).willReturn(MediaType.parseMediaType("application/zip"));
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/document/job/{job}/result", "4711"));
+
+        // assert
+        actual.andExpect(status().isOk())
+            .andExpect(header().string(CONTENT_DISPOSITION, ContentDisposition.builder(FORM_DATA).name(ATTACHMENT).filename("SAMPLE-master-1-0.zip").build().toString()))
+            .andExpect(header().string(ACCESS_CONTROL_EXPOSE_HEADERS, CONTENT_DISPOSITION))
+            .andExpect(content().contentType("application/zip"))
+            .andExpect(content().bytes(data));
+        verify(mediaTypeProviderMock, times(1)).apply("zip");
+    }
+}
@@ -27,6 +27,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -94,4 +95,17 @@ class ExceptionHandlerAdviceTest {
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(actual.getBody()).isEqualTo("Method not implemented");
     }
+
+    @Test
+    void handleException_RejectedExecutionExceptionInput_State503Returned() {
+        // arrange
+        RejectedExecutionException exception = new RejectedExecutionException("Queue is full");
+
+        // act
+        ResponseEntity<String> actual = advice.handleException(exception);
+
+        // assert
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(actual.getBody()).isEqualTo("Queue is full");
+    }
 }
@@ -30,6 +30,9 @@ import eu.tailoringexpert.domain.BaseCatalogVersionResource;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.CatalogVersion;
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.DocumentJob;
+import eu.tailoringexpert.domain.DocumentJobResource;
 import eu.tailoringexpert.domain.File;
 import eu.tailoringexpert.domain.PathContext;
 import eu.tailoringexpert.domain.PathContext.PathContextBuilder;
@@ -54,21 +57,21 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
-import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.function.Function;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY;
 import static com.fasterxml.jackson.annotation.PropertyAccessor.FIELD;
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 import static com.fasterxml.jackson.databind.SerializationFeature.FAIL_ON_EMPTY_BEANS;
+import static eu.tailoringexpert.domain.DocumentJobState.QUEUED;
 import static eu.tailoringexpert.domain.MediaTypeProvider.ATTACHMENT;
 import static eu.tailoringexpert.domain.MediaTypeProvider.FORM_DATA;
 import static eu.tailoringexpert.domain.ResourceMapper.BASECATALOG_CONVERT_EXCEL;
@@ -76,7 +79,10 @@ import static eu.tailoringexpert.domain.ResourceMapper.REL_CONVERT;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createTempFile;
 import static java.nio.file.Files.newInputStream;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.write;
 import static java.time.LocalTime.MIDNIGHT;
 import static java.time.ZoneId.systemDefault;
 import static java.util.Arrays.asList;
@@ -87,6 +93,7 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -94,6 +101,7 @@ import static org.mockito.Mockito.verify;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM;
 import static org.springframework.http.MediaType.APPLICATION_PDF;
@@ -107,6 +115,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
@@ -445,16 +454,14 @@ class CatalogControllerTest {
             assert nonNull(is);
             data = is.readAllBytes();
         }
-        ByteArrayOutputStream os = new ByteArrayOutputStream();
-        ZipOutputStream zip = new ZipOutputStream(os);
-        ZipEntry zipEntry = new ZipEntry("dummy.pdf");
-        zip.putNextEntry(zipEntry);
-        zip.write(data, 0, data.length);
-        zip.closeEntry();
-        zip.close();
+        DocumentBundle bundle = DocumentBundle.create(
+            "catalog_8.2.1.zip",
+            consumer -> consumer.accept(File.builder().name("dummy.pdf").data(data).build())
+        );
+        byte[] zip = readAllBytes(bundle.getPath());
 
         given(serviceMock.createDocuments("8.2.1"))
-            .willReturn(of(File.builder().data(os.toByteArray()).name("catalog_8.2.1.zip").build()));
+            .willReturn(of(bundle));
 
         given(mediaTypeProviderMock.apply("zip"))
             .willReturn(APPLICATION_OCTET_STREAM);
@@ -467,11 +474,51 @@ class CatalogControllerTest {
             .andExpect(header().string(CONTENT_DISPOSITION, ContentDisposition.builder(FORM_DATA).name(ATTACHMENT).filename("catalog_8.2.1.zip").build().toString()))
             .andExpect(header().string(ACCESS_CONTROL_EXPOSE_HEADERS, CONTENT_DISPOSITION))
             .andExpect(content().contentType(APPLICATION_OCTET_STREAM))
-            .andExpect(content().bytes(os.toByteArray()));
+            .andExpect(content().bytes(zip));
 
         verify(mediaTypeProviderMock, times(1)).apply("zip");
     }
 
+    @Test
+    void postDocumentJob_BaseCatalogNotExists_StateNotFound() throws Exception {
+        // arrange
+        given(serviceMock.createDocumentJob("8.2.1")).willReturn(empty());
+
+        // act
+        ResultActions actual = mockMvc.perform(post("/catalog/8.2.1/document/job"));
+
+        // assert
+        actual.andExpect(status().isNotFound());
+        verify(mapperMock, times(0)).toResource(any(PathContextBuilder.class), any(DocumentJob.class));
+    }
+
+    @Test
+    void postDocumentJob_BaseCatalogExists_StateAccepted() throws Exception {
+        // arrange
+        DocumentJob job = DocumentJob.builder()
+            .id("4711")
+            .state(QUEUED)
+            .build();
+        given(serviceMock.createDocumentJob("8.2.1")).willReturn(of(job));
+
+        given(mapperMock.toResource(any(PathContextBuilder.class), eq(job)))
+            .willReturn(DocumentJobResource.builder()
+                .id("4711")
+                .state(QUEUED)
+                .links(List.of(Link.of("http://localhost/document/job/4711", "self")))
+                .build());
+
+        // act
+        ResultActions actual = mockMvc.perform(post("/catalog/8.2.1/document/job")
+            .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isAccepted())
+            .andExpect(header().string(LOCATION, "http://localhost/document/job/4711"))
+            .andExpect(jsonPath("$.id").value("4711"))
+            .andExpect(jsonPath("$.state").value("QUEUED"));
+    }
+
     @Test
     void putCatalogValidUntil_VersionNotExist_StateNotFound() throws Exception {
         // arrange
@@ -542,10 +589,12 @@ class CatalogControllerTest {
     void postBaseCatalogPreview_FileNotEmpty_StateOk() throws Exception {
 
         Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder().version("8.3.0").build();
+        Path path = createTempFile("preview", ".zip");
+        write(path, "dummy".getBytes(UTF_8));
         given(serviceMock.createDocuments(catalog))
-            .willReturn(of(File.builder()
+            .willReturn(of(DocumentBundle.builder()
                 .name("preview.zip")
-                .data("dummy".getBytes(UTF_8))
+                .path(path)
                 .build()));
 
         given(mediaTypeProviderMock.apply("zip"))
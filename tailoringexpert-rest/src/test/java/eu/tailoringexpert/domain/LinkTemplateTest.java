@@ -0,0 +1,106 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static eu.tailoringexpert.domain.ResourceMapper.CHAPTER_SELECTED;
+import static eu.tailoringexpert.domain.ResourceMapper.TAILORINGREQUIRMENT;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LinkTemplateTest {
+
+    @Test
+    void of_SamePath_SameTemplateReturned() {
+        // arrange
+
+        // act
+        LinkTemplate actual = LinkTemplate.of(TAILORINGREQUIRMENT);
+
+        // assert
+        assertThat(actual).isSameAs(LinkTemplate.of(TAILORINGREQUIRMENT));
+    }
+
+    @Test
+    void expand_AllParameterProvided_PathResolved() {
+        // arrange
+        Map<String, String> parameter = Map.of(
+            "project", "SAMPLE",
+            "tailoring", "master",
+            "chapter", "1.2.1",
+            "requirement", "a"
+        );
+
+        // act
+        String actual = LinkTemplate.of(TAILORINGREQUIRMENT).expand("/api/", parameter);
+
+        // assert
+        assertThat(actual).isEqualTo("/api/project/SAMPLE/tailoring/master/catalog/1.2.1/a");
+    }
+
+    @Test
+    void expand_ParameterValueNull_ParameterNotResolved() {
+        // arrange
+        Map<String, String> parameter = new HashMap<>();
+        parameter.put("project", "SAMPLE");
+        parameter.put("tailoring", "master");
+        parameter.put("chapter", "1");
+        parameter.put("selected", null);
+
+        // act
+        String actual = LinkTemplate.of(CHAPTER_SELECTED).expand("/api/", parameter);
+
+        // assert
+        assertThat(actual).isEqualTo("/api/" + CHAPTER_SELECTED
+            .replace("{project}", "SAMPLE")
+            .replace("{tailoring}", "master")
+            .replace("{chapter}", "1"));
+        assertThat(actual).contains("{selected}");
+    }
+
+    @Test
+    void expand_ValueContainsRegexCharacters_ValueAppendedUnchanged() {
+        // arrange
+        Map<String, String> parameter = Map.of("project", "SAMPLE$1\\x");
+
+        // act
+        String actual = LinkTemplate.of("project/{project}").expand("", parameter);
+
+        // assert
+        assertThat(actual).isEqualTo("project/SAMPLE$1\\x");
+    }
+
+    @Test
+    void expand_PathWithoutParameter_PathReturned() {
+        // arrange
+
+        // act
+        String actual = LinkTemplate.of("catalog/convert").expand("/api/", emptyMap());
+
+        // assert
+        assertThat(actual).isEqualTo("/api/catalog/convert");
+    }
+}
@@ -30,10 +30,14 @@ import org.springframework.hateoas.Link;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
+import static eu.tailoringexpert.domain.DocumentJobState.FINISHED;
+import static eu.tailoringexpert.domain.DocumentJobState.RUNNING;
 import static eu.tailoringexpert.domain.Phase.A;
 import static eu.tailoringexpert.domain.Phase.C;
 import static eu.tailoringexpert.domain.ProjectState.ONGOING;
@@ -118,6 +122,18 @@ class ResourceMapperTest {
 
     }
 
+    @Test
+    void createLink_ProjectNewOfCatalogVersion_VersionExpanded() {
+        // arrange
+        Map<String, String> parameter = Map.of("version", "8.2.1");
+
+        // act
+        Link actual = mapper.createLink(ResourceMapper.PROJECTS, ResourceMapper.PROJECT_NEW, parameter);
+
+        // assert
+        assertThat(actual).isEqualTo(Link.of(this.host + "/catalog/8.2.1/project", "project"));
+    }
+
     @Test
     void toResoure_BaseCatalogVersionNotValid_DataAndLinksReturned() {
         // arrange
@@ -992,4 +1008,57 @@ class ResourceMapperTest {
             Link.of(this.host + "/project/SAMPLE/tailoring/master/attachment/demo.pdf", "self")
         );
     }
+
+    @Test
+    void toResource_DocumentJobRunning_DatenUndLinksOK() {
+        // arrange
+        PathContextBuilder pathContext = PathContext.builder();
+
+        DocumentJob domain = DocumentJob.builder()
+            .id("4711")
+            .state(RUNNING)
+            .documents(List.of("DOC-CAT-001.pdf"))
+            .creationTimestamp(ZonedDateTime.of(2022, 10, 18, 8, 15, 0, 0, ZoneId.of("UTC")))
+            .build();
+
+        // act
+        DocumentJobResource actual = mapper.toResource(pathContext, domain);
+
+        // assert
+        assertThat(actual).isNotNull();
+        assertThat(actual.getId()).isEqualTo("4711");
+        assertThat(actual.getState()).isEqualTo(RUNNING);
+        assertThat(actual.getDocuments()).containsExactly("DOC-CAT-001.pdf");
+        assertThat(actual.getCreationTimestamp()).isEqualTo("18.10.2022 08:15");
+
+        assertThat(actual.getLinks()).containsExactlyInAnyOrder(
+            Link.of(this.host + "/document/job/4711", "self")
+        );
+    }
+
+    @Test
+    void toResource_DocumentJobFinished_DatenUndLinksOK() {
+        // arrange
+        PathContextBuilder pathContext = PathContext.builder();
+
+        DocumentJob domain = DocumentJob.builder()
+            .id("4711")
+            .state(FINISHED)
+            .name("SAMPLE-master-1-0.zip")
+            .length(42L)
+            .build();
+
+        // act
+        DocumentJobResource actual = mapper.toResource(pathContext, domain);
+
+        // assert
+        assertThat(actual).isNotNull();
+        assertThat(actual.getName()).isEqualTo("SAMPLE-master-1-0.zip");
+        assertThat(actual.getLength()).isEqualTo(42L);
+
+        assertThat(actual.getLinks()).containsExactlyInAnyOrder(
+            Link.of(this.host + "/document/job/4711", "self"),
+            Link.of(this.host + "/document/job/4711/result", "result")
+        );
+    }
 }
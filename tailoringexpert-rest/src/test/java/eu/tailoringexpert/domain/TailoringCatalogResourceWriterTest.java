@@ -0,0 +1,189 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY;
+import static com.fasterxml.jackson.annotation.PropertyAccessor.FIELD;
+import static com.fasterxml.jackson.databind.SerializationFeature.FAIL_ON_EMPTY_BEANS;
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static java.util.Locale.GERMANY;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.EntityModel.of;
+
+@Log4j2
+class TailoringCatalogResourceWriterTest {
+
+    ResourceMapper mapper;
+
+    Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @BeforeEach
+    void setup() {
+        this.mapper = new ResourceMapperGenerated();
+        this.mapper.setContextPath("/api");
+
+        this.objectMapperBuilder = Jackson2ObjectMapperBuilder.json()
+            .modules(new Jackson2HalModule(), new JavaTimeModule(), new ParameterNamesModule(), new Jdk8Module())
+            .featuresToDisable(FAIL_ON_EMPTY_BEANS)
+            .visibility(FIELD, ANY)
+            .dateFormat(new SimpleDateFormat("yyyy-MM-dd", GERMANY))
+            .handlerInstantiator(
+                new Jackson2HalModule.HalHandlerInstantiator(new EvoInflectorLinkRelationProvider(),
+                    CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+    }
+
+    @Test
+    void write_CatalogWithChapters_SameJSONAsResourceTree() throws IOException {
+        // arrange
+        ObjectMapper objectMapper = objectMapperBuilder.build();
+        Catalog<TailoringRequirement> catalog = createCatalog(3, 5);
+
+        TailoringCatalogResourceWriter writer = new TailoringCatalogResourceWriter(mapper, objectMapper);
+
+        // act
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        writer.write(actual, pathContext(), catalog);
+
+        // assert
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(of(mapper.toResource(pathContext(), catalog))));
+        assertThat(objectMapper.readTree(actual.toByteArray())).isEqualTo(expected);
+    }
+
+    @Test
+    void write_MixInRegistered_SameJSONAsResourceTree() throws IOException {
+        // arrange
+        ObjectMapper objectMapper = objectMapperBuilder
+            .mixIn(TailoringCatalogChapterResource.class, TailoringCatalogChapterResourceMixIn.class)
+            .build();
+        Catalog<TailoringRequirement> catalog = createCatalog(3, 5);
+
+        TailoringCatalogResourceWriter writer = new TailoringCatalogResourceWriter(mapper, objectMapper);
+
+        // act
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        writer.write(actual, pathContext(), catalog);
+
+        // assert
+        JsonNode json = objectMapper.readTree(actual.toByteArray());
+        assertThat(json.get("toc").has("nodes")).isTrue();
+        assertThat(json.get("toc").has("chapters")).isFalse();
+
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(of(mapper.toResource(pathContext(), catalog))));
+        assertThat(json).isEqualTo(expected);
+    }
+
+    @Test
+    void write_LargeCatalog_AllRequirementsWritten() throws IOException {
+        // arrange
+        ObjectMapper objectMapper = objectMapperBuilder.build();
+        Catalog<TailoringRequirement> catalog = createCatalog(50, 100);
+
+        TailoringCatalogResourceWriter writer = new TailoringCatalogResourceWriter(mapper, objectMapper);
+
+        // act
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        long start = System.nanoTime();
+        writer.write(actual, pathContext(), catalog);
+        log.info("Streamed {} bytes in {} ms", actual.size(), (System.nanoTime() - start) / 1_000_000);
+
+        // assert
+        JsonNode chapters = objectMapper.readTree(actual.toByteArray()).get("toc").get("chapters");
+        assertThat(chapters).hasSize(50);
+        assertThat(chapters.get(49).get("requirements")).hasSize(100);
+        assertThat(chapters.get(49).get("requirements").get(99).get("_links").get("self").get("href").asText())
+            .isEqualTo("/api/project/SAMPLE/tailoring/master/catalog/1.50/99");
+    }
+
+    @Test
+    void write_CatalogWithoutToc_TocNullWritten() throws IOException {
+        // arrange
+        ObjectMapper objectMapper = objectMapperBuilder.build();
+        Catalog<TailoringRequirement> catalog = Catalog.<TailoringRequirement>builder().version("8.2.1").build();
+
+        TailoringCatalogResourceWriter writer = new TailoringCatalogResourceWriter(mapper, objectMapper);
+
+        // act
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        writer.write(actual, pathContext(), catalog);
+
+        // assert
+        JsonNode json = objectMapper.readTree(actual.toByteArray());
+        assertThat(json.get("toc").isNull()).isTrue();
+        assertThat(json.get("_links").get("self").get("href").asText()).isEqualTo("/api/project/SAMPLE/tailoring/master/catalog");
+    }
+
+    private PathContext.PathContextBuilder pathContext() {
+        return PathContext.builder()
+            .project("SAMPLE")
+            .tailoring("master");
+    }
+
+    private Catalog<TailoringRequirement> createCatalog(int chapterCount, int requirementCount) {
+        List<Chapter<TailoringRequirement>> chapters = IntStream.rangeClosed(1, chapterCount)
+            .mapToObj(chapter -> Chapter.<TailoringRequirement>builder()
+                .name("Chapter " + chapter)
+                .number("1." + chapter)
+                .position(chapter)
+                .requirements(IntStream.range(0, requirementCount)
+                    .mapToObj(requirement -> TailoringRequirement.builder()
+                        .position(String.valueOf(requirement))
+                        .text("Requirement " + chapter + "." + requirement)
+                        .selected(requirement % 2 == 0 ? TRUE : FALSE)
+                        .build())
+                    .collect(toList()))
+                .chapters(List.of())
+                .build())
+            .collect(toList());
+
+        return Catalog.<TailoringRequirement>builder()
+            .version("8.2.1")
+            .toc(Chapter.<TailoringRequirement>builder()
+                .name("Requirements")
+                .number("1")
+                .requirements(List.of())
+                .chapters(chapters)
+                .build())
+            .build();
+    }
+}
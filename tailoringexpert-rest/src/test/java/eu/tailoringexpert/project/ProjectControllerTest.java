@@ -29,6 +29,8 @@ import eu.tailoringexpert.domain.PathContext;
 import eu.tailoringexpert.domain.PathContext.PathContextBuilder;
 import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ProjectInformationPage;
+import eu.tailoringexpert.domain.ProjectInformationQuery;
 import eu.tailoringexpert.domain.ProjectResource;
 import eu.tailoringexpert.domain.ResourceMapper;
 import eu.tailoringexpert.domain.ScreeningSheet;
@@ -60,6 +62,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -67,6 +70,7 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY;
 import static com.fasterxml.jackson.annotation.PropertyAccessor.FIELD;
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 import static com.fasterxml.jackson.databind.SerializationFeature.FAIL_ON_EMPTY_BEANS;
+import static eu.tailoringexpert.domain.ProjectInformationQuery.Sort.CREATION_TIMESTAMP;
 import static eu.tailoringexpert.domain.ProjectState.COMPLETED;
 import static eu.tailoringexpert.domain.ResourceMapper.PROJECT;
 import static eu.tailoringexpert.domain.ResourceMapper.REL_SELF;
@@ -78,6 +82,8 @@ import static java.util.Optional.empty;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -94,6 +100,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
@@ -195,7 +202,8 @@ class ProjectControllerTest {
     void getProjects_ProjectsExist_StateOK() throws Exception {
         // arrange
         ProjectInformation projekt = ProjectInformation.builder().identifier("SAMPLE").build();
-        given(projectServiceRepositoryMock.getProjectInformations()).willReturn(asList(projekt));
+        given(projectServiceRepositoryMock.getProjectInformations(any(ProjectInformationQuery.class)))
+            .willReturn(ProjectInformationPage.builder().projects(asList(projekt)).size(50).build());
 
         PathContextBuilder pathContext = PathContext.builder();
         ArgumentCaptor<PathContextBuilder> pathContextCaptor = forClass(PathContextBuilder.class);
@@ -207,14 +215,168 @@ class ProjectControllerTest {
         );
 
         // assert
-        actual.andExpect(status().isOk());
+        actual
+            .andExpect(status().isOk())
+            .andExpect(content().string(not(containsString("next"))));
 
-        verify(projectServiceRepositoryMock, times(1)).getProjectInformations();
+        ArgumentCaptor<ProjectInformationQuery> queryCaptor = forClass(ProjectInformationQuery.class);
+        verify(projectServiceRepositoryMock, times(1)).getProjectInformations(queryCaptor.capture());
+        assertThat(queryCaptor.getValue()).isEqualTo(ProjectInformationQuery.builder().paged(false).build());
         verify(mapperMock, times(1)).toResource(pathContextCaptor.capture(), eq(projekt));
         assertThat(pathContextCaptor.getValue().build()).isEqualTo(pathContext.build());
 
     }
 
+    @Test
+    void getProjects_FilterAndSortRequested_QueryWithFilterAndSortUsed() throws Exception {
+        // arrange
+        given(projectServiceRepositoryMock.getProjectInformations(any(ProjectInformationQuery.class)))
+            .willReturn(ProjectInformationPage.builder().projects(List.of()).page(2).size(20).build());
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project")
+            .param("page", "2")
+            .param("size", "20")
+            .param("sort", "creationTimestamp")
+            .param("direction", "desc")
+            .param("state", "COMPLETED")
+            .param("catalogVersion", "8.2.1")
+            .param("prefix", "H")
+            .accept(HAL_JSON_VALUE)
+        );
+
+        // assert
+        actual.andExpect(status().isOk());
+
+        verify(projectServiceRepositoryMock, times(1)).getProjectInformations(ProjectInformationQuery.builder()
+            .page(2)
+            .size(20)
+            .sort(CREATION_TIMESTAMP)
+            .ascending(false)
+            .state(COMPLETED)
+            .catalogVersion("8.2.1")
+            .identifierPrefix("H")
+            .build());
+    }
+
+    @Test
+    void getProjects_OnlyPageRequested_QueryWithDefaultSizeUsed() throws Exception {
+        // arrange
+        given(projectServiceRepositoryMock.getProjectInformations(any(ProjectInformationQuery.class)))
+            .willReturn(ProjectInformationPage.builder().projects(List.of()).page(1).size(50).build());
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project")
+            .param("page", "1")
+            .accept(HAL_JSON_VALUE)
+        );
+
+        // assert
+        actual.andExpect(status().isOk());
+
+        verify(projectServiceRepositoryMock, times(1)).getProjectInformations(ProjectInformationQuery.builder()
+            .page(1)
+            .size(ProjectInformationQuery.DEFAULT_SIZE)
+            .build());
+    }
+
+    @Test
+    void getProjects_MoreProjectsSortedByIdentifier_NextLinkWithCursorReturned() throws Exception {
+        // arrange
+        given(projectServiceRepositoryMock.getProjectInformations(any(ProjectInformationQuery.class)))
+            .willReturn(ProjectInformationPage.builder()
+                .projects(List.of(ProjectInformation.builder().identifier("H3 SAT").build()))
+                .page(0)
+                .size(1)
+                .hasNext(true)
+                .nextCursor("H3 SAT")
+                .build());
+        given(mapperMock.toResource(any(PathContextBuilder.class), any(ProjectInformation.class))).willReturn(ProjectResource.builder().build());
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project")
+            .param("size", "1")
+            .accept(HAL_JSON_VALUE)
+        );
+
+        // assert
+        actual
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("\"next\":{\"href\":\"http://localhost/project?size=1&page=1&cursor=H3%20SAT\"}")));
+    }
+
+    @Test
+    void getProjects_MoreProjectsSortedByState_NextLinkWithPageReturned() throws Exception {
+        // arrange
+        given(projectServiceRepositoryMock.getProjectInformations(any(ProjectInformationQuery.class)))
+            .willReturn(ProjectInformationPage.builder()
+                .projects(List.of(ProjectInformation.builder().identifier("SAMPLE").build()))
+                .page(3)
+                .size(1)
+                .hasNext(true)
+                .build());
+        given(mapperMock.toResource(any(PathContextBuilder.class), any(ProjectInformation.class))).willReturn(ProjectResource.builder().build());
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project")
+            .param("page", "3")
+            .param("size", "1")
+            .param("sort", "state")
+            .accept(HAL_JSON_VALUE)
+        );
+
+        // assert
+        actual
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("\"next\":{\"href\":\"http://localhost/project?page=4&size=1&sort=state\"}")));
+    }
+
+    @Test
+    void getProjects_UnknownSort_StateBadRequest() throws Exception {
+        // arrange
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project")
+            .param("sort", "name")
+            .accept(HAL_JSON_VALUE)
+        );
+
+        // assert
+        actual.andExpect(status().isBadRequest());
+        verify(projectServiceRepositoryMock, times(0)).getProjectInformations(any());
+    }
+
+    @Test
+    void getProjects_CursorWithSortNotIdentifier_StateBadRequest() throws Exception {
+        // arrange
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project")
+            .param("sort", "creationTimestamp")
+            .param("cursor", "SAMPLE")
+            .accept(HAL_JSON_VALUE)
+        );
+
+        // assert
+        actual.andExpect(status().isBadRequest());
+        verify(projectServiceRepositoryMock, times(0)).getProjectInformations(any());
+    }
+
+    @Test
+    void getProjects_SizeExceedsMaximum_StateBadRequest() throws Exception {
+        // arrange
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project")
+            .param("size", String.valueOf(ProjectInformationQuery.MAX_SIZE + 1))
+            .accept(HAL_JSON_VALUE)
+        );
+
+        // assert
+        actual.andExpect(status().isBadRequest());
+        verify(projectServiceRepositoryMock, times(0)).getProjectInformations(any());
+    }
+
     @Test
     void getProject_ProjectExist_StateOK() throws Exception {
         // arrange
@@ -409,7 +571,7 @@ class ProjectControllerTest {
         MockMultipartFile screeningSheet = new MockMultipartFile("datei", "screeningsheet_0d.pdf",
             "text/plain", data);
 
-        Project createdProject = Project.builder().identifier("SAMPLE2").build();
+        ProjectInformation createdProject = ProjectInformation.builder().identifier("SAMPLE2").build();
         given(projectServiceMock.copyProject("SAMPLE", data)).willReturn(Optional.of(createdProject));
 
         given(mapperMock.createLink(REL_SELF, PROJECT, Map.of("project", "SAMPLE2")))
@@ -460,7 +622,7 @@ class ProjectControllerTest {
         // assert
         assertThat(actual).isNotNull();
         verify(projectServiceMock, times(0)).copyProject(anyString(), any(byte[].class));
-        verify(mapperMock, times(0)).toResource(any(PathContextBuilder.class), any(Project.class));
+        verify(mapperMock, times(0)).toResource(any(PathContextBuilder.class), any(ProjectInformation.class));
     }
 
     @Test
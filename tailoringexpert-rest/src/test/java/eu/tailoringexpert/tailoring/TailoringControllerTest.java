@@ -31,11 +31,14 @@ import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.FileResource;
 import eu.tailoringexpert.domain.DocumentSignatureResource;
 import eu.tailoringexpert.domain.File;
+import eu.tailoringexpert.domain.DocumentBundle;
+import eu.tailoringexpert.domain.DocumentJob;
+import eu.tailoringexpert.domain.DocumentJobResource;
 import eu.tailoringexpert.domain.DocumentSignature;
 import eu.tailoringexpert.domain.Note;
 import eu.tailoringexpert.domain.NoteResource;
 import eu.tailoringexpert.domain.SelectionVectorProfileResource;
-import eu.tailoringexpert.domain.TailoringCatalogResource;
+import eu.tailoringexpert.domain.TailoringCatalogResourceWriter;
 import eu.tailoringexpert.domain.PathContext;
 import eu.tailoringexpert.domain.PathContext.PathContextBuilder;
 import eu.tailoringexpert.domain.Project;
@@ -69,23 +72,31 @@ import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY;
 import static com.fasterxml.jackson.annotation.PropertyAccessor.FIELD;
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 import static com.fasterxml.jackson.databind.SerializationFeature.FAIL_ON_EMPTY_BEANS;
+import static eu.tailoringexpert.domain.DocumentJobState.QUEUED;
 import static eu.tailoringexpert.domain.MediaTypeProvider.ATTACHMENT;
 import static eu.tailoringexpert.domain.MediaTypeProvider.FORM_DATA;
 import static java.lang.Boolean.TRUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createTempFile;
 import static java.nio.file.Files.newInputStream;
+import static java.nio.file.Files.write;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.List.of;
@@ -98,13 +109,18 @@ import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM;
 import static org.springframework.http.MediaType.APPLICATION_PDF;
@@ -112,6 +128,7 @@ import static org.springframework.http.MediaType.IMAGE_JPEG;
 import static org.springframework.http.MediaType.IMAGE_PNG;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
 import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
@@ -119,6 +136,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
@@ -133,6 +152,7 @@ class TailoringControllerTest {
 
     ObjectMapper objectMapper;
     ResourceMapper mapperMock;
+    TailoringCatalogResourceWriter catalogWriterMock;
     MockMvc mockMvc;
 
     @BeforeEach
@@ -142,6 +162,7 @@ class TailoringControllerTest {
         this.attachmentServiceMock = mock(AttachmentService.class);
         this.mediaTypeProviderMock = mock(Function.class);
         this.mapperMock = mock(ResourceMapper.class);
+        this.catalogWriterMock = mock(TailoringCatalogResourceWriter.class);
 
         this.objectMapper = Jackson2ObjectMapperBuilder.json()
             .modules(new Jackson2HalModule(), new JavaTimeModule(), new ParameterNamesModule(), new Jdk8Module())
@@ -168,7 +189,8 @@ class TailoringControllerTest {
             serviceMock,
             repositoryMock,
             attachmentServiceMock,
-            mediaTypeProviderMock))
+            mediaTypeProviderMock,
+            catalogWriterMock))
             .setControllerAdvice(new ExceptionHandlerAdvice())
             .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper), byteArrayHttpMessageConverter, new StringHttpMessageConverter()).build()
 
@@ -189,7 +211,7 @@ class TailoringControllerTest {
         actual.andExpect(status().isNotFound());
 
         verify(serviceMock, times(1)).getCatalog("SAMPLE", "master");
-        verify(mapperMock, times(0)).toResource(any(PathContextBuilder.class), any(Catalog.class));
+        verify(catalogWriterMock, times(0)).write(any(), any(), any());
     }
 
     @Test
@@ -202,19 +224,25 @@ class TailoringControllerTest {
             .willReturn(Optional.of(catalog));
 
         ArgumentCaptor<PathContextBuilder> pathContextCaptor = forClass(PathContextBuilder.class);
-        given(mapperMock.toResource(pathContextCaptor.capture(), eq(catalog)))
-            .willReturn(TailoringCatalogResource.builder().build());
+        willAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write("{\"toc\":{}}".getBytes(UTF_8));
+            return null;
+        }).given(catalogWriterMock).write(any(OutputStream.class), pathContextCaptor.capture(), eq(catalog));
 
         // act
-        ResultActions actual = mockMvc.perform(get("/project/{project}/tailoring/{tailoring}/catalog", "SAMPLE", "master")
-            .accept(HAL_JSON_VALUE)
-        );
+        MvcResult result = mockMvc.perform(get("/project/{project}/tailoring/{tailoring}/catalog", "SAMPLE", "master")
+                .accept(HAL_JSON_VALUE))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        ResultActions actual = mockMvc.perform(asyncDispatch(result));
 
         // assert
-        actual.andExpect(status().isOk());
+        actual.andExpect(status().isOk())
+            .andExpect(content().contentType(HAL_JSON_VALUE))
+            .andExpect(content().string("{\"toc\":{}}"));
 
         verify(serviceMock, times(1)).getCatalog("SAMPLE", "master");
-        verify(mapperMock, times(1)).toResource(pathContextCaptor.capture(), eq(catalog));
+        verify(catalogWriterMock, times(1)).write(any(OutputStream.class), any(PathContextBuilder.class), eq(catalog));
         assertThat(pathContextCaptor.getValue().build()).isEqualTo(PathContext.builder().project("SAMPLE").tailoring("master").build());
     }
 
@@ -946,6 +974,58 @@ class TailoringControllerTest {
         verify(serviceMock, times(1)).updateImportedRequirements("SAMPLE", "master", "Excel Import File".getBytes(UTF_8));
     }
 
+    @Test
+    void postDocumentJob_TailoringNotExists_StateNotFound() throws Exception {
+        // arrange
+        given(serviceMock.createDocumentJob("SAMPLE", "master")).willReturn(empty());
+
+        // act
+        ResultActions actual = mockMvc.perform(post("/project/{project}/tailoring/{tailoring}/document/job", "SAMPLE", "master"));
+
+        // assert
+        actual.andExpect(status().isNotFound());
+        verify(mapperMock, times(0)).toResource(any(PathContextBuilder.class), any(DocumentJob.class));
+    }
+
+    @Test
+    void postDocumentJob_TailoringExists_StateAccepted() throws Exception {
+        // arrange
+        DocumentJob job = DocumentJob.builder()
+            .id("4711")
+            .state(QUEUED)
+            .build();
+        given(serviceMock.createDocumentJob("SAMPLE", "master")).willReturn(Optional.of(job));
+
+        given(mapperMock.toResource(any(PathContextBuilder.class), eq(job)))
+            .willReturn(DocumentJobResource.builder()
+                .id("4711")
+                .state(QUEUED)
+                .links(List.of(Link.of("http://localhost/document/job/4711", "self")))
+                .build());
+
+        // act
+        ResultActions actual = mockMvc.perform(post("/project/{project}/tailoring/{tailoring}/document/job", "SAMPLE", "master")
+            .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isAccepted())
+            .andExpect(header().string(LOCATION, "http://localhost/document/job/4711"))
+            .andExpect(jsonPath("$.id").value("4711"))
+            .andExpect(jsonPath("$.state").value("QUEUED"));
+    }
+
+    @Test
+    void postDocumentJob_QueueFull_StateServiceUnavailable() throws Exception {
+        // arrange
+        given(serviceMock.createDocumentJob("SAMPLE", "master")).willThrow(new RejectedExecutionException("queue full"));
+
+        // act
+        ResultActions actual = mockMvc.perform(post("/project/{project}/tailoring/{tailoring}/document/job", "SAMPLE", "master"));
+
+        // assert
+        actual.andExpect(status().isServiceUnavailable());
+    }
+
     @Test
     void getDocuments_TailoringNotExists_StateNotFound() throws Exception {
         // arrange
@@ -968,10 +1048,12 @@ class TailoringControllerTest {
             data = is.readAllBytes();
         }
 
+        Path path = createTempFile("DOC-CAT-001", ".pdf");
+        write(path, data);
         given(serviceMock.createDocuments("SAMPLE", "master"))
-            .willReturn(Optional.of(File.builder()
+            .willReturn(Optional.of(DocumentBundle.builder()
                 .name("DOC-CAT-001.pdf")
-                .data(data)
+                .path(path)
                 .build()));
 
         given(mediaTypeProviderMock.apply("pdf"))
@@ -991,6 +1073,61 @@ class TailoringControllerTest {
         assertThatNoException();
     }
 
+    @Test
+    void getDocuments_RevisionNotChanged_StateNotModified() throws Exception {
+        // arrange
+        given(serviceMock.getRevision("SAMPLE", "master")).willReturn(Optional.of("1-0"));
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project/{project}/tailoring/{tailoring}/document", "SAMPLE", "master")
+            .header(IF_NONE_MATCH, "\"1-0\""));
+
+        // assert
+        actual.andExpect(status().isNotModified())
+            .andExpect(header().string(ETAG, "\"1-0\""));
+        verify(serviceMock, times(0)).createDocuments(any(), any());
+    }
+
+    @Test
+    void getRequirementFile_RevisionChanged_StateOkHeaderETag() throws Exception {
+        // arrange
+        given(serviceMock.getRevision("SAMPLE", "master")).willReturn(Optional.of("1-1"));
+        given(serviceMock.createRequirementDocument("SAMPLE", "master"))
+            .willReturn(Optional.of(File.builder()
+                .name("DUMMY.pdf")
+                .data("DUMMY".getBytes(UTF_8))
+                .build()
+            ));
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project/{project}/tailoring/{tailoring}/document/catalog", "SAMPLE", "master")
+            .header(IF_NONE_MATCH, "\"1-0\"")
+            .accept("application/pdf")
+        );
+
+        // assert
+        actual.andExpect(status().isOk())
+            .andExpect(header().string(ETAG, "\"1-1\""))
+            .andExpect(header().string(CACHE_CONTROL, "no-cache"));
+        verify(serviceMock, times(1)).createRequirementDocument("SAMPLE", "master");
+    }
+
+    @Test
+    void getComparisonDocument_RevisionNotChanged_StateNotModified() throws Exception {
+        // arrange
+        given(serviceMock.getRevision("SAMPLE", "master")).willReturn(Optional.of("1-0"));
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project/{project}/tailoring/{tailoring}/compare", "SAMPLE", "master")
+            .header(IF_NONE_MATCH, "W/\"1-0\"")
+            .accept("application/pdf")
+        );
+
+        // assert
+        actual.andExpect(status().isNotModified());
+        verify(serviceMock, times(0)).createComparisonDocument(any(), any());
+    }
+
     @Test
     void deleteAttachment_AttachmentNotExists_StateNotFound() throws Exception {
         // arrange
@@ -0,0 +1,50 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executor propagating the tenant of the submitting thread to the thread executing the task.
+ * <p>
+ * The tenant of the executing thread will be restored after task execution, so pooled threads do not keep the
+ * tenant of a previous task.
+ *
+ * @author Michael Bädorf
+ */
+@RequiredArgsConstructor
+public class TenantAwareExecutor implements Executor {
+
+    /**
+     * Executor to delegate task execution to.
+     */
+    @NonNull
+    private final Executor delegate;
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(TenantContext.wrap(command));
+    }
+}
@@ -23,8 +23,8 @@ package eu.tailoringexpert;
 
 import lombok.NoArgsConstructor;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.*;
 import static java.util.Objects.nonNull;
@@ -33,6 +33,10 @@ import static lombok.AccessLevel.PRIVATE;
 
 /**
  * Container used for persisting tenant information of current thread.
+ * <p>
+ * The tenant is bound to the thread handling a request. Work handed over to other threads has to be wrapped by
+ * {@link #wrap(Runnable)} or submitted to a {@link TenantAwareExecutor}, otherwise the tenant is lost. This applies to
+ * platform threads as well as to virtual threads.
  *
  * @author Michael Bädorf
  */
@@ -43,7 +47,7 @@ public class TenantContext {
     /**
      * Registered tenants of plattform instance.
      */
-    private static Map<String, String> registeredTenants = new HashMap<>();
+    private static Map<String, String> registeredTenants = new ConcurrentHashMap<>();
 
     /**
      * Thread Local des zu verwendenden Tenants.
@@ -90,4 +94,42 @@ public class TenantContext {
     public static String getCurrentTenant() {
         return tenantThreadLocal.get();
     }
+
+    /**
+     * Removes the tenant of the current thread.
+     */
+    public static void removeCurrentTenant() {
+        tenantThreadLocal.remove();
+    }
+
+    /**
+     * Runs a task with the provided tenant. The tenant of the current thread is restored afterwards.
+     *
+     * @param tenant tenant to use while running the task
+     * @param task   task to run
+     */
+    public static void runInTenant(final String tenant, final Runnable task) {
+        String previous = getCurrentTenant();
+        setCurrentTenant(tenant);
+        try {
+            task.run();
+        } finally {
+            if (isNull(previous)) {
+                removeCurrentTenant();
+            } else {
+                setCurrentTenant(previous);
+            }
+        }
+    }
+
+    /**
+     * Binds the tenant of the current thread to a task, so that the task runs with this tenant in any thread.
+     *
+     * @param task task to bind tenant to
+     * @return task running with the tenant of the current thread
+     */
+    public static Runnable wrap(final Runnable task) {
+        final String tenant = getCurrentTenant();
+        return () -> runInTenant(tenant, task);
+    }
 }
@@ -32,6 +32,7 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static java.util.Objects.isNull;
 
@@ -75,6 +76,16 @@ public class TenantDocumentService implements DocumentService {
         return service.createAll(catalog, creationTimestamp);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SneakyThrows
+    public void createAll(Catalog<BaseRequirement> catalog, LocalDateTime creationTimestamp, Consumer<File> consumer) {
+        DocumentService service = getTenantImplementation();
+        service.createAll(catalog, creationTimestamp, consumer);
+    }
+
     private DocumentService getTenantImplementation() throws NoSuchMethodException {
         DocumentService result = tenantService.get(TenantContext.getCurrentTenant());
         if (isNull(result)) {
@@ -31,6 +31,7 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static java.util.Objects.isNull;
 
@@ -65,6 +66,13 @@ public class TenantDocumentService implements DocumentService {
         return service.createAll(tailoring, creationTimestamp);
     }
 
+    @Override
+    @SneakyThrows
+    public void createAll(Tailoring tailoring, LocalDateTime creationTimestamp, Consumer<File> consumer) {
+        DocumentService service = getTenantImplementation();
+        service.createAll(tailoring, creationTimestamp, consumer);
+    }
+
     private DocumentService getTenantImplementation() throws NoSuchMethodException {
         DocumentService result = tenantService.get(TenantContext.getCurrentTenant());
         if (isNull(result)) {
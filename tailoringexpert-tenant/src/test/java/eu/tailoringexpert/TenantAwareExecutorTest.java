@@ -0,0 +1,117 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantAwareExecutorTest {
+
+    ExecutorService executorService;
+    TenantAwareExecutor executor;
+
+    @BeforeEach
+    void setup() {
+        this.executorService = newSingleThreadExecutor();
+        this.executor = new TenantAwareExecutor(executorService);
+        TenantContext.setCurrentTenant(null);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.executorService.shutdownNow();
+        TenantContext.setCurrentTenant(null);
+    }
+
+    @Test
+    void execute_TenantSet_TenantPropagatedToWorkerThread() throws Exception {
+        // arrange
+        TenantContext.setCurrentTenant("TENANT");
+        AtomicReference<String> tenant = new AtomicReference<>();
+
+        // act
+        executor.execute(() -> tenant.set(TenantContext.getCurrentTenant()));
+
+        // assert
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(5, SECONDS)).isTrue();
+        assertThat(tenant.get()).isEqualTo("TENANT");
+    }
+
+    @Test
+    void execute_TaskExecuted_TenantOfWorkerThreadRestored() throws Exception {
+        // arrange
+        TenantContext.setCurrentTenant("TENANT");
+        executor.execute(() -> {
+        });
+        TenantContext.setCurrentTenant(null);
+        AtomicReference<String> tenant = new AtomicReference<>("UNSET");
+
+        // act
+        executorService.execute(() -> tenant.set(TenantContext.getCurrentTenant()));
+
+        // assert
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(5, SECONDS)).isTrue();
+        assertThat(tenant.get()).isNull();
+    }
+
+    @Test
+    void execute_TasksOfSeveralTenantsConcurrently_EachTaskRunsWithTenantOfSubmitter() throws Exception {
+        // arrange
+        ExecutorService pool = newFixedThreadPool(8);
+        TenantAwareExecutor concurrentExecutor = new TenantAwareExecutor(pool);
+        int tasks = 2000;
+        CountDownLatch done = new CountDownLatch(tasks);
+        Map<Integer, String> tenants = new ConcurrentHashMap<>();
+
+        // act
+        try {
+            for (int i = 0; i < tasks; i++) {
+                int task = i;
+                TenantContext.runInTenant("TENANT" + (task % 5), () -> concurrentExecutor.execute(() -> {
+                    tenants.put(task, TenantContext.getCurrentTenant());
+                    done.countDown();
+                }));
+            }
+            assertThat(done.await(30, SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // assert
+        assertThat(tenants).hasSize(tasks);
+        tenants.forEach((task, tenant) -> assertThat(tenant).isEqualTo("TENANT" + (task % 5)));
+    }
+}
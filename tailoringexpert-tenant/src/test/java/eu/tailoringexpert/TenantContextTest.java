@@ -29,9 +29,11 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.lang.reflect.Field;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 @SuppressWarnings({"PMD.AvoidAccessibilityAlteration"})
 class TenantContextTest {
@@ -159,4 +161,61 @@ class TenantContextTest {
         // assert
         assertThat(TenantContext.getCurrentTenant()).isEqualTo("TENANT");
     }
+
+    @Test
+    void removeCurrentTenant_TenantSet_CurrentTenantNull() {
+        // arrange
+        TenantContext.setCurrentTenant("TENANT");
+
+        // act
+        TenantContext.removeCurrentTenant();
+
+        // assert
+        assertThat(TenantContext.getCurrentTenant()).isNull();
+    }
+
+    @Test
+    void runInTenant_TenantProvided_TaskRunWithTenantAndPreviousTenantRestored() {
+        // arrange
+        TenantContext.setCurrentTenant("PREVIOUS");
+        AtomicReference<String> tenant = new AtomicReference<>();
+
+        // act
+        TenantContext.runInTenant("TENANT", () -> tenant.set(TenantContext.getCurrentTenant()));
+
+        // assert
+        assertThat(tenant.get()).isEqualTo("TENANT");
+        assertThat(TenantContext.getCurrentTenant()).isEqualTo("PREVIOUS");
+    }
+
+    @Test
+    void runInTenant_TaskFails_PreviousTenantRestored() {
+        // arrange
+        TenantContext.setCurrentTenant("PREVIOUS");
+
+        // act
+        Throwable actual = catchThrowable(() -> TenantContext.runInTenant("TENANT", () -> {
+            throw new IllegalStateException();
+        }));
+
+        // assert
+        assertThat(actual).isInstanceOf(IllegalStateException.class);
+        assertThat(TenantContext.getCurrentTenant()).isEqualTo("PREVIOUS");
+    }
+
+    @Test
+    void wrap_TenantChangedBeforeRun_TaskRunWithTenantOfWrapping() {
+        // arrange
+        TenantContext.setCurrentTenant("TENANT");
+        AtomicReference<String> tenant = new AtomicReference<>();
+        Runnable task = TenantContext.wrap(() -> tenant.set(TenantContext.getCurrentTenant()));
+        TenantContext.setCurrentTenant("OTHER");
+
+        // act
+        task.run();
+
+        // assert
+        assertThat(tenant.get()).isEqualTo("TENANT");
+        assertThat(TenantContext.getCurrentTenant()).isEqualTo("OTHER");
+    }
 }
@@ -32,6 +32,7 @@ import java.time.LocalDateTime;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static java.util.Map.ofEntries;
 import static java.util.Optional.of;
@@ -152,4 +153,37 @@ class TenantDocumentServiceTest {
         // assert
         verify(tenentDocumentServiceMock, times(1)).createAll(catalog, erstellungsZeitpunt);
     }
+
+    @Test
+    void createAllConsumer_TenantNotExists_NoSuchMethodExceptionThrown() {
+        // arrange
+        TenantContext.setCurrentTenant("INVALD");
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder().build();
+        LocalDateTime erstellungsZeitpunt = LocalDateTime.now();
+        Consumer<File> consumer = file -> {
+        };
+
+        // act
+        Exception actual = catchException(() -> service.createAll(catalog, erstellungsZeitpunt, consumer));
+
+        // assert
+        assertThat(actual).isInstanceOf(NoSuchMethodException.class);
+        verify(tenentDocumentServiceMock, times(0)).createAll(catalog, erstellungsZeitpunt, consumer);
+    }
+
+    @Test
+    void createAllConsumer_TenantExists_TenantImplementationCalled() {
+        // arrange
+        TenantContext.setCurrentTenant("TENANT");
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder().build();
+        LocalDateTime erstellungsZeitpunt = LocalDateTime.now();
+        Consumer<File> consumer = file -> {
+        };
+
+        // act
+        service.createAll(catalog, erstellungsZeitpunt, consumer);
+
+        // assert
+        verify(tenentDocumentServiceMock, times(1)).createAll(catalog, erstellungsZeitpunt, consumer);
+    }
 }
@@ -33,6 +33,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchException;
@@ -153,4 +154,37 @@ class TenantDocumentServiceTest {
         verify(tenentDocumentServiceMock, times(1)).createAll(tailoring, erstellungsZeitpunt);
         assertThat(actual).hasSize(1);
     }
+
+    @Test
+    void createAllConsumer_TenantNotExists_NoSuchMethodExceptionThrown() {
+        // arrange
+        TenantContext.setCurrentTenant("INVALD");
+        Tailoring tailoring = Tailoring.builder().build();
+        LocalDateTime erstellungsZeitpunt = LocalDateTime.now();
+        Consumer<File> consumer = file -> {
+        };
+
+        // act
+        Exception actual = catchException(() -> service.createAll(tailoring, erstellungsZeitpunt, consumer));
+
+        // assert
+        assertThat(actual).isInstanceOf(NoSuchMethodException.class);
+        verify(tenentDocumentServiceMock, times(0)).createAll(tailoring, erstellungsZeitpunt, consumer);
+    }
+
+    @Test
+    void createAllConsumer_TenantExists_TenantImplementationCalled() {
+        // arrange
+        TenantContext.setCurrentTenant("TENANT");
+        Tailoring tailoring = Tailoring.builder().build();
+        LocalDateTime erstellungsZeitpunt = LocalDateTime.now();
+        Consumer<File> consumer = file -> {
+        };
+
+        // act
+        service.createAll(tailoring, erstellungsZeitpunt, consumer);
+
+        // assert
+        verify(tenentDocumentServiceMock, times(1)).createAll(tailoring, erstellungsZeitpunt, consumer);
+    }
 }